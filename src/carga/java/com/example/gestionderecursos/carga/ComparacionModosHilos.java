@@ -0,0 +1,164 @@
+package com.example.gestionderecursos.carga;
+
+import com.example.gestionderecursos.GestionDeRecursosApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Prueba de carga que compara la aplicación con hilos de plataforma y con hilos virtuales (perfil "virtual").
+ *
+ * <p>Para cada modo arranca la aplicación en un puerto libre con su propia base de datos en memoria, siembra
+ * personas por SQL y lanza {@code concurrencia} clientes que repiten peticiones sin pausa (modelo cerrado)
+ * contra {@code GET /api/personas?page=..&size=20} y {@code GET /api/personas/{id}}. Informa del throughput,
+ * los percentiles p50 y p99, el máximo y las respuestas no 2xx (incluidos los 503 del filtro de concurrencia).</p>
+ *
+ * <p>Ambos modos usan el mismo tamaño de pool JDBC, de modo que la única diferencia es el modelo de hilos.
+ * Los hilos virtuales solo se activan si la JVM es Java 21 o superior:</p>
+ * <pre>
+ * mvn -Pcarga,java21 test-compile exec:exec -Dcarga.args="concurrencia=400 duracion=20"
+ * </pre>
+ */
+public class ComparacionModosHilos {
+
+    private static final int TAMANO_POOL = 20;
+    private static final int FILAS_POR_INSERCION = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opciones = UtilidadesCarga.leerOpciones(args);
+        int concurrencia = Integer.parseInt(opciones.getOrDefault("concurrencia", "400"));
+        Duration calentamiento = Duration.ofSeconds(Long.parseLong(opciones.getOrDefault("calentamiento", "5")));
+        Duration duracion = Duration.ofSeconds(Long.parseLong(opciones.getOrDefault("duracion", "15")));
+        int personas = Integer.parseInt(opciones.getOrDefault("personas", "10000"));
+        List<String> modos = Arrays.asList(opciones.getOrDefault("modos", "plataforma,virtual").split(","));
+
+        if (modos.contains("virtual") && Runtime.version().feature() < 21) {
+            System.out.println("AVISO: Java " + Runtime.version().feature()
+                    + " no tiene hilos virtuales; el modo \"virtual\" se ejecutará con hilos de plataforma.");
+        }
+
+        List<String> filas = new ArrayList<>();
+        for (String modo : modos) {
+            try (ConfigurableApplicationContext contexto = arrancar(modo)) {
+                int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+                long[] ids = sembrar(contexto.getBean(JdbcTemplate.class), personas);
+                String base = "http://localhost:" + puerto + "/api/personas";
+                int paginas = Math.max(1, personas / 20);
+
+                Map<String, IntFunction<URI>> escenarios = Map.of(
+                        "listar", i -> URI.create(base + "?page=" + (i % paginas) + "&size=20"),
+                        "obtenerPorId", i -> URI.create(base + "/" + ids[i % ids.length]));
+                for (String escenario : List.of("listar", "obtenerPorId")) {
+                    ejecutar(escenarios.get(escenario), concurrencia, calentamiento);
+                    Resultado resultado = ejecutar(escenarios.get(escenario), concurrencia, duracion);
+                    filas.add(resultado.formatear(modo, escenario, duracion));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("Concurrencia: %d clientes, %d s por escenario, %d personas, pool JDBC de %d conexiones%n",
+                concurrencia, duracion.toSeconds(), personas, TAMANO_POOL);
+        System.out.printf("%-11s %-13s %12s %10s %10s %10s %8s%n", "modo", "escenario", "peticiones/s", "p50 ms", "p99 ms", "max ms", "errores");
+        filas.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext arrancar(String modo) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(GestionDeRecursosApplication.class)
+                .web(WebApplicationType.SERVLET);
+        if ("virtual".equals(modo)) {
+            builder.profiles("virtual");
+        }
+        // Como argumentos de línea de comandos para que prevalezcan sobre application.properties y el perfil.
+        return builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:carga-" + modo + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.hikari.maximum-pool-size=" + TAMANO_POOL,
+                "--spring.datasource.hikari.minimum-idle=" + TAMANO_POOL,
+                "--logging.level.root=WARN");
+    }
+
+    private static long[] sembrar(JdbcTemplate jdbcTemplate, int personas) {
+        for (int desde = 1; desde <= personas; desde += FILAS_POR_INSERCION) {
+            int hasta = Math.min(personas, desde + FILAS_POR_INSERCION - 1);
+            jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico, dominio_correo) " +
+                    "SELECT NEXT VALUE FOR personas_seq, CONCAT('Persona ', X), 18 + MOD(X, 60), " +
+                    "CONCAT('carga-', X, '@example.com'), 'example.com' FROM SYSTEM_RANGE(?, ?)", desde, hasta);
+        }
+        return jdbcTemplate.queryForList("SELECT id FROM personas", Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Lanza los clientes durante el tiempo indicado y reúne las latencias de todas las peticiones completadas.
+     */
+    private static Resultado ejecutar(IntFunction<URI> destino, int concurrencia, Duration duracion) throws InterruptedException {
+        HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        long fin = System.nanoTime() + duracion.toNanos();
+        long[][] latenciasPorCliente = new long[concurrencia][];
+        AtomicLong errores = new AtomicLong();
+        CountDownLatch terminados = new CountDownLatch(concurrencia);
+
+        for (int c = 0; c < concurrencia; c++) {
+            int indiceCliente = c;
+            Thread hilo = new Thread(() -> {
+                long[] latencias = new long[1024];
+                int total = 0;
+                int i = ThreadLocalRandom.current().nextInt(1 << 20);
+                try {
+                    while (System.nanoTime() < fin) {
+                        HttpRequest peticion = HttpRequest.newBuilder(destino.apply(i++)).timeout(Duration.ofSeconds(30)).GET().build();
+                        long inicio = System.nanoTime();
+                        try {
+                            HttpResponse<Void> respuesta = cliente.send(peticion, HttpResponse.BodyHandlers.discarding());
+                            if (respuesta.statusCode() / 100 != 2) {
+                                errores.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errores.incrementAndGet();
+                        }
+                        if (total == latencias.length) {
+                            latencias = Arrays.copyOf(latencias, total * 2);
+                        }
+                        latencias[total++] = System.nanoTime() - inicio;
+                    }
+                } finally {
+                    latenciasPorCliente[indiceCliente] = Arrays.copyOf(latencias, total);
+                    terminados.countDown();
+                }
+            }, "cliente-carga-" + c);
+            hilo.setDaemon(true);
+            hilo.start();
+        }
+        terminados.await();
+
+        long[] todas = Arrays.stream(latenciasPorCliente).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Resultado(todas, errores.get());
+    }
+
+    private record Resultado(long[] latenciasOrdenadas, long errores) {
+
+        String formatear(String modo, String escenario, Duration duracion) {
+            return String.format("%-11s %-13s %12.1f %10.2f %10.2f %10.2f %8d", modo, escenario,
+                    latenciasOrdenadas.length / (double) duracion.toSeconds(),
+                    UtilidadesCarga.percentilMs(latenciasOrdenadas, 0.50), UtilidadesCarga.percentilMs(latenciasOrdenadas, 0.99),
+                    latenciasOrdenadas.length == 0 ? 0 : latenciasOrdenadas[latenciasOrdenadas.length - 1] / 1e6,
+                    errores);
+        }
+    }
+}
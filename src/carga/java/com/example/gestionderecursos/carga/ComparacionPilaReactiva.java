@@ -0,0 +1,235 @@
+package com.example.gestionderecursos.carga;
+
+import com.example.gestionderecursos.GestionDeRecursosApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compara cuántas conexiones concurrentes sostienen la pila bloqueante (Tomcat + JPA) y la reactiva
+ * (Netty + R2DBC) con la misma latencia, y con qué hilos y memoria lo hacen.
+ *
+ * <p>Cada nivel abre {@code conexiones} clientes que repiten {@code GET /api/personas/{id}} con una pausa
+ * entre peticiones, como muchos clientes poco activos conectados a la vez. Los niveles crecen hasta que el
+ * p99 supera {@code objetivo-p99} (ms) o falla más del 1% de las peticiones. Por nivel se informa del
+ * throughput, p50/p99, y del máximo de hilos vivos y de heap usado en la JVM durante la medición.</p>
+ *
+ * <p>Cliente y servidor comparten JVM: los hilos y el heap incluyen el cliente, que es el mismo en ambas
+ * pilas, por lo que la comparación es válida en términos relativos. Requiere los dos perfiles Maven:</p>
+ * <pre>
+ * mvn -Pcarga,reactivo test-compile exec:exec -Dcarga.clase=com.example.gestionderecursos.carga.ComparacionPilaReactiva \
+ *     -Dcarga.args="niveles=250,500,1000,2000 pausa=1000 objetivo-p99=100"
+ * </pre>
+ */
+public class ComparacionPilaReactiva {
+
+    private static final String CLASE_REACTIVA = "com.example.gestionderecursos.reactivo.GestionDeRecursosReactivaApplication";
+    private static final int TAMANO_POOL = 20;
+
+    private static final ThreadMXBean HILOS = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORIA = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opciones = UtilidadesCarga.leerOpciones(args);
+        int[] niveles = Arrays.stream(opciones.getOrDefault("niveles", "100,250,500,1000,2000").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        Duration pausa = Duration.ofMillis(Long.parseLong(opciones.getOrDefault("pausa", "1000")));
+        Duration calentamiento = Duration.ofSeconds(Long.parseLong(opciones.getOrDefault("calentamiento", "3")));
+        Duration duracion = Duration.ofSeconds(Long.parseLong(opciones.getOrDefault("duracion", "10")));
+        double objetivoP99 = Double.parseDouble(opciones.getOrDefault("objetivo-p99", "100"));
+        int personas = Integer.parseInt(opciones.getOrDefault("personas", "1000"));
+
+        List<String> filas = new ArrayList<>();
+        Map<String, Integer> sostenidas = new LinkedHashMap<>();
+        for (String pila : List.of("bloqueante", "reactiva")) {
+            ConfigurableApplicationContext contexto = arrancar(pila);
+            if (contexto == null) {
+                System.out.println("AVISO: la variante reactiva no está compilada; añada el perfil Maven \"reactivo\".");
+                continue;
+            }
+            try (contexto) {
+                String base = "http://localhost:" + ((WebServerApplicationContext) contexto).getWebServer().getPort() + "/api/personas";
+                long[] ids = sembrar(base, personas);
+                sostenidas.put(pila, 0);
+                for (int conexiones : niveles) {
+                    medir(base, ids, conexiones, pausa, calentamiento);
+                    Medicion medicion = medir(base, ids, conexiones, pausa, duracion);
+                    filas.add(medicion.formatear(pila, conexiones, duracion));
+                    boolean dentroDelObjetivo = medicion.p99Ms() <= objetivoP99 && medicion.errores() * 100 <= medicion.latencias().length;
+                    if (!dentroDelObjetivo) {
+                        break;
+                    }
+                    sostenidas.put(pila, conexiones);
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("GET /api/personas/{id}, pausa de %d ms por cliente, objetivo p99 <= %.0f ms, pool de %d conexiones a BD%n",
+                pausa.toMillis(), objetivoP99, TAMANO_POOL);
+        System.out.printf("%-11s %10s %12s %9s %9s %8s %7s %9s%n", "pila", "conexiones", "peticiones/s", "p50 ms", "p99 ms", "errores", "hilos", "heap MB");
+        filas.forEach(System.out::println);
+        sostenidas.forEach((pila, conexiones) ->
+                System.out.printf("%s: %d conexiones concurrentes dentro del objetivo%n", pila, conexiones));
+    }
+
+    private static ConfigurableApplicationContext arrancar(String pila) {
+        List<String> argumentos = new ArrayList<>(List.of("--server.port=0", "--logging.level.root=WARN"));
+        SpringApplicationBuilder builder;
+        if ("reactiva".equals(pila)) {
+            try {
+                builder = new SpringApplicationBuilder(Class.forName(CLASE_REACTIVA)).profiles("reactivo");
+            } catch (ClassNotFoundException ex) {
+                return null;
+            }
+            argumentos.add("--spring.r2dbc.url=r2dbc:h2:mem:///carga-reactiva;DB_CLOSE_DELAY=-1");
+            argumentos.add("--spring.r2dbc.pool.max-size=" + TAMANO_POOL);
+        } else {
+            builder = new SpringApplicationBuilder(GestionDeRecursosApplication.class);
+            argumentos.add("--spring.datasource.url=jdbc:h2:mem:carga-bloqueante;DB_CLOSE_DELAY=-1");
+            argumentos.add("--spring.datasource.hikari.maximum-pool-size=" + TAMANO_POOL);
+        }
+        return builder.run(argumentos.toArray(String[]::new));
+    }
+
+    /**
+     * Crea las personas por la API, el único contrato común a las dos pilas.
+     */
+    private static long[] sembrar(String base, int personas) throws Exception {
+        HttpClient cliente = HttpClient.newHttpClient();
+        ObjectMapper objectMapper = new ObjectMapper();
+        long[] ids = new long[personas];
+        for (int i = 0; i < personas; i++) {
+            String cuerpo = "{\"nombre\":\"Persona " + i + "\",\"edad\":30,\"correoElectronico\":\"carga-" + i + "@example.com\"}";
+            HttpRequest peticion = HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(cuerpo))
+                    .build();
+            ids[i] = objectMapper.readTree(cliente.send(peticion, HttpResponse.BodyHandlers.ofString()).body()).path("id").asLong();
+        }
+        return ids;
+    }
+
+    /**
+     * Mantiene {@code conexiones} clientes activos durante el tiempo indicado. Cada cliente espera la respuesta
+     * y la pausa antes de enviar la siguiente petición, sin ocupar un hilo mientras tanto.
+     */
+    private static Medicion medir(String base, long[] ids, int conexiones, Duration pausa, Duration duracion) throws InterruptedException {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(4);
+        ScheduledExecutorService programador = Executors.newScheduledThreadPool(2);
+        HttpClient cliente = HttpClient.newBuilder().executor(ejecutor).connectTimeout(Duration.ofSeconds(10)).build();
+        long fin = System.nanoTime() + duracion.toNanos();
+        long[][] latenciasPorCliente = new long[conexiones][];
+        AtomicLong errores = new AtomicLong();
+        CountDownLatch terminados = new CountDownLatch(conexiones);
+
+        for (int c = 0; c < conexiones; c++) {
+            ClienteVirtual clienteVirtual = new ClienteVirtual(c, cliente, programador, base, ids, pausa, fin, errores,
+                    latenciasPorCliente, terminados);
+            // Arranque escalonado a lo largo de una pausa para no enviar todas las peticiones a la vez.
+            programador.schedule(clienteVirtual::enviar, ThreadLocalRandom.current().nextLong(Math.max(1, pausa.toMillis())), TimeUnit.MILLISECONDS);
+        }
+
+        int hilosMaximos = 0;
+        long heapMaximo = 0;
+        while (!terminados.await(250, TimeUnit.MILLISECONDS)) {
+            hilosMaximos = Math.max(hilosMaximos, HILOS.getThreadCount());
+            heapMaximo = Math.max(heapMaximo, MEMORIA.getHeapMemoryUsage().getUsed());
+        }
+        programador.shutdownNow();
+        ejecutor.shutdownNow();
+
+        long[] todas = Arrays.stream(latenciasPorCliente).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Medicion(todas, errores.get(), hilosMaximos, heapMaximo);
+    }
+
+    /**
+     * Cliente que encadena peticiones asíncronas: una en vuelo como mucho, con una pausa entre ellas.
+     */
+    private static final class ClienteVirtual {
+
+        private final int indice;
+        private final HttpClient cliente;
+        private final ScheduledExecutorService programador;
+        private final String base;
+        private final long[] ids;
+        private final Duration pausa;
+        private final long fin;
+        private final AtomicLong errores;
+        private final long[][] resultado;
+        private final CountDownLatch terminados;
+        private long[] latencias = new long[64];
+        private int total;
+
+        private ClienteVirtual(int indice, HttpClient cliente, ScheduledExecutorService programador, String base, long[] ids,
+                               Duration pausa, long fin, AtomicLong errores, long[][] resultado, CountDownLatch terminados) {
+            this.indice = indice;
+            this.cliente = cliente;
+            this.programador = programador;
+            this.base = base;
+            this.ids = ids;
+            this.pausa = pausa;
+            this.fin = fin;
+            this.errores = errores;
+            this.resultado = resultado;
+            this.terminados = terminados;
+        }
+
+        void enviar() {
+            if (System.nanoTime() >= fin) {
+                resultado[indice] = Arrays.copyOf(latencias, total);
+                terminados.countDown();
+                return;
+            }
+            long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+            HttpRequest peticion = HttpRequest.newBuilder(URI.create(base + "/" + id)).timeout(Duration.ofSeconds(30)).GET().build();
+            long inicio = System.nanoTime();
+            cliente.sendAsync(peticion, HttpResponse.BodyHandlers.discarding()).whenComplete((respuesta, error) -> {
+                if (error != null || respuesta.statusCode() / 100 != 2) {
+                    errores.incrementAndGet();
+                }
+                if (total == latencias.length) {
+                    latencias = Arrays.copyOf(latencias, total * 2);
+                }
+                latencias[total++] = System.nanoTime() - inicio;
+                programador.schedule(this::enviar, pausa.toMillis(), TimeUnit.MILLISECONDS);
+            });
+        }
+    }
+
+    private record Medicion(long[] latencias, long errores, int hilosMaximos, long heapMaximo) {
+
+        double p99Ms() {
+            return UtilidadesCarga.percentilMs(latencias, 0.99);
+        }
+
+        String formatear(String pila, int conexiones, Duration duracion) {
+            return String.format("%-11s %10d %12.1f %9.2f %9.2f %8d %7d %9.1f", pila, conexiones,
+                    latencias.length / (double) duracion.toSeconds(),
+                    UtilidadesCarga.percentilMs(latencias, 0.50), p99Ms(), errores,
+                    hilosMaximos, heapMaximo / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.gestionderecursos.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Generador de carga de modelo abierto: las peticiones llegan a una tasa fija, independiente de lo que tarde
+ * el servidor en responder.
+ *
+ * <p>La petición {@code i} tiene un instante de inicio previsto {@code inicio + i / tasa}. Su latencia se mide
+ * desde ese instante y no desde el envío real: si el servidor se atasca y el generador no puede enviar a
+ * tiempo (por el límite de peticiones en vuelo o por su propio retraso), la espera cuenta como latencia, igual
+ * que la sufriría un usuario real. Es la corrección de la omisión coordinada. La latencia sin corregir (desde
+ * el envío real) se registra aparte para poder comparar ambas.</p>
+ */
+final class GeneradorCargaAbierta {
+
+    /**
+     * Una petición HTTP de un tipo concreto. Devuelve el código de estado de la respuesta.
+     */
+    interface Operacion {
+
+        String nombre();
+
+        CompletableFuture<Integer> ejecutar(HttpClient cliente);
+    }
+
+    private static final Duration ESPERA_MAXIMA_FINAL = Duration.ofSeconds(60);
+
+    private final HttpClient cliente;
+    private final int maximoEnVuelo;
+
+    GeneradorCargaAbierta(HttpClient cliente, int maximoEnVuelo) {
+        this.cliente = cliente;
+        this.maximoEnVuelo = maximoEnVuelo;
+    }
+
+    /**
+     * Envía peticiones a la tasa indicada durante el tiempo indicado y espera a que terminen todas.
+     * @param tasa Peticiones por segundo.
+     * @param selector Elige la operación de cada petición (la mezcla de la prueba).
+     * @return Estadísticas por nombre de operación, ordenadas por nombre.
+     */
+    Map<String, Estadisticas> ejecutar(double tasa, Duration duracion, Supplier<Operacion> selector) throws InterruptedException {
+        Map<String, Estadisticas> porOperacion = new ConcurrentHashMap<>();
+        Semaphore enVuelo = new Semaphore(maximoEnVuelo);
+        long intervalo = (long) (TimeUnit.SECONDS.toNanos(1) / tasa);
+        long inicio = System.nanoTime();
+        long fin = inicio + duracion.toNanos();
+
+        for (long i = 0; ; i++) {
+            long previsto = inicio + i * intervalo;
+            if (previsto >= fin) {
+                break;
+            }
+            esperarHasta(previsto);
+            enVuelo.acquire();
+
+            Operacion operacion = selector.get();
+            Estadisticas estadisticas = porOperacion.computeIfAbsent(operacion.nombre(), nombre -> new Estadisticas());
+            long envio = System.nanoTime();
+            CompletableFuture<Integer> respuesta;
+            try {
+                respuesta = operacion.ejecutar(cliente);
+            } catch (RuntimeException ex) {
+                respuesta = CompletableFuture.failedFuture(ex);
+            }
+            respuesta.whenComplete((estado, error) -> {
+                long ahora = System.nanoTime();
+                estadisticas.registrar(error == null ? estado : -1, ahora - previsto, ahora - envio);
+                enVuelo.release();
+            });
+        }
+
+        if (!enVuelo.tryAcquire(maximoEnVuelo, ESPERA_MAXIMA_FINAL.toSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("AVISO: quedan peticiones sin responder tras " + ESPERA_MAXIMA_FINAL.toSeconds() + " s");
+        }
+        return new TreeMap<>(porOperacion);
+    }
+
+    private static void esperarHasta(long instante) {
+        long restante;
+        while ((restante = instante - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(restante);
+        }
+    }
+
+    /**
+     * Latencias y resultados de una operación. Los histogramas guardan microsegundos con 3 cifras significativas.
+     */
+    static final class Estadisticas {
+
+        private final Histogram corregida = new ConcurrentHistogram(3);
+        private final Histogram sinCorregir = new ConcurrentHistogram(3);
+        private final LongAdder correctas = new LongAdder();
+        private final LongAdder erroresCliente = new LongAdder();
+        private final LongAdder errores = new LongAdder();
+
+        /**
+         * @param estado Código HTTP, o -1 si la petición falló sin respuesta.
+         */
+        void registrar(int estado, long latenciaCorregidaNanos, long latenciaNanos) {
+            corregida.recordValue(TimeUnit.NANOSECONDS.toMicros(latenciaCorregidaNanos));
+            sinCorregir.recordValue(TimeUnit.NANOSECONDS.toMicros(latenciaNanos));
+            if (estado >= 200 && estado < 400) {
+                correctas.increment();
+            } else if (estado >= 400 && estado < 500) {
+                erroresCliente.increment();
+            } else {
+                errores.increment();
+            }
+        }
+
+        Histogram corregida() {
+            return corregida;
+        }
+
+        Histogram sinCorregir() {
+            return sinCorregir;
+        }
+
+        long total() {
+            return corregida.getTotalCount();
+        }
+
+        long correctas() {
+            return correctas.sum();
+        }
+
+        /** Respuestas 4xx: conflictos o recursos borrados por otra petición de la misma prueba. */
+        long erroresCliente() {
+            return erroresCliente.sum();
+        }
+
+        /** Respuestas 5xx y peticiones sin respuesta. */
+        long errores() {
+            return errores.sum();
+        }
+    }
+}
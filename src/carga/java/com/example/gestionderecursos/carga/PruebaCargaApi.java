@@ -0,0 +1,363 @@
+package com.example.gestionderecursos.carga;
+
+import com.example.gestionderecursos.GestionDeRecursosApplication;
+import com.example.gestionderecursos.carga.GeneradorCargaAbierta.Estadisticas;
+import com.example.gestionderecursos.carga.GeneradorCargaAbierta.Operacion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Prueba de carga de la API completa con modelo abierto y control de regresiones.
+ *
+ * <p>Arranca la aplicación en un puerto libre con su propia base de datos en memoria, siembra personas y
+ * proyectos por SQL y envía peticiones a una tasa fija ({@code tasa}, peticiones/s) repartidas según la
+ * {@code mezcla} de operaciones (crear, obtener, listar, actualizar, eliminar) sobre los {@code recursos}
+ * indicados. Las latencias se registran en histogramas HDR corregidos por omisión coordinada (ver
+ * {@link GeneradorCargaAbierta}).</p>
+ *
+ * <p>Escribe un informe JSON con el throughput y los percentiles p50/p99/p99.9 de cada operación y termina
+ * con código 1 si alguna operación supera {@code umbral-p99} o {@code umbral-p999} (ms), si la proporción de
+ * errores 5xx supera {@code umbral-errores} o si el throughput conseguido queda por debajo de
+ * {@code umbral-tasa} veces el objetivo. Con exec:exec, eso hace fallar la construcción de Maven:</p>
+ * <pre>
+ * mvn -Pcarga test-compile exec:exec -Dcarga.clase=com.example.gestionderecursos.carga.PruebaCargaApi \
+ *     -Dcarga.args="tasa=200 duracion=30 mezcla=crear:10,obtener:45,listar:25,actualizar:15,eliminar:5 umbral-p99=250"
+ * </pre>
+ */
+public class PruebaCargaApi {
+
+    private static final int FILAS_POR_INSERCION = 10_000;
+    private static final int TAMANO_PAGINA = 20;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final AtomicLong SECUENCIA = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opciones = new TreeMap<>(Map.of(
+                "tasa", "100",
+                "duracion", "30",
+                "calentamiento", "5",
+                "mezcla", "crear:10,obtener:45,listar:25,actualizar:15,eliminar:5",
+                "recursos", "personas,proyectos",
+                "personas", "10000",
+                "proyectos", "2000",
+                "en-vuelo", "256",
+                "informe", "target/carga/informe-api.json"));
+        opciones.putAll(Map.of(
+                "umbral-p99", "500",
+                "umbral-p999", "2000",
+                "umbral-errores", "0.01",
+                "umbral-tasa", "0.9"));
+        opciones.putAll(UtilidadesCarga.leerOpciones(args));
+
+        double tasa = Double.parseDouble(opciones.get("tasa"));
+        Duration duracion = Duration.ofSeconds(Long.parseLong(opciones.get("duracion")));
+        Duration calentamiento = Duration.ofSeconds(Long.parseLong(opciones.get("calentamiento")));
+
+        Informe informe;
+        try (ConfigurableApplicationContext contexto = arrancar()) {
+            int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+            Map<String, RecursoApi> recursos = Map.of(
+                    "personas", personas(puerto, sembrarPersonas(jdbcTemplate, Integer.parseInt(opciones.get("personas")))),
+                    "proyectos", proyectos(puerto, sembrarProyectos(jdbcTemplate, Integer.parseInt(opciones.get("proyectos")))));
+
+            Supplier<Operacion> selector = selector(opciones.get("mezcla"), opciones.get("recursos"), recursos);
+            GeneradorCargaAbierta generador = new GeneradorCargaAbierta(
+                    HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build(),
+                    Integer.parseInt(opciones.get("en-vuelo")));
+
+            generador.ejecutar(tasa, calentamiento, selector);
+            Map<String, Estadisticas> estadisticas = generador.ejecutar(tasa, duracion, selector);
+            informe = Informe.de(opciones, tasa, duracion, estadisticas);
+        }
+
+        imprimir(informe);
+        Path destino = Path.of(opciones.get("informe"));
+        escribir(informe, destino);
+        System.out.println("Informe JSON: " + destino.toAbsolutePath());
+
+        if (!informe.superada()) {
+            System.out.println("PRUEBA DE CARGA FALLIDA:");
+            informe.infracciones().forEach(infraccion -> System.out.println("  - " + infraccion));
+            System.exit(1);
+        }
+    }
+
+    private static ConfigurableApplicationContext arrancar() {
+        // Como argumentos de línea de comandos para que prevalezcan sobre application.properties.
+        return new SpringApplicationBuilder(GestionDeRecursosApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:carga-api;DB_CLOSE_DELAY=-1",
+                "--logging.level.root=WARN");
+    }
+
+    private static PoolIds sembrarPersonas(JdbcTemplate jdbcTemplate, int personas) {
+        for (int desde = 1; desde <= personas; desde += FILAS_POR_INSERCION) {
+            int hasta = Math.min(personas, desde + FILAS_POR_INSERCION - 1);
+            jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico, dominio_correo) " +
+                    "SELECT NEXT VALUE FOR personas_seq, CONCAT('Persona ', X), 18 + MOD(X, 60), " +
+                    "CONCAT('carga-', X, '@example.com'), 'example.com' FROM SYSTEM_RANGE(?, ?)", desde, hasta);
+        }
+        return new PoolIds(jdbcTemplate.queryForList("SELECT id FROM personas", Long.class));
+    }
+
+    private static PoolIds sembrarProyectos(JdbcTemplate jdbcTemplate, int proyectos) {
+        for (int desde = 1; desde <= proyectos; desde += FILAS_POR_INSERCION) {
+            int hasta = Math.min(proyectos, desde + FILAS_POR_INSERCION - 1);
+            jdbcTemplate.update("INSERT INTO proyectos (id, nombre, descripcion, fecha_creacion) " +
+                    "SELECT NEXT VALUE FOR proyectos_seq, CONCAT('Proyecto carga ', X), CONCAT('Descripción del proyecto ', X), " +
+                    "CURRENT_DATE FROM SYSTEM_RANGE(?, ?)", desde, hasta);
+        }
+        return new PoolIds(jdbcTemplate.queryForList("SELECT id FROM proyectos", Long.class));
+    }
+
+    private static RecursoApi personas(int puerto, PoolIds ids) {
+        return new RecursoApi("personas", "http://localhost:" + puerto + "/api/personas", ids,
+                n -> "{\"nombre\":\"Carga " + n + "\",\"edad\":30,\"correoElectronico\":\"carga-nueva-" + n + "@example.com\"}",
+                n -> "{\"nombre\":\"Carga actualizada " + n + "\",\"edad\":31,\"correoElectronico\":\"carga-act-" + n + "@example.com\"}");
+    }
+
+    private static RecursoApi proyectos(int puerto, PoolIds ids) {
+        return new RecursoApi("proyectos", "http://localhost:" + puerto + "/api/proyectos", ids,
+                n -> "{\"nombre\":\"Proyecto carga nuevo " + n + "\",\"descripcion\":\"Creado por la prueba de carga\"}",
+                n -> "{\"nombre\":\"Proyecto carga actualizado " + n + "\",\"descripcion\":\"Actualizado por la prueba de carga\"}");
+    }
+
+    /**
+     * Elige operación y recurso al azar según los pesos de la mezcla ("crear:10,obtener:45,...").
+     */
+    private static Supplier<Operacion> selector(String mezcla, String nombresRecursos, Map<String, RecursoApi> recursos) {
+        List<String> tipos = new ArrayList<>();
+        List<Integer> acumulados = new ArrayList<>();
+        int total = 0;
+        for (String parte : mezcla.split(",")) {
+            String[] tipoYPeso = parte.split(":");
+            total += Integer.parseInt(tipoYPeso[1]);
+            tipos.add(tipoYPeso[0]);
+            acumulados.add(total);
+        }
+        List<RecursoApi> elegidos = new ArrayList<>();
+        for (String nombre : nombresRecursos.split(",")) {
+            RecursoApi recurso = recursos.get(nombre);
+            if (recurso == null) {
+                throw new IllegalArgumentException("Recurso desconocido: " + nombre + " (disponibles: " + recursos.keySet() + ")");
+            }
+            elegidos.add(recurso);
+        }
+
+        int pesoTotal = total;
+        return () -> {
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            RecursoApi recurso = elegidos.get(aleatorio.nextInt(elegidos.size()));
+            int valor = aleatorio.nextInt(pesoTotal);
+            int indice = 0;
+            while (acumulados.get(indice) <= valor) {
+                indice++;
+            }
+            return recurso.operacion(tipos.get(indice));
+        };
+    }
+
+    private static void imprimir(Informe informe) {
+        System.out.println();
+        System.out.printf("Tasa objetivo %.0f peticiones/s, conseguida %.1f peticiones/s, %d s de medición%n",
+                informe.tasaObjetivo(), informe.tasaConseguida(), informe.duracionSegundos());
+        System.out.printf("%-22s %10s %12s %8s %8s %9s %9s %9s %9s %12s%n", "operacion", "peticiones", "peticiones/s",
+                "4xx", "errores", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "p99 s/c ms");
+        for (ResultadoOperacion resultado : informe.operaciones()) {
+            System.out.printf("%-22s %10d %12.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %12.2f%n", resultado.operacion(),
+                    resultado.peticiones(), resultado.peticionesPorSegundo(), resultado.erroresCliente(), resultado.errores(),
+                    resultado.latenciaMs().get("p50"), resultado.latenciaMs().get("p99"), resultado.latenciaMs().get("p99.9"),
+                    resultado.latenciaMs().get("max"), resultado.latenciaSinCorregirMs().get("p99"));
+        }
+        System.out.println("(s/c: sin corregir la omisión coordinada)");
+    }
+
+    private static void escribir(Informe informe, Path destino) throws IOException {
+        if (destino.getParent() != null) {
+            Files.createDirectories(destino.getParent());
+        }
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(destino.toFile(), informe);
+    }
+
+    /**
+     * IDs existentes de un recurso. Las altas añaden y las bajas retiran, para que las lecturas y
+     * actualizaciones apunten casi siempre a filas vivas.
+     */
+    private static final class PoolIds {
+
+        private final List<Long> ids;
+
+        PoolIds(List<Long> iniciales) {
+            this.ids = new ArrayList<>(iniciales);
+        }
+
+        synchronized Long aleatorio() {
+            return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        /** Retira un ID al azar (intercambio con el último para no desplazar la lista). */
+        synchronized Long extraer() {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int indice = ThreadLocalRandom.current().nextInt(ids.size());
+            Long id = ids.get(indice);
+            ids.set(indice, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+
+        synchronized void anadir(long id) {
+            ids.add(id);
+        }
+
+        synchronized int tamano() {
+            return ids.size();
+        }
+    }
+
+    private record OperacionHttp(String nombre, Function<HttpClient, CompletableFuture<Integer>> accion) implements Operacion {
+
+        @Override
+        public CompletableFuture<Integer> ejecutar(HttpClient cliente) {
+            return accion.apply(cliente);
+        }
+    }
+
+    private record RecursoApi(String nombre, String base, PoolIds ids, LongFunction<String> cuerpoCrear,
+                              LongFunction<String> cuerpoActualizar) {
+
+        Operacion operacion(String tipo) {
+            Long id = switch (tipo) {
+                case "obtener", "actualizar" -> ids.aleatorio();
+                case "eliminar" -> ids.extraer();
+                default -> 0L;
+            };
+            if (id == null) {
+                // Sin filas que leer o borrar: la petición se convierte en un listado.
+                tipo = "listar";
+            }
+            String nombreOperacion = nombre + "." + tipo;
+            return switch (tipo) {
+                case "crear" -> new OperacionHttp(nombreOperacion, cliente -> crear(cliente));
+                case "obtener" -> new OperacionHttp(nombreOperacion, cliente -> enviar(cliente, HttpRequest.newBuilder(URI.create(base + "/" + id)).GET()));
+                case "listar" -> new OperacionHttp(nombreOperacion, cliente -> enviar(cliente, HttpRequest.newBuilder(URI.create(
+                        base + "?page=" + ThreadLocalRandom.current().nextInt(Math.max(1, ids.tamano() / TAMANO_PAGINA)) + "&size=" + TAMANO_PAGINA)).GET()));
+                case "actualizar" -> new OperacionHttp(nombreOperacion, cliente -> enviar(cliente, json(base + "/" + id)
+                        .PUT(HttpRequest.BodyPublishers.ofString(cuerpoActualizar.apply(SECUENCIA.incrementAndGet())))));
+                case "eliminar" -> new OperacionHttp(nombreOperacion, cliente -> enviar(cliente, HttpRequest.newBuilder(URI.create(base + "/" + id)).DELETE()));
+                default -> throw new IllegalArgumentException("Operación desconocida en la mezcla: " + tipo);
+            };
+        }
+
+        private CompletableFuture<Integer> crear(HttpClient cliente) {
+            HttpRequest peticion = json(base).POST(HttpRequest.BodyPublishers.ofString(cuerpoCrear.apply(SECUENCIA.incrementAndGet()))).build();
+            return cliente.sendAsync(peticion, HttpResponse.BodyHandlers.ofString()).thenApply(respuesta -> {
+                if (respuesta.statusCode() == 201) {
+                    try {
+                        ids.anadir(OBJECT_MAPPER.readTree(respuesta.body()).path("id").asLong());
+                    } catch (IOException ex) {
+                        return -1;
+                    }
+                }
+                return respuesta.statusCode();
+            });
+        }
+
+        private static HttpRequest.Builder json(String uri) {
+            return HttpRequest.newBuilder(URI.create(uri)).header("Content-Type", "application/json");
+        }
+
+        private static CompletableFuture<Integer> enviar(HttpClient cliente, HttpRequest.Builder peticion) {
+            return cliente.sendAsync(peticion.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding())
+                    .thenApply(HttpResponse::statusCode);
+        }
+    }
+
+    record ResultadoOperacion(String operacion, long peticiones, double peticionesPorSegundo, long correctas,
+                              long erroresCliente, long errores, Map<String, Double> latenciaMs,
+                              Map<String, Double> latenciaSinCorregirMs) {
+
+        static ResultadoOperacion de(String operacion, Estadisticas estadisticas, Duration duracion) {
+            return new ResultadoOperacion(operacion, estadisticas.total(), estadisticas.total() / (double) duracion.toSeconds(),
+                    estadisticas.correctas(), estadisticas.erroresCliente(), estadisticas.errores(),
+                    percentiles(estadisticas.corregida()), percentiles(estadisticas.sinCorregir()));
+        }
+
+        private static Map<String, Double> percentiles(Histogram histograma) {
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            percentiles.put("p50", histograma.getValueAtPercentile(50) / 1000.0);
+            percentiles.put("p99", histograma.getValueAtPercentile(99) / 1000.0);
+            percentiles.put("p99.9", histograma.getValueAtPercentile(99.9) / 1000.0);
+            percentiles.put("max", histograma.getMaxValue() / 1000.0);
+            return percentiles;
+        }
+    }
+
+    record Informe(String fecha, Map<String, String> configuracion, double tasaObjetivo, double tasaConseguida,
+                   long duracionSegundos, List<ResultadoOperacion> operaciones, List<String> infracciones, boolean superada) {
+
+        static Informe de(Map<String, String> opciones, double tasa, Duration duracion, Map<String, Estadisticas> estadisticas) {
+            double umbralP99 = Double.parseDouble(opciones.get("umbral-p99"));
+            double umbralP999 = Double.parseDouble(opciones.get("umbral-p999"));
+            double umbralErrores = Double.parseDouble(opciones.get("umbral-errores"));
+            double umbralTasa = Double.parseDouble(opciones.get("umbral-tasa"));
+
+            List<ResultadoOperacion> operaciones = new ArrayList<>();
+            List<String> infracciones = new ArrayList<>();
+            long peticiones = 0;
+            long errores = 0;
+            for (Map.Entry<String, Estadisticas> entrada : estadisticas.entrySet()) {
+                ResultadoOperacion resultado = ResultadoOperacion.de(entrada.getKey(), entrada.getValue(), duracion);
+                operaciones.add(resultado);
+                peticiones += resultado.peticiones();
+                errores += resultado.errores();
+                if (resultado.latenciaMs().get("p99") > umbralP99) {
+                    infracciones.add(String.format("%s: p99 de %.2f ms supera el umbral de %.0f ms", resultado.operacion(), resultado.latenciaMs().get("p99"), umbralP99));
+                }
+                if (resultado.latenciaMs().get("p99.9") > umbralP999) {
+                    infracciones.add(String.format("%s: p99.9 de %.2f ms supera el umbral de %.0f ms", resultado.operacion(), resultado.latenciaMs().get("p99.9"), umbralP999));
+                }
+            }
+
+            double tasaConseguida = peticiones / (double) duracion.toSeconds();
+            if (peticiones > 0 && errores / (double) peticiones > umbralErrores) {
+                infracciones.add(String.format("errores: %d de %d peticiones (%.2f%%) superan el umbral del %.2f%%",
+                        errores, peticiones, 100.0 * errores / peticiones, 100 * umbralErrores));
+            }
+            if (tasaConseguida < umbralTasa * tasa) {
+                infracciones.add(String.format("throughput: %.1f peticiones/s, por debajo del %.0f%% de la tasa objetivo (%.0f)",
+                        tasaConseguida, 100 * umbralTasa, tasa));
+            }
+            return new Informe(Instant.now().toString(), opciones, tasa, tasaConseguida, duracion.toSeconds(),
+                    operaciones, infracciones, infracciones.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.gestionderecursos.carga;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utilidades compartidas por los programas de carga.
+ */
+final class UtilidadesCarga {
+
+    private UtilidadesCarga() {
+    }
+
+    /**
+     * Lee argumentos de la forma clave=valor.
+     */
+    static Map<String, String> leerOpciones(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual > 0) {
+                opciones.put(arg.substring(0, igual), arg.substring(igual + 1));
+            }
+        }
+        return opciones;
+    }
+
+    /**
+     * Percentil (0..1) en milisegundos de un arreglo de latencias en nanosegundos ya ordenado.
+     */
+    static double percentilMs(long[] latenciasOrdenadas, double percentil) {
+        if (latenciasOrdenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * latenciasOrdenadas.length) - 1;
+        return latenciasOrdenadas[Math.max(0, indice)] / 1e6;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.busqueda.IndiceBusquedaProyectos;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de IndiceBusquedaProyectos.buscar con tablas de distinto tamaño y un número fijo de
+ * coincidencias: si el índice funciona, el tiempo por consulta apenas varía con el tamaño de la tabla.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusquedaProyectosBenchmark {
+
+    private static final String[] PALABRAS = {"portal", "migración", "facturación", "logística", "analítica",
+            "inventario", "plataforma", "servicio", "integración", "móvil"};
+    private static final int COINCIDENCIAS = 50;
+
+    @Param({"10000", "100000"})
+    public int proyectos;
+
+    private IndiceBusquedaProyectos indice;
+    private final Pageable pagina = PageRequest.of(0, 20);
+
+    @Setup
+    public void preparar() {
+        // Sin repositorio: el índice se llena directamente, como haría la reconstrucción al arrancar.
+        indice = new IndiceBusquedaProyectos(null);
+        LocalDate hoy = LocalDate.now();
+        for (long id = 1; id <= proyectos; id++) {
+            String nombre = PALABRAS[(int) (id % PALABRAS.length)] + " " + PALABRAS[(int) ((id / 7) % PALABRAS.length)] + " " + id;
+            String descripcion = id % (proyectos / COINCIDENCIAS) == 0 ? "Incluye el módulo Zafiro" : "Proyecto interno " + id;
+            indice.indexar(new ProyectoDetalleDTO(id, nombre, descripcion, hoy));
+        }
+    }
+
+    @Benchmark
+    public Page<ProyectoResumenDTO> buscarTerminoPocoFrecuente() {
+        return indice.buscar("zafiro", pagina);
+    }
+
+    @Benchmark
+    public Page<ProyectoResumenDTO> buscarDosTerminos() {
+        return indice.buscar("zafiro modulo", pagina);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.GestionDeRecursosApplication;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.servicios.ServicioPersona;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta por dominio de correo sobre 1.000.000 de personas repartidas en 1.000 dominios:
+ * el LIKE '%@dominio' original frente a la igualdad sobre la columna indexada dominioCorreo.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class DominioCorreoBenchmark {
+
+    private static final int PERSONAS = 1_000_000;
+    private static final int DOMINIOS = 1_000;
+    private static final int FILAS_POR_INSERCION = 50_000;
+    private static final String DOMINIO = "empresa42.com";
+
+    private ConfigurableApplicationContext contexto;
+    private JdbcTemplate jdbcTemplate;
+    private ServicioPersona servicioPersona;
+
+    @Setup(Level.Trial)
+    public void arrancar() {
+        contexto = new SpringApplicationBuilder(GestionDeRecursosApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark-dominio;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        servicioPersona = contexto.getBean(ServicioPersona.class);
+
+        for (int desde = 1; desde <= PERSONAS; desde += FILAS_POR_INSERCION) {
+            jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico, dominio_correo) " +
+                    "SELECT NEXT VALUE FOR personas_seq, CONCAT('Persona ', X), MOD(X, 100), " +
+                    "CONCAT('persona', X, '@empresa', MOD(X, ?), '.com'), CONCAT('empresa', MOD(X, ?), '.com') " +
+                    "FROM SYSTEM_RANGE(?, ?)", DOMINIOS, DOMINIOS, desde, desde + FILAS_POR_INSERCION - 1);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TearDown(Level.Trial)
+    public void detener() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Long contarConLike() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM personas WHERE correo_electronico LIKE ?", Long.class, "%@" + DOMINIO);
+    }
+
+    @Benchmark
+    public Long contarConIndice() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM personas WHERE dominio_correo = ?", Long.class, DOMINIO);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> primeraPaginaConLike() {
+        return jdbcTemplate.queryForList("SELECT id, nombre, correo_electronico FROM personas WHERE correo_electronico LIKE ? ORDER BY id LIMIT 20",
+                "%@" + DOMINIO);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> primeraPaginaConIndice() {
+        return jdbcTemplate.queryForList("SELECT id, nombre, correo_electronico FROM personas WHERE dominio_correo = ? ORDER BY id LIMIT 20",
+                DOMINIO);
+    }
+
+    /**
+     * Camino completo de GET /api/personas?dominio= sin HTTP: página de 20 más el COUNT de la paginación.
+     */
+    @Benchmark
+    public Page<PersonaResumenDTO> paginaDelServicio() {
+        return servicioPersona.listarPersonasPorDominio(DOMINIO, PageRequest.of(0, 20));
+    }
+}
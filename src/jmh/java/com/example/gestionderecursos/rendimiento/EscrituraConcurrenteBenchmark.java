@@ -0,0 +1,80 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.GestionDeRecursosApplication;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.excepciones.RecursoYaExisteException;
+import com.example.gestionderecursos.servicios.ServicioPersona;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencia de crearPersona con varios hilos escribiendo a la vez. El modo SampleTime reporta la
+ * distribución completa (p50, p99, p99.9...), que es lo que importa para la unicidad bajo concurrencia.
+ * Una fracción configurable de las altas repite un correo ya existente y termina en RecursoYaExisteException.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EscrituraConcurrenteBenchmark {
+
+    @Param({"false", "true"})
+    public boolean prefiltro;
+
+    @Param({"0", "10"})
+    public int porcentajeDuplicados;
+
+    private ConfigurableApplicationContext contexto;
+    private ServicioPersona servicioPersona;
+
+    private final AtomicLong secuencia = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void arrancar() {
+        contexto = new SpringApplicationBuilder(GestionDeRecursosApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN",
+                        "app.unicidad.prefiltro.habilitado=" + prefiltro)
+                .run();
+        servicioPersona = contexto.getBean(ServicioPersona.class);
+        servicioPersona.crearPersona(new PersonaCrearDTO("Existente", 30, "existente@example.com"));
+    }
+
+    @TearDown(Level.Trial)
+    public void detener() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public PersonaDetalleDTO crearPersona() {
+        long n = secuencia.incrementAndGet();
+        String correo = n % 100 < porcentajeDuplicados ? "existente@example.com" : "concurrente-" + n + "@example.com";
+        try {
+            return servicioPersona.crearPersona(new PersonaCrearDTO("Persona " + n, 30, correo));
+        } catch (RecursoYaExisteException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.config.MapeadorDeProyectos;
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.mapeadores.MapeadorPersona;
+import com.example.gestionderecursos.mapeadores.MapeadorProyecto;
+import com.example.gestionderecursos.mapeadores.impl.MapeadorPersonaDirecto;
+import com.example.gestionderecursos.mapeadores.impl.MapeadorPersonaModelMapper;
+import com.example.gestionderecursos.mapeadores.impl.MapeadorProyectoDirecto;
+import com.example.gestionderecursos.mapeadores.impl.MapeadorProyectoModelMapper;
+import com.example.gestionderecursos.modelos.Persona;
+import com.example.gestionderecursos.modelos.Proyecto;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el coste por operación (ns/op) y la memoria asignada (gc.alloc.rate.norm con -prof gc)
+ * de los mapeadores explícitos frente a los basados en ModelMapper.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeoBenchmark {
+
+    @Param({"directo", "modelmapper"})
+    public String estrategia;
+
+    private MapeadorPersona mapeadorPersona;
+    private MapeadorProyecto mapeadorProyecto;
+
+    private Persona persona;
+    private Proyecto proyecto;
+    private PersonaCrearDTO personaCrearDTO;
+    private PersonaActualizarDTO personaActualizarDTO;
+
+    @Setup
+    public void preparar() {
+        if ("modelmapper".equals(estrategia)) {
+            ModelMapper modelMapper = new MapeadorDeProyectos().modelMapper();
+            mapeadorPersona = new MapeadorPersonaModelMapper(modelMapper);
+            mapeadorProyecto = new MapeadorProyectoModelMapper(modelMapper);
+        } else {
+            mapeadorPersona = new MapeadorPersonaDirecto();
+            mapeadorProyecto = new MapeadorProyectoDirecto();
+        }
+
+        persona = new Persona();
+        persona.setId(42L);
+        persona.setNombre("Ana García");
+        persona.setEdad(30);
+        persona.setCorreoElectronico("ana.garcia@example.com");
+
+        proyecto = new Proyecto();
+        proyecto.setId(7L);
+        proyecto.setNombre("Migración");
+        proyecto.setDescripcion("Migración del sistema de facturación");
+        proyecto.setFechaCreacion(LocalDate.of(2024, 1, 15));
+
+        personaCrearDTO = new PersonaCrearDTO("Ana García", 30, "ana.garcia@example.com");
+        personaActualizarDTO = new PersonaActualizarDTO("Ana García López", 31, "ana.garcia@example.com");
+    }
+
+    @Benchmark
+    public PersonaDetalleDTO personaADetalle() {
+        return mapeadorPersona.aDetalle(persona);
+    }
+
+    @Benchmark
+    public PersonaResumenDTO personaAResumen() {
+        return mapeadorPersona.aResumen(persona);
+    }
+
+    @Benchmark
+    public Persona personaCrearAEntidad() {
+        return mapeadorPersona.aEntidad(personaCrearDTO);
+    }
+
+    @Benchmark
+    public Persona personaActualizarEntidad() {
+        mapeadorPersona.actualizarEntidad(personaActualizarDTO, persona);
+        return persona;
+    }
+
+    @Benchmark
+    public ProyectoDetalleDTO proyectoADetalle() {
+        return mapeadorProyecto.aDetalle(proyecto);
+    }
+
+    @Benchmark
+    public ProyectoResumenDTO proyectoAResumen() {
+        return mapeadorProyecto.aResumen(proyecto);
+    }
+}
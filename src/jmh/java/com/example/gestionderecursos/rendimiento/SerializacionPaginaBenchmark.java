@@ -0,0 +1,103 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Mide la serialización de una página de personas tal y como la devuelve GET /api/personas, en JSON, CBOR y
+ * Smile (los formatos que negocia la API según la cabecera Accept) y con o sin gzip, con ObjectMappers
+ * construidos como los de Spring Boot.
+ *
+ * <p>JMH mide el tiempo; el tamaño de cada combinación se escribe en la salida al preparar el benchmark
+ * (líneas "Tamaño de página: ...") porque no depende de la iteración.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializacionPaginaBenchmark {
+
+    public enum Formato {
+        JSON {
+            @Override
+            ObjectMapper crearObjectMapper() {
+                return Jackson2ObjectMapperBuilder.json().build();
+            }
+        },
+        CBOR {
+            @Override
+            ObjectMapper crearObjectMapper() {
+                return Jackson2ObjectMapperBuilder.cbor().build();
+            }
+        },
+        SMILE {
+            @Override
+            ObjectMapper crearObjectMapper() {
+                return Jackson2ObjectMapperBuilder.smile().build();
+            }
+        };
+
+        abstract ObjectMapper crearObjectMapper();
+    }
+
+    @Param({"10", "100", "1000"})
+    public int tamanoPagina;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public Formato formato;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private ObjectMapper objectMapper;
+    private Page<PersonaResumenDTO> pagina;
+
+    @Setup
+    public void preparar() throws IOException {
+        objectMapper = formato.crearObjectMapper();
+        List<PersonaResumenDTO> contenido = new ArrayList<>(tamanoPagina);
+        for (long i = 1; i <= tamanoPagina; i++) {
+            contenido.add(new PersonaResumenDTO(i, "Persona " + i, "persona" + i + "@example.com"));
+        }
+        pagina = new PageImpl<>(contenido, PageRequest.of(0, tamanoPagina, Sort.by("nombre")), 1_000_000L);
+        System.out.printf("%nTamaño de página: formato=%s elementos=%d gzip=%s bytes=%d%n",
+                formato, tamanoPagina, gzip, serializarPagina().length);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws IOException {
+        if (!gzip) {
+            return objectMapper.writeValueAsBytes(pagina);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream comprimido = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(comprimido, pagina);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.GestionDeRecursosApplication;
+import com.example.gestionderecursos.config.ConfiguracionCache;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.servicios.ServicioPersona;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mide la capa de servicio completa (proxies transaccionales y de caché, validación de unicidad,
+ * Hibernate y H2 embebido) sin el coste de HTTP. El contexto de Spring se levanta una vez por fork.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServicioPersonaBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private ServicioPersona servicioPersona;
+    private Cache cachePersonas;
+    private Long idExistente;
+
+    private final AtomicLong secuencia = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void arrancar() {
+        contexto = new SpringApplicationBuilder(GestionDeRecursosApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        servicioPersona = contexto.getBean(ServicioPersona.class);
+        cachePersonas = Objects.requireNonNull(
+                contexto.getBean(CacheManager.class).getCache(ConfiguracionCache.CACHE_PERSONAS));
+        idExistente = servicioPersona.crearPersona(
+                new PersonaCrearDTO("Ana García", 30, "benchmark-base@example.com")).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void detener() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public PersonaDetalleDTO crearPersona() {
+        long n = secuencia.incrementAndGet();
+        return servicioPersona.crearPersona(new PersonaCrearDTO("Persona " + n, 30, "benchmark-" + n + "@example.com"));
+    }
+
+    /**
+     * Lectura servida por la caché de detalle (caso habitual en producción).
+     */
+    @Benchmark
+    public PersonaDetalleDTO obtenerPersonaPorIdCacheada() {
+        return servicioPersona.obtenerPersonaPorId(idExistente);
+    }
+
+    /**
+     * Lectura que llega siempre a la base de datos: se invalida la entrada antes de cada llamada.
+     */
+    @Benchmark
+    public PersonaDetalleDTO obtenerPersonaPorIdSinCache() {
+        cachePersonas.evict(idExistente);
+        return servicioPersona.obtenerPersonaPorId(idExistente);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.paginacion.SerializadorPagina;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la respuesta de GET /api/personas serializando el {@code Page} de Spring Data (formato legado)
+ * frente al sobre {@link PaginaDTO} escrito por {@link SerializadorPagina}, incluida la construcción del sobre.
+ * Además del tiempo, interesa {@code gc.alloc.rate.norm} (bytes asignados por respuesta); el tamaño de cada
+ * respuesta se escribe en la salida al preparar el benchmark (líneas "Tamaño de respuesta: ...").
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SobrePaginaBenchmark {
+
+    /**
+     * Como la respuesta HTTP, se escribe en un flujo en lugar de en un byte[], para que los bytes asignados
+     * por operación sean los de la serialización y no los del buffer de salida.
+     */
+    private static final OutputStream SALIDA = OutputStream.nullOutputStream();
+
+    @Param({"10", "100", "1000"})
+    public int tamanoPagina;
+
+    private ObjectMapper objectMapper;
+    private Page<PersonaResumenDTO> pagina;
+
+    @Setup
+    public void preparar() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .modulesToInstall(new SimpleModule().addSerializer(new SerializadorPagina(false)))
+                .build();
+        List<PersonaResumenDTO> contenido = new ArrayList<>(tamanoPagina);
+        for (long i = 1; i <= tamanoPagina; i++) {
+            contenido.add(new PersonaResumenDTO(i, "Persona " + i, "persona" + i + "@example.com"));
+        }
+        pagina = new PageImpl<>(contenido, PageRequest.of(0, tamanoPagina, Sort.by("nombre")), 1_000_000L);
+        System.out.printf("%nTamaño de respuesta: elementos=%d page=%d paginaDTO=%d bytes%n", tamanoPagina,
+                objectMapper.writeValueAsBytes(pagina).length, objectMapper.writeValueAsBytes(PaginaDTO.de(pagina)).length);
+    }
+
+    @Benchmark
+    public void serializarPage() throws IOException {
+        objectMapper.writeValue(SALIDA, pagina);
+    }
+
+    @Benchmark
+    public void serializarPaginaDTO() throws IOException {
+        objectMapper.writeValue(SALIDA, PaginaDTO.de(pagina));
+    }
+}
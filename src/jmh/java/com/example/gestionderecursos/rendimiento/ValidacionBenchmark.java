@@ -0,0 +1,74 @@
+package com.example.gestionderecursos.rendimiento;
+
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide Bean Validation (Hibernate Validator) sobre los DTOs de creación, tanto para datos válidos
+ * como para datos que violan varias restricciones (construcción de mensajes incluida).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidacionBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private final PersonaCrearDTO personaValida = new PersonaCrearDTO("Ana García", 30, "ana.garcia@example.com");
+    private final PersonaCrearDTO personaInvalida = new PersonaCrearDTO("", 200, "no-es-un-correo");
+    private final ProyectoCrearDTO proyectoValido = new ProyectoCrearDTO("Migración", "Migración del sistema de facturación");
+    private final ProyectoCrearDTO proyectoInvalido = new ProyectoCrearDTO("", null);
+
+    @Setup
+    public void preparar() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void cerrar() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PersonaCrearDTO>> validarPersonaValida() {
+        return validator.validate(personaValida);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PersonaCrearDTO>> validarPersonaInvalida() {
+        return validator.validate(personaInvalida);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ProyectoCrearDTO>> validarProyectoValido() {
+        return validator.validate(proyectoValido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ProyectoCrearDTO>> validarProyectoInvalido() {
+        return validator.validate(proyectoInvalido);
+    }
+}
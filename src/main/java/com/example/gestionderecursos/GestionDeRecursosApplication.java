@@ -1,9 +1,20 @@
 package com.example.gestionderecursos;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 
 @SpringBootApplication
+// Mismos filtros que @SpringBootApplication más la variante reactiva (perfil Maven "reactivo"),
+// que tiene su propia clase de arranque y no debe mezclarse con la pila bloqueante.
+@ComponentScan(excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.example\\.gestionderecursos\\.reactivo\\..*")
+})
 public class GestionDeRecursosApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,304 @@
+package com.example.gestionderecursos.busqueda;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.eventos.ProyectoCambiadoEvento;
+import com.example.gestionderecursos.eventos.TipoCambio;
+import com.example.gestionderecursos.repositorios.RepositorioProyecto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido en memoria sobre el nombre y la descripción de los proyectos.
+ *
+ * <p>Cada palabra normalizada (sin acentos ni mayúsculas) se descompone en trigramas, y cada trigrama apunta
+ * al conjunto de proyectos que lo contienen. Una palabra de la consulta con 3 o más caracteres se resuelve
+ * intersectando los conjuntos de sus trigramas, empezando por el más pequeño, y verificando después la
+ * coincidencia real; las de 1 o 2 caracteres se buscan como prefijo de palabra. El coste de una consulta
+ * depende del tamaño de las listas de candidatos y no del número total de proyectos.</p>
+ *
+ * <p>Se reconstruye al arrancar y se mantiene al día con los eventos de cambio publicados tras el commit.
+ * Como los eventos pueden llegar desordenados, se descarta una modificación con versión anterior a la indexada
+ * y cualquier evento de un id ya borrado (las bajas no llevan versión y los ids no se reutilizan).</p>
+ */
+@Component
+public class IndiceBusquedaProyectos {
+
+    static final int LAPIDAS_MAXIMAS = 10_000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndiceBusquedaProyectos.class);
+
+    private static final int LONGITUD_NGRAMA = 3;
+
+    // Pesos de relevancia por palabra de la consulta.
+    private static final int PESO_PALABRA_EN_NOMBRE = 10;
+    private static final int PESO_PREFIJO_EN_NOMBRE = 6;
+    private static final int PESO_SUBCADENA_EN_NOMBRE = 4;
+    private static final int PESO_PALABRA_EN_DESCRIPCION = 2;
+    private static final int PESO_SUBCADENA_EN_DESCRIPCION = 1;
+
+    private final RepositorioProyecto repositorioProyecto;
+
+    private final ReentrantReadWriteLock cerrojo = new ReentrantReadWriteLock();
+    private final Map<Long, Documento> documentos = new HashMap<>();
+    private final Map<String, Set<Long>> trigramas = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> palabras = new TreeMap<>();
+    /** Lápidas de los últimos ids borrados, para no volver a indexar un proyecto con un evento atrasado. */
+    private final Set<Long> borrados = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> masAntigua) {
+            return size() > LAPIDAS_MAXIMAS;
+        }
+    });
+
+    public IndiceBusquedaProyectos(RepositorioProyecto repositorioProyecto) {
+        this.repositorioProyecto = repositorioProyecto;
+    }
+
+    /**
+     * Vuelve a cargar el índice completo desde la base de datos. Mantiene el bloqueo de escritura durante
+     * la carga, así que los eventos que lleguen mientras tanto se aplican después sobre el índice ya cargado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        cerrojo.writeLock().lock();
+        try {
+            documentos.clear();
+            trigramas.clear();
+            palabras.clear();
+            try (Stream<ProyectoDetalleDTO> proyectos = repositorioProyecto.streamAllAsDetalle()) {
+                proyectos.forEach(this::indexarSinBloqueo);
+            }
+            LOG.info("Índice de búsqueda de proyectos reconstruido: {} proyectos, {} trigramas", documentos.size(), trigramas.size());
+        } finally {
+            cerrojo.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarProyecto(ProyectoCambiadoEvento evento) {
+        if (evento.getTipo() == TipoCambio.ELIMINADO) {
+            eliminar(evento.getId());
+        } else {
+            indexar(evento.getActual());
+        }
+    }
+
+    public void indexar(ProyectoDetalleDTO proyecto) {
+        cerrojo.writeLock().lock();
+        try {
+            indexarSinBloqueo(proyecto);
+        } finally {
+            cerrojo.writeLock().unlock();
+        }
+    }
+
+    public void eliminar(Long id) {
+        cerrojo.writeLock().lock();
+        try {
+            borrados.add(id);
+            eliminarSinBloqueo(id);
+        } finally {
+            cerrojo.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca proyectos que contengan todas las palabras de la consulta en el nombre o en la descripción,
+     * ordenados por relevancia (coincidencias en el nombre primero) y después por nombre e id.
+     */
+    public Page<ProyectoResumenDTO> buscar(String consulta, Pageable pageable) {
+        Set<String> terminos = NormalizadorTexto.palabras(consulta);
+        if (terminos.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Resultado> resultados;
+        cerrojo.readLock().lock();
+        try {
+            Set<Long> candidatos = null;
+            for (String termino : terminos) {
+                Set<Long> coincidencias = coincidenciasDe(termino, candidatos);
+                candidatos = coincidencias;
+                if (candidatos.isEmpty()) {
+                    return Page.empty(pageable);
+                }
+            }
+            resultados = new ArrayList<>(candidatos.size());
+            for (Long id : candidatos) {
+                Documento documento = documentos.get(id);
+                resultados.add(new Resultado(documento, puntuar(documento, terminos)));
+            }
+        } finally {
+            cerrojo.readLock().unlock();
+        }
+
+        resultados.sort(Comparator.comparingInt(Resultado::puntuacion).reversed()
+                .thenComparing(resultado -> resultado.documento().nombre())
+                .thenComparing(resultado -> resultado.documento().id()));
+
+        int desde = (int) Math.min(pageable.getOffset(), resultados.size());
+        int hasta = Math.min(desde + pageable.getPageSize(), resultados.size());
+        List<ProyectoResumenDTO> contenido = new ArrayList<>(hasta - desde);
+        for (Resultado resultado : resultados.subList(desde, hasta)) {
+            contenido.add(new ProyectoResumenDTO(resultado.documento().id(), resultado.documento().nombre()));
+        }
+        return new PageImpl<>(contenido, pageable, resultados.size());
+    }
+
+    /**
+     * Proyectos que contienen el término, restringidos a los candidatos previos si los hay.
+     */
+    private Set<Long> coincidenciasDe(String termino, Set<Long> candidatosPrevios) {
+        if (termino.length() < LONGITUD_NGRAMA) {
+            Set<Long> porPrefijo = new HashSet<>();
+            for (Set<Long> ids : palabras.subMap(termino, true, termino + Character.MAX_VALUE, true).values()) {
+                porPrefijo.addAll(ids);
+            }
+            if (candidatosPrevios != null) {
+                porPrefijo.retainAll(candidatosPrevios);
+            }
+            return porPrefijo;
+        }
+
+        // Listas de trigramas de menor a mayor: la intersección nunca recorre más que la lista más corta.
+        List<Set<Long>> listas = new ArrayList<>();
+        if (candidatosPrevios != null) {
+            listas.add(candidatosPrevios);
+        }
+        for (String trigrama : trigramasDe(termino)) {
+            Set<Long> ids = trigramas.get(trigrama);
+            if (ids == null) {
+                return Set.of();
+            }
+            listas.add(ids);
+        }
+        listas.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> resultado = new HashSet<>(listas.get(0));
+        for (int i = 1; i < listas.size() && !resultado.isEmpty(); i++) {
+            resultado.retainAll(listas.get(i));
+        }
+        // Los trigramas pueden coincidir en posiciones distintas: se confirma la subcadena completa.
+        resultado.removeIf(id -> !documentos.get(id).contiene(termino));
+        return resultado;
+    }
+
+    private static int puntuar(Documento documento, Set<String> terminos) {
+        int puntuacion = 0;
+        for (String termino : terminos) {
+            if (documento.palabrasNombre().contains(termino)) {
+                puntuacion += PESO_PALABRA_EN_NOMBRE;
+            } else if (documento.nombreNormalizado().startsWith(termino) || documento.nombreNormalizado().contains(" " + termino)) {
+                puntuacion += PESO_PREFIJO_EN_NOMBRE;
+            } else if (documento.nombreNormalizado().contains(termino)) {
+                puntuacion += PESO_SUBCADENA_EN_NOMBRE;
+            } else if (documento.palabrasDescripcion().contains(termino)) {
+                puntuacion += PESO_PALABRA_EN_DESCRIPCION;
+            } else {
+                puntuacion += PESO_SUBCADENA_EN_DESCRIPCION;
+            }
+        }
+        return puntuacion;
+    }
+
+    private void indexarSinBloqueo(ProyectoDetalleDTO proyecto) {
+        Documento anterior = documentos.get(proyecto.getId());
+        if (borrados.contains(proyecto.getId()) || (anterior != null && esMasAntiguo(proyecto.getVersion(), anterior.version()))) {
+            return;
+        }
+        eliminarSinBloqueo(proyecto.getId());
+        Documento documento = Documento.de(proyecto);
+        documentos.put(documento.id(), documento);
+        for (String palabra : documento.todasLasPalabras()) {
+            palabras.computeIfAbsent(palabra, clave -> new HashSet<>()).add(documento.id());
+            for (String trigrama : trigramasDe(palabra)) {
+                trigramas.computeIfAbsent(trigrama, clave -> new HashSet<>()).add(documento.id());
+            }
+        }
+    }
+
+    private void eliminarSinBloqueo(Long id) {
+        Documento documento = documentos.remove(id);
+        if (documento == null) {
+            return;
+        }
+        for (String palabra : documento.todasLasPalabras()) {
+            quitar(palabras, palabra, id);
+            for (String trigrama : trigramasDe(palabra)) {
+                quitar(trigramas, trigrama, id);
+            }
+        }
+    }
+
+    private static boolean esMasAntiguo(Long nueva, Long vigente) {
+        return nueva != null && vigente != null && nueva < vigente;
+    }
+
+    private static void quitar(Map<String, Set<Long>> indice, String clave, Long id) {
+        Set<Long> ids = indice.get(clave);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            indice.remove(clave);
+        }
+    }
+
+    private static Set<String> trigramasDe(String palabra) {
+        Set<String> resultado = new HashSet<>();
+        for (int i = 0; i + LONGITUD_NGRAMA <= palabra.length(); i++) {
+            resultado.add(palabra.substring(i, i + LONGITUD_NGRAMA));
+        }
+        return resultado;
+    }
+
+    private record Resultado(Documento documento, int puntuacion) {
+    }
+
+    /**
+     * Copia normalizada de un proyecto, suficiente para verificar coincidencias, puntuar y construir el resumen.
+     */
+    private record Documento(Long id, Long version, String nombre, String nombreNormalizado, String descripcionNormalizada,
+                             Set<String> palabrasNombre, Set<String> palabrasDescripcion) {
+
+        static Documento de(ProyectoDetalleDTO proyecto) {
+            return new Documento(proyecto.getId(), proyecto.getVersion(), proyecto.getNombre(),
+                    NormalizadorTexto.normalizar(proyecto.getNombre()),
+                    NormalizadorTexto.normalizar(proyecto.getDescripcion()),
+                    NormalizadorTexto.palabras(proyecto.getNombre()),
+                    NormalizadorTexto.palabras(proyecto.getDescripcion()));
+        }
+
+        boolean contiene(String termino) {
+            return nombreNormalizado.contains(termino) || descripcionNormalizada.contains(termino);
+        }
+
+        Set<String> todasLasPalabras() {
+            Set<String> todas = new HashSet<>(palabrasNombre);
+            todas.addAll(palabrasDescripcion);
+            return todas;
+        }
+    }
+}
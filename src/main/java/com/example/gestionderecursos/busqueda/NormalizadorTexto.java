@@ -0,0 +1,45 @@
+package com.example.gestionderecursos.busqueda;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza texto para la búsqueda: sin acentos, en minúsculas y con cualquier carácter que no sea
+ * letra o dígito convertido en separador. "Migración-API" y "migracion api" producen lo mismo.
+ */
+public final class NormalizadorTexto {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Devuelve el texto normalizado con las palabras separadas por un único espacio.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return "";
+        }
+        String sinAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(sinAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Devuelve las palabras distintas del texto normalizado, en orden de aparición.
+     */
+    public static Set<String> palabras(String texto) {
+        Set<String> palabras = new LinkedHashSet<>();
+        String normalizado = normalizar(texto);
+        if (!normalizado.isEmpty()) {
+            for (String palabra : normalizado.split(" ")) {
+                palabras.add(palabra);
+            }
+        }
+        return palabras;
+    }
+}
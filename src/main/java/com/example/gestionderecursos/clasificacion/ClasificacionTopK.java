@@ -0,0 +1,190 @@
+package com.example.gestionderecursos.clasificacion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Los primeros elementos de una tabla según un orden, mantenidos en memoria para no ordenar la tabla
+ * en cada consulta.
+ *
+ * <p>Invariante: la estructura contiene las {@code size()} primeras filas de la tabla, nunca más de
+ * {@code capacidad}. Si además {@code completo} es cierto, no hay filas fuera de ella. Las altas y
+ * modificaciones entran si superan al último elemento (o siempre, si está completa) y se descarta lo que
+ * exceda la capacidad; una modificación que empeora un elemento lo saca, porque alguna fila de fuera podría
+ * superarlo. Las bajas la vacían poco a poco: solo cuando se piden más elementos de los que quedan se vuelve
+ * a cargar desde la base de datos. Un evento con una versión menor que la del elemento retenido se ignora,
+ * y también cualquier evento sobre un id ya borrado (los ids no se reutilizan), porque los eventos de dos
+ * transacciones pueden llegar en orden distinto al de sus commits.</p>
+ *
+ * <p>El orden debe ser total (desempatar por id) y coincidir con el de la consulta del cargador. Los métodos
+ * de escritura son sincronizados; la carga desde la base de datos se hace fuera del cerrojo y se descarta
+ * si entretanto llegó algún cambio, para no pisarlo con datos anteriores.</p>
+ * @param <T> Tipo de elemento.
+ */
+public class ClasificacionTopK<T> {
+
+    static final int LAPIDAS_MAXIMAS = 10_000;
+
+    private final int capacidad;
+    private final Comparator<T> orden;
+    private final Function<T, Long> identificador;
+    private final Function<T, Long> version;
+    private final IntFunction<List<T>> cargador;
+
+    private final TreeSet<T> elementos;
+    private final Map<Long, T> porId = new HashMap<>();
+    /** Lápidas de los últimos ids borrados, para no volver a meter un elemento con un evento atrasado. */
+    private final Set<Long> borrados = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> masAntigua) {
+            return size() > LAPIDAS_MAXIMAS;
+        }
+    });
+    private boolean cargado;
+    private boolean completo;
+    private long modificaciones;
+
+    /**
+     * @param capacidad Número máximo de elementos retenidos, y máximo de {@code k} que se puede pedir.
+     * @param orden Orden total de la clasificación (el primero es el mejor).
+     * @param identificador Id de cada elemento, para localizarlo en modificaciones y bajas.
+     * @param version Versión de cada elemento, para descartar eventos más antiguos que el retenido.
+     * @param cargador Lee de la base de datos los primeros n elementos, en el mismo orden.
+     */
+    public ClasificacionTopK(int capacidad, Comparator<T> orden, Function<T, Long> identificador,
+                             Function<T, Long> version, IntFunction<List<T>> cargador) {
+        this.capacidad = capacidad;
+        this.orden = orden;
+        this.identificador = identificador;
+        this.version = version;
+        this.cargador = cargador;
+        this.elementos = new TreeSet<>(orden);
+    }
+
+    public int capacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Devuelve los k primeros elementos, desde memoria salvo que las bajas hayan dejado menos de k.
+     * @param k Número de elementos; se acota a 1..capacidad.
+     */
+    public List<T> primeros(int k) {
+        int limite = Math.max(1, Math.min(k, capacidad));
+        long version;
+        synchronized (this) {
+            if (cargado && (completo || elementos.size() >= limite)) {
+                return copiar(limite);
+            }
+            version = modificaciones;
+        }
+        List<T> cargados = cargador.apply(capacidad);
+        synchronized (this) {
+            if (modificaciones == version) {
+                reemplazar(cargados);
+            }
+        }
+        return List.copyOf(cargados.subList(0, Math.min(limite, cargados.size())));
+    }
+
+    /**
+     * Vuelve a cargar la clasificación desde la base de datos.
+     */
+    public void recargar() {
+        long version;
+        synchronized (this) {
+            version = modificaciones;
+        }
+        List<T> cargados = cargador.apply(capacidad);
+        synchronized (this) {
+            if (modificaciones == version) {
+                reemplazar(cargados);
+            } else {
+                cargado = false;
+            }
+        }
+    }
+
+    /**
+     * Registra un alta o una modificación confirmada.
+     */
+    public synchronized void registrar(T elemento) {
+        modificaciones++;
+        if (!cargado) {
+            return;
+        }
+        T anterior = porId.get(identificador.apply(elemento));
+        if (borrados.contains(identificador.apply(elemento)) || (anterior != null && esMasAntiguo(elemento, anterior))) {
+            return;
+        }
+        quitar(identificador.apply(elemento));
+        if (completo || (!elementos.isEmpty() && orden.compare(elemento, elementos.last()) < 0)) {
+            elementos.add(elemento);
+            porId.put(identificador.apply(elemento), elemento);
+            while (elementos.size() > capacidad) {
+                porId.remove(identificador.apply(elementos.pollLast()));
+                completo = false;
+            }
+        }
+    }
+
+    /**
+     * Registra una baja confirmada.
+     */
+    public synchronized void eliminar(Long id) {
+        modificaciones++;
+        borrados.add(id);
+        quitar(id);
+    }
+
+    /**
+     * Número de elementos retenidos.
+     */
+    public synchronized int size() {
+        return elementos.size();
+    }
+
+    private boolean esMasAntiguo(T elemento, T anterior) {
+        Long nueva = version.apply(elemento);
+        Long vigente = version.apply(anterior);
+        return nueva != null && vigente != null && nueva < vigente;
+    }
+
+    private void quitar(Long id) {
+        T anterior = porId.remove(id);
+        if (anterior != null) {
+            elementos.remove(anterior);
+        }
+    }
+
+    private void reemplazar(List<T> cargados) {
+        elementos.clear();
+        porId.clear();
+        for (T elemento : cargados) {
+            elementos.add(elemento);
+            porId.put(identificador.apply(elemento), elemento);
+        }
+        cargado = true;
+        completo = cargados.size() < capacidad;
+    }
+
+    private List<T> copiar(int limite) {
+        List<T> copia = new ArrayList<>(Math.min(limite, elementos.size()));
+        for (T elemento : elementos) {
+            if (copia.size() == limite) {
+                break;
+            }
+            copia.add(elemento);
+        }
+        return copia;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.gestionderecursos.clasificacion;
+
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.eventos.PersonaCambiadoEvento;
+import com.example.gestionderecursos.eventos.ProyectoCambiadoEvento;
+import com.example.gestionderecursos.eventos.TipoCambio;
+import com.example.gestionderecursos.mapeadores.MapeadorPersona;
+import com.example.gestionderecursos.mapeadores.MapeadorProyecto;
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import com.example.gestionderecursos.repositorios.RepositorioProyecto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+
+/**
+ * Clasificaciones de la página de inicio mantenidas en memoria: personas de mayor edad y proyectos más
+ * recientes. Se cargan al arrancar con una consulta limitada sobre los índices (edad, id) y
+ * (fechaCreacion, id) y se ajustan con los eventos de alta, modificación y baja confirmados.
+ */
+@Component
+public class Clasificaciones {
+
+    private final ClasificacionTopK<PersonaDetalleDTO> personasMayores;
+    private final ClasificacionTopK<ProyectoDetalleDTO> proyectosRecientes;
+
+    public Clasificaciones(RepositorioPersona repositorioPersona, MapeadorPersona mapeadorPersona,
+                           RepositorioProyecto repositorioProyecto, MapeadorProyecto mapeadorProyecto,
+                           @Value("${app.clasificacion.capacidad:100}") int capacidad) {
+        // Mismo orden que las consultas: el desempate por id descendente permite recorrer el índice al revés.
+        this.personasMayores = new ClasificacionTopK<>(capacidad,
+                Comparator.comparingInt(PersonaDetalleDTO::getEdad).thenComparing(PersonaDetalleDTO::getId).reversed(),
+                PersonaDetalleDTO::getId,
+                PersonaDetalleDTO::getVersion,
+                n -> repositorioPersona.findAllByOrderByEdadDescIdDesc(PageRequest.of(0, n)).stream()
+                        .map(mapeadorPersona::aDetalle).toList());
+        this.proyectosRecientes = new ClasificacionTopK<>(capacidad,
+                Comparator.comparing(ProyectoDetalleDTO::getFechaCreacion).thenComparing(ProyectoDetalleDTO::getId).reversed(),
+                ProyectoDetalleDTO::getId,
+                ProyectoDetalleDTO::getVersion,
+                n -> repositorioProyecto.findAllByOrderByFechaCreacionDescIdDesc(PageRequest.of(0, n)).stream()
+                        .map(mapeadorProyecto::aDetalle).toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        personasMayores.recargar();
+        proyectosRecientes.recargar();
+    }
+
+    public ClasificacionTopK<PersonaDetalleDTO> personasMayores() {
+        return personasMayores;
+    }
+
+    public ClasificacionTopK<ProyectoDetalleDTO> proyectosRecientes() {
+        return proyectosRecientes;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarPersona(PersonaCambiadoEvento evento) {
+        if (evento.getTipo() == TipoCambio.ELIMINADO) {
+            personasMayores.eliminar(evento.getId());
+        } else {
+            personasMayores.registrar(evento.getActual());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarProyecto(ProyectoCambiadoEvento evento) {
+        if (evento.getTipo() == TipoCambio.ELIMINADO) {
+            proyectosRecientes.eliminar(evento.getId());
+        } else {
+            proyectosRecientes.registrar(evento.getActual());
+        }
+    }
+}
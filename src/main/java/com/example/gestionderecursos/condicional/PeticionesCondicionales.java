@@ -0,0 +1,63 @@
+package com.example.gestionderecursos.condicional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+
+/**
+ * Utilidades de los controladores para GET condicionales y para las cabeceras de versión de las escrituras.
+ */
+public final class PeticionesCondicionales {
+
+    /** Preferencia (RFC 7240) con la que el cliente pide el recurso en la respuesta de una escritura. */
+    public static final String PREFERENCIA_REPRESENTACION = "return=representation";
+
+    private PeticionesCondicionales() {
+    }
+
+    /**
+     * Indica si el cliente envía algún validador. Sin ellos no hay 304 posible y no merece la pena
+     * consultar la versión antes de obtener el recurso.
+     */
+    public static boolean esCondicional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Respuesta 200 OK con las cabeceras ETag y Last-Modified de la versión indicada. Last-Modified se omite
+     * mientras la última modificación esté en el segundo en curso (ver {@link VersionRecurso}).
+     */
+    public static <T> ResponseEntity<T> ok(T cuerpo, VersionRecurso version) {
+        return ok(version).body(cuerpo);
+    }
+
+    /**
+     * Respuesta de una escritura: 204 No Content con ETag y Last-Modified, o 200 OK con el recurso si la
+     * cabecera Prefer pide return=representation.
+     */
+    public static <T> ResponseEntity<T> segunPreferencia(String prefer, T cuerpo, VersionRecurso version) {
+        if (prefer != null && prefer.contains(PREFERENCIA_REPRESENTACION)) {
+            return ok(version).header("Preference-Applied", PREFERENCIA_REPRESENTACION).body(cuerpo);
+        }
+        ResponseEntity.HeadersBuilder<?> respuesta = ResponseEntity.noContent().eTag(version.etag());
+        Instant ultimaModificacion = version.ultimaModificacionFiable();
+        if (ultimaModificacion != null) {
+            respuesta.lastModified(ultimaModificacion);
+        }
+        return respuesta.build();
+    }
+
+    /**
+     * Constructor de una respuesta 200 OK con ETag y Last-Modified, para añadir otras cabeceras antes del cuerpo.
+     */
+    public static ResponseEntity.BodyBuilder ok(VersionRecurso version) {
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok().eTag(version.etag());
+        Instant ultimaModificacion = version.ultimaModificacionFiable();
+        if (ultimaModificacion != null) {
+            respuesta.lastModified(ultimaModificacion);
+        }
+        return respuesta;
+    }
+}
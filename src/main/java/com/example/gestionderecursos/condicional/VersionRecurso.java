@@ -0,0 +1,56 @@
+package com.example.gestionderecursos.condicional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Validadores HTTP de una representación: ETag débil y fecha de última modificación.
+ * Basta con esto para responder a If-None-Match / If-Modified-Since sin cargar ni serializar el recurso.
+ * La ETag es débil porque una misma versión se sirve en varias representaciones (JSON, CBOR, Smile, con o
+ * sin gzip) que no son idénticas byte a byte; además, Tomcat no comprime respuestas con ETag fuerte.
+ *
+ * <p>Last-Modified e If-Modified-Since tienen resolución de segundos y fechaModificacion no: dos escrituras en
+ * el mismo segundo comparten fecha HTTP y un cliente que solo envía If-Modified-Since recibiría un 304 con datos
+ * viejos. Por eso la fecha solo se usa como validador cuando su segundo ya ha terminado; mientras tanto la
+ * respuesta lleva únicamente el ETag.</p>
+ */
+public record VersionRecurso(String etag, Instant ultimaModificacion) {
+
+    /**
+     * Validadores de una entidad a partir de su columna @Version (usado también en consultas JPQL "SELECT new").
+     */
+    public VersionRecurso(Long version, Instant fechaModificacion) {
+        this(debil(String.valueOf(version)), fechaModificacion);
+    }
+
+    /**
+     * ETag débil (W/"valor") para el valor indicado.
+     */
+    public static String debil(String valor) {
+        return "W/\"" + valor + "\"";
+    }
+
+    /**
+     * Última modificación utilizable como Last-Modified, o null si se desconoce o si cae en el segundo en curso
+     * (otra escritura en ese mismo segundo no cambiaría la fecha HTTP).
+     */
+    public Instant ultimaModificacionFiable() {
+        return ultimaModificacionFiable(Instant.now());
+    }
+
+    Instant ultimaModificacionFiable(Instant ahora) {
+        if (ultimaModificacion == null || !ultimaModificacion.isBefore(ahora.truncatedTo(ChronoUnit.SECONDS))) {
+            return null;
+        }
+        return ultimaModificacion;
+    }
+
+    /**
+     * Última modificación fiable en milisegundos, o -1 si no la hay (como espera WebRequest.checkNotModified,
+     * que entonces ignora If-Modified-Since y decide solo con el ETag).
+     */
+    public long ultimaModificacionMillis() {
+        Instant fiable = ultimaModificacionFiable();
+        return fiable == null ? -1 : fiable.toEpochMilli();
+    }
+}
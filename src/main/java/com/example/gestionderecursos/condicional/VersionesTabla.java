@@ -0,0 +1,61 @@
+package com.example.gestionderecursos.condicional;
+
+import com.example.gestionderecursos.eventos.PersonaCambiadoEvento;
+import com.example.gestionderecursos.eventos.ProyectoCambiadoEvento;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores de versión por tabla para las ETag agregadas de los listados.
+ *
+ * <p>Cada alta, modificación o baja confirmada incrementa el contador de su tabla. Un listado se etiqueta con
+ * el valor leído <em>antes</em> de consultar los datos: si un commit se cuela entre medias, el cuerpo es más
+ * nuevo que su etiqueta y el siguiente sondeo recibirá un 200, nunca un 304 con datos viejos. El prefijo de
+ * arranque evita que tras un reinicio se repitan ETags ya entregados.</p>
+ */
+@Component
+public class VersionesTabla {
+
+    private final String arranque = Long.toString(System.currentTimeMillis(), 36);
+    private final Contador personas = new Contador();
+    private final Contador proyectos = new Contador();
+
+    public VersionRecurso personas() {
+        return personas.version(arranque);
+    }
+
+    public VersionRecurso proyectos() {
+        return proyectos.version(arranque);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarPersona(PersonaCambiadoEvento evento) {
+        personas.incrementar();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarProyecto(ProyectoCambiadoEvento evento) {
+        proyectos.incrementar();
+    }
+
+    private static final class Contador {
+
+        private final AtomicLong valor = new AtomicLong();
+        private volatile Instant instante = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        void incrementar() {
+            instante = Instant.now();
+            valor.incrementAndGet();
+        }
+
+        VersionRecurso version(String arranque) {
+            Instant ultimaModificacion = instante;
+            return new VersionRecurso(VersionRecurso.debil(arranque + "-" + valor.get()), ultimaModificacion);
+        }
+    }
+}
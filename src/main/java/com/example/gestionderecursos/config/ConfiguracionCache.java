@@ -0,0 +1,40 @@
+package com.example.gestionderecursos.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caché de lectura (read-through) para los DTOs de detalle de personas y proyectos.
+ */
+@Configuration
+// order = 0: el interceptor de caché envuelve al transaccional, así un acierto no abre transacción.
+@EnableCaching(order = 0)
+public class ConfiguracionCache {
+
+    public static final String CACHE_PERSONAS = "personas";
+    public static final String CACHE_PROYECTOS = "proyectos";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.detalle.especificacion}") String especificacion) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(CACHE_PERSONAS, CACHE_PROYECTOS);
+
+        /**
+         * Cachés acotadas por tamaño y TTL; recordStats habilita las métricas de aciertos, fallos y
+         * desalojos que Actuator publica como cache.gets y cache.evictions.
+         */
+        caffeineCacheManager.setCaffeineSpec(CaffeineSpec.parse(especificacion + ",recordStats"));
+        caffeineCacheManager.setAllowNullValues(false);
+
+        /**
+         * Los desalojos solicitados dentro de una transacción se aplican solo después del commit,
+         * de modo que un lector nunca vuelve a cargar en la caché datos todavía no confirmados.
+         */
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.gestionderecursos.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Codificaciones binarias de Jackson para la negociación de contenido de la API: con
+ * {@code Accept: application/cbor} o {@code Accept: application/x-jackson-smile} las respuestas (y los cuerpos
+ * enviados con ese Content-Type) usan CBOR o Smile en lugar de JSON; sin cabecera Accept se sigue
+ * respondiendo JSON.
+ *
+ * <p>Spring MVC registraría estos convertidores por sí solo al encontrar los módulos en el classpath, pero con
+ * un ObjectMapper propio. Declararlos aquí con el {@link Jackson2ObjectMapperBuilder} de Spring Boot hace que
+ * compartan la configuración spring.jackson.* y los módulos registrados (fechas, páginas) con el JSON, de modo
+ * que los tres formatos representan exactamente los mismos datos.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class ConfiguracionFormatosBinarios {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter convertidorCbor(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter convertidorSmile(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
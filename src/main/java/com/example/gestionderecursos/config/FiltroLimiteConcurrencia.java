@@ -0,0 +1,132 @@
+package com.example.gestionderecursos.config;
+
+import com.example.gestionderecursos.excepciones.ApiError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita el número de peticiones /api/** que se procesan a la vez.
+ *
+ * <p>Con hilos virtuales Tomcat deja de tener un techo de hilos y miles de peticiones pueden llegar a la vez
+ * al pool de conexiones JDBC. Este filtro recupera ese techo de forma explícita: las peticiones que exceden
+ * el límite esperan un tiempo acotado y, si siguen sin turno, reciben un 503 con Retry-After en lugar de
+ * acumularse en el pool hasta agotar su connection-timeout. Las peticiones asíncronas (las exportaciones en
+ * streaming) conservan el permiso hasta que la respuesta termina, falla o caduca.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.concurrencia.limite.habilitado", havingValue = "true")
+public class FiltroLimiteConcurrencia extends OncePerRequestFilter {
+
+    private final Semaphore permisos;
+    private final long esperaMaximaNanos;
+    private final ObjectMapper objectMapper;
+
+    public FiltroLimiteConcurrencia(@Value("${app.concurrencia.max-peticiones:40}") int maxPeticiones,
+                                    @Value("${app.concurrencia.espera-maxima:2s}") Duration esperaMaxima,
+                                    ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.permisos = new Semaphore(maxPeticiones, true);
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+        this.objectMapper = objectMapper;
+        Gauge.builder("app.concurrencia.permisos.disponibles", permisos, Semaphore::availablePermits)
+                .description("Peticiones /api que aún pueden entrar sin esperar")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean adquirido;
+        try {
+            adquirido = permisos.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            adquirido = false;
+        }
+        if (!adquirido) {
+            rechazar(response);
+            return;
+        }
+        boolean asincrona = false;
+        try {
+            filterChain.doFilter(request, response);
+            asincrona = request.isAsyncStarted();
+        } finally {
+            if (asincrona) {
+                // La respuesta sigue escribiéndose en otro hilo (p. ej. /export): el permiso se devuelve al terminar.
+                request.getAsyncContext().addListener(new LiberarAlTerminar());
+            } else {
+                permisos.release();
+            }
+        }
+    }
+
+    /**
+     * Devuelve el permiso una sola vez cuando la petición asíncrona termina, falla o caduca.
+     */
+    private final class LiberarAlTerminar implements AsyncListener {
+
+        private final AtomicBoolean liberado = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent evento) {
+            liberar();
+        }
+
+        @Override
+        public void onError(AsyncEvent evento) {
+            liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent evento) {
+            liberar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent evento) {
+            // Un nuevo startAsync descarta los listeners registrados: se vuelve a registrar para el siguiente ciclo.
+            evento.getAsyncContext().addListener(this);
+        }
+
+        private void liberar() {
+            if (liberado.compareAndSet(false, true)) {
+                permisos.release();
+            }
+        }
+    }
+
+    private void rechazar(HttpServletResponse response) throws IOException {
+        ApiError apiError = new ApiError(HttpStatus.SERVICE_UNAVAILABLE, "Servidor saturado",
+                "Demasiadas peticiones simultáneas. Vuelva a intentarlo en unos segundos.");
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), apiError);
+    }
+}
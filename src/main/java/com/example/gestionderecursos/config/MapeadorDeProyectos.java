@@ -2,13 +2,19 @@ package com.example.gestionderecursos.config;
 
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * ModelMapper queda como alternativa opcional (app.mapeo.estrategia=modelmapper).
+ * Por defecto se usan los mapeadores explícitos del paquete mapeadores.impl.
+ */
 @Configuration
 public class MapeadorDeProyectos {
 
     @Bean
+    @ConditionalOnProperty(name = "app.mapeo.estrategia", havingValue = "modelmapper")
     public ModelMapper modelMapper() {
         ModelMapper modelMapper = new ModelMapper();
 
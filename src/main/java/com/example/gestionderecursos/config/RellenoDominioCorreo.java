@@ -0,0 +1,41 @@
+package com.example.gestionderecursos.config;
+
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.modelos.Persona;
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rellena al arrancar la columna derivada dominioCorreo de las personas que aún no la tienen
+ * (filas anteriores a la columna o insertadas directamente por SQL). Es idempotente: una vez
+ * rellenadas, las siguientes ejecuciones no actualizan nada.
+ */
+@Component
+public class RellenoDominioCorreo implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RellenoDominioCorreo.class);
+
+    private final RepositorioPersona repositorioPersona;
+
+    public RellenoDominioCorreo(RepositorioPersona repositorioPersona) {
+        this.repositorioPersona = repositorioPersona;
+    }
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int actualizadas = repositorioPersona.rellenarDominiosCorreo();
+        // JPQL solo localiza la primera '@'; el dominio de un correo con varias va tras la última, como al guardar.
+        for (PersonaResumenDTO persona : repositorioPersona.findSinDominioCorreo()) {
+            actualizadas += repositorioPersona.asignarDominioCorreo(persona.getId(), Persona.extraerDominio(persona.getCorreoElectronico()));
+        }
+        if (actualizadas > 0) {
+            LOG.info("Dominio de correo rellenado en {} personas", actualizadas);
+        }
+    }
+}
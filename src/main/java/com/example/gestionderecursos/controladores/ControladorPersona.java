@@ -1,20 +1,53 @@
 package com.example.gestionderecursos.controladores;
 
+import com.example.gestionderecursos.condicional.PeticionesCondicionales;
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.condicional.VersionesTabla;
+import com.example.gestionderecursos.dto.lote.IngestaDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoEliminacionDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.example.gestionderecursos.dto.persona.ConteoDominioDTO;
+import com.example.gestionderecursos.dto.persona.EstadisticasEdadDTO;
 import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
 import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
 import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
 import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.dto.persona.VerificacionEstadisticasDTO;
+import com.example.gestionderecursos.exportacion.EscritorExportacion;
+import com.example.gestionderecursos.excepciones.LoteDemasiadoGrandeException;
+import com.example.gestionderecursos.excepciones.RecursoNoEncontradoException;
+import com.example.gestionderecursos.exportacion.FormatoExportacion;
+import com.example.gestionderecursos.ingesta.IngestaPersonas;
+import com.example.gestionderecursos.lectura.ModeloLectura;
+import com.example.gestionderecursos.lectura.PaginaLectura;
+import com.example.gestionderecursos.paginacion.ModoConteo;
+import com.example.gestionderecursos.paginacion.TotalesAproximados;
 import com.example.gestionderecursos.servicios.ServicioPersona;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Controlador REST para la gestión de personas.
@@ -26,32 +59,210 @@ import java.net.URI;
 public class ControladorPersona {
 
     private final ServicioPersona servicioPersona;
+    private final VersionesTabla versionesTabla;
+    private final TotalesAproximados totalesAproximados;
+    private final ObjectMapper objectMapper;
+    private final IngestaPersonas ingestaPersonas;
+    private final int maxElementosLote;
 
-    public ControladorPersona(ServicioPersona servicioPersona) {
+    public ControladorPersona(ServicioPersona servicioPersona, VersionesTabla versionesTabla,
+                              TotalesAproximados totalesAproximados, ObjectMapper objectMapper,
+                              IngestaPersonas ingestaPersonas,
+                              @Value("${app.lote.max-elementos:10000}") int maxElementosLote) {
         this.servicioPersona = servicioPersona;
+        this.versionesTabla = versionesTabla;
+        this.totalesAproximados = totalesAproximados;
+        this.objectMapper = objectMapper;
+        this.ingestaPersonas = ingestaPersonas;
+        this.maxElementosLote = maxElementosLote;
     }
 
     /**
      * GET /api/personas: Obtiene una lista paginada y resumida de todas las personas.
      * Acepta parámetros como ?page=0&size=10&sort=nombre,asc
+     * Con ?conteo=NINGUNO devuelve solo haySiguiente, sin totales, y se ahorra el SELECT count(*); con ?conteo=APROXIMADO
+     * además informa del total en la cabecera X-Total-Aproximado, sin consultar la base de datos.
+     * Responde 304 Not Modified sin consultar la base de datos si la tabla no ha cambiado desde el ETag recibido.
+     * Con el modelo de lectura activo (app.lectura.habilitado) y orden por nombre, edad o id, la página sale de memoria,
+     * con total exacto en todos los modos y la cabecera X-Marca-Lectura.
      * @param pageable Objeto que contiene la información de paginación y ordenamiento.
-     * @return ResponseEntity con una página de PersonaResumenDTO y estado 200 OK.
+     * @param conteo Cómo se obtiene el total: EXACTO (por defecto), NINGUNO o APROXIMADO.
+     * @return ResponseEntity con un PaginaDTO (sin totales con ?conteo=NINGUNO) de PersonaResumenDTO y estado 200 OK.
      */
     @GetMapping
-    public ResponseEntity<Page<PersonaResumenDTO>> listarTodasLasPersonas(@PageableDefault(size = 10, sort = "nombre")Pageable pageable) {
-        Page<PersonaResumenDTO> personasPage = servicioPersona.listarTodasLasPersonas(pageable);
-        return ResponseEntity.ok(personasPage);
+    public ResponseEntity<PaginaDTO<PersonaResumenDTO>> listarTodasLasPersonas(@PageableDefault(size = 10, sort = "nombre")Pageable pageable,
+                                                                           @RequestParam(defaultValue = "EXACTO") ModoConteo conteo,
+                                                                           WebRequest webRequest) {
+        // La versión se lee antes que los datos: ver VersionesTabla.
+        VersionRecurso version = versionesTabla.personas();
+        if (webRequest.checkNotModified(version.etag(), version.ultimaModificacionMillis())) {
+            return null;
+        }
+        Optional<PaginaLectura<PersonaResumenDTO>> enMemoria = servicioPersona.listarPersonasEnMemoria(pageable);
+        if (enMemoria.isPresent()) {
+            PaginaLectura<PersonaResumenDTO> pagina = enMemoria.get();
+            ResponseEntity.BodyBuilder respuesta = PeticionesCondicionales.ok(version)
+                    .header(ModeloLectura.CABECERA_MARCA, Long.toString(pagina.marca()));
+            if (conteo == ModoConteo.APROXIMADO) {
+                respuesta.header(TotalesAproximados.CABECERA_TOTAL_APROXIMADO, Long.toString(pagina.pagina().getTotalElements()));
+            }
+            return respuesta.body(PaginaDTO.de(pagina.segun(conteo)));
+        }
+        if (conteo == ModoConteo.EXACTO) {
+            return PeticionesCondicionales.ok(PaginaDTO.de(servicioPersona.listarTodasLasPersonas(pageable)), version);
+        }
+        ResponseEntity.BodyBuilder respuesta = PeticionesCondicionales.ok(version);
+        if (conteo == ModoConteo.APROXIMADO) {
+            respuesta.header(TotalesAproximados.CABECERA_TOTAL_APROXIMADO, Long.toString(totalesAproximados.personas()));
+        }
+        return respuesta.body(PaginaDTO.de(servicioPersona.listarPersonasSinConteo(pageable)));
+    }
+
+    /**
+     * GET /api/personas?after={cursor}: Obtiene una página resumida de personas con paginación por cursor (keyset).
+     * No ejecuta count(*) y su latencia no crece con la profundidad de la página.
+     * La primera página se pide con ?after= vacío; las siguientes con el siguienteCursor recibido.
+     * Acepta parámetros como ?after=&size=50&sort=nombre,asc (campos: nombre, edad, id)
+     * @param after Cursor opaco de la página anterior, o vacío para empezar.
+     * @param size Número máximo de elementos de la página.
+     * @param sort Campo y dirección de ordenamiento de la primera página.
+     * @return ResponseEntity con un PaginaCursorDTO de PersonaResumenDTO y estado 200 OK.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<PaginaCursorDTO<PersonaResumenDTO>> listarPersonasPorCursor(
+            @RequestParam("after") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "nombre") Sort sort,
+            WebRequest webRequest) {
+        VersionRecurso version = versionesTabla.personas();
+        if (webRequest.checkNotModified(version.etag(), version.ultimaModificacionMillis())) {
+            return null;
+        }
+        return PeticionesCondicionales.ok(servicioPersona.listarPersonasPorCursor(after, sort, size), version);
+    }
+
+    /**
+     * GET /api/personas?dominio={dominio}: Obtiene una lista paginada y resumida de las personas de un dominio de correo.
+     * Usa la columna indexada dominioCorreo; no distingue mayúsculas y admite '@' inicial.
+     * Acepta parámetros como ?dominio=example.com&page=0&size=10&sort=nombre,asc
+     * @param dominio Dominio del correo.
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return ResponseEntity con un PaginaDTO de PersonaResumenDTO y estado 200 OK.
+     */
+    @GetMapping(params = {"dominio", "!after"})
+    public ResponseEntity<PaginaDTO<PersonaResumenDTO>> listarPersonasPorDominio(@RequestParam("dominio") String dominio,
+                                                                            @PageableDefault(size = 10, sort = "nombre") Pageable pageable) {
+        return ResponseEntity.ok(PaginaDTO.de(servicioPersona.listarPersonasPorDominio(dominio, pageable)));
+    }
+
+    /**
+     * GET /api/personas/dominios: Número de personas por dominio de correo, de mayor a menor.
+     * @param limite Número máximo de dominios a devolver (por defecto 100).
+     * @return ResponseEntity con la lista de ConteoDominioDTO y estado 200 OK.
+     */
+    @GetMapping("/dominios")
+    public ResponseEntity<List<ConteoDominioDTO>> contarPersonasPorDominio(@RequestParam(defaultValue = "100") int limite) {
+        return ResponseEntity.ok(servicioPersona.contarPersonasPorDominio(limite));
+    }
+
+    /**
+     * GET /api/personas/dominios/{dominio}: Número de personas de un dominio de correo.
+     * @param dominio Dominio del correo.
+     * @return ResponseEntity con el ConteoDominioDTO y estado 200 OK.
+     */
+    @GetMapping("/dominios/{dominio}")
+    public ResponseEntity<ConteoDominioDTO> contarPersonasDelDominio(@PathVariable String dominio) {
+        return ResponseEntity.ok(servicioPersona.contarPersonasDelDominio(dominio));
+    }
+
+    /**
+     * GET /api/personas/mayores?k=3: Las personas de mayor edad, servidas desde memoria.
+     * @param k Número de personas (por defecto 3, como máximo app.clasificacion.capacidad).
+     * @return ResponseEntity con la lista de PersonaDetalleDTO y estado 200 OK.
+     */
+    @GetMapping("/mayores")
+    public ResponseEntity<List<PersonaDetalleDTO>> listarPersonasMayores(@RequestParam(defaultValue = "3") int k) {
+        return ResponseEntity.ok(servicioPersona.listarPersonasMayores(k));
+    }
+
+    /**
+     * GET /api/personas/estadisticas: Distribución de edades (histograma, media, percentiles) y número de personas
+     * en un rango de edad, calculados en memoria sin consultar la base de datos.
+     * Acepta parámetros como ?desde=18&hasta=65
+     * @param desde Edad mínima del rango (por defecto 0).
+     * @param hasta Edad máxima del rango (por defecto 120).
+     * @return ResponseEntity con el EstadisticasEdadDTO y estado 200 OK.
+     */
+    @GetMapping("/estadisticas")
+    public ResponseEntity<EstadisticasEdadDTO> obtenerEstadisticasEdad(@RequestParam(defaultValue = "0") int desde,
+                                                                       @RequestParam(defaultValue = "120") int hasta) {
+        return ResponseEntity.ok(servicioPersona.obtenerEstadisticasEdad(desde, hasta));
+    }
+
+    /**
+     * GET /api/personas/estadisticas/verificacion: Compara el histograma de edades en memoria con la base de datos.
+     * @return ResponseEntity con el VerificacionEstadisticasDTO y estado 200 OK.
+     */
+    @GetMapping("/estadisticas/verificacion")
+    public ResponseEntity<VerificacionEstadisticasDTO> verificarEstadisticasEdad() {
+        return ResponseEntity.ok(servicioPersona.verificarEstadisticasEdad(false));
+    }
+
+    /**
+     * POST /api/personas/estadisticas/verificacion: Compara el histograma de edades con la base de datos y, si hay
+     * diferencias (por ejemplo, filas modificadas directamente en SQL), lo reemplaza por los valores de la base de datos.
+     * @return ResponseEntity con el VerificacionEstadisticasDTO y estado 200 OK.
+     */
+    @PostMapping("/estadisticas/verificacion")
+    public ResponseEntity<VerificacionEstadisticasDTO> repararEstadisticasEdad() {
+        return ResponseEntity.ok(servicioPersona.verificarEstadisticasEdad(true));
+    }
+
+    /**
+     * GET /api/personas/export: Exporta todas las personas en forma resumida.
+     * Las filas se leen con un cursor y se escriben a medida que llegan, sin construir la lista completa.
+     * Acepta ?formato=NDJSON (por defecto) o ?formato=CSV
+     * @param formato Formato de salida.
+     * @return ResponseEntity con un cuerpo que se transmite de forma incremental y estado 200 OK.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportarPersonas(@RequestParam(defaultValue = "NDJSON") FormatoExportacion formato) {
+        StreamingResponseBody cuerpo = salida -> {
+            try (EscritorExportacion escritor = EscritorExportacion.para(formato, salida, objectMapper)) {
+                servicioPersona.recorrerTodasLasPersonas(persona -> {
+                    try {
+                        escritor.escribir(persona);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        ContentDisposition adjunto = ContentDisposition.attachment().filename("personas." + formato.getExtension()).build();
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, adjunto.toString())
+                .body(cuerpo);
     }
 
     /**
      * GET /api/personas/{id}: Obtiene los detalles completos de una persona.
+     * Incluye ETag y Last-Modified; con If-None-Match o If-Modified-Since vigentes responde 304 Not Modified
+     * consultando solo la versión, sin cargar ni serializar la persona.
      * @param id El ID de la persona.
      * @return ResponseEntity con el PersonaDetalleDTO y estado 200 OK.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PersonaDetalleDTO> obtenerPersonaPorId(@PathVariable Long id) {
+    public ResponseEntity<PersonaDetalleDTO> obtenerPersonaPorId(@PathVariable Long id, WebRequest webRequest) {
+        if (PeticionesCondicionales.esCondicional(webRequest)) {
+            VersionRecurso version = servicioPersona.obtenerVersionPersona(id);
+            if (webRequest.checkNotModified(version.etag(), version.ultimaModificacionMillis())) {
+                return null;
+            }
+        }
         PersonaDetalleDTO persona = servicioPersona.obtenerPersonaPorId(id);
-        return ResponseEntity.ok(persona);
+        return PeticionesCondicionales.ok(persona, new VersionRecurso(persona.getVersion(), persona.getFechaModificacion()));
     }
 
     /**
@@ -70,6 +281,48 @@ public class ControladorPersona {
         return ResponseEntity.created(ubicacion).body(personaCreada);
     }
 
+    /**
+     * POST /api/personas?async=true: Valida la persona y la encola para crearla en segundo plano.
+     * Un escritor la inserta más tarde en un lote, con las mismas reglas de unicidad que el alta síncrona.
+     * @param personaCrearDTO El DTO con los datos para la creación.
+     * @return ResponseEntity con el ticket en estado PENDIENTE, la URI para consultarlo y estado 202 Accepted,
+     * o 429 Too Many Requests si la cola está llena.
+     */
+    @PostMapping(params = "async=true")
+    public ResponseEntity<IngestaDTO> encolarPersona(@Valid @RequestBody PersonaCrearDTO personaCrearDTO) {
+        IngestaDTO ingesta = ingestaPersonas.encolar(personaCrearDTO);
+        URI ubicacion = ServletUriComponentsBuilder.fromCurrentContextPath().path("/api/personas/ingestas/{ticket}")
+                .buildAndExpand(ingesta.getTicket()).toUri();
+        return ResponseEntity.accepted().location(ubicacion).body(ingesta);
+    }
+
+    /**
+     * GET /api/personas/ingestas/{ticket}: Consulta el resultado de un alta asíncrona.
+     * @param ticket El ticket devuelto por POST /api/personas?async=true.
+     * @return ResponseEntity con el estado del ticket (PENDIENTE, CREADO con el id, o el motivo del rechazo) y estado 200 OK.
+     */
+    @GetMapping("/ingestas/{ticket}")
+    public ResponseEntity<IngestaDTO> consultarIngesta(@PathVariable UUID ticket) {
+        return ingestaPersonas.consultar(ticket)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new RecursoNoEncontradoException("Ticket de ingesta no encontrado o caducado: " + ticket));
+    }
+
+    /**
+     * POST /api/personas/lote: Crea muchas personas en una sola petición.
+     * Cada elemento se valida por separado; los inválidos o duplicados se informan sin abortar el resto.
+     * @param personas Arreglo JSON de PersonaCrearDTO.
+     * @return ResponseEntity con el ResultadoLoteDTO (resultado por elemento) y estado 200 OK,
+     * o 413 Payload Too Large si el arreglo supera app.lote.max-elementos.
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoLoteDTO> crearPersonasEnLote(@RequestBody List<PersonaCrearDTO> personas) {
+        if (personas.size() > maxElementosLote) {
+            throw new LoteDemasiadoGrandeException("El lote admite como máximo " + maxElementosLote + " elementos; se recibieron " + personas.size() + ".");
+        }
+        return ResponseEntity.ok(servicioPersona.crearPersonasEnLote(personas));
+    }
+
     /**
      * PUT /api/personas/{id}: Actualiza una persona existente.
      * @param id El ID de la persona a actualizar.
@@ -79,7 +332,24 @@ public class ControladorPersona {
     @PutMapping("/{id}")
     public ResponseEntity<PersonaDetalleDTO> actualizarPersona(@PathVariable Long id, @Valid @RequestBody PersonaActualizarDTO personaActualizarDTO) {
         PersonaDetalleDTO personaActualizada = servicioPersona.actualizarPersona(id, personaActualizarDTO);
-        return ResponseEntity.ok(personaActualizada);
+        return PeticionesCondicionales.ok(personaActualizada,
+                new VersionRecurso(personaActualizada.getVersion(), personaActualizada.getFechaModificacion()));
+    }
+
+    /**
+     * PATCH /api/personas/{id}: Actualiza solo los campos enviados, con una única sentencia UPDATE.
+     * Responde 204 No Content con el nuevo ETag, o 200 OK con la persona si se envía Prefer: return=representation.
+     * @param id El ID de la persona a actualizar.
+     * @param cambios El DTO con los campos a modificar.
+     * @param prefer Cabecera Prefer opcional.
+     * @return ResponseEntity con estado 204 No Content, o 200 OK con el PersonaDetalleDTO actualizado.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<PersonaDetalleDTO> actualizarPersonaParcialmente(@PathVariable Long id, @Valid @RequestBody PersonaParcialDTO cambios,
+                                                                           @RequestHeader(value = "Prefer", required = false) String prefer) {
+        PersonaDetalleDTO personaActualizada = servicioPersona.actualizarPersonaParcialmente(id, cambios);
+        return PeticionesCondicionales.segunPreferencia(prefer, personaActualizada,
+                new VersionRecurso(personaActualizada.getVersion(), personaActualizada.getFechaModificacion()));
     }
 
     /**
@@ -93,5 +363,25 @@ public class ControladorPersona {
         servicioPersona.eliminarPersona(id);
     }
 
+    /**
+     * DELETE /api/personas?ids=1,2,3 : Elimina varias personas con un DELETE por bloque de ids.
+     * @param ids IDs de las personas a eliminar.
+     * @return ResponseEntity con el ResultadoEliminacionDTO (eliminadas e ids inexistentes) y estado 200 OK.
+     */
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<ResultadoEliminacionDTO> eliminarPersonas(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(servicioPersona.eliminarPersonas(ids));
+    }
+
+    /**
+     * DELETE /api/personas?dominio=example.com : Elimina todas las personas de un dominio de correo.
+     * @param dominio Dominio del correo electrónico.
+     * @return ResponseEntity con el ResultadoEliminacionDTO y estado 200 OK.
+     */
+    @DeleteMapping(params = "dominio")
+    public ResponseEntity<ResultadoEliminacionDTO> eliminarPersonasDelDominio(@RequestParam String dominio) {
+        return ResponseEntity.ok(servicioPersona.eliminarPersonasDelDominio(dominio));
+    }
+
 
 }
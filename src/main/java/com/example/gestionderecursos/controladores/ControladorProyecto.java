@@ -1,20 +1,40 @@
 package com.example.gestionderecursos.controladores;
 
+import com.example.gestionderecursos.condicional.PeticionesCondicionales;
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.condicional.VersionesTabla;
+import com.example.gestionderecursos.dto.lote.ResultadoEliminacionDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoParcialDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.excepciones.LoteDemasiadoGrandeException;
+import com.example.gestionderecursos.lectura.ModeloLectura;
+import com.example.gestionderecursos.lectura.PaginaLectura;
+import com.example.gestionderecursos.paginacion.ModoConteo;
+import com.example.gestionderecursos.paginacion.TotalesAproximados;
 import com.example.gestionderecursos.servicios.ServicioProyecto;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 
 /**
@@ -27,32 +47,122 @@ import java.net.URI;
 public class ControladorProyecto {
 
     private final ServicioProyecto servicioProyecto;
+    private final VersionesTabla versionesTabla;
+    private final TotalesAproximados totalesAproximados;
+    private final int maxElementosLote;
 
-    public ControladorProyecto(ServicioProyecto servicioProyecto) {
+    public ControladorProyecto(ServicioProyecto servicioProyecto, VersionesTabla versionesTabla,
+                               TotalesAproximados totalesAproximados,
+                               @Value("${app.lote.max-elementos:10000}") int maxElementosLote) {
         this.servicioProyecto = servicioProyecto;
+        this.versionesTabla = versionesTabla;
+        this.totalesAproximados = totalesAproximados;
+        this.maxElementosLote = maxElementosLote;
     }
 
     /**
      * GET /api/proyectos : Obtiene una lista paginada y resumida de todos los proyectos.
      * Acepta parámetros como ?page=0&size=10&sort=nombre,asc
+     * Con ?conteo=NINGUNO responde sin totales ni SELECT count(*); con ?conteo=APROXIMADO añade la cabecera
+     * X-Total-Aproximado.
+     * Responde 304 Not Modified sin consultar la base de datos si la tabla no ha cambiado desde el ETag recibido.
+     * Con el modelo de lectura activo (app.lectura.habilitado) y orden por nombre, fechaCreacion o id, la página sale
+     * de memoria, con total exacto en todos los modos y la cabecera X-Marca-Lectura.
      * @param pageable Objeto que contiene la información de paginación y ordenamiento.
-     * @return ResponseEntity con una página de ProyectoResumenDTO y estado 200 OK.
+     * @param conteo Cómo se obtiene el total: EXACTO (por defecto), NINGUNO o APROXIMADO.
+     * @return ResponseEntity con un PaginaDTO (sin totales con ?conteo=NINGUNO) de ProyectoResumenDTO y estado 200 OK.
     */
      @GetMapping
-    public ResponseEntity<Page<ProyectoResumenDTO>> listarTodosLosProyectos(@PageableDefault(size = 10, sort = "nombre")Pageable pageable) {
-        Page<ProyectoResumenDTO> proyectosPage = servicioProyecto.listarTodosLosProyectos(pageable);
-        return ResponseEntity.ok(proyectosPage);
+    public ResponseEntity<PaginaDTO<ProyectoResumenDTO>> listarTodosLosProyectos(@PageableDefault(size = 10, sort = "nombre")Pageable pageable,
+                                                                             @RequestParam(defaultValue = "EXACTO") ModoConteo conteo,
+                                                                             WebRequest webRequest) {
+        VersionRecurso version = versionesTabla.proyectos();
+        if (webRequest.checkNotModified(version.etag(), version.ultimaModificacionMillis())) {
+            return null;
+        }
+        Optional<PaginaLectura<ProyectoResumenDTO>> enMemoria = servicioProyecto.listarProyectosEnMemoria(pageable);
+        if (enMemoria.isPresent()) {
+            PaginaLectura<ProyectoResumenDTO> pagina = enMemoria.get();
+            ResponseEntity.BodyBuilder respuesta = PeticionesCondicionales.ok(version)
+                    .header(ModeloLectura.CABECERA_MARCA, Long.toString(pagina.marca()));
+            if (conteo == ModoConteo.APROXIMADO) {
+                respuesta.header(TotalesAproximados.CABECERA_TOTAL_APROXIMADO, Long.toString(pagina.pagina().getTotalElements()));
+            }
+            return respuesta.body(PaginaDTO.de(pagina.segun(conteo)));
+        }
+        if (conteo == ModoConteo.EXACTO) {
+            return PeticionesCondicionales.ok(PaginaDTO.de(servicioProyecto.listarTodosLosProyectos(pageable)), version);
+        }
+        ResponseEntity.BodyBuilder respuesta = PeticionesCondicionales.ok(version);
+        if (conteo == ModoConteo.APROXIMADO) {
+            respuesta.header(TotalesAproximados.CABECERA_TOTAL_APROXIMADO, Long.toString(totalesAproximados.proyectos()));
+        }
+        return respuesta.body(PaginaDTO.de(servicioProyecto.listarProyectosSinConteo(pageable)));
+    }
+
+    /**
+     * GET /api/proyectos?after={cursor} : Obtiene una página resumida de proyectos con paginación por cursor (keyset).
+     * No ejecuta count(*) y su latencia no crece con la profundidad de la página.
+     * La primera página se pide con ?after= vacío; las siguientes con el siguienteCursor recibido.
+     * Acepta parámetros como ?after=&size=50&sort=nombre,asc (campos: nombre, fechaCreacion, id)
+     * @param after Cursor opaco de la página anterior, o vacío para empezar.
+     * @param size Número máximo de elementos de la página.
+     * @param sort Campo y dirección de ordenamiento de la primera página.
+     * @return ResponseEntity con un PaginaCursorDTO de ProyectoResumenDTO y estado 200 OK.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<PaginaCursorDTO<ProyectoResumenDTO>> listarProyectosPorCursor(
+            @RequestParam("after") String after,
+            @RequestParam(defaultValue = "10") int size,
+            @SortDefault(sort = "nombre") Sort sort,
+            WebRequest webRequest) {
+        VersionRecurso version = versionesTabla.proyectos();
+        if (webRequest.checkNotModified(version.etag(), version.ultimaModificacionMillis())) {
+            return null;
+        }
+        return PeticionesCondicionales.ok(servicioProyecto.listarProyectosPorCursor(after, sort, size), version);
+    }
+
+    /**
+     * GET /api/proyectos/buscar?q={texto} : Busca proyectos por texto en el nombre y la descripción.
+     * Ignora mayúsculas y acentos, exige todas las palabras y ordena por relevancia
+     * (las coincidencias en el nombre van primero). Acepta ?page=0&size=10.
+     * @param q Texto a buscar.
+     * @param pageable Información de paginación.
+     * @return ResponseEntity con un PaginaDTO de ProyectoResumenDTO y estado 200 OK.
+     */
+    @GetMapping("/buscar")
+    public ResponseEntity<PaginaDTO<ProyectoResumenDTO>> buscarProyectos(@RequestParam("q") String q,
+                                                                    @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(PaginaDTO.de(servicioProyecto.buscarProyectos(q, pageable)));
+    }
+
+    /**
+     * GET /api/proyectos/recientes?k=5 : Los proyectos más recientes por fecha de creación, servidos desde memoria.
+     * @param k Número de proyectos (por defecto 5, como máximo app.clasificacion.capacidad).
+     * @return ResponseEntity con la lista de ProyectoDetalleDTO y estado 200 OK.
+     */
+    @GetMapping("/recientes")
+    public ResponseEntity<List<ProyectoDetalleDTO>> listarProyectosRecientes(@RequestParam(defaultValue = "5") int k) {
+        return ResponseEntity.ok(servicioProyecto.listarProyectosRecientes(k));
     }
 
     /**
      * GET /api/proyectos/{id} : Obtiene los detalles completos de un proyecto.
+     * Incluye ETag y Last-Modified; un GET condicional vigente recibe 304 Not Modified sin cargar el proyecto.
      * @param id El ID del proyecto.
      * @return ResponseEntity con el ProyectoDetalleDTO y estado 200 OK.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProyectoDetalleDTO> obtenerProyectoPorId(@PathVariable Long id) {
+    public ResponseEntity<ProyectoDetalleDTO> obtenerProyectoPorId(@PathVariable Long id, WebRequest webRequest) {
+        if (PeticionesCondicionales.esCondicional(webRequest)) {
+            VersionRecurso version = servicioProyecto.obtenerVersionProyecto(id);
+            if (webRequest.checkNotModified(version.etag(), version.ultimaModificacionMillis())) {
+                return null;
+            }
+        }
         ProyectoDetalleDTO proyecto = servicioProyecto.obtenerProyectoPorId(id);
-        return ResponseEntity.ok(proyecto);
+        return PeticionesCondicionales.ok(proyecto, new VersionRecurso(proyecto.getVersion(), proyecto.getFechaModificacion()));
     }
 
     /**
@@ -70,6 +180,21 @@ public class ControladorProyecto {
         return ResponseEntity.created(ubicacion).body(proyectoCreado);
     }
 
+    /**
+     * POST /api/proyectos/lote : Crea muchos proyectos en una sola petición.
+     * Cada elemento se valida por separado; los inválidos o duplicados se informan sin abortar el resto.
+     * @param proyectos Arreglo JSON de ProyectoCrearDTO.
+     * @return ResponseEntity con el ResultadoLoteDTO (resultado por elemento) y estado 200 OK,
+     * o 413 Payload Too Large si el arreglo supera app.lote.max-elementos.
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoLoteDTO> crearProyectosEnLote(@RequestBody List<ProyectoCrearDTO> proyectos) {
+        if (proyectos.size() > maxElementosLote) {
+            throw new LoteDemasiadoGrandeException("El lote admite como máximo " + maxElementosLote + " elementos; se recibieron " + proyectos.size() + ".");
+        }
+        return ResponseEntity.ok(servicioProyecto.crearProyectosEnLote(proyectos));
+    }
+
     /**
      * PUT /api/proyectos/{id} : Actualiza un proyecto existente.
      * @param id El ID del proyecto a actualizar.
@@ -79,7 +204,24 @@ public class ControladorProyecto {
     @PutMapping("/{id}")
     public ResponseEntity<ProyectoDetalleDTO> actualizarProyecto(@PathVariable Long id, @Valid @RequestBody ProyectoActualizarDTO proyectoActualizarDTO) {
         ProyectoDetalleDTO proyectoActualizado = servicioProyecto.actualizarProyecto(id, proyectoActualizarDTO);
-        return ResponseEntity.ok(proyectoActualizado);
+        return PeticionesCondicionales.ok(proyectoActualizado,
+                new VersionRecurso(proyectoActualizado.getVersion(), proyectoActualizado.getFechaModificacion()));
+    }
+
+    /**
+     * PATCH /api/proyectos/{id} : Actualiza solo los campos enviados, con una única sentencia UPDATE.
+     * Responde 204 No Content con el nuevo ETag, o 200 OK con el proyecto si se envía Prefer: return=representation.
+     * @param id El ID del proyecto a actualizar.
+     * @param cambios El DTO con los campos a modificar.
+     * @param prefer Cabecera Prefer opcional.
+     * @return ResponseEntity con estado 204 No Content, o 200 OK con el ProyectoDetalleDTO actualizado.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ProyectoDetalleDTO> actualizarProyectoParcialmente(@PathVariable Long id, @Valid @RequestBody ProyectoParcialDTO cambios,
+                                                                             @RequestHeader(value = "Prefer", required = false) String prefer) {
+        ProyectoDetalleDTO proyectoActualizado = servicioProyecto.actualizarProyectoParcialmente(id, cambios);
+        return PeticionesCondicionales.segunPreferencia(prefer, proyectoActualizado,
+                new VersionRecurso(proyectoActualizado.getVersion(), proyectoActualizado.getFechaModificacion()));
     }
 
     /**
@@ -92,4 +234,25 @@ public class ControladorProyecto {
     public void eliminarProyecto(@PathVariable Long id) {
         servicioProyecto.eliminarProyecto(id);
     }
+
+    /**
+     * DELETE /api/proyectos?ids=1,2,3 : Elimina varios proyectos con un DELETE por bloque de ids.
+     * @param ids IDs de los proyectos a eliminar.
+     * @return ResponseEntity con el ResultadoEliminacionDTO (eliminados e ids inexistentes) y estado 200 OK.
+     */
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<ResultadoEliminacionDTO> eliminarProyectos(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(servicioProyecto.eliminarProyectos(ids));
+    }
+
+    /**
+     * DELETE /api/proyectos?creadosAntesDe=2024-01-01 : Elimina los proyectos creados antes de una fecha.
+     * @param creadosAntesDe Fecha límite (exclusiva) en formato ISO.
+     * @return ResponseEntity con el ResultadoEliminacionDTO y estado 200 OK.
+     */
+    @DeleteMapping(params = "creadosAntesDe")
+    public ResponseEntity<ResultadoEliminacionDTO> eliminarProyectosCreadosAntesDe(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate creadosAntesDe) {
+        return ResponseEntity.ok(servicioProyecto.eliminarProyectosCreadosAntesDe(creadosAntesDe));
+    }
 }
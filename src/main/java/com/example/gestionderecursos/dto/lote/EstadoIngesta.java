@@ -0,0 +1,12 @@
+package com.example.gestionderecursos.dto.lote;
+
+/**
+ * Estado de una persona enviada a la ingesta asíncrona (POST /api/personas?async=true).
+ */
+public enum EstadoIngesta {
+    PENDIENTE,
+    CREADO,
+    DUPLICADO,
+    INVALIDO,
+    FALLIDO
+}
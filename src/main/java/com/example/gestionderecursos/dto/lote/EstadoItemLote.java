@@ -0,0 +1,10 @@
+package com.example.gestionderecursos.dto.lote;
+
+/**
+ * Resultado posible de cada elemento enviado a un endpoint de creación por lotes.
+ */
+public enum EstadoItemLote {
+    CREADO,
+    DUPLICADO,
+    INVALIDO
+}
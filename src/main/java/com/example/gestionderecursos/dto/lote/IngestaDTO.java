@@ -0,0 +1,44 @@
+package com.example.gestionderecursos.dto.lote;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO con el estado de un ticket de ingesta asíncrona (Salida de datos).
+ * El id solo está presente cuando la persona se creó; los errores, cuando se rechazó.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestaDTO {
+
+    private UUID ticket;
+    private EstadoIngesta estado;
+    private Long id;
+    private List<String> errores;
+
+    public static IngestaDTO pendiente(UUID ticket) {
+        return new IngestaDTO(ticket, EstadoIngesta.PENDIENTE, null, null);
+    }
+
+    public static IngestaDTO de(UUID ticket, ResultadoItemLoteDTO resultado) {
+        EstadoIngesta estado = switch (resultado.getEstado()) {
+            case CREADO -> EstadoIngesta.CREADO;
+            case DUPLICADO -> EstadoIngesta.DUPLICADO;
+            case INVALIDO -> EstadoIngesta.INVALIDO;
+        };
+        return new IngestaDTO(ticket, estado, resultado.getId(), resultado.getErrores());
+    }
+
+    public static IngestaDTO fallido(UUID ticket, String error) {
+        return new IngestaDTO(ticket, EstadoIngesta.FALLIDO, null, List.of(error));
+    }
+}
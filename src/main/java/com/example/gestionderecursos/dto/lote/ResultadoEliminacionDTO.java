@@ -0,0 +1,22 @@
+package com.example.gestionderecursos.dto.lote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de los endpoints de borrado masivo (Salida de datos).
+ * Indica cuántos elementos se borraron y, si se pidieron por id, cuáles no existían.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoEliminacionDTO {
+
+    private long eliminados;
+    private List<Long> noEncontrados;
+}
@@ -0,0 +1,34 @@
+package com.example.gestionderecursos.dto.lote;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado individual de un elemento de un lote (Salida de datos).
+ * El índice corresponde a la posición del elemento en el arreglo recibido.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultadoItemLoteDTO {
+
+    private int indice;
+    private EstadoItemLote estado;
+    private Long id;
+    private List<String> errores;
+
+    public static ResultadoItemLoteDTO creado(int indice, Long id) {
+        return new ResultadoItemLoteDTO(indice, EstadoItemLote.CREADO, id, null);
+    }
+
+    public static ResultadoItemLoteDTO rechazado(int indice, EstadoItemLote estado, List<String> errores) {
+        return new ResultadoItemLoteDTO(indice, estado, null, errores);
+    }
+}
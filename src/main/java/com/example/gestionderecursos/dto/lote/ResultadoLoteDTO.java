@@ -0,0 +1,29 @@
+package com.example.gestionderecursos.dto.lote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de los endpoints de creación por lotes (Salida de datos).
+ * Resume cuántos elementos se crearon y detalla el resultado de cada uno.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoLoteDTO {
+
+    private int creados;
+    private int rechazados;
+    private List<ResultadoItemLoteDTO> resultados;
+
+    public ResultadoLoteDTO(List<ResultadoItemLoteDTO> resultados) {
+        this.creados = (int) resultados.stream().filter(r -> r.getEstado() == EstadoItemLote.CREADO).count();
+        this.rechazados = resultados.size() - this.creados;
+        this.resultados = resultados;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.gestionderecursos.dto.paginacion;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Metadatos de una página de {@link PaginaDTO} (Salida de datos).
+ * Los totales solo están presentes cuando se calcularon (?conteo=EXACTO o APROXIMADO); sin ellos,
+ * {@code haySiguiente} indica si existe una página posterior.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MetadatosPaginaDTO {
+
+    private int numero;
+    private int tamano;
+    private int elementos;
+    private Long totalElementos;
+    private Integer totalPaginas;
+    private boolean haySiguiente;
+
+    public static MetadatosPaginaDTO de(Slice<?> slice) {
+        if (slice instanceof Page<?> pagina) {
+            return new MetadatosPaginaDTO(pagina.getNumber(), pagina.getSize(), pagina.getNumberOfElements(),
+                    pagina.getTotalElements(), pagina.getTotalPages(), pagina.hasNext());
+        }
+        return new MetadatosPaginaDTO(slice.getNumber(), slice.getSize(), slice.getNumberOfElements(), null, null, slice.hasNext());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.gestionderecursos.dto.paginacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para la paginación por cursor (Salida de datos).
+ * No incluye totales: el modo cursor nunca ejecuta un count(*).
+ * Para obtener la página siguiente se envía {@code siguienteCursor} en el parámetro {@code after};
+ * un valor nulo indica que no hay más resultados.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaCursorDTO<T> {
+
+    private List<T> contenido;
+    private int tamano;
+    private String siguienteCursor;
+}
@@ -0,0 +1,56 @@
+package com.example.gestionderecursos.dto.paginacion;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de los listados paginados por número de página (Salida de datos):
+ * {@code {"contenido": [...], "pagina": {"numero", "tamano", "elementos", "totalElementos", "totalPaginas", "haySiguiente"}}}.
+ *
+ * <p>Sustituye a la serialización directa de {@code Page}/{@code PageImpl}, cuya forma JSON depende de la
+ * versión de Spring Data (pageable, sort...). Se escribe con {@code SerializadorPagina} en una sola pasada;
+ * con app.paginacion.formato-legado=true se escribe el {@code Slice} original con la forma anterior.</p>
+ */
+@Getter
+public class PaginaDTO<T> {
+
+    private final List<T> contenido;
+
+    @Getter(AccessLevel.NONE)
+    private final MetadatosPaginaDTO pagina;
+
+    /**
+     * Slice del que se construyó la página en el servidor; nulo al deserializar. El serializador lee de él los
+     * metadatos sin crear un MetadatosPaginaDTO y lo escribe tal cual en el formato legado.
+     */
+    @JsonIgnore
+    private final transient Slice<T> origen;
+
+    @JsonCreator
+    public PaginaDTO(@JsonProperty("contenido") List<T> contenido, @JsonProperty("pagina") MetadatosPaginaDTO pagina) {
+        this(contenido, pagina, null);
+    }
+
+    private PaginaDTO(List<T> contenido, MetadatosPaginaDTO pagina, Slice<T> origen) {
+        this.contenido = contenido == null ? List.of() : contenido;
+        this.pagina = pagina;
+        this.origen = origen;
+    }
+
+    /**
+     * Página con el contenido y los metadatos de un Slice (o Page, con totales) de Spring Data.
+     */
+    public static <T> PaginaDTO<T> de(Slice<T> slice) {
+        return new PaginaDTO<>(slice.getContent(), null, slice);
+    }
+
+    public MetadatosPaginaDTO getPagina() {
+        return pagina == null && origen != null ? MetadatosPaginaDTO.de(origen) : pagina;
+    }
+}
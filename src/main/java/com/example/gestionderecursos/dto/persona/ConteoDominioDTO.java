@@ -0,0 +1,20 @@
+package com.example.gestionderecursos.dto.persona;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO con el número de personas de un dominio de correo (Salida de datos)
+ * Usado por los informes agregados por dominio.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConteoDominioDTO {
+
+    private String dominio;
+    private long total;
+}
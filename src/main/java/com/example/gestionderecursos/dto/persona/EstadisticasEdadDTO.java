@@ -0,0 +1,37 @@
+package com.example.gestionderecursos.dto.persona;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * DTO con la distribución de edades de las personas (Salida de datos)
+ * Se calcula sobre el histograma en memoria, sin consultar la base de datos.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasEdadDTO {
+
+    private long total;
+
+    /** Media de edad; null si no hay personas. */
+    private Double media;
+    private Integer edadMinima;
+    private Integer edadMaxima;
+
+    /** Percentiles por rango más cercano: p25, p50, p75, p90 y p99. */
+    private Map<String, Integer> percentiles;
+
+    /** Rango consultado (inclusivo) y número de personas dentro de él. */
+    private int desde;
+    private int hasta;
+    private long enRango;
+
+    /** Número de personas de cada edad: la posición del array es la edad (0 a 120). */
+    private long[] histograma;
+}
@@ -1,10 +1,13 @@
 package com.example.gestionderecursos.dto.persona;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+
 /**
  * DTO para mostrar la información detallada de una Persona (salida de datos)
  * Se utiliza como respuesta en peticiones GET para un recurso específico
@@ -19,4 +22,20 @@ public class PersonaDetalleDTO {
     private String nombre;
     private int edad;
     private String correoElectronico;
+
+    /**
+     * Metadatos de versión para las cabeceras ETag y Last-Modified; no se serializan en el cuerpo.
+     */
+    @JsonIgnore
+    private Long version;
+
+    @JsonIgnore
+    private Instant fechaModificacion;
+
+    public PersonaDetalleDTO(Long id, String nombre, int edad, String correoElectronico) {
+        this.id = id;
+        this.nombre = nombre;
+        this.edad = edad;
+        this.correoElectronico = correoElectronico;
+    }
 }
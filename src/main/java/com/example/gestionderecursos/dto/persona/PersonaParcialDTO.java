@@ -0,0 +1,38 @@
+package com.example.gestionderecursos.dto.persona;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para la actualización parcial de una Persona (entrada de datos)
+ * Se utiliza en las peticiones PATCH: solo se modifican los campos presentes; los ausentes (o null)
+ * se dejan como están. Cada campo presente se valida con las mismas reglas que en PersonaActualizarDTO.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonaParcialDTO {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "El nombre no puede estar vacío")
+    @Size(max = 150, message = "El nombre no puede tener más de 150 caracteres")
+    private String nombre;
+
+    @Min(value = 0, message = "La edad no puede ser negativa")
+    @Max(value = 120, message = "La edad no puede ser superior a los 120 años")
+    private Integer edad;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "El correo electronico no puede estar vacío")
+    @Email(message = "El correo electronico no es valido")
+    private String correoElectronico;
+
+    @JsonIgnore
+    @AssertTrue(message = "Debe indicarse al menos un campo")
+    public boolean isAlgunCampo() {
+        return nombre != null || edad != null || correoElectronico != null;
+    }
+}
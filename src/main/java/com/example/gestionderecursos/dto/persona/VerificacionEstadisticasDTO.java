@@ -0,0 +1,38 @@
+package com.example.gestionderecursos.dto.persona;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de comparar el histograma de edades en memoria con la base de datos (Salida de datos)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VerificacionEstadisticasDTO {
+
+    private boolean consistente;
+    private long totalMemoria;
+    private long totalBaseDatos;
+
+    /** Edades cuyo contador difiere; vacía si es consistente. */
+    private List<DiferenciaEdad> diferencias;
+
+    /** Indica si el histograma se ha reemplazado por los valores de la base de datos. */
+    private boolean reparado;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DiferenciaEdad {
+        private int edad;
+        private long memoria;
+        private long baseDatos;
+    }
+}
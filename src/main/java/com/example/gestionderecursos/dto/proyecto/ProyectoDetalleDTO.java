@@ -1,10 +1,12 @@
 package com.example.gestionderecursos.dto.proyecto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -21,4 +23,21 @@ public class ProyectoDetalleDTO {
     private String nombre;
     private String descripcion;
     private LocalDate fechaCreacion;
+
+    /**
+     * Versión y fecha de modificación de la entidad de origen. No forman parte del JSON: viajan en las
+     * cabeceras ETag y Last-Modified, y al guardarse en la caché junto al DTO permiten responder 304 sin consultar la BD.
+     */
+    @JsonIgnore
+    private Long version;
+
+    @JsonIgnore
+    private Instant fechaModificacion;
+
+    public ProyectoDetalleDTO(Long id, String nombre, String descripcion, LocalDate fechaCreacion) {
+        this.id = id;
+        this.nombre = nombre;
+        this.descripcion = descripcion;
+        this.fechaCreacion = fechaCreacion;
+    }
 }
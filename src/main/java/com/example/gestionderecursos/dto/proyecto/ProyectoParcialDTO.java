@@ -0,0 +1,35 @@
+package com.example.gestionderecursos.dto.proyecto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO para la actualización parcial de un Proyecto (Entrada de datos)
+ * Se utiliza en las peticiones PATCH: solo se modifican los campos presentes; los ausentes (o null)
+ * se dejan como están. Cada campo presente se valida con las mismas reglas que en ProyectoActualizarDTO.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProyectoParcialDTO {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "El nombre no puede estar vacío")
+    @Size(max = 150, message = "El nombre no puede tener más de 150 caracteres")
+    private String nombre;
+
+    @Size(max = 500, message = "La descripción no puede tener más de 500 caracteres")
+    private String descripcion;
+
+    @JsonIgnore
+    @AssertTrue(message = "Debe indicarse al menos un campo")
+    public boolean isAlgunCampo() {
+        return nombre != null || descripcion != null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.gestionderecursos.estadisticas;
+
+/**
+ * Número de personas con una edad concreta, tal como lo devuelve el GROUP BY de RepositorioPersona.
+ */
+public record ConteoEdad(int edad, long total) {
+}
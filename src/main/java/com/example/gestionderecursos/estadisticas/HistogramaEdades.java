@@ -0,0 +1,197 @@
+package com.example.gestionderecursos.estadisticas;
+
+import com.example.gestionderecursos.dto.persona.EstadisticasEdadDTO;
+import com.example.gestionderecursos.dto.persona.VerificacionEstadisticasDTO;
+import com.example.gestionderecursos.dto.persona.VerificacionEstadisticasDTO.DiferenciaEdad;
+import com.example.gestionderecursos.eventos.PersonaCambiadoEvento;
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Número de personas de cada edad, mantenido en memoria para responder informes por tramos de edad en
+ * O(121) y sin consultar la base de datos.
+ *
+ * <p>La edad está acotada a 0..120 por validación, así que basta un contador por edad. Se carga con un
+ * GROUP BY al arrancar y después se ajusta con los eventos de persona confirmados: el alta suma en su
+ * cubeta, la baja resta en la de {@code edadAnterior} y la modificación mueve una persona de cubeta si la
+ * edad cambia. Cada cubeta es exacta, pero una lectura concurrente con escrituras puede combinar cubetas
+ * de antes y después de un cambio.</p>
+ *
+ * <p>Igual que {@code TotalesAproximados}, las filas modificadas directamente en SQL no generan eventos;
+ * {@link #verificar(boolean)} detecta y opcionalmente corrige la desviación.</p>
+ */
+@Component
+public class HistogramaEdades {
+
+    public static final int EDAD_MAXIMA = 120;
+
+    private static final Logger LOG = LoggerFactory.getLogger(HistogramaEdades.class);
+    private static final double[] PERCENTILES = {0.25, 0.50, 0.75, 0.90, 0.99};
+
+    private final RepositorioPersona repositorioPersona;
+    private final AtomicLongArray conteos = new AtomicLongArray(EDAD_MAXIMA + 1);
+
+    public HistogramaEdades(RepositorioPersona repositorioPersona) {
+        this.repositorioPersona = repositorioPersona;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recalcular() {
+        cargar(leerBaseDatos());
+        LOG.info("Histograma de edades recalculado: {} personas", total(instantanea()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarPersona(PersonaCambiadoEvento evento) {
+        switch (evento.getTipo()) {
+            case CREADO -> ajustar(evento.getActual().getEdad(), 1);
+            case ACTUALIZADO -> {
+                int edadNueva = evento.getActual().getEdad();
+                if (evento.getEdadAnterior() != null && evento.getEdadAnterior() != edadNueva) {
+                    ajustar(evento.getEdadAnterior(), -1);
+                    ajustar(edadNueva, 1);
+                }
+            }
+            case ELIMINADO -> {
+                if (evento.getEdadAnterior() != null) {
+                    ajustar(evento.getEdadAnterior(), -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Estadísticas de edad calculadas sobre una copia del histograma.
+     * @param desde Edad mínima del rango a contar (inclusiva); se acota a 0..120.
+     * @param hasta Edad máxima del rango a contar (inclusiva); se acota a 0..120.
+     */
+    public EstadisticasEdadDTO estadisticas(int desde, int hasta) {
+        long[] histograma = instantanea();
+        int desdeAcotado = acotar(desde);
+        int hastaAcotado = acotar(hasta);
+
+        long total = 0;
+        long sumaEdades = 0;
+        long enRango = 0;
+        Integer minima = null;
+        Integer maxima = null;
+        for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+            long conteo = histograma[edad];
+            if (conteo == 0) {
+                continue;
+            }
+            total += conteo;
+            sumaEdades += conteo * edad;
+            if (edad >= desdeAcotado && edad <= hastaAcotado) {
+                enRango += conteo;
+            }
+            if (minima == null) {
+                minima = edad;
+            }
+            maxima = edad;
+        }
+
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        if (total > 0) {
+            for (double percentil : PERCENTILES) {
+                percentiles.put("p" + Math.round(percentil * 100), percentil(histograma, total, percentil));
+            }
+        }
+        Double media = total == 0 ? null : (double) sumaEdades / total;
+        return new EstadisticasEdadDTO(total, media, minima, maxima, percentiles, desdeAcotado, hastaAcotado, enRango, histograma);
+    }
+
+    /**
+     * Compara el histograma con un GROUP BY sobre la base de datos. Con escrituras concurrentes puede
+     * informar de diferencias transitorias que desaparecen al repetir la verificación.
+     * @param reparar Si hay diferencias, reemplaza el histograma por los valores de la base de datos.
+     */
+    public VerificacionEstadisticasDTO verificar(boolean reparar) {
+        long[] enBaseDatos = leerBaseDatos();
+        long[] enMemoria = instantanea();
+        List<DiferenciaEdad> diferencias = new ArrayList<>();
+        for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+            if (enMemoria[edad] != enBaseDatos[edad]) {
+                diferencias.add(new DiferenciaEdad(edad, enMemoria[edad], enBaseDatos[edad]));
+            }
+        }
+        boolean reparado = reparar && !diferencias.isEmpty();
+        if (reparado) {
+            cargar(enBaseDatos);
+            LOG.warn("Histograma de edades reparado: {} edades con diferencias", diferencias.size());
+        }
+        return new VerificacionEstadisticasDTO(diferencias.isEmpty(), total(enMemoria), total(enBaseDatos), diferencias, reparado);
+    }
+
+    /**
+     * Copia de los contadores; la posición es la edad.
+     */
+    public long[] instantanea() {
+        long[] copia = new long[EDAD_MAXIMA + 1];
+        for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+            copia[edad] = conteos.get(edad);
+        }
+        return copia;
+    }
+
+    private long[] leerBaseDatos() {
+        long[] histograma = new long[EDAD_MAXIMA + 1];
+        for (ConteoEdad conteo : repositorioPersona.contarPorEdad()) {
+            if (conteo.edad() >= 0 && conteo.edad() <= EDAD_MAXIMA) {
+                histograma[conteo.edad()] = conteo.total();
+            }
+        }
+        return histograma;
+    }
+
+    private void cargar(long[] histograma) {
+        for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+            conteos.set(edad, histograma[edad]);
+        }
+    }
+
+    private void ajustar(int edad, int delta) {
+        if (edad >= 0 && edad <= EDAD_MAXIMA) {
+            conteos.addAndGet(edad, delta);
+        }
+    }
+
+    /**
+     * Percentil por rango más cercano: la menor edad cuya frecuencia acumulada alcanza ceil(p * total).
+     */
+    private static int percentil(long[] histograma, long total, double percentil) {
+        long rango = Math.max(1, (long) Math.ceil(percentil * total));
+        long acumulado = 0;
+        for (int edad = 0; edad <= EDAD_MAXIMA; edad++) {
+            acumulado += histograma[edad];
+            if (acumulado >= rango) {
+                return edad;
+            }
+        }
+        return EDAD_MAXIMA;
+    }
+
+    private static long total(long[] histograma) {
+        long total = 0;
+        for (long conteo : histograma) {
+            total += conteo;
+        }
+        return total;
+    }
+
+    private static int acotar(int edad) {
+        return Math.max(0, Math.min(edad, EDAD_MAXIMA));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.gestionderecursos.eventos;
+
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado por el servicio de personas en cada alta, modificación o baja.
+ * Igual que ProyectoCambiadoEvento, sus consumidores lo procesan tras el commit.
+ */
+@Getter
+@AllArgsConstructor
+public class PersonaCambiadoEvento {
+
+    private final TipoCambio tipo;
+    private final Long id;
+
+    /**
+     * Estado de la persona tras el cambio; null cuando el tipo es ELIMINADO.
+     */
+    private final PersonaDetalleDTO actual;
+
+    /**
+     * Edad antes del cambio; null cuando el tipo es CREADO. Permite a los agregados en memoria
+     * (ver HistogramaEdades) mover la persona de cubeta sin volver a consultar la base de datos.
+     */
+    private final Integer edadAnterior;
+
+    public static PersonaCambiadoEvento creado(PersonaDetalleDTO persona) {
+        return new PersonaCambiadoEvento(TipoCambio.CREADO, persona.getId(), persona, null);
+    }
+
+    public static PersonaCambiadoEvento actualizado(PersonaDetalleDTO persona, int edadAnterior) {
+        return new PersonaCambiadoEvento(TipoCambio.ACTUALIZADO, persona.getId(), persona, edadAnterior);
+    }
+
+    public static PersonaCambiadoEvento eliminado(Long id, int edadAnterior) {
+        return new PersonaCambiadoEvento(TipoCambio.ELIMINADO, id, null, edadAnterior);
+    }
+}
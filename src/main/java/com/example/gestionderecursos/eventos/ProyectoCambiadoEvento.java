@@ -0,0 +1,35 @@
+package com.example.gestionderecursos.eventos;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Evento publicado por el servicio de proyectos en cada alta, modificación o baja.
+ * Los componentes derivados (índices, contadores) lo consumen tras el commit con @TransactionalEventListener,
+ * de modo que nunca reflejan cambios que acabaron revirtiéndose.
+ */
+@Getter
+@AllArgsConstructor
+public class ProyectoCambiadoEvento {
+
+    private final TipoCambio tipo;
+    private final Long id;
+
+    /**
+     * Estado del proyecto tras el cambio; null cuando el tipo es ELIMINADO.
+     */
+    private final ProyectoDetalleDTO actual;
+
+    public static ProyectoCambiadoEvento creado(ProyectoDetalleDTO proyecto) {
+        return new ProyectoCambiadoEvento(TipoCambio.CREADO, proyecto.getId(), proyecto);
+    }
+
+    public static ProyectoCambiadoEvento actualizado(ProyectoDetalleDTO proyecto) {
+        return new ProyectoCambiadoEvento(TipoCambio.ACTUALIZADO, proyecto.getId(), proyecto);
+    }
+
+    public static ProyectoCambiadoEvento eliminado(Long id) {
+        return new ProyectoCambiadoEvento(TipoCambio.ELIMINADO, id, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.gestionderecursos.eventos;
+
+/**
+ * Tipo de modificación que describe un evento de cambio de una entidad.
+ */
+public enum TipoCambio {
+    CREADO,
+    ACTUALIZADO,
+    ELIMINADO
+}
@@ -0,0 +1,7 @@
+package com.example.gestionderecursos.excepciones;
+
+public class ColaLlenaException extends RuntimeException {
+    public ColaLlenaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.gestionderecursos.excepciones;
+
+public class LoteDemasiadoGrandeException extends RuntimeException {
+    public LoteDemasiadoGrandeException(String message) {
+        super(message);
+    }
+}
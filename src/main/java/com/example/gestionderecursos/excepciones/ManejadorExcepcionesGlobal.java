@@ -3,6 +3,8 @@ package com.example.gestionderecursos.excepciones;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -43,6 +45,55 @@ public class ManejadorExcepcionesGlobal extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Maneja las violaciones de integridad que no se tradujeron a una excepción de negocio
+     * (por ejemplo, una restricción UNIQUE alcanzada por dos escrituras concurrentes) para devolver un 409 Conflict.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> manejarViolacionDeIntegridad(DataIntegrityViolationException ex) {
+        LOG.warn("Violación de integridad de datos: {}", ex.getMostSpecificCause().getMessage());
+        ApiError apiError = new ApiError(HttpStatus.CONFLICT, "Conflicto de integridad de datos",
+                "La operación entra en conflicto con datos ya existentes.");
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Maneja los conflictos de bloqueo optimista (@Version): otra escritura modificó el recurso entre la lectura
+     * y la actualización. Devuelve un 409 Conflict para que el cliente vuelva a leer antes de reintentar.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> manejarConflictoDeVersion(OptimisticLockingFailureException ex) {
+        ApiError apiError = new ApiError(HttpStatus.CONFLICT, "Conflicto de versión",
+                "El recurso fue modificado por otra operación. Vuelva a obtenerlo e inténtelo de nuevo.");
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Maneja PaginacionInvalidaException (cursor corrupto u ordenamiento no soportado) para devolver un 400 Bad Request.
+     */
+    @ExceptionHandler(PaginacionInvalidaException.class)
+    public ResponseEntity<ApiError> manejarPaginacionInvalida(PaginacionInvalidaException ex) {
+        ApiError apiError = new ApiError(HttpStatus.BAD_REQUEST, "Parámetros de paginación inválidos", ex.getMessage());
+        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Maneja LoteDemasiadoGrandeException (más elementos que app.lote.max-elementos) para devolver un 413 Payload Too Large.
+     */
+    @ExceptionHandler(LoteDemasiadoGrandeException.class)
+    public ResponseEntity<ApiError> manejarLoteDemasiadoGrande(LoteDemasiadoGrandeException ex) {
+        ApiError apiError = new ApiError(HttpStatus.PAYLOAD_TOO_LARGE, "Lote demasiado grande", ex.getMessage());
+        return new ResponseEntity<>(apiError, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    /**
+     * Maneja ColaLlenaException (ingesta asíncrona saturada) para devolver un 429 Too Many Requests con Retry-After.
+     */
+    @ExceptionHandler(ColaLlenaException.class)
+    public ResponseEntity<ApiError> manejarColaLlena(ColaLlenaException ex) {
+        ApiError apiError = new ApiError(HttpStatus.TOO_MANY_REQUESTS, "Cola de ingesta llena", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").body(apiError);
+    }
 
     /**
      * Maneja MethodArgumentNotValidException para errores de validación en @RequestBody.
@@ -0,0 +1,7 @@
+package com.example.gestionderecursos.excepciones;
+
+public class PaginacionInvalidaException extends RuntimeException {
+    public PaginacionInvalidaException(String message) {
+        super(message);
+    }
+}
@@ -4,4 +4,8 @@ public class RecursoYaExisteException extends RuntimeException {
     public RecursoYaExisteException(String message) {
         super(message);
     }
+
+    public RecursoYaExisteException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
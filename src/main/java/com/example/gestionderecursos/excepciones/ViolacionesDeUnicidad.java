@@ -0,0 +1,30 @@
+package com.example.gestionderecursos.excepciones;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Utilidades para reconocer qué restricción UNIQUE provocó una DataIntegrityViolationException.
+ */
+public final class ViolacionesDeUnicidad {
+
+    private ViolacionesDeUnicidad() {
+    }
+
+    /**
+     * Indica si la excepción se debe a la restricción indicada. Los motores suelen decorar el nombre
+     * (esquema, sufijos de índice, mayúsculas), por eso se compara por inclusión sin distinguir mayúsculas.
+     */
+    public static boolean esViolacionDe(DataIntegrityViolationException ex, String nombreRestriccion) {
+        String buscado = nombreRestriccion.toLowerCase(Locale.ROOT);
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion && violacion.getConstraintName() != null) {
+                return violacion.getConstraintName().toLowerCase(Locale.ROOT).contains(buscado);
+            }
+        }
+        String mensaje = ex.getMostSpecificCause().getMessage();
+        return mensaje != null && mensaje.toLowerCase(Locale.ROOT).contains(buscado);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.gestionderecursos.exportacion;
+
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escribe PersonaResumenDTO de uno en uno sobre un OutputStream, sin acumularlos en memoria.
+ * El cierre vacía los búferes pero no cierra el flujo subyacente, que pertenece al contenedor web.
+ */
+public abstract class EscritorExportacion implements AutoCloseable {
+
+    public static EscritorExportacion para(FormatoExportacion formato, OutputStream salida, ObjectMapper objectMapper) throws IOException {
+        return switch (formato) {
+            case NDJSON -> new EscritorNdjson(salida, objectMapper);
+            case CSV -> new EscritorCsv(salida);
+        };
+    }
+
+    public abstract void escribir(PersonaResumenDTO persona) throws IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    private static final class EscritorNdjson extends EscritorExportacion {
+
+        private final SequenceWriter secuencia;
+
+        private EscritorNdjson(OutputStream salida, ObjectMapper objectMapper) throws IOException {
+            this.secuencia = objectMapper.writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    // Vaciar tras cada fila enviaría un chunk HTTP por persona; se deja actuar al búfer.
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(salida);
+        }
+
+        @Override
+        public void escribir(PersonaResumenDTO persona) throws IOException {
+            secuencia.write(persona);
+        }
+
+        @Override
+        public void close() throws IOException {
+            secuencia.close();
+        }
+    }
+
+    private static final class EscritorCsv extends EscritorExportacion {
+
+        private final Writer writer;
+
+        private EscritorCsv(OutputStream salida) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+            writer.write("id,nombre,correoElectronico\r\n");
+        }
+
+        @Override
+        public void escribir(PersonaResumenDTO persona) throws IOException {
+            writer.write(String.valueOf(persona.getId()));
+            writer.write(',');
+            escribirCampo(persona.getNombre());
+            writer.write(',');
+            escribirCampo(persona.getCorreoElectronico());
+            writer.write("\r\n");
+        }
+
+        private void escribirCampo(String valor) throws IOException {
+            if (valor == null) {
+                return;
+            }
+            if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+                writer.write(valor);
+                return;
+            }
+            writer.write('"');
+            writer.write(valor.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
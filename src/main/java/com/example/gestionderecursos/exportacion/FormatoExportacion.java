@@ -0,0 +1,27 @@
+package com.example.gestionderecursos.exportacion;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formatos soportados por los endpoints de exportación.
+ */
+@Getter
+public enum FormatoExportacion {
+
+    /** Un objeto JSON por línea (JSON Lines / NDJSON). */
+    NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson"),
+
+    /** Valores separados por comas con fila de cabecera (RFC 4180). */
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    FormatoExportacion(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+}
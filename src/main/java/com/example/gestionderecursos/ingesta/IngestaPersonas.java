@@ -0,0 +1,239 @@
+package com.example.gestionderecursos.ingesta;
+
+import com.example.gestionderecursos.dto.lote.IngestaDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoItemLoteDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.excepciones.ColaLlenaException;
+import com.example.gestionderecursos.servicios.ServicioPersona;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ingesta asíncrona de personas (write-behind): POST /api/personas?async=true encola la persona ya validada
+ * y responde 202 con un ticket; un único hilo escritor vacía la cola en lotes con
+ * {@link ServicioPersona#crearPersonasEnLote(List)}, que aplica las mismas reglas de unicidad, y deja el
+ * resultado de cada ticket consultable en GET /api/personas/ingestas/{ticket}.
+ *
+ * <p>La cola es una {@link ConcurrentLinkedQueue} (sin bloqueos) acotada con un contador atómico: cada alta
+ * reserva un hueco con CAS antes de encolar y, si no queda ninguno, se rechaza con {@link ColaLlenaException}
+ * (429) en lugar de bloquear el hilo de la petición. Los tickets PENDIENTE viven en un mapa aparte, acotado
+ * de hecho por la capacidad de la cola, para que ningún desalojo los pierda mientras esperan; solo los resultados
+ * finales pasan a una caché Caffeine acotada por tamaño y tiempo, y un ticket desalojado o desconocido responde 404.</p>
+ *
+ * <p>Cada lote se limita a app.lote.tamano-bloque personas para que el servicio lo confirme en una sola
+ * transacción: si falla (las violaciones de unicidad ya las resuelve el servicio, así que se trata de otro
+ * error), no ha quedado nada escrito y sus elementos se reintentan uno a uno para que solo el culpable quede
+ * como FALLIDO. Al parar la aplicación se vacía lo que quede en la cola antes de cerrar el pool de
+ * conexiones.</p>
+ */
+@Component
+public class IngestaPersonas {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IngestaPersonas.class);
+
+    private final ServicioPersona servicioPersona;
+    private final int capacidad;
+    private final int tamanoLote;
+    private final Duration intervalo;
+
+    private final Queue<Solicitud> cola = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger ocupacion = new AtomicInteger();
+    private final Map<UUID, IngestaDTO> enEspera = new ConcurrentHashMap<>();
+    private final Cache<UUID, IngestaDTO> resultados;
+    private final ScheduledExecutorService escritor = Executors.newSingleThreadScheduledExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "ingesta-personas");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    private final DistributionSummary tamanoLotes;
+    private final Timer escrituras;
+    private final Counter rechazos;
+
+    public IngestaPersonas(ServicioPersona servicioPersona, MeterRegistry meterRegistry,
+                           @Value("${app.ingesta.capacidad:10000}") int capacidad,
+                           @Value("${app.ingesta.tamano-lote:500}") int tamanoLote,
+                           @Value("${app.lote.tamano-bloque:500}") int tamanoBloque,
+                           @Value("${app.ingesta.intervalo:100ms}") Duration intervalo,
+                           @Value("${app.ingesta.resultados.maximo:100000}") long maximoResultados,
+                           @Value("${app.ingesta.resultados.retencion:1h}") Duration retencion) {
+        this.servicioPersona = servicioPersona;
+        this.capacidad = Math.max(1, capacidad);
+        if (tamanoLote > tamanoBloque) {
+            // Un lote mayor se confirmaría en varias transacciones y el reintento reenviaría filas ya escritas.
+            LOG.warn("app.ingesta.tamano-lote={} supera app.lote.tamano-bloque={}; se usan lotes de {}", tamanoLote, tamanoBloque, tamanoBloque);
+        }
+        this.tamanoLote = Math.max(1, Math.min(tamanoLote, tamanoBloque));
+        this.intervalo = intervalo;
+        this.resultados = Caffeine.newBuilder()
+                .maximumSize(maximoResultados)
+                .expireAfterWrite(retencion)
+                .build();
+
+        Gauge.builder("app.ingesta.cola", ocupacion, AtomicInteger::get)
+                .description("Personas encoladas pendientes de escribir")
+                .register(meterRegistry);
+        this.tamanoLotes = DistributionSummary.builder("app.ingesta.lote")
+                .description("Personas escritas en cada lote de la ingesta asíncrona")
+                .register(meterRegistry);
+        this.escrituras = Timer.builder("app.ingesta.escritura")
+                .description("Duración de la escritura de cada lote de la ingesta asíncrona")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rechazos = Counter.builder("app.ingesta.rechazos")
+                .description("Altas asíncronas rechazadas con 429 por cola llena")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        long periodo = intervalo.toNanos();
+        escritor.scheduleWithFixedDelay(this::vaciar, periodo, periodo, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        escritor.shutdown();
+        escritor.awaitTermination(30, TimeUnit.SECONDS);
+        vaciar();
+    }
+
+    /**
+     * Encola una persona ya validada y devuelve su ticket en estado PENDIENTE.
+     * @throws ColaLlenaException Si la cola ya contiene app.ingesta.capacidad personas.
+     */
+    public IngestaDTO encolar(PersonaCrearDTO persona) {
+        if (!reservarHueco()) {
+            rechazos.increment();
+            throw new ColaLlenaException("La cola de ingesta está llena. Vuelva a intentarlo en unos segundos.");
+        }
+        IngestaDTO pendiente = IngestaDTO.pendiente(UUID.randomUUID());
+        // El ticket se registra antes de encolar para que el escritor siempre encuentre qué resolver.
+        enEspera.put(pendiente.getTicket(), pendiente);
+        cola.add(new Solicitud(pendiente.getTicket(), persona));
+        return pendiente;
+    }
+
+    /**
+     * Estado actual del ticket, o vacío si no existe o ya caducó.
+     */
+    public Optional<IngestaDTO> consultar(UUID ticket) {
+        // El escritor guarda el resultado antes de sacar el ticket de enEspera: nunca hay un hueco entre ambos.
+        IngestaDTO pendiente = enEspera.get(ticket);
+        return pendiente != null ? Optional.of(pendiente) : Optional.ofNullable(resultados.getIfPresent(ticket));
+    }
+
+    /**
+     * Personas encoladas pendientes de escribir.
+     */
+    public int pendientes() {
+        return ocupacion.get();
+    }
+
+    private boolean reservarHueco() {
+        int actual;
+        do {
+            actual = ocupacion.get();
+            if (actual >= capacidad) {
+                return false;
+            }
+        } while (!ocupacion.compareAndSet(actual, actual + 1));
+        return true;
+    }
+
+    /**
+     * Escribe lotes hasta dejar la cola vacía. Solo lo ejecuta el hilo escritor (o {@link #detener()} cuando
+     * ese hilo ya terminó), así que los lotes nunca se escriben en paralelo.
+     */
+    void vaciar() {
+        try {
+            List<Solicitud> lote;
+            while (!(lote = extraerLote()).isEmpty()) {
+                escribir(lote);
+            }
+        } catch (RuntimeException ex) {
+            // Una excepción escapada cancelaría la tarea periódica; se registra y se sigue en la próxima pasada.
+            LOG.error("Error inesperado en el escritor de la ingesta de personas", ex);
+        }
+    }
+
+    private List<Solicitud> extraerLote() {
+        List<Solicitud> lote = new ArrayList<>(Math.min(tamanoLote, ocupacion.get()));
+        Solicitud solicitud;
+        while (lote.size() < tamanoLote && (solicitud = cola.poll()) != null) {
+            lote.add(solicitud);
+        }
+        ocupacion.addAndGet(-lote.size());
+        return lote;
+    }
+
+    private void escribir(List<Solicitud> lote) {
+        tamanoLotes.record(lote.size());
+        Timer.Sample muestra = Timer.start();
+        try {
+            registrar(lote, servicioPersona.crearPersonasEnLote(personas(lote)).getResultados());
+        } catch (RuntimeException ex) {
+            // El lote cabe en un bloque del servicio, así que se ha revertido entero y ninguna fila se reenvía.
+            LOG.warn("Lote de ingesta de {} personas revertido; se reintenta elemento a elemento: {}", lote.size(), ex.getMessage());
+            lote.forEach(this::escribirUna);
+        } finally {
+            muestra.stop(escrituras);
+        }
+    }
+
+    private void escribirUna(Solicitud solicitud) {
+        try {
+            registrar(List.of(solicitud), servicioPersona.crearPersonasEnLote(List.of(solicitud.persona())).getResultados());
+        } catch (RuntimeException ex) {
+            resolver(solicitud.ticket(), IngestaDTO.fallido(solicitud.ticket(), "No se pudo crear la persona. Vuelva a enviarla."));
+        }
+    }
+
+    private void registrar(List<Solicitud> lote, List<ResultadoItemLoteDTO> resultadosLote) {
+        // crearPersonasEnLote devuelve un resultado por elemento en el mismo orden que la entrada.
+        for (int i = 0; i < lote.size(); i++) {
+            UUID ticket = lote.get(i).ticket();
+            resolver(ticket, IngestaDTO.de(ticket, resultadosLote.get(i)));
+        }
+    }
+
+    private void resolver(UUID ticket, IngestaDTO resultado) {
+        resultados.put(ticket, resultado);
+        enEspera.remove(ticket);
+    }
+
+    private static List<PersonaCrearDTO> personas(List<Solicitud> lote) {
+        List<PersonaCrearDTO> personas = new ArrayList<>(lote.size());
+        lote.forEach(solicitud -> personas.add(solicitud.persona()));
+        return personas;
+    }
+
+    private record Solicitud(UUID ticket, PersonaCrearDTO persona) {
+    }
+}
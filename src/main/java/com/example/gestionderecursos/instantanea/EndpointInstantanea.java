@@ -0,0 +1,50 @@
+package com.example.gestionderecursos.instantanea;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint de Actuator {@code /actuator/instantanea}: GET describe la instantánea configurada y POST crea una
+ * nueva con los datos actuales. Solo es accesible por HTTP si se incluye en
+ * {@code management.endpoints.web.exposure.include} (lo hace el perfil produccion).
+ */
+@Component
+@Endpoint(id = "instantanea")
+public class EndpointInstantanea {
+
+    private final GestorInstantaneas gestorInstantaneas;
+    private final Path archivo;
+
+    public EndpointInstantanea(GestorInstantaneas gestorInstantaneas, @Value("${app.instantanea.archivo}") Path archivo) {
+        this.gestorInstantaneas = gestorInstantaneas;
+        this.archivo = archivo;
+    }
+
+    @ReadOperation
+    public Map<String, Object> describir() throws IOException {
+        Map<String, Object> descripcion = new LinkedHashMap<>();
+        descripcion.put("archivo", archivo.toAbsolutePath().toString());
+        boolean existe = Files.isRegularFile(archivo);
+        descripcion.put("existe", existe);
+        if (existe) {
+            descripcion.put("bytes", Files.size(archivo));
+            descripcion.put("fechaModificacion", Instant.ofEpochMilli(Files.getLastModifiedTime(archivo).toMillis()));
+        }
+        return descripcion;
+    }
+
+    @WriteOperation
+    public ResumenInstantanea crear() throws IOException {
+        return gestorInstantaneas.crear(archivo);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.gestionderecursos.instantanea;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Formato binario de las instantáneas de personas y proyectos.
+ *
+ * <pre>
+ * cabecera : MAGIA (int) · VERSION (int) · instante de creación (long, epoch ms)
+ * sección  : tabla (byte: TABLA_PERSONAS | TABLA_PROYECTOS) · { FILA (byte) · fila }* · FIN_SECCION (byte)
+ * final    : FIN_ARCHIVO (byte)
+ * </pre>
+ *
+ * <p>Las filas van ordenadas por id y el id se guarda como diferencia con el anterior en un entero de longitud
+ * variable, igual que la versión: en tablas densas ambos ocupan uno o dos bytes. Los textos van en UTF-8
+ * modificado (writeUTF) precedidos de un indicador de nulo.</p>
+ */
+final class FormatoInstantanea {
+
+    static final int MAGIA = 0x47445249; // "GDRI"
+    static final int VERSION = 1;
+
+    static final byte FILA = 1;
+    static final byte FIN_SECCION = 0;
+
+    static final byte TABLA_PERSONAS = 1;
+    static final byte TABLA_PROYECTOS = 2;
+    static final byte FIN_ARCHIVO = 0;
+
+    private FormatoInstantanea() {
+    }
+
+    static void escribirVarLong(DataOutput salida, long valor) throws IOException {
+        while ((valor & ~0x7FL) != 0) {
+            salida.writeByte((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        salida.writeByte((int) valor);
+    }
+
+    static long leerVarLong(DataInput entrada) throws IOException {
+        long valor = 0;
+        for (int desplazamiento = 0; desplazamiento < 64; desplazamiento += 7) {
+            byte b = entrada.readByte();
+            valor |= (long) (b & 0x7F) << desplazamiento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IOException("Entero de longitud variable mal formado");
+    }
+
+    static void escribirTexto(DataOutput salida, String texto) throws IOException {
+        salida.writeBoolean(texto != null);
+        if (texto != null) {
+            salida.writeUTF(texto);
+        }
+    }
+
+    static String leerTexto(DataInput entrada) throws IOException {
+        return entrada.readBoolean() ? entrada.readUTF() : null;
+    }
+
+    static void escribirInstante(DataOutput salida, Instant instante) throws IOException {
+        salida.writeBoolean(instante != null);
+        if (instante != null) {
+            salida.writeLong(instante.getEpochSecond());
+            salida.writeInt(instante.getNano());
+        }
+    }
+
+    static Instant leerInstante(DataInput entrada) throws IOException {
+        return entrada.readBoolean() ? Instant.ofEpochSecond(entrada.readLong(), entrada.readInt()) : null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.gestionderecursos.instantanea;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Arranque en caliente: si las tablas están vacías (por ejemplo, tras perder el archivo de la base de datos o
+ * al levantar un nodo nuevo) y existe la instantánea configurada, la carga antes de que la aplicación quede
+ * lista. Se ejecuta antes que los demás ApplicationRunner y, como todos ellos, antes de ApplicationReadyEvent,
+ * así que el índice de búsqueda, el prefiltro de Bloom y los totales aproximados se construyen ya con los datos
+ * restaurados.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.instantanea.restaurar-al-arrancar", havingValue = "true")
+public class RestauracionAlArrancar implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RestauracionAlArrancar.class);
+
+    private final GestorInstantaneas gestorInstantaneas;
+    private final Path archivo;
+
+    public RestauracionAlArrancar(GestorInstantaneas gestorInstantaneas, @Value("${app.instantanea.archivo}") Path archivo) {
+        this.gestorInstantaneas = gestorInstantaneas;
+        this.archivo = archivo;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!Files.isRegularFile(archivo)) {
+            LOG.info("Sin instantánea en {}; se arranca con los datos actuales", archivo.toAbsolutePath());
+            return;
+        }
+        if (!gestorInstantaneas.tablasVacias()) {
+            LOG.info("Las tablas ya tienen datos; no se restaura la instantánea {}", archivo.toAbsolutePath());
+            return;
+        }
+        gestorInstantaneas.restaurar(archivo);
+    }
+}
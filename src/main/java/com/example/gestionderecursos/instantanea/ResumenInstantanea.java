@@ -0,0 +1,12 @@
+package com.example.gestionderecursos.instantanea;
+
+/**
+ * Resultado de crear o restaurar una instantánea.
+ * @param archivo Ruta absoluta del archivo.
+ * @param personas Filas de personas escritas o cargadas.
+ * @param proyectos Filas de proyectos escritas o cargadas.
+ * @param bytes Tamaño del archivo.
+ * @param milisegundos Duración de la operación.
+ */
+public record ResumenInstantanea(String archivo, long personas, long proyectos, long bytes, long milisegundos) {
+}
@@ -0,0 +1,20 @@
+package com.example.gestionderecursos.lectura;
+
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+
+/**
+ * Fila de persona del modelo de lectura: los campos del resumen más los que se usan para ordenar
+ * y la versión, que descarta eventos que llegan desordenados.
+ */
+public record EntradaPersona(Long id, String nombre, int edad, String correoElectronico, Long version) {
+
+    static EntradaPersona de(PersonaDetalleDTO persona) {
+        return new EntradaPersona(persona.getId(), persona.getNombre(), persona.getEdad(), persona.getCorreoElectronico(),
+                persona.getVersion());
+    }
+
+    PersonaResumenDTO aResumen() {
+        return new PersonaResumenDTO(id, nombre, correoElectronico);
+    }
+}
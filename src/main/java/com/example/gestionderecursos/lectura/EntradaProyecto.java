@@ -0,0 +1,21 @@
+package com.example.gestionderecursos.lectura;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Fila de proyecto del modelo de lectura: los campos del resumen más los que se usan para ordenar
+ * y la versión, que descarta eventos que llegan desordenados.
+ */
+public record EntradaProyecto(Long id, String nombre, LocalDate fechaCreacion, Long version) {
+
+    static EntradaProyecto de(ProyectoDetalleDTO proyecto) {
+        return new EntradaProyecto(proyecto.getId(), proyecto.getNombre(), proyecto.getFechaCreacion(), proyecto.getVersion());
+    }
+
+    ProyectoResumenDTO aResumen() {
+        return new ProyectoResumenDTO(id, nombre);
+    }
+}
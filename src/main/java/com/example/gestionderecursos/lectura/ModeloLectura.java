@@ -0,0 +1,190 @@
+package com.example.gestionderecursos.lectura;
+
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.eventos.PersonaCambiadoEvento;
+import com.example.gestionderecursos.eventos.ProyectoCambiadoEvento;
+import com.example.gestionderecursos.eventos.TipoCambio;
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import com.example.gestionderecursos.repositorios.RepositorioProyecto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Modelo de lectura en memoria de los listados paginados de personas y proyectos (lado de consulta de CQRS).
+ *
+ * <p>Con app.lectura.habilitado=true se carga al arrancar con una consulta por tabla y después se actualiza con
+ * los eventos confirmados de los servicios, aplicados de una vez por transacción, así que {@code GET /api/personas} y {@code GET /api/proyectos} no
+ * consultan la base de datos. Admite los mismos campos de orden que la paginación por cursor; cualquier otro
+ * orden, o un listado pedido antes de la carga, sigue yendo a la base de datos.</p>
+ *
+ * <p>Cada página lleva la marca de su vista en la cabecera {@value #CABECERA_MARCA}. Las filas escritas
+ * directamente en SQL y los eventos que llegan durante la carga inicial no se reflejan hasta la siguiente
+ * reconciliación (ver {@link ReconciliacionProgramada}).</p>
+ */
+@Component
+public class ModeloLectura {
+
+    /** Cabecera con la marca de consistencia de la vista que sirvió el listado. */
+    public static final String CABECERA_MARCA = "X-Marca-Lectura";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ModeloLectura.class);
+
+    private final boolean habilitado;
+    private final RepositorioPersona repositorioPersona;
+    private final RepositorioProyecto repositorioProyecto;
+    private final VistaOrdenada<EntradaPersona> personas;
+    private final VistaOrdenada<EntradaProyecto> proyectos;
+    private final Counter derivaPersonas;
+    private final Counter derivaProyectos;
+
+    public ModeloLectura(@Value("${app.lectura.habilitado:false}") boolean habilitado,
+                         RepositorioPersona repositorioPersona, RepositorioProyecto repositorioProyecto,
+                         MeterRegistry meterRegistry) {
+        this.habilitado = habilitado;
+        this.repositorioPersona = repositorioPersona;
+        this.repositorioProyecto = repositorioProyecto;
+        this.personas = new VistaOrdenada<>("personas", EntradaPersona::id, EntradaPersona::version, Map.of(
+                "nombre", Comparator.comparing(EntradaPersona::nombre),
+                "edad", Comparator.comparingInt(EntradaPersona::edad)));
+        this.proyectos = new VistaOrdenada<>("proyectos", EntradaProyecto::id, EntradaProyecto::version, Map.of(
+                "nombre", Comparator.comparing(EntradaProyecto::nombre),
+                "fechaCreacion", Comparator.comparing(EntradaProyecto::fechaCreacion)));
+        this.derivaPersonas = Counter.builder("app.lectura.deriva").tag("vista", "personas")
+                .description("Filas del modelo de lectura que la reconciliación encontró distintas de la base de datos")
+                .register(meterRegistry);
+        this.derivaProyectos = Counter.builder("app.lectura.deriva").tag("vista", "proyectos")
+                .description("Filas del modelo de lectura que la reconciliación encontró distintas de la base de datos")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        if (!habilitado) {
+            return;
+        }
+        personas.cargar(repositorioPersona.findAllEntradasLectura());
+        proyectos.cargar(repositorioProyecto.findAllEntradasLectura());
+        LOG.info("Modelo de lectura cargado: {} personas, {} proyectos", personas.tamano(), proyectos.tamano());
+    }
+
+    /**
+     * Página de resúmenes de personas ordenada por nombre, edad o id.
+     * @return La página y su marca, o vacío si el modelo está desactivado, sin cargar o no admite el orden.
+     */
+    public Optional<PaginaLectura<PersonaResumenDTO>> personas(Pageable pageable) {
+        return personas.pagina(pageable, EntradaPersona::aResumen);
+    }
+
+    /**
+     * Página de resúmenes de proyectos ordenada por nombre, fechaCreacion o id.
+     * @return La página y su marca, o vacío si el modelo está desactivado, sin cargar o no admite el orden.
+     */
+    public Optional<PaginaLectura<ProyectoResumenDTO>> proyectos(Pageable pageable) {
+        return proyectos.pagina(pageable, EntradaProyecto::aResumen);
+    }
+
+    /**
+     * Compara ambas vistas con la base de datos y repara las que se hayan desviado.
+     */
+    public List<ResultadoReconciliacion> reconciliar() {
+        if (!habilitado) {
+            return List.of();
+        }
+        return List.of(
+                registrar(personas.reconciliar(repositorioPersona::findAllEntradasLectura), derivaPersonas),
+                registrar(proyectos.reconciliar(repositorioProyecto::findAllEntradasLectura), derivaProyectos));
+    }
+
+    @EventListener
+    public void alCambiarPersona(PersonaCambiadoEvento evento) {
+        acumular(personas, evento.getId(), evento.getTipo() == TipoCambio.ELIMINADO ? null : EntradaPersona.de(evento.getActual()));
+    }
+
+    @EventListener
+    public void alCambiarProyecto(ProyectoCambiadoEvento evento) {
+        acumular(proyectos, evento.getId(), evento.getTipo() == TipoCambio.ELIMINADO ? null : EntradaProyecto.de(evento.getActual()));
+    }
+
+    /**
+     * Guarda el cambio en un búfer ligado a la transacción en curso y lo aplica a la vista junto con el resto
+     * de cambios de la transacción tras el commit, en una sola mezcla; si la transacción se revierte, se
+     * descarta. Fuera de una transacción se aplica en el acto.
+     * @param entrada Estado nuevo, o null si se borró.
+     */
+    private static <T> void acumular(VistaOrdenada<T> vista, Long id, T entrada) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            vista.aplicar(Collections.singletonMap(id, entrada));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, T> cambios = (Map<Long, T>) TransactionSynchronizationManager.getResource(vista);
+        if (cambios == null) {
+            cambios = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(vista, cambios);
+            TransactionSynchronizationManager.registerSynchronization(new CambiosDeTransaccion<>(vista, cambios));
+        }
+        // Dentro de una transacción solo cuenta el último estado de cada id.
+        cambios.put(id, entrada);
+    }
+
+    private static ResultadoReconciliacion registrar(ResultadoReconciliacion resultado, Counter deriva) {
+        if (!resultado.consistente()) {
+            deriva.increment(resultado.faltan() + resultado.sobran() + resultado.distintas());
+            LOG.warn("Modelo de lectura desviado de la base de datos: {}", resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * Cambios de una transacción pendientes de aplicar a una vista. Se desliga del hilo al suspender la
+     * transacción para que una transacción anidada (REQUIRES_NEW) acumule en su propio búfer.
+     */
+    private static final class CambiosDeTransaccion<T> implements TransactionSynchronization {
+
+        private final VistaOrdenada<T> vista;
+        private final Map<Long, T> cambios;
+
+        CambiosDeTransaccion(VistaOrdenada<T> vista, Map<Long, T> cambios) {
+            this.vista = vista;
+            this.cambios = cambios;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(vista);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(vista, cambios);
+        }
+
+        @Override
+        public void afterCommit() {
+            vista.aplicar(cambios);
+        }
+
+        @Override
+        public void afterCompletion(int estado) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(vista);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.gestionderecursos.lectura;
+
+import com.example.gestionderecursos.paginacion.ModoConteo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * Página servida por el modelo de lectura junto con su marca de consistencia: el número de cambios
+ * confirmados que refleja la vista. La marca solo crece; dos páginas con la misma marca son coherentes entre sí.
+ */
+public record PaginaLectura<T>(Page<T> pagina, long marca) {
+
+    /**
+     * La página con su total exacto, salvo con ?conteo=NINGUNO, que responde con un Slice igual que el
+     * listado servido por la base de datos.
+     */
+    public Slice<T> segun(ModoConteo conteo) {
+        return conteo == ModoConteo.NINGUNO ? new SliceImpl<>(pagina.getContent(), pagina.getPageable(), pagina.hasNext()) : pagina;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.gestionderecursos.lectura;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Reconciliación periódica del modelo de lectura con la base de datos, para recoger las filas escritas
+ * fuera de los servicios. Se activa con app.lectura.reconciliacion.habilitada=true; cada pasada lee las
+ * tablas completas, así que el intervalo (app.lectura.reconciliacion.intervalo) debe ser holgado.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@ConditionalOnProperty(name = {"app.lectura.habilitado", "app.lectura.reconciliacion.habilitada"}, havingValue = "true")
+public class ReconciliacionProgramada {
+
+    private final ModeloLectura modeloLectura;
+
+    public ReconciliacionProgramada(ModeloLectura modeloLectura) {
+        this.modeloLectura = modeloLectura;
+    }
+
+    @Scheduled(initialDelayString = "${app.lectura.reconciliacion.intervalo:PT5M}",
+            fixedDelayString = "${app.lectura.reconciliacion.intervalo:PT5M}")
+    public void reconciliar() {
+        modeloLectura.reconciliar();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.gestionderecursos.lectura;
+
+/**
+ * Resultado de comparar una vista del modelo de lectura con la base de datos.
+ * @param vista Nombre de la vista ("personas" o "proyectos").
+ * @param faltan Filas de la base de datos que no están en memoria.
+ * @param sobran Filas en memoria que ya no existen en la base de datos.
+ * @param distintas Filas presentes en ambos lados con algún campo distinto.
+ * @param reparada Si la vista se reemplazó por el contenido de la base de datos. No se repara si la vista
+ *                 recibió cambios mientras se leía la base de datos: la diferencia puede ser transitoria.
+ */
+public record ResultadoReconciliacion(String vista, int faltan, int sobran, int distintas, boolean reparada) {
+
+    public boolean consistente() {
+        return faltan == 0 && sobran == 0 && distintas == 0;
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.gestionderecursos.lectura;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Colección en memoria ordenada de varias formas a la vez, con copia en escritura.
+ *
+ * <p>Guarda un array por cada campo de orden admitido, todos con los mismos elementos ordenados por
+ * (campo, id); el orden descendente recorre el mismo array desde el final. Las lecturas toman el estado
+ * publicado con una lectura volátil y copian un tramo del array, sin bloqueos. Las escrituras, serializadas,
+ * llegan agrupadas por transacción: se mezclan con cada array en una sola copia y se publica el estado
+ * resultante. Cuesta O(n) por transacción y orden, a cambio de páginas en O(tamaño de página) y totales
+ * exactos sin count(*): compensa cuando las lecturas superan con mucho a las escrituras.</p>
+ *
+ * <p>Los arrays nunca se modifican una vez publicados, así que una página siempre sale de un único estado
+ * coherente, identificado por su marca.</p>
+ */
+final class VistaOrdenada<T> {
+
+    static final String ORDEN_ID = "id";
+
+    static final int LAPIDAS_MAXIMAS = 10_000;
+
+    private final String nombre;
+    private final Function<T, Long> id;
+    private final Function<T, Long> version;
+    private final Map<String, Comparator<T>> ordenes = new LinkedHashMap<>();
+
+    /**
+     * Lápidas: ids borrados recientemente. Los ids salen de una secuencia y no se reutilizan, así que cualquier
+     * evento posterior sobre uno de ellos es anterior al borrado y no debe resucitar la fila. Se recuerdan los
+     * últimos {@value #LAPIDAS_MAXIMAS}, de sobra para el desorden entre transacciones casi simultáneas.
+     */
+    private final Set<Long> borrados = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> masAntigua) {
+            return size() > LAPIDAS_MAXIMAS;
+        }
+    });
+
+    /** null hasta la primera carga: mientras tanto los listados van a la base de datos. */
+    private volatile Estado estado;
+
+    private record Estado(Map<String, Object[]> porOrden, long marca) {
+
+        Object[] porId() {
+            return porOrden.get(ORDEN_ID);
+        }
+    }
+
+    /**
+     * @param ordenesPorCampo Comparador de cada campo de orden admitido, sin desempate: se añade el id.
+     */
+    VistaOrdenada(String nombre, Function<T, Long> id, Function<T, Long> version, Map<String, Comparator<T>> ordenesPorCampo) {
+        this.nombre = nombre;
+        this.id = id;
+        this.version = version;
+        Comparator<T> porId = Comparator.comparing(id);
+        ordenes.put(ORDEN_ID, porId);
+        ordenesPorCampo.forEach((campo, orden) -> ordenes.put(campo, orden.thenComparing(porId)));
+    }
+
+    boolean cargada() {
+        return estado != null;
+    }
+
+    /**
+     * Número de cambios aplicados a la vista desde el arranque, contando cargas y reparaciones.
+     */
+    long marca() {
+        Estado actual = estado;
+        return actual == null ? 0 : actual.marca();
+    }
+
+    int tamano() {
+        Estado actual = estado;
+        return actual == null ? 0 : actual.porId().length;
+    }
+
+    synchronized void cargar(List<T> elementos) {
+        estado = new Estado(ordenar(elementos), marca() + 1);
+    }
+
+    /**
+     * Inserta el elemento o sustituye al de su mismo id. Equivale a {@link #aplicar(Map)} con un solo cambio.
+     */
+    void registrar(T elemento) {
+        aplicar(Collections.singletonMap(id.apply(elemento), elemento));
+    }
+
+    void eliminar(Long idEliminado) {
+        aplicar(Collections.singletonMap(idEliminado, null));
+    }
+
+    /**
+     * Aplica de una vez los cambios de una transacción: cada id se asocia a su último estado, o a null si se
+     * borró. Un elemento se ignora si la vista tiene una versión más nueva o si su id ya se borró, que es lo
+     * que ocurre cuando los eventos de dos transacciones llegan en orden distinto al de sus commits.
+     *
+     * <p>Los k cambios se ordenan una vez por orden y se mezclan con el array vigente en una sola pasada,
+     * O(n + k log k) por orden, en lugar de copiar el array entero por cada cambio.</p>
+     */
+    synchronized void aplicar(Map<Long, T> cambios) {
+        Estado actual = estado;
+        if (actual == null || cambios.isEmpty()) {
+            return;
+        }
+        Object[] porId = actual.porId();
+        Set<Long> quitados = new HashSet<>();
+        List<T> nuevos = new ArrayList<>(cambios.size());
+        cambios.forEach((idCambio, elemento) -> {
+            int posicion = buscarId(porId, idCambio);
+            T anterior = posicion >= 0 ? elemento(porId, posicion) : null;
+            if (elemento == null) {
+                borrados.add(idCambio);
+            } else if (borrados.contains(idCambio) || (anterior != null && esMasAntiguo(elemento, anterior))) {
+                return;
+            }
+            if (anterior != null) {
+                quitados.add(idCambio);
+            }
+            if (elemento != null) {
+                nuevos.add(elemento);
+            }
+        });
+        if (quitados.isEmpty() && nuevos.isEmpty()) {
+            return;
+        }
+        Map<String, Object[]> porOrden = new HashMap<>();
+        ordenes.forEach((campo, orden) -> porOrden.put(campo, mezclar(actual.porOrden().get(campo), quitados, nuevos, orden)));
+        estado = new Estado(porOrden, actual.marca() + 1);
+    }
+
+    /**
+     * Página en el orden pedido. Se admiten un campo de orden de la vista, opcionalmente seguido de id en la
+     * misma dirección; sin orden se usa el id.
+     * @return La página con la marca del estado del que sale, o vacío si la vista no está cargada o no admite
+     *         el orden pedido.
+     */
+    <R> Optional<PaginaLectura<R>> pagina(Pageable pageable, Function<T, R> proyeccion) {
+        Estado actual = estado;
+        if (actual == null || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        Sort.Order criterio = criterio(pageable.getSort());
+        if (criterio == null) {
+            return Optional.empty();
+        }
+        Object[] array = actual.porOrden().get(criterio.getProperty());
+        int total = array.length;
+        long inicio = Math.min(pageable.getOffset(), total);
+        int fin = (int) Math.min(total, inicio + pageable.getPageSize());
+        List<R> contenido = new ArrayList<>(fin - (int) inicio);
+        for (int i = (int) inicio; i < fin; i++) {
+            contenido.add(proyeccion.apply(elemento(array, criterio.isDescending() ? total - 1 - i : i)));
+        }
+        return Optional.of(new PaginaLectura<>(new PageImpl<>(contenido, pageable, total), actual.marca()));
+    }
+
+    /**
+     * Compara la vista con el contenido actual de la base de datos y, si difieren y nadie ha escrito en la
+     * vista mientras se leía, la reemplaza por él.
+     */
+    ResultadoReconciliacion reconciliar(Supplier<List<T>> cargador) {
+        long marcaInicial = marca();
+        Map<String, Object[]> enBaseDatos = ordenar(cargador.get());
+        synchronized (this) {
+            Estado actual = estado;
+            Object[] memoria = actual == null ? new Object[0] : actual.porId();
+            Object[] baseDatos = enBaseDatos.get(ORDEN_ID);
+            int faltan = 0;
+            int sobran = 0;
+            int distintas = 0;
+            int i = 0;
+            int j = 0;
+            while (i < memoria.length || j < baseDatos.length) {
+                int comparacion = i == memoria.length ? 1 : j == baseDatos.length ? -1
+                        : Long.compare(id.apply(elemento(memoria, i)), id.apply(elemento(baseDatos, j)));
+                if (comparacion < 0) {
+                    sobran++;
+                    i++;
+                } else if (comparacion > 0) {
+                    faltan++;
+                    j++;
+                } else {
+                    if (!Objects.equals(memoria[i], baseDatos[j])) {
+                        distintas++;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            boolean diferente = faltan + sobran + distintas > 0;
+            boolean reparada = (diferente || actual == null) && marca() == marcaInicial;
+            if (reparada) {
+                estado = new Estado(enBaseDatos, marcaInicial + 1);
+            }
+            return new ResultadoReconciliacion(nombre, faltan, sobran, distintas, reparada && diferente);
+        }
+    }
+
+    private Map<String, Object[]> ordenar(List<T> elementos) {
+        Map<String, Object[]> porOrden = new HashMap<>();
+        ordenes.forEach((campo, orden) -> {
+            Object[] array = elementos.toArray();
+            Arrays.sort(array, comparador(orden));
+            porOrden.put(campo, array);
+        });
+        return porOrden;
+    }
+
+    private Sort.Order criterio(Sort sort) {
+        List<Sort.Order> criterios = sort.toList();
+        if (criterios.isEmpty()) {
+            return Sort.Order.asc(ORDEN_ID);
+        }
+        Sort.Order principal = criterios.get(0);
+        if (principal.isIgnoreCase() || !ordenes.containsKey(principal.getProperty()) || criterios.size() > 2) {
+            return null;
+        }
+        if (criterios.size() == 2) {
+            Sort.Order desempate = criterios.get(1);
+            if (!desempate.getProperty().equals(ORDEN_ID) || desempate.getDirection() != principal.getDirection()) {
+                return null;
+            }
+        }
+        return principal;
+    }
+
+    private boolean esMasAntiguo(T elemento, T anterior) {
+        Long nueva = version.apply(elemento);
+        Long vigente = version.apply(anterior);
+        return nueva != null && vigente != null && nueva < vigente;
+    }
+
+    private int buscarId(Object[] porId, Long buscado) {
+        int bajo = 0;
+        int alto = porId.length - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            int comparacion = Long.compare(id.apply(elemento(porId, medio)), buscado);
+            if (comparacion < 0) {
+                bajo = medio + 1;
+            } else if (comparacion > 0) {
+                alto = medio - 1;
+            } else {
+                return medio;
+            }
+        }
+        return -(bajo + 1);
+    }
+
+    /**
+     * Copia {@code array} sin los elementos de {@code quitados} e intercalando {@code nuevos} en su sitio.
+     */
+    private Object[] mezclar(Object[] array, Set<Long> quitados, List<T> nuevos, Comparator<T> orden) {
+        Object[] insertados = nuevos.toArray();
+        Arrays.sort(insertados, comparador(orden));
+        Object[] copia = new Object[array.length - quitados.size() + insertados.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < array.length || j < insertados.length) {
+            if (i < array.length && quitados.contains(id.apply(elemento(array, i)))) {
+                i++;
+            } else if (j == insertados.length
+                    || (i < array.length && orden.compare(elemento(array, i), elemento(insertados, j)) < 0)) {
+                copia[k++] = array[i++];
+            } else {
+                copia[k++] = insertados[j++];
+            }
+        }
+        return copia;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<Object> comparador(Comparator<T> orden) {
+        return (Comparator<Object>) orden;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elemento(Object[] array, int posicion) {
+        return (T) array[posicion];
+    }
+}
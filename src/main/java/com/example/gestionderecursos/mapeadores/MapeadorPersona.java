@@ -0,0 +1,29 @@
+package com.example.gestionderecursos.mapeadores;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.modelos.Persona;
+
+/**
+ * Define las conversiones entre la entidad Persona y sus DTOs.
+ * La implementación por defecto es explícita y sin reflexión; la basada en ModelMapper
+ * se activa con app.mapeo.estrategia=modelmapper.
+ */
+public interface MapeadorPersona {
+
+    PersonaDetalleDTO aDetalle(Persona persona);
+
+    PersonaResumenDTO aResumen(Persona persona);
+
+    /**
+     * Crea una entidad nueva (sin ID) a partir de los datos de creación.
+     */
+    Persona aEntidad(PersonaCrearDTO personaCrearDTO);
+
+    /**
+     * Copia los datos de actualización sobre una entidad existente, sin crear objetos nuevos.
+     */
+    void actualizarEntidad(PersonaActualizarDTO personaActualizarDTO, Persona persona);
+}
@@ -0,0 +1,29 @@
+package com.example.gestionderecursos.mapeadores;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.modelos.Proyecto;
+
+/**
+ * Define las conversiones entre la entidad Proyecto y sus DTOs.
+ * La implementación por defecto es explícita y sin reflexión; la basada en ModelMapper
+ * se activa con app.mapeo.estrategia=modelmapper.
+ */
+public interface MapeadorProyecto {
+
+    ProyectoDetalleDTO aDetalle(Proyecto proyecto);
+
+    ProyectoResumenDTO aResumen(Proyecto proyecto);
+
+    /**
+     * Crea una entidad nueva (sin ID ni fecha de creación) a partir de los datos de creación.
+     */
+    Proyecto aEntidad(ProyectoCrearDTO proyectoCrearDTO);
+
+    /**
+     * Copia los datos de actualización sobre una entidad existente, sin crear objetos nuevos.
+     */
+    void actualizarEntidad(ProyectoActualizarDTO proyectoActualizarDTO, Proyecto proyecto);
+}
@@ -0,0 +1,46 @@
+package com.example.gestionderecursos.mapeadores.impl;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.mapeadores.MapeadorPersona;
+import com.example.gestionderecursos.modelos.Persona;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeador explícito: asignaciones campo a campo resueltas en compilación, sin reflexión
+ * y sin más asignaciones de memoria que el propio objeto de destino.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mapeo.estrategia", havingValue = "directo", matchIfMissing = true)
+public class MapeadorPersonaDirecto implements MapeadorPersona {
+
+    @Override
+    public PersonaDetalleDTO aDetalle(Persona persona) {
+        return new PersonaDetalleDTO(persona.getId(), persona.getNombre(), persona.getEdad(), persona.getCorreoElectronico(),
+                persona.getVersion(), persona.getFechaModificacion());
+    }
+
+    @Override
+    public PersonaResumenDTO aResumen(Persona persona) {
+        return new PersonaResumenDTO(persona.getId(), persona.getNombre(), persona.getCorreoElectronico());
+    }
+
+    @Override
+    public Persona aEntidad(PersonaCrearDTO personaCrearDTO) {
+        Persona persona = new Persona();
+        persona.setNombre(personaCrearDTO.getNombre());
+        persona.setEdad(personaCrearDTO.getEdad());
+        persona.setCorreoElectronico(personaCrearDTO.getCorreoElectronico());
+        return persona;
+    }
+
+    @Override
+    public void actualizarEntidad(PersonaActualizarDTO personaActualizarDTO, Persona persona) {
+        persona.setNombre(personaActualizarDTO.getNombre());
+        persona.setEdad(personaActualizarDTO.getEdad());
+        persona.setCorreoElectronico(personaActualizarDTO.getCorreoElectronico());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.gestionderecursos.mapeadores.impl;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.mapeadores.MapeadorPersona;
+import com.example.gestionderecursos.modelos.Persona;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeador de respaldo basado en ModelMapper (reflexivo). Solo se activa con
+ * app.mapeo.estrategia=modelmapper; se conserva para comparar resultados y rendimiento.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mapeo.estrategia", havingValue = "modelmapper")
+public class MapeadorPersonaModelMapper implements MapeadorPersona {
+
+    private final ModelMapper modelMapper;
+
+    public MapeadorPersonaModelMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public PersonaDetalleDTO aDetalle(Persona persona) {
+        return modelMapper.map(persona, PersonaDetalleDTO.class);
+    }
+
+    @Override
+    public PersonaResumenDTO aResumen(Persona persona) {
+        return modelMapper.map(persona, PersonaResumenDTO.class);
+    }
+
+    @Override
+    public Persona aEntidad(PersonaCrearDTO personaCrearDTO) {
+        return modelMapper.map(personaCrearDTO, Persona.class);
+    }
+
+    @Override
+    public void actualizarEntidad(PersonaActualizarDTO personaActualizarDTO, Persona persona) {
+        modelMapper.map(personaActualizarDTO, persona);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.gestionderecursos.mapeadores.impl;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.mapeadores.MapeadorProyecto;
+import com.example.gestionderecursos.modelos.Proyecto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeador explícito: asignaciones campo a campo resueltas en compilación, sin reflexión
+ * y sin más asignaciones de memoria que el propio objeto de destino.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mapeo.estrategia", havingValue = "directo", matchIfMissing = true)
+public class MapeadorProyectoDirecto implements MapeadorProyecto {
+
+    @Override
+    public ProyectoDetalleDTO aDetalle(Proyecto proyecto) {
+        return new ProyectoDetalleDTO(proyecto.getId(), proyecto.getNombre(), proyecto.getDescripcion(), proyecto.getFechaCreacion(),
+                proyecto.getVersion(), proyecto.getFechaModificacion());
+    }
+
+    @Override
+    public ProyectoResumenDTO aResumen(Proyecto proyecto) {
+        return new ProyectoResumenDTO(proyecto.getId(), proyecto.getNombre());
+    }
+
+    @Override
+    public Proyecto aEntidad(ProyectoCrearDTO proyectoCrearDTO) {
+        Proyecto proyecto = new Proyecto();
+        proyecto.setNombre(proyectoCrearDTO.getNombre());
+        proyecto.setDescripcion(proyectoCrearDTO.getDescripcion());
+        return proyecto;
+    }
+
+    @Override
+    public void actualizarEntidad(ProyectoActualizarDTO proyectoActualizarDTO, Proyecto proyecto) {
+        proyecto.setNombre(proyectoActualizarDTO.getNombre());
+        proyecto.setDescripcion(proyectoActualizarDTO.getDescripcion());
+    }
+}
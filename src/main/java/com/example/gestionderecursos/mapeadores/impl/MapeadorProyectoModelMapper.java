@@ -0,0 +1,46 @@
+package com.example.gestionderecursos.mapeadores.impl;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.mapeadores.MapeadorProyecto;
+import com.example.gestionderecursos.modelos.Proyecto;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapeador de respaldo basado en ModelMapper (reflexivo). Solo se activa con
+ * app.mapeo.estrategia=modelmapper; se conserva para comparar resultados y rendimiento.
+ */
+@Component
+@ConditionalOnProperty(name = "app.mapeo.estrategia", havingValue = "modelmapper")
+public class MapeadorProyectoModelMapper implements MapeadorProyecto {
+
+    private final ModelMapper modelMapper;
+
+    public MapeadorProyectoModelMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public ProyectoDetalleDTO aDetalle(Proyecto proyecto) {
+        return modelMapper.map(proyecto, ProyectoDetalleDTO.class);
+    }
+
+    @Override
+    public ProyectoResumenDTO aResumen(Proyecto proyecto) {
+        return modelMapper.map(proyecto, ProyectoResumenDTO.class);
+    }
+
+    @Override
+    public Proyecto aEntidad(ProyectoCrearDTO proyectoCrearDTO) {
+        return modelMapper.map(proyectoCrearDTO, Proyecto.class);
+    }
+
+    @Override
+    public void actualizarEntidad(ProyectoActualizarDTO proyectoActualizarDTO, Proyecto proyecto) {
+        modelMapper.map(proyectoActualizarDTO, proyecto);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.gestionderecursos.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mide cada método de ServicioPersona y ServicioProyecto con el temporizador {@value #METRICA}, etiquetado por
+ * servicio, método, resultado (SUCCESS/ERROR) y excepción.
+ *
+ * <p>Va por delante de los interceptores de caché y de transacción, así que un acierto de caché también se
+ * cuenta (y se ve como una invocación muy rápida). Los métodos de repositorio ya los mide Spring Data con
+ * spring.data.repository.invocations; los histogramas de ambos se activan en application.properties.</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AspectoTiemposServicios {
+
+    public static final String METRICA = "app.servicio.invocaciones";
+
+    private final MeterRegistry meterRegistry;
+
+    public AspectoTiemposServicios(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.example.gestionderecursos.servicios.ServicioPersona.*(..))")
+    public Object medirServicioPersona(ProceedingJoinPoint punto) throws Throwable {
+        return medir(punto, "ServicioPersona");
+    }
+
+    @Around("execution(* com.example.gestionderecursos.servicios.ServicioProyecto.*(..))")
+    public Object medirServicioProyecto(ProceedingJoinPoint punto) throws Throwable {
+        return medir(punto, "ServicioProyecto");
+    }
+
+    private Object medir(ProceedingJoinPoint punto, String servicio) throws Throwable {
+        Timer.Sample muestra = Timer.start(meterRegistry);
+        String excepcion = "none";
+        try {
+            return punto.proceed();
+        } catch (Throwable ex) {
+            excepcion = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            muestra.stop(Timer.builder(METRICA)
+                    .description("Duración de los métodos de la capa de servicio")
+                    .tag("servicio", servicio)
+                    .tag("metodo", punto.getSignature().getName())
+                    .tag("resultado", "none".equals(excepcion) ? "SUCCESS" : "ERROR")
+                    .tag("excepcion", excepcion)
+                    .register(meterRegistry));
+        }
+    }
+}
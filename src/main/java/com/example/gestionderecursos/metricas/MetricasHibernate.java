@@ -0,0 +1,85 @@
+package com.example.gestionderecursos.metricas;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publica las estadísticas de sesión de Hibernate como métricas de Micrometer.
+ *
+ * <p>Hibernate solo las acumula con hibernate.generate_statistics=true; sin esa propiedad las métricas existen
+ * pero se quedan a cero. Los contadores son acumulados desde el arranque: la tasa por segundo la calcula el
+ * sistema de monitorización.</p>
+ *
+ * <p>Además de los totales de la caché de segundo nivel, publica aciertos, fallos y escrituras de cada
+ * región (entidades, resultados de consultas y marcas de tiempo) con la etiqueta {@code region}.</p>
+ */
+@Component
+public class MetricasHibernate implements MeterBinder {
+
+    private final Statistics estadisticas;
+
+    public MetricasHibernate(EntityManagerFactory entityManagerFactory) {
+        this.estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        contador(registry, "app.hibernate.sentencias", "Sentencias JDBC preparadas", "estado", "preparadas", Statistics::getPrepareStatementCount);
+        contador(registry, "app.hibernate.sentencias", "Sentencias JDBC cerradas", "estado", "cerradas", Statistics::getCloseStatementCount);
+        contador(registry, "app.hibernate.entidades", "Entidades cargadas desde la base de datos", "operacion", "cargadas", Statistics::getEntityLoadCount);
+        contador(registry, "app.hibernate.entidades", "Entidades insertadas", "operacion", "insertadas", Statistics::getEntityInsertCount);
+        contador(registry, "app.hibernate.entidades", "Entidades actualizadas", "operacion", "actualizadas", Statistics::getEntityUpdateCount);
+        contador(registry, "app.hibernate.entidades", "Entidades eliminadas", "operacion", "eliminadas", Statistics::getEntityDeleteCount);
+        contador(registry, "app.hibernate.colecciones", "Colecciones cargadas", "operacion", "cargadas", Statistics::getCollectionLoadCount);
+        contador(registry, "app.hibernate.sesiones", "Sesiones abiertas", "estado", "abiertas", Statistics::getSessionOpenCount);
+        contador(registry, "app.hibernate.sesiones", "Sesiones cerradas", "estado", "cerradas", Statistics::getSessionCloseCount);
+        contador(registry, "app.hibernate.transacciones", "Transacciones completadas", "resultado", "completadas", Statistics::getTransactionCount);
+        contador(registry, "app.hibernate.flushes", "Flushes del contexto de persistencia", null, null, Statistics::getFlushCount);
+        contador(registry, "app.hibernate.consultas", "Consultas HQL/JPQL/SQL ejecutadas", null, null, Statistics::getQueryExecutionCount);
+        contador(registry, "app.hibernate.cache.segundo.nivel", "Aciertos de la caché de segundo nivel", "resultado", "acierto", Statistics::getSecondLevelCacheHitCount);
+        contador(registry, "app.hibernate.cache.segundo.nivel", "Fallos de la caché de segundo nivel", "resultado", "fallo", Statistics::getSecondLevelCacheMissCount);
+        contador(registry, "app.hibernate.cache.consultas", "Aciertos de la caché de consultas", "resultado", "acierto", Statistics::getQueryCacheHitCount);
+        contador(registry, "app.hibernate.cache.consultas", "Fallos de la caché de consultas", "resultado", "fallo", Statistics::getQueryCacheMissCount);
+        contador(registry, "app.hibernate.cache.consultas", "Resultados guardados en la caché de consultas", "resultado", "escritura", Statistics::getQueryCachePutCount);
+        for (String region : estadisticas.getSecondLevelCacheRegionNames()) {
+            contadorRegion(registry, region, "acierto", CacheRegionStatistics::getHitCount);
+            contadorRegion(registry, region, "fallo", CacheRegionStatistics::getMissCount);
+            contadorRegion(registry, region, "escritura", CacheRegionStatistics::getPutCount);
+        }
+
+        TimeGauge.builder("app.hibernate.consultas.tiempo.maximo", estadisticas, TimeUnit.MILLISECONDS, Statistics::getQueryExecutionMaxTime)
+                .description("Tiempo de la consulta más lenta desde el arranque")
+                .register(registry);
+    }
+
+    private void contador(MeterRegistry registry, String nombre, String descripcion, String etiqueta, String valor,
+                          ToDoubleFunction<Statistics> funcion) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(nombre, estadisticas, funcion).description(descripcion);
+        if (etiqueta != null) {
+            builder.tag(etiqueta, valor);
+        }
+        builder.register(registry);
+    }
+
+    private void contadorRegion(MeterRegistry registry, String region, String resultado, ToLongFunction<CacheRegionStatistics> funcion) {
+        FunctionCounter.builder("app.hibernate.cache.region", estadisticas, e -> {
+                    CacheRegionStatistics estadisticasRegion = e.getCacheRegionStatistics(region);
+                    return estadisticasRegion == null ? 0 : funcion.applyAsLong(estadisticasRegion);
+                })
+                .description("Operaciones de una región de la caché de segundo nivel")
+                .tag("region", region)
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+}
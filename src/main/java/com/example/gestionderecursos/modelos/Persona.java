@@ -3,6 +3,13 @@ package com.example.gestionderecursos.modelos;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.util.Locale;
 
 @Getter
 @Setter
@@ -10,11 +17,37 @@ import lombok.*;
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity
-@Table(name = "personas")
+// Caché de segundo nivel: findById y las consultas cacheadas no van a la base de datos si la entidad ya está en memoria.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Persona.REGION_CACHE)
+@Table(name = "personas", uniqueConstraints = {
+        @UniqueConstraint(name = Persona.UK_CORREO_ELECTRONICO, columnNames = "correoElectronico")
+}, indexes = {
+        // Índices compuestos (campo, id) que recorre la paginación por cursor.
+        @Index(name = "idx_personas_nombre_id", columnList = "nombre, id"),
+        @Index(name = "idx_personas_edad_id", columnList = "edad, id"),
+        // Búsquedas e informes por dominio sin recorrer la tabla con LIKE '%@dominio'.
+        @Index(name = "idx_personas_dominio_correo_id", columnList = "dominioCorreo, id")
+})
 public class Persona {
 
+    /**
+     * Restricción que garantiza la unicidad del correo incluso con escrituras concurrentes.
+     */
+    public static final String UK_CORREO_ELECTRONICO = "uk_personas_correo_electronico";
+
+    /**
+     * Región de la caché de segundo nivel; su tamaño máximo se configura en cache-segundo-nivel.conf.
+     */
+    public static final String REGION_CACHE = "persona";
+
+    /**
+     * Identificador generado por secuencia con asignación agrupada (pooled): Hibernate reserva
+     * bloques de IDs y puede agrupar los INSERT en lotes JDBC, algo imposible con IDENTITY.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "personas_seq")
+    @SequenceGenerator(name = "personas_seq", sequenceName = "personas_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "El nombre es obligatorio")
@@ -30,4 +63,54 @@ public class Persona {
     @Email(message = "El correo electrónico no es válido")
     private String correoElectronico;
 
+    /**
+     * Versión para el bloqueo optimista; se incrementa en cada modificación y sirve de ETag en la API.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Instante de la última modificación (cabecera Last-Modified), asignado por Hibernate al insertar y actualizar.
+     */
+    @UpdateTimestamp
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    private Instant fechaModificacion;
+
+    /**
+     * Dominio del correo en minúsculas (lo que sigue a la última '@'). Es un dato derivado: se recalcula
+     * en cada alta y modificación y no tiene setter público.
+     */
+    @Setter(AccessLevel.NONE)
+    private String dominioCorreo;
+
+    @PrePersist
+    @PreUpdate
+    void calcularDominioCorreo() {
+        this.dominioCorreo = extraerDominio(correoElectronico);
+    }
+
+    /**
+     * Devuelve el dominio normalizado de un correo, o null si no contiene '@'.
+     */
+    public static String extraerDominio(String correo) {
+        if (correo == null) {
+            return null;
+        }
+        int arroba = correo.lastIndexOf('@');
+        return arroba < 0 ? null : normalizarDominio(correo.substring(arroba + 1));
+    }
+
+    /**
+     * Normaliza un dominio recibido como filtro: sin espacios, sin '@' inicial y en minúsculas.
+     */
+    public static String normalizarDominio(String dominio) {
+        String limpio = dominio.trim();
+        if (limpio.startsWith("@")) {
+            limpio = limpio.substring(1);
+        }
+        return limpio.toLowerCase(Locale.ROOT);
+    }
+
 }
@@ -5,7 +5,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Getter
@@ -14,11 +19,35 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity
-@Table(name = "proyectos")
+// Caché de segundo nivel: findById y las consultas cacheadas no van a la base de datos si la entidad ya está en memoria.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Proyecto.REGION_CACHE)
+@Table(name = "proyectos", uniqueConstraints = {
+        @UniqueConstraint(name = Proyecto.UK_NOMBRE, columnNames = "nombre")
+}, indexes = {
+        // Índices compuestos (campo, id) que recorre la paginación por cursor.
+        @Index(name = "idx_proyectos_nombre_id", columnList = "nombre, id"),
+        @Index(name = "idx_proyectos_fecha_creacion_id", columnList = "fechaCreacion, id")
+})
 public class Proyecto {
 
+    /**
+     * Restricción que garantiza la unicidad del nombre incluso con escrituras concurrentes.
+     */
+    public static final String UK_NOMBRE = "uk_proyectos_nombre";
+
+    /**
+     * Región de la caché de segundo nivel; su tamaño máximo se configura en cache-segundo-nivel.conf.
+     */
+    public static final String REGION_CACHE = "proyecto";
+
+    /**
+     * Identificador generado por secuencia con asignación agrupada (pooled): Hibernate reserva
+     * bloques de IDs y puede agrupar los INSERT en lotes JDBC, algo imposible con IDENTITY.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proyectos_seq")
+    @SequenceGenerator(name = "proyectos_seq", sequenceName = "proyectos_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "El nombre es obligatorio")
@@ -32,4 +61,19 @@ public class Proyecto {
     @NotNull(message = "La fecha de creacion es obligatoria")
     @Column(nullable = false)
     private LocalDate fechaCreacion;
+
+    /**
+     * Versión para el bloqueo optimista; se incrementa en cada modificación y sirve de ETag en la API.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Instante de la última modificación (cabecera Last-Modified), asignado por Hibernate al insertar y actualizar.
+     */
+    @UpdateTimestamp
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    private Instant fechaModificacion;
 }
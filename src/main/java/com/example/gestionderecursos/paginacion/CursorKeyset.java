@@ -0,0 +1,81 @@
+package com.example.gestionderecursos.paginacion;
+
+import com.example.gestionderecursos.excepciones.PaginacionInvalidaException;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Posición dentro de un recorrido por keyset (seek): el campo de ordenamiento, su dirección y
+ * los valores (campo, id) de la última fila entregada. Se transporta como un token opaco en Base64.
+ * Una posición sin valor ni id representa el inicio del recorrido.
+ */
+@Getter
+public final class CursorKeyset {
+
+    private static final String SEPARADOR = ":";
+
+    private final String campo;
+    private final boolean descendente;
+    private final Long id;
+    private final String valor;
+
+    private CursorKeyset(String campo, boolean descendente, Long id, String valor) {
+        this.campo = campo;
+        this.descendente = descendente;
+        this.id = id;
+        this.valor = valor;
+    }
+
+    public static CursorKeyset inicio(String campo, boolean descendente) {
+        return new CursorKeyset(campo, descendente, null, null);
+    }
+
+    /**
+     * Posición inicial para el ordenamiento solicitado; sin ordenamiento se recorre por nombre ascendente.
+     * El id se añade siempre como criterio de desempate, por lo que solo se admite un campo explícito.
+     */
+    public static CursorKeyset inicio(Sort orden) {
+        List<Sort.Order> ordenes = orden.toList();
+        if (ordenes.size() > 1) {
+            throw new PaginacionInvalidaException("La paginación por cursor admite un único campo de ordenamiento");
+        }
+        if (ordenes.isEmpty()) {
+            return inicio("nombre", false);
+        }
+        return inicio(ordenes.get(0).getProperty(), ordenes.get(0).isDescending());
+    }
+
+    public static CursorKeyset despuesDe(String campo, boolean descendente, Long id, Object valor) {
+        return new CursorKeyset(campo, descendente, id, String.valueOf(valor));
+    }
+
+    public boolean esInicio() {
+        return id == null;
+    }
+
+    /**
+     * Serializa la posición como "campo:dir:id:valor" en Base64 URL-safe.
+     * El valor va al final porque es el único componente que puede contener el separador.
+     */
+    public String codificar() {
+        String plano = campo + SEPARADOR + (descendente ? "desc" : "asc") + SEPARADOR + id + SEPARADOR + valor;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plano.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorKeyset decodificar(String token) {
+        try {
+            String plano = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] partes = plano.split(SEPARADOR, 4);
+            if (partes.length != 4 || !("asc".equals(partes[1]) || "desc".equals(partes[1]))) {
+                throw new PaginacionInvalidaException("El cursor de paginación no es válido");
+            }
+            return new CursorKeyset(partes[0], "desc".equals(partes[1]), Long.valueOf(partes[2]), partes[3]);
+        } catch (IllegalArgumentException ex) {
+            throw new PaginacionInvalidaException("El cursor de paginación no es válido");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.gestionderecursos.paginacion;
+
+/**
+ * Cómo obtiene el total un listado paginado por desplazamiento (?page=&size=).
+ */
+public enum ModoConteo {
+
+    /** Page con totalElements/totalPages: una consulta de página más un SELECT count(*). */
+    EXACTO,
+
+    /** Slice sin total: se leen size+1 filas solo para saber si hay página siguiente. */
+    NINGUNO,
+
+    /** Slice más la cabecera X-Total-Aproximado, leída de un contador en memoria. */
+    APROXIMADO
+}
@@ -0,0 +1,103 @@
+package com.example.gestionderecursos.paginacion;
+
+import com.example.gestionderecursos.dto.paginacion.MetadatosPaginaDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jackson.JsonComponent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Escribe un {@link PaginaDTO} en una sola pasada sobre el generador, sin introspección de beans para el
+ * sobre: el contenido se recorre una vez resolviendo el serializador de cada clase de elemento solo cuando
+ * cambia, y los metadatos se escriben como campos primitivos. Frente a serializar {@code PageImpl}, evita
+ * recorrer el grafo Pageable/Sort en cada respuesta.
+ *
+ * <p>Se registra como {@link JsonComponent}, así que lo usan el JSON y las codificaciones CBOR y Smile.
+ * Con app.paginacion.formato-legado=true delega en la serialización por defecto del {@code Slice} original
+ * para los clientes que todavía esperan la forma de {@code PageImpl}.</p>
+ */
+@JsonComponent
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SerializadorPagina extends StdSerializer<PaginaDTO> {
+
+    private final boolean formatoLegado;
+
+    public SerializadorPagina(@Value("${app.paginacion.formato-legado:false}") boolean formatoLegado) {
+        super(PaginaDTO.class);
+        this.formatoLegado = formatoLegado;
+    }
+
+    @Override
+    public void serialize(PaginaDTO pagina, JsonGenerator generador, SerializerProvider proveedor) throws IOException {
+        if (formatoLegado && pagina.getOrigen() != null) {
+            proveedor.defaultSerializeValue(pagina.getOrigen(), generador);
+            return;
+        }
+        generador.writeStartObject(pagina);
+        escribirContenido(pagina.getContenido(), generador, proveedor);
+        if (pagina.getOrigen() != null) {
+            escribirMetadatos(pagina.getOrigen(), generador);
+        } else if (pagina.getPagina() != null) {
+            escribirMetadatos(pagina.getPagina(), generador);
+        }
+        generador.writeEndObject();
+    }
+
+    private static void escribirContenido(List<?> contenido, JsonGenerator generador, SerializerProvider proveedor) throws IOException {
+        generador.writeFieldName("contenido");
+        generador.writeStartArray(contenido, contenido.size());
+        Class<?> claseActual = null;
+        JsonSerializer<Object> serializadorActual = null;
+        for (Object elemento : contenido) {
+            if (elemento == null) {
+                generador.writeNull();
+                continue;
+            }
+            if (elemento.getClass() != claseActual) {
+                claseActual = elemento.getClass();
+                serializadorActual = proveedor.findTypedValueSerializer(claseActual, true, null);
+            }
+            serializadorActual.serialize(elemento, generador, proveedor);
+        }
+        generador.writeEndArray();
+    }
+
+    /**
+     * Metadatos leídos directamente del Slice de origen, sin crear un MetadatosPaginaDTO por respuesta.
+     */
+    private static void escribirMetadatos(Slice<?> slice, JsonGenerator generador) throws IOException {
+        generador.writeObjectFieldStart("pagina");
+        generador.writeNumberField("numero", slice.getNumber());
+        generador.writeNumberField("tamano", slice.getSize());
+        generador.writeNumberField("elementos", slice.getNumberOfElements());
+        if (slice instanceof Page<?> pagina) {
+            generador.writeNumberField("totalElementos", pagina.getTotalElements());
+            generador.writeNumberField("totalPaginas", pagina.getTotalPages());
+        }
+        generador.writeBooleanField("haySiguiente", slice.hasNext());
+        generador.writeEndObject();
+    }
+
+    private static void escribirMetadatos(MetadatosPaginaDTO metadatos, JsonGenerator generador) throws IOException {
+        generador.writeObjectFieldStart("pagina");
+        generador.writeNumberField("numero", metadatos.getNumero());
+        generador.writeNumberField("tamano", metadatos.getTamano());
+        generador.writeNumberField("elementos", metadatos.getElementos());
+        if (metadatos.getTotalElementos() != null) {
+            generador.writeNumberField("totalElementos", metadatos.getTotalElementos());
+        }
+        if (metadatos.getTotalPaginas() != null) {
+            generador.writeNumberField("totalPaginas", metadatos.getTotalPaginas());
+        }
+        generador.writeBooleanField("haySiguiente", metadatos.isHaySiguiente());
+        generador.writeEndObject();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.gestionderecursos.paginacion;
+
+import com.example.gestionderecursos.eventos.PersonaCambiadoEvento;
+import com.example.gestionderecursos.eventos.ProyectoCambiadoEvento;
+import com.example.gestionderecursos.eventos.TipoCambio;
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import com.example.gestionderecursos.repositorios.RepositorioProyecto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Número aproximado de personas y proyectos, para mostrar totales sin un count(*) por petición.
+ *
+ * <p>Se inicializa con un único count(*) al arrancar y después se ajusta con los eventos de alta y baja
+ * confirmados. Las filas insertadas o borradas directamente en SQL no generan eventos, así que el valor
+ * puede desviarse hasta la siguiente llamada a {@link #recalcular()} o el siguiente arranque.</p>
+ */
+@Component
+public class TotalesAproximados {
+
+    /** Cabecera con la que los listados en modo APROXIMADO informan del total. */
+    public static final String CABECERA_TOTAL_APROXIMADO = "X-Total-Aproximado";
+
+    private static final Logger LOG = LoggerFactory.getLogger(TotalesAproximados.class);
+
+    private final RepositorioPersona repositorioPersona;
+    private final RepositorioProyecto repositorioProyecto;
+
+    private final AtomicLong personas = new AtomicLong();
+    private final AtomicLong proyectos = new AtomicLong();
+
+    public TotalesAproximados(RepositorioPersona repositorioPersona, RepositorioProyecto repositorioProyecto) {
+        this.repositorioPersona = repositorioPersona;
+        this.repositorioProyecto = repositorioProyecto;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recalcular() {
+        personas.set(repositorioPersona.count());
+        proyectos.set(repositorioProyecto.count());
+        LOG.info("Totales aproximados recalculados: {} personas, {} proyectos", personas.get(), proyectos.get());
+    }
+
+    public long personas() {
+        return Math.max(0, personas.get());
+    }
+
+    public long proyectos() {
+        return Math.max(0, proyectos.get());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarPersona(PersonaCambiadoEvento evento) {
+        ajustar(personas, evento.getTipo());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarProyecto(ProyectoCambiadoEvento evento) {
+        ajustar(proyectos, evento.getTipo());
+    }
+
+    private static void ajustar(AtomicLong contador, TipoCambio tipo) {
+        if (tipo == TipoCambio.CREADO) {
+            contador.incrementAndGet();
+        } else if (tipo == TipoCambio.ELIMINADO) {
+            contador.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.gestionderecursos.paginacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Resultado de una consulta por keyset: las filas de la página y la posición desde la que
+ * continuar, o {@code null} si no quedan más filas.
+ */
+@Getter
+@AllArgsConstructor
+public class VentanaKeyset<T> {
+
+    private final List<T> contenido;
+    private final CursorKeyset siguiente;
+}
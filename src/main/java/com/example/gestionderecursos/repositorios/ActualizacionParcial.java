@@ -0,0 +1,73 @@
+package com.example.gestionderecursos.repositorios;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Construye y ejecuta las sentencias de los PATCH: lee el estado anterior de la fila bloqueándola
+ * (SELECT ... FOR UPDATE) y aplica un UPDATE de Criteria con solo los atributos que cambian.
+ *
+ * <p>Ninguna de las dos carga la entidad. Un UPDATE masivo no pasa por {@code @Version} ni por
+ * {@code @UpdateTimestamp}, así que la versión se incrementa y la fecha de modificación se asigna en el propio
+ * SET. El bloqueo garantiza que el estado leído es justo el anterior al UPDATE, y el estado nuevo no hace falta
+ * leerlo: es el anterior con los cambios aplicados. Hibernate invalida por su cuenta la caché de segundo nivel
+ * de la entidad al ejecutar el UPDATE.</p>
+ */
+final class ActualizacionParcial<E> {
+
+    private final Class<E> entidad;
+    private final Map<String, Object> cambios = new LinkedHashMap<>();
+
+    private ActualizacionParcial(Class<E> entidad) {
+        this.entidad = entidad;
+    }
+
+    static <E> ActualizacionParcial<E> de(Class<E> entidad) {
+        return new ActualizacionParcial<>(entidad);
+    }
+
+    /**
+     * Añade el atributo al SET si el valor no es null; un campo ausente del PATCH no se toca.
+     */
+    ActualizacionParcial<E> cambiar(String atributo, Object valor) {
+        if (valor != null) {
+            cambios.put(atributo, valor);
+        }
+        return this;
+    }
+
+    /**
+     * Bloquea y lee la fila indicada y, si existe, la actualiza incrementando version y asignando
+     * fechaModificacion.
+     * @param consultaAnterior JPQL que proyecta el estado anterior a partir del parámetro {@code :id}.
+     * @return El estado anterior al cambio; vacío si la fila no existe.
+     */
+    <R> Optional<R> ejecutar(EntityManager entityManager, Long id, Instant fechaModificacion,
+                             String consultaAnterior, Class<R> tipoAnterior) {
+        Optional<R> anterior = entityManager.createQuery(consultaAnterior, tipoAnterior)
+                .setParameter("id", id)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultStream()
+                .findFirst();
+        if (anterior.isEmpty()) {
+            return anterior;
+        }
+        CriteriaBuilder criterios = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<E> update = criterios.createCriteriaUpdate(entidad);
+        Root<E> raiz = update.from(entidad);
+        cambios.forEach(update::set);
+        update.set(raiz.<Long>get("version"), criterios.sum(raiz.<Long>get("version"), 1L));
+        update.set(raiz.<Instant>get("fechaModificacion"), fechaModificacion);
+        update.where(criterios.equal(raiz.get("id"), id));
+        entityManager.createQuery(update).executeUpdate();
+        return anterior;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.gestionderecursos.repositorios;
+
+import com.example.gestionderecursos.excepciones.PaginacionInvalidaException;
+import com.example.gestionderecursos.paginacion.CursorKeyset;
+import com.example.gestionderecursos.paginacion.VentanaKeyset;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Construye consultas de paginación por keyset (seek) compartidas por los fragmentos de repositorio.
+ * La condición sobre (campo, id) se expresa como {@code campo >= v AND (campo > v OR id > i)} para que
+ * la base de datos pueda recorrer un índice (campo, id) desde la posición del cursor, sin OFFSET ni count(*).
+ */
+final class ConsultaKeyset {
+
+    private static final String ALIAS_ORDEN = "valorOrden";
+
+    private ConsultaKeyset() {
+    }
+
+    /**
+     * @param camposSoportados Campos por los que se permite ordenar, con el conversor del valor textual del cursor.
+     * @param columnas Atributos de la entidad que se seleccionan para construir cada elemento.
+     * @param limite Número máximo de filas de la página; se consulta una más para saber si hay continuación.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <E, T> VentanaKeyset<T> ejecutar(EntityManager entityManager, Class<E> entidad,
+                                            Map<String, Function<String, Object>> camposSoportados,
+                                            List<String> columnas, CursorKeyset posicion, int limite,
+                                            Function<Tuple, T> mapeador) {
+        String campo = posicion.getCampo();
+        Function<String, Object> conversor = camposSoportados.get(campo);
+        if (conversor == null) {
+            throw new PaginacionInvalidaException("No se puede paginar por cursor ordenando por '" + campo
+                    + "'. Campos soportados: " + camposSoportados.keySet());
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<E> raiz = consulta.from(entidad);
+        Path<Long> id = raiz.get("id");
+        Path<Comparable> orden = raiz.get(campo);
+        boolean porId = "id".equals(campo);
+        boolean desc = posicion.isDescendente();
+
+        // Si el campo de orden no forma parte del elemento (p. ej. edad) se selecciona aparte para construir el cursor.
+        String aliasOrden = columnas.contains(campo) ? campo : ALIAS_ORDEN;
+        List<Selection<?>> seleccion = new ArrayList<>();
+        columnas.forEach(columna -> seleccion.add(raiz.get(columna).alias(columna)));
+        if (!columnas.contains(campo)) {
+            seleccion.add(orden.alias(ALIAS_ORDEN));
+        }
+        consulta.multiselect(seleccion);
+
+        if (!posicion.esInicio()) {
+            Comparable valor = convertir(conversor, posicion.getValor());
+            Predicate despuesDelId = desc ? cb.lessThan(id, posicion.getId()) : cb.greaterThan(id, posicion.getId());
+            if (porId) {
+                consulta.where(despuesDelId);
+            } else {
+                Predicate desdeValor = desc ? cb.lessThanOrEqualTo(orden, valor) : cb.greaterThanOrEqualTo(orden, valor);
+                Predicate despuesDelValor = desc ? cb.lessThan(orden, valor) : cb.greaterThan(orden, valor);
+                consulta.where(cb.and(desdeValor, cb.or(despuesDelValor, despuesDelId)));
+            }
+        }
+
+        List<Order> ordenamiento = new ArrayList<>();
+        if (!porId) {
+            ordenamiento.add(desc ? cb.desc(orden) : cb.asc(orden));
+        }
+        ordenamiento.add(desc ? cb.desc(id) : cb.asc(id));
+        consulta.orderBy(ordenamiento);
+
+        List<Tuple> filas = entityManager.createQuery(consulta).setMaxResults(limite + 1).getResultList();
+        boolean hayMas = filas.size() > limite;
+        if (hayMas) {
+            filas = filas.subList(0, limite);
+        }
+
+        List<T> contenido = new ArrayList<>(filas.size());
+        filas.forEach(fila -> contenido.add(mapeador.apply(fila)));
+
+        CursorKeyset siguiente = null;
+        if (hayMas) {
+            Tuple ultima = filas.get(filas.size() - 1);
+            siguiente = CursorKeyset.despuesDe(campo, desc, ultima.get("id", Long.class), ultima.get(aliasOrden));
+        }
+        return new VentanaKeyset<>(contenido, siguiente);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable convertir(Function<String, Object> conversor, String valor) {
+        try {
+            return (Comparable) conversor.apply(valor);
+        } catch (RuntimeException ex) {
+            throw new PaginacionInvalidaException("El cursor de paginación no es válido");
+        }
+    }
+}
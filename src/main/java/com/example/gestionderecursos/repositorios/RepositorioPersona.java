@@ -1,18 +1,30 @@
 package com.example.gestionderecursos.repositorios;
 
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.dto.persona.ConteoDominioDTO;
 import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.estadisticas.ConteoEdad;
+import com.example.gestionderecursos.lectura.EntradaPersona;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.example.gestionderecursos.modelos.Persona;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface RepositorioPersona extends JpaRepository <Persona, Long> {
+public interface RepositorioPersona extends JpaRepository <Persona, Long>, RepositorioPersonaPersonalizado {
 
     // --- Búsquedas Básicas por Atributos Únicos ---
 
@@ -23,6 +35,13 @@ public interface RepositorioPersona extends JpaRepository <Persona, Long> {
      */
     Optional<Persona> findByCorreoElectronico(String correoElectronico);
 
+    /**
+     * Lee solo la versión y la fecha de modificación de una persona, para resolver GET condicionales
+     * sin cargar la entidad.
+     */
+    @Query("SELECT new com.example.gestionderecursos.condicional.VersionRecurso(p.version, p.fechaModificacion) FROM Persona p WHERE p.id = :id")
+    Optional<VersionRecurso> findVersionById(@Param("id") Long id);
+
 
     // --- Búsquedas con Múltiples Criterios (AND / OR) ---
 
@@ -54,9 +73,23 @@ public interface RepositorioPersona extends JpaRepository <Persona, Long> {
      */
     List<Persona> findTop3ByOrderByEdadDesc();
 
+    /**
+     * Las personas de mayor edad, desempatando por id. Recorre el índice idx_personas_edad_id al revés
+     * y se detiene al llegar al tamaño pedido. Lo usa la clasificación en memoria para cargarse.
+     */
+    List<Persona> findAllByOrderByEdadDescIdDesc(Pageable pageable);
+
+    /**
+     * Todas las personas con los campos del modelo de lectura en memoria, que las ordena por su cuenta.
+     */
+    @Query("SELECT new com.example.gestionderecursos.lectura.EntradaPersona(p.id, p.nombre, p.edad, p.correoElectronico, p.version) FROM Persona p")
+    List<EntradaPersona> findAllEntradasLectura();
+
     /**
      * Busca todas las personas y las ordena alfabéticamente por nombre.
+     * El resultado se guarda en la caché de consultas hasta la siguiente escritura en la tabla.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Persona> findAllByOrderByNombreAsc();
 
 
@@ -68,11 +101,32 @@ public interface RepositorioPersona extends JpaRepository <Persona, Long> {
      */
     boolean existsByCorreoElectronico(String correoElectronico);
 
+    /**
+     * Devuelve, de entre los correos indicados, aquellos que ya están registrados.
+     * Permite validar la unicidad de un lote completo con una única consulta.
+     */
+    @Query("SELECT p.correoElectronico FROM Persona p WHERE p.correoElectronico IN :correos")
+    Set<String> findCorreosExistentes(@Param("correos") Collection<String> correos);
+
+    /**
+     * Recorre todos los correos registrados sin cargarlos en una lista (requiere una transacción abierta).
+     * Lo usa el prefiltro de unicidad para reconstruirse al arrancar.
+     */
+    @Query("SELECT p.correoElectronico FROM Persona p")
+    Stream<String> streamCorreos();
+
     /**
      * Cuenta cuántas personas son mayores de edad.
      */
     long countByEdadGreaterThanEqual(int edad);
 
+    /**
+     * Número de personas de cada edad, con un único recorrido del índice idx_personas_edad_id.
+     * Lo usa HistogramaEdades al arrancar y al verificarse contra la base de datos.
+     */
+    @Query("SELECT new com.example.gestionderecursos.estadisticas.ConteoEdad(p.edad, COUNT(p)) FROM Persona p GROUP BY p.edad")
+    List<ConteoEdad> contarPorEdad();
+
 
     // --- Proyecciones (Práctica de Alto Rendimiento) ---
 
@@ -85,17 +139,70 @@ public interface RepositorioPersona extends JpaRepository <Persona, Long> {
     List<PersonaResumenDTO> findAllAsResumen();
 
 
-    // --- Consulta Explícita con @Query (Existente en tu código) ---
+    // --- Búsquedas por Dominio del Correo (columna indexada) ---
+
+    /**
+     * Busca las personas de un dominio de correo usando la columna indexada dominioCorreo,
+     * en lugar de un LIKE '%@dominio' que obliga a recorrer la tabla completa.
+     * El dominio debe llegar normalizado (ver Persona.normalizarDominio).
+     * Genera: "SELECT p FROM Persona p WHERE p.dominioCorreo = ?1"
+     */
+    List<Persona> findByDominioCorreo(String dominio);
+
+    /**
+     * Versión paginada y proyectada de findByDominioCorreo para la API.
+     */
+    @Query(value = "SELECT new com.example.gestionderecursos.dto.persona.PersonaResumenDTO(p.id, p.nombre, p.correoElectronico) " +
+            "FROM Persona p WHERE p.dominioCorreo = :dominio",
+            countQuery = "SELECT COUNT(p) FROM Persona p WHERE p.dominioCorreo = :dominio")
+    Page<PersonaResumenDTO> findResumenByDominioCorreo(@Param("dominio") String dominio, Pageable pageable);
 
     /**
-     * Ejemplo de una consulta JPQL explícita para buscar por el dominio del correo.
-     * La consulta se asegura de buscar el texto después del símbolo '@'.
+     * Cuenta las personas de un dominio recorriendo solo su tramo del índice.
      */
-    @Query("SELECT p FROM Persona p WHERE p.correoElectronico LIKE CONCAT('%@', :dominio)")
-    List<Persona> findByDominioCorreo(@Param("dominio") String dominio);
+    long countByDominioCorreo(String dominio);
 
-    @Query("SELECT p FROM Persona p")
+    /**
+     * Agrega el número de personas por dominio, de mayor a menor.
+     */
+    @Query("SELECT new com.example.gestionderecursos.dto.persona.ConteoDominioDTO(p.dominioCorreo, COUNT(p)) " +
+            "FROM Persona p WHERE p.dominioCorreo IS NOT NULL GROUP BY p.dominioCorreo ORDER BY COUNT(p) DESC, p.dominioCorreo")
+    List<ConteoDominioDTO> contarPorDominio(Pageable pageable);
+
+    /**
+     * Rellena dominioCorreo en las filas que aún no lo tienen (datos anteriores a la columna o cargados por SQL)
+     * y cuyo correo tiene una sola '@': ahí el texto tras ella es lo mismo que devuelve Persona.extraerDominio.
+     * Los correos con varias '@' (parte local entre comillas) los rellena {@link #asignarDominioCorreo}.
+     * @return Número de filas actualizadas.
+     */
+    @Modifying
+    @Query("UPDATE Persona p SET p.dominioCorreo = LOWER(SUBSTRING(p.correoElectronico, LOCATE('@', p.correoElectronico) + 1)) " +
+            "WHERE p.dominioCorreo IS NULL AND LOCATE('@', p.correoElectronico) > 0 " +
+            "AND LOCATE('@', p.correoElectronico, LOCATE('@', p.correoElectronico) + 1) = 0")
+    int rellenarDominiosCorreo();
+
+    /**
+     * Personas con '@' en el correo y sin dominioCorreo. Tras {@link #rellenarDominiosCorreo()} solo quedan
+     * las de correos con varias '@', cuyo dominio (tras la última) se calcula con Persona.extraerDominio.
+     */
+    @Query("SELECT new com.example.gestionderecursos.dto.persona.PersonaResumenDTO(p.id, p.nombre, p.correoElectronico) " +
+            "FROM Persona p WHERE p.dominioCorreo IS NULL AND LOCATE('@', p.correoElectronico) > 0")
+    List<PersonaResumenDTO> findSinDominioCorreo();
+
+    @Modifying
+    @Query("UPDATE Persona p SET p.dominioCorreo = :dominio WHERE p.id = :id")
+    int asignarDominioCorreo(@Param("id") Long id, @Param("dominio") String dominio);
+
+    @Query(value = "SELECT new com.example.gestionderecursos.dto.persona.PersonaResumenDTO(p.id, p.nombre, p.correoElectronico) FROM Persona p",
+            countQuery = "SELECT COUNT(p) FROM Persona p")
     Page<PersonaResumenDTO> findAllProjectedBy(Pageable pageable);
 
+    /**
+     * Misma proyección que findAllProjectedBy(Pageable), devuelta como Slice: Spring Data pide size+1 filas
+     * para calcular hasNext y no ejecuta la consulta de conteo.
+     */
+    @Query("SELECT new com.example.gestionderecursos.dto.persona.PersonaResumenDTO(p.id, p.nombre, p.correoElectronico) FROM Persona p")
+    Slice<PersonaResumenDTO> findSliceProjectedBy(Pageable pageable);
+
     List<PersonaResumenDTO> findAllProjectedBy();
 }
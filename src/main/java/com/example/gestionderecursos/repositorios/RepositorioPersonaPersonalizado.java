@@ -0,0 +1,70 @@
+package com.example.gestionderecursos.repositorios;
+
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.paginacion.CursorKeyset;
+import com.example.gestionderecursos.paginacion.VentanaKeyset;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de RepositorioPersona que necesitan acceso directo al EntityManager
+ * (parámetros de ejecución que no se pueden expresar con métodos derivados ni con @Query).
+ */
+public interface RepositorioPersonaPersonalizado {
+
+    /**
+     * Recorre todas las personas como PersonaResumenDTO con un cursor de solo avance.
+     * Las filas se leen de la base de datos en bloques de {@code tamanoFetch} y nunca se
+     * materializan en una lista. El Stream debe consumirse dentro de una transacción y cerrarse.
+     * @param tamanoFetch Número de filas que el driver JDBC trae en cada viaje a la base de datos.
+     * @return Un Stream perezoso de PersonaResumenDTO ordenado por ID.
+     */
+    Stream<PersonaResumenDTO> streamAllAsResumen(int tamanoFetch);
+
+    /**
+     * Variante por keyset (seek) de findAllProjectedBy: devuelve hasta {@code limite} resúmenes situados
+     * después de la posición indicada, sin OFFSET ni count(*). Campos de orden soportados: nombre, edad e id.
+     * @param posicion Campo, dirección y última fila entregada; {@link CursorKeyset#inicio} para la primera página.
+     * @param limite Número máximo de elementos de la página.
+     * @return La ventana de resultados y la posición desde la que continuar.
+     */
+    VentanaKeyset<PersonaResumenDTO> findAllProjectedBy(CursorKeyset posicion, int limite);
+
+    /**
+     * Aplica una actualización parcial sin cargar la entidad: lee la fila anterior con SELECT ... FOR UPDATE y
+     * ejecuta un UPDATE de los atributos presentes en {@code cambios} (más dominioCorreo si cambia el correo,
+     * version y fechaModificacion). No comprueba la unicidad del correo: de eso se encarga la restricción.
+     * @param fechaModificacion Instante que se guarda como fecha de modificación.
+     * @return El estado de la persona antes del cambio, con su versión; vacío si no existe.
+     */
+    Optional<PersonaDetalleDTO> actualizarParcialmente(Long id, PersonaParcialDTO cambios, Instant fechaModificacion);
+
+    /**
+     * Borra una persona sin cargar la entidad: lee su edad, que necesitan los agregados en memoria, con un
+     * SELECT ... FOR UPDATE y la borra con un DELETE ... WHERE id = ?. Sustituye a existsById + deleteById.
+     * @return La edad de la persona borrada; vacío si no existía.
+     */
+    Optional<Integer> eliminarDevolviendoEdad(Long id);
+
+    /**
+     * Borra las personas indicadas con un único DELETE ... WHERE id IN (...), tras leer con bloqueo las edades
+     * de las que existen.
+     * @return Id y edad de cada persona borrada; los ids que no existían no aparecen.
+     */
+    Map<Long, Integer> eliminarPorIds(Collection<Long> ids);
+
+    /**
+     * Borra como mucho {@code limite} personas de un dominio de correo (las de menor id): las lee con bloqueo y
+     * las borra con un único DELETE.
+     * Repetida hasta que borre menos de {@code limite}, vacía el dominio en transacciones acotadas.
+     * @param dominio Dominio ya normalizado.
+     * @return Id y edad de cada persona borrada.
+     */
+    Map<Long, Integer> eliminarDelDominio(String dominio, int limite);
+}
@@ -0,0 +1,119 @@
+package com.example.gestionderecursos.repositorios;
+
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.modelos.Persona;
+import com.example.gestionderecursos.paginacion.CursorKeyset;
+import com.example.gestionderecursos.paginacion.VentanaKeyset;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del fragmento RepositorioPersonaPersonalizado.
+ * Spring Data la detecta por el sufijo "Impl" y la combina con RepositorioPersona.
+ */
+class RepositorioPersonaPersonalizadoImpl implements RepositorioPersonaPersonalizado {
+
+    private static final Map<String, Function<String, Object>> CAMPOS_KEYSET = Map.of(
+            "nombre", valor -> valor,
+            "edad", Integer::valueOf,
+            "id", Long::valueOf);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<PersonaResumenDTO> streamAllAsResumen(int tamanoFetch) {
+        // La proyección por constructor no crea entidades gestionadas: el contexto de persistencia no crece.
+        return entityManager.createQuery(
+                        "SELECT new com.example.gestionderecursos.dto.persona.PersonaResumenDTO(p.id, p.nombre, p.correoElectronico) " +
+                                "FROM Persona p ORDER BY p.id", PersonaResumenDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, tamanoFetch)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public VentanaKeyset<PersonaResumenDTO> findAllProjectedBy(CursorKeyset posicion, int limite) {
+        return ConsultaKeyset.ejecutar(entityManager, Persona.class, CAMPOS_KEYSET,
+                List.of("id", "nombre", "correoElectronico"), posicion, limite,
+                fila -> new PersonaResumenDTO(fila.get("id", Long.class), fila.get("nombre", String.class),
+                        fila.get("correoElectronico", String.class)));
+    }
+
+    @Override
+    public Optional<PersonaDetalleDTO> actualizarParcialmente(Long id, PersonaParcialDTO cambios, Instant fechaModificacion) {
+        return ActualizacionParcial.de(Persona.class)
+                .cambiar("nombre", cambios.getNombre())
+                .cambiar("edad", cambios.getEdad())
+                .cambiar("correoElectronico", cambios.getCorreoElectronico())
+                .cambiar("dominioCorreo", Persona.extraerDominio(cambios.getCorreoElectronico()))
+                .ejecutar(entityManager, id, fechaModificacion,
+                        "SELECT new com.example.gestionderecursos.dto.persona.PersonaDetalleDTO(p.id, p.nombre, p.edad, " +
+                                "p.correoElectronico, p.version, p.fechaModificacion) FROM Persona p WHERE p.id = :id",
+                        PersonaDetalleDTO.class);
+    }
+
+    @Override
+    public Optional<Integer> eliminarDevolviendoEdad(Long id) {
+        // La fila queda bloqueada hasta el commit: la edad leída es la que se borra.
+        Optional<Integer> edad = entityManager.createQuery("SELECT p.edad FROM Persona p WHERE p.id = :id", Integer.class)
+                .setParameter("id", id)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultStream()
+                .findFirst();
+        if (edad.isEmpty()) {
+            return Optional.empty();
+        }
+        int borradas = entityManager.createQuery("DELETE FROM Persona p WHERE p.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+        return borradas == 0 ? Optional.empty() : edad;
+    }
+
+    @Override
+    public Map<Long, Integer> eliminarPorIds(Collection<Long> ids) {
+        return eliminar(entityManager.createQuery("SELECT p.id AS id, p.edad AS edad FROM Persona p WHERE p.id IN :ids", Tuple.class)
+                .setParameter("ids", ids));
+    }
+
+    @Override
+    public Map<Long, Integer> eliminarDelDominio(String dominio, int limite) {
+        return eliminar(entityManager.createQuery(
+                        "SELECT p.id AS id, p.edad AS edad FROM Persona p WHERE p.dominioCorreo = :dominio ORDER BY p.id", Tuple.class)
+                .setParameter("dominio", dominio)
+                .setMaxResults(limite));
+    }
+
+    /**
+     * Lee id y edad de las filas seleccionadas bloqueándolas (SELECT ... FOR UPDATE) y las borra con un único
+     * DELETE por id. El bloqueo impide que otra transacción las cambie o las borre antes del DELETE, así que el
+     * número de filas borradas coincide con las leídas y las edades son las que tenían al borrarse.
+     */
+    private Map<Long, Integer> eliminar(TypedQuery<Tuple> seleccion) {
+        Map<Long, Integer> eliminadas = new LinkedHashMap<>();
+        for (Tuple fila : seleccion.setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList()) {
+            eliminadas.put(fila.get("id", Long.class), fila.get("edad", Integer.class));
+        }
+        if (!eliminadas.isEmpty()) {
+            entityManager.createQuery("DELETE FROM Persona p WHERE p.id IN :ids")
+                    .setParameter("ids", eliminadas.keySet())
+                    .executeUpdate();
+        }
+        return eliminadas;
+    }
+}
@@ -1,17 +1,30 @@
 package com.example.gestionderecursos.repositorios;
 
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.lectura.EntradaProyecto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.example.gestionderecursos.modelos.Proyecto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface RepositorioProyecto extends JpaRepository<Proyecto, Long> {
+public interface RepositorioProyecto extends JpaRepository<Proyecto, Long>, RepositorioProyectoPersonalizado {
 
     // --- Búsquedas Básicas ----
 
@@ -21,6 +34,18 @@ public interface RepositorioProyecto extends JpaRepository<Proyecto, Long> {
      */
     Optional<Proyecto> findByNombre(String nombre);
 
+    /**
+     * Página resumida como Slice: se piden size+1 filas para calcular hasNext, sin consulta de conteo.
+     */
+    @Query("SELECT new com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO(p.id, p.nombre) FROM Proyecto p")
+    Slice<ProyectoResumenDTO> findSliceProjectedBy(Pageable pageable);
+
+    /**
+     * Lee solo la versión y la fecha de modificación de un proyecto, para resolver GET condicionales.
+     */
+    @Query("SELECT new com.example.gestionderecursos.condicional.VersionRecurso(p.version, p.fechaModificacion) FROM Proyecto p WHERE p.id = :id")
+    Optional<VersionRecurso> findVersionById(@Param("id") Long id);
+
     /**
      * Busca proyectos creados después de una fecha específica.
      * Genera: "SELECT p FROM Proyecto p WHERE p.fechaCreacion > ?1"
@@ -51,19 +76,45 @@ public interface RepositorioProyecto extends JpaRepository<Proyecto, Long> {
     /**
      * Busca proyectos creados entre dos fechas
      * Genera: "SELECT p FROM Proyecto p WHERE p.fechaCreacion BETWEEN ?1 AND ?2"
+     * El resultado se guarda en la caché de consultas hasta la siguiente escritura en la tabla.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Proyecto> findByFechaCreacionBetween(LocalDate fechaInicio, LocalDate fechaFin);
 
     // --- Ordenamiento y Limitación de Resultados
 
     /**
      * Busca los 5 proyectos, ordenados por fecha de creación descendente
+     * El resultado se guarda en la caché de consultas hasta la siguiente escritura en la tabla.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Proyecto> findTop5ByOrderByFechaCreacionDesc();
 
+    /**
+     * Los proyectos más recientes, desempatando por id. Recorre el índice idx_proyectos_fecha_creacion_id al revés
+     * y se detiene al llegar al tamaño pedido. Lo usa la clasificación en memoria para cargarse.
+     */
+    List<Proyecto> findAllByOrderByFechaCreacionDescIdDesc(Pageable pageable);
+
+    /**
+     * Borra un proyecto con una única sentencia DELETE, sin cargarlo (deleteById lo lee antes de borrarlo).
+     * @return Número de filas borradas: 0 si no existía.
+     */
+    @Modifying
+    @Query("DELETE FROM Proyecto p WHERE p.id = :id")
+    int eliminarPorId(@Param("id") Long id);
+
+    /**
+     * Todos los proyectos con los campos del modelo de lectura en memoria, que los ordena por su cuenta.
+     */
+    @Query("SELECT new com.example.gestionderecursos.lectura.EntradaProyecto(p.id, p.nombre, p.fechaCreacion, p.version) FROM Proyecto p")
+    List<EntradaProyecto> findAllEntradasLectura();
+
     /**
      * Busca todos los proyectos, ordenados por nombre ascendente
+     * El resultado se guarda en la caché de consultas hasta la siguiente escritura en la tabla.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Proyecto> findAllByOrderByNombreAsc();
 
 
@@ -71,6 +122,27 @@ public interface RepositorioProyecto extends JpaRepository<Proyecto, Long> {
 
     boolean existsByNombre(String nombre);
 
+    /**
+     * Devuelve, de entre los nombres indicados, aquellos que ya están registrados.
+     * Permite validar la unicidad de un lote completo con una única consulta.
+     */
+    @Query("SELECT p.nombre FROM Proyecto p WHERE p.nombre IN :nombres")
+    Set<String> findNombresExistentes(@Param("nombres") Collection<String> nombres);
+
+    /**
+     * Recorre todos los nombres de proyecto sin cargarlos en una lista (requiere una transacción abierta).
+     * Lo usa el prefiltro de unicidad para reconstruirse al arrancar.
+     */
+    @Query("SELECT p.nombre FROM Proyecto p")
+    Stream<String> streamNombres();
+
+    /**
+     * Recorre todos los proyectos como DTO de detalle (requiere una transacción abierta).
+     * Lo usa el índice de búsqueda para reconstruirse al arrancar; incluye la versión para descartar después eventos atrasados.
+     */
+    @Query("SELECT new com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO(p.id, p.nombre, p.descripcion, p.fechaCreacion, p.version, p.fechaModificacion) FROM Proyecto p")
+    Stream<ProyectoDetalleDTO> streamAllAsDetalle();
+
     /**
      * Cuenta cuántos proyectos tienen una descripción.
      */
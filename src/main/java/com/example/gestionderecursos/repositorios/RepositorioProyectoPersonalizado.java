@@ -0,0 +1,52 @@
+package com.example.gestionderecursos.repositorios;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoParcialDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.paginacion.CursorKeyset;
+import com.example.gestionderecursos.paginacion.VentanaKeyset;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Consultas de RepositorioProyecto que necesitan acceso directo al EntityManager
+ * (parámetros de ejecución que no se pueden expresar con métodos derivados ni con @Query).
+ */
+public interface RepositorioProyectoPersonalizado {
+
+    /**
+     * Devuelve hasta {@code limite} resúmenes de proyectos situados después de la posición indicada,
+     * por keyset (seek), sin OFFSET ni count(*). Campos de orden soportados: nombre, fechaCreacion e id.
+     * @param posicion Campo, dirección y última fila entregada; {@link CursorKeyset#inicio} para la primera página.
+     * @param limite Número máximo de elementos de la página.
+     * @return La ventana de resultados y la posición desde la que continuar.
+     */
+    VentanaKeyset<ProyectoResumenDTO> findAllProjectedBy(CursorKeyset posicion, int limite);
+
+    /**
+     * Aplica una actualización parcial sin cargar la entidad: lee la fila anterior con SELECT ... FOR UPDATE y
+     * ejecuta un UPDATE de los atributos presentes en {@code cambios} (más version y fechaModificacion). No
+     * comprueba la unicidad del nombre: de eso se encarga la restricción.
+     * @param fechaModificacion Instante que se guarda como fecha de modificación.
+     * @return El estado del proyecto antes del cambio, con su versión; vacío si no existe.
+     */
+    Optional<ProyectoDetalleDTO> actualizarParcialmente(Long id, ProyectoParcialDTO cambios, Instant fechaModificacion);
+
+    /**
+     * Borra los proyectos indicados con un único DELETE ... WHERE id IN (...), tras leer con bloqueo los que existen.
+     * @return Ids de los proyectos borrados; los que no existían no aparecen.
+     */
+    List<Long> eliminarPorIds(Collection<Long> ids);
+
+    /**
+     * Borra como mucho {@code limite} proyectos creados antes de la fecha indicada (los de menor id) con un
+     * único DELETE tras leer sus ids con bloqueo. Repetida hasta que borre menos de {@code limite}, los elimina
+     * todos en transacciones acotadas.
+     * @return Ids de los proyectos borrados.
+     */
+    List<Long> eliminarCreadosAntesDe(LocalDate fecha, int limite);
+}
@@ -0,0 +1,81 @@
+package com.example.gestionderecursos.repositorios;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoParcialDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.modelos.Proyecto;
+import com.example.gestionderecursos.paginacion.CursorKeyset;
+import com.example.gestionderecursos.paginacion.VentanaKeyset;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Implementación del fragmento RepositorioProyectoPersonalizado.
+ * Spring Data la detecta por el sufijo "Impl" y la combina con RepositorioProyecto.
+ */
+class RepositorioProyectoPersonalizadoImpl implements RepositorioProyectoPersonalizado {
+
+    private static final Map<String, Function<String, Object>> CAMPOS_KEYSET = Map.of(
+            "nombre", valor -> valor,
+            "fechaCreacion", LocalDate::parse,
+            "id", Long::valueOf);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public VentanaKeyset<ProyectoResumenDTO> findAllProjectedBy(CursorKeyset posicion, int limite) {
+        return ConsultaKeyset.ejecutar(entityManager, Proyecto.class, CAMPOS_KEYSET,
+                List.of("id", "nombre"), posicion, limite,
+                fila -> new ProyectoResumenDTO(fila.get("id", Long.class), fila.get("nombre", String.class)));
+    }
+
+    @Override
+    public Optional<ProyectoDetalleDTO> actualizarParcialmente(Long id, ProyectoParcialDTO cambios, Instant fechaModificacion) {
+        return ActualizacionParcial.de(Proyecto.class)
+                .cambiar("nombre", cambios.getNombre())
+                .cambiar("descripcion", cambios.getDescripcion())
+                .ejecutar(entityManager, id, fechaModificacion,
+                        "SELECT new com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO(p.id, p.nombre, p.descripcion, " +
+                                "p.fechaCreacion, p.version, p.fechaModificacion) FROM Proyecto p WHERE p.id = :id",
+                        ProyectoDetalleDTO.class);
+    }
+
+    @Override
+    public List<Long> eliminarPorIds(Collection<Long> ids) {
+        return eliminar(entityManager.createQuery("SELECT p.id FROM Proyecto p WHERE p.id IN :ids", Long.class)
+                .setParameter("ids", ids));
+    }
+
+    @Override
+    public List<Long> eliminarCreadosAntesDe(LocalDate fecha, int limite) {
+        return eliminar(entityManager.createQuery(
+                        "SELECT p.id FROM Proyecto p WHERE p.fechaCreacion < :fecha ORDER BY p.id", Long.class)
+                .setParameter("fecha", fecha)
+                .setMaxResults(limite));
+    }
+
+    /**
+     * Lee los ids seleccionados bloqueando sus filas (SELECT ... FOR UPDATE) y las borra con un único DELETE por
+     * id; el bloqueo garantiza que el DELETE borra exactamente los ids devueltos.
+     */
+    private List<Long> eliminar(TypedQuery<Long> seleccion) {
+        List<Long> eliminados = seleccion.setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+        if (!eliminados.isEmpty()) {
+            entityManager.createQuery("DELETE FROM Proyecto p WHERE p.id IN :ids")
+                    .setParameter("ids", eliminados)
+                    .executeUpdate();
+        }
+        return eliminados;
+    }
+}
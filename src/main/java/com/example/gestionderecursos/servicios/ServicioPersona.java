@@ -1,13 +1,26 @@
 package com.example.gestionderecursos.servicios;
 
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.dto.lote.ResultadoEliminacionDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
+import com.example.gestionderecursos.lectura.PaginaLectura;
+import com.example.gestionderecursos.dto.persona.ConteoDominioDTO;
+import com.example.gestionderecursos.dto.persona.EstadisticasEdadDTO;
 import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
 import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
 import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
 import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.dto.persona.VerificacionEstadisticasDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Define el contrato para las operaciones de negocio relacionadas con Personas.
@@ -24,6 +37,68 @@ public interface ServicioPersona {
      */
     Page<PersonaResumenDTO> listarTodasLasPersonas(Pageable pageable);
 
+    /**
+     * Obtiene una página resumida de personas sin calcular el total.
+     * Evita el SELECT count(*) de la versión con Page; solo informa de si existe una página siguiente.
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return Un Slice de PersonaResumenDTO.
+     */
+    Slice<PersonaResumenDTO> listarPersonasSinConteo(Pageable pageable);
+
+    /**
+     * Obtiene una página resumida de personas del modelo de lectura en memoria, con total exacto y sin consultar la base de datos.
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento (nombre, edad o id).
+     * @return La página con su marca de consistencia, o vacío si el modelo está desactivado o no admite el orden pedido.
+     */
+    Optional<PaginaLectura<PersonaResumenDTO>> listarPersonasEnMemoria(Pageable pageable);
+
+    /**
+     * Obtiene una lista paginada y resumida de las personas cuyo correo pertenece a un dominio.
+     * El dominio no distingue mayúsculas y puede llevar '@' inicial.
+     * @param dominio Dominio del correo (ej. "example.com").
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return Una página (Page) de PersonaResumenDTO.
+     */
+    Page<PersonaResumenDTO> listarPersonasPorDominio(String dominio, Pageable pageable);
+
+    /**
+     * Cuenta las personas de un dominio de correo.
+     * @param dominio Dominio del correo (ej. "example.com").
+     * @return Un ConteoDominioDTO con el dominio normalizado y el total.
+     */
+    ConteoDominioDTO contarPersonasDelDominio(String dominio);
+
+    /**
+     * Agrega el número de personas por dominio de correo, de mayor a menor.
+     * @param limite Número máximo de dominios a devolver.
+     * @return Lista de ConteoDominioDTO.
+     */
+    List<ConteoDominioDTO> contarPersonasPorDominio(int limite);
+
+    /**
+     * Obtiene las personas de mayor edad (a igual edad, la de id mayor).
+     * Se responde desde una clasificación en memoria; solo consulta la base de datos si las bajas la han vaciado.
+     * @param k Número de personas; se acota a la capacidad de la clasificación.
+     * @return Lista de PersonaDetalleDTO, de mayor a menor edad.
+     */
+    List<PersonaDetalleDTO> listarPersonasMayores(int k);
+
+    /**
+     * Distribución de edades (histograma, media, percentiles y número de personas en un rango de edad).
+     * Se responde desde el histograma en memoria, sin consultar la base de datos.
+     * @param desde Edad mínima del rango (inclusiva).
+     * @param hasta Edad máxima del rango (inclusiva).
+     * @return Un EstadisticasEdadDTO.
+     */
+    EstadisticasEdadDTO obtenerEstadisticasEdad(int desde, int hasta);
+
+    /**
+     * Compara el histograma de edades en memoria con la base de datos.
+     * @param reparar Si hay diferencias, reemplaza el histograma por los valores de la base de datos.
+     * @return Un VerificacionEstadisticasDTO con las edades que difieren.
+     */
+    VerificacionEstadisticasDTO verificarEstadisticasEdad(boolean reparar);
+
     /**
      * Obtiene una lista resumida de todas las personas.
      * Utiliza una proyección optimizada para mejorar el rendimiento.
@@ -31,6 +106,25 @@ public interface ServicioPersona {
      */
     List<PersonaResumenDTO> listarTodasLasPersonas();
 
+    /**
+     * Obtiene una página resumida de las personas mediante paginación por cursor (keyset).
+     * No ejecuta count(*) y su coste no depende de la profundidad de la página.
+     * @param cursor Token devuelto por la página anterior; vacío o nulo para la primera página.
+     * @param orden Ordenamiento de la primera página; en las siguientes manda el codificado en el cursor.
+     * @param tamano Número máximo de elementos de la página.
+     * @return Un PaginaCursorDTO con los elementos y el cursor de la página siguiente.
+     * @throws com.example.gestionderecursos.excepciones.PaginacionInvalidaException si el cursor o el orden no son válidos.
+     */
+    PaginaCursorDTO<PersonaResumenDTO> listarPersonasPorCursor(String cursor, Sort orden, int tamano);
+
+    /**
+     * Recorre todas las personas en forma resumida sin materializarlas en una lista.
+     * Cada persona se entrega al consumidor en cuanto se lee del cursor de la base de datos,
+     * por lo que el consumo de memoria no depende del tamaño de la tabla.
+     * @param consumidor Función que recibe cada PersonaResumenDTO, en orden de ID.
+     */
+    void recorrerTodasLasPersonas(Consumer<PersonaResumenDTO> consumidor);
+
     /**
      * Busca una persona por su ID y devuelve una vista detallada.
      * @param id El ID de la persona a buscar.
@@ -39,6 +133,15 @@ public interface ServicioPersona {
      */
     PersonaDetalleDTO obtenerPersonaPorId(Long id);
 
+    /**
+     * Obtiene los validadores HTTP (ETag y última modificación) de una persona sin cargarla completa.
+     * Los controladores lo usan para responder 304 Not Modified a los GET condicionales.
+     * @param id El ID de la persona.
+     * @return Un VersionRecurso con la versión actual de la persona.
+     * @throws com.example.gestionderecursos.excepciones.RecursoNoEncontradoException si la persona no existe.
+     */
+    VersionRecurso obtenerVersionPersona(Long id);
+
     /**
      * Crea una nueva persona a partir de los datos proporcionados.
      * Valida que el correo electrónico no esté ya en uso.
@@ -48,6 +151,15 @@ public interface ServicioPersona {
      */
     PersonaDetalleDTO crearPersona(PersonaCrearDTO personaCrearDTO);
 
+    /**
+     * Crea un lote de personas en transacciones por bloques con inserciones JDBC agrupadas.
+     * Cada elemento se valida individualmente y la unicidad del correo se comprueba con una
+     * sola consulta por bloque, de modo que un elemento inválido o duplicado no aborta el lote.
+     * @param personas Lista de DTOs con los datos para la creación.
+     * @return Un ResultadoLoteDTO con el resultado de cada elemento, en el mismo orden recibido.
+     */
+    ResultadoLoteDTO crearPersonasEnLote(List<PersonaCrearDTO> personas);
+
     /**
      * Actualiza una persona existente.
      * @param id El ID de la persona a actualizar.
@@ -57,10 +169,34 @@ public interface ServicioPersona {
      */
     PersonaDetalleDTO actualizarPersona(Long id, PersonaActualizarDTO personaActualizarDTO);
 
+    /**
+     * Actualiza solo los campos presentes de una persona, con una única sentencia UPDATE.
+     * @param id El ID de la persona a actualizar.
+     * @param cambios DTO con los campos a modificar; los null no se tocan.
+     * @return Un PersonaDetalleDTO con el estado resultante, calculado sin volver a leer la persona.
+     * @throws com.example.gestionderecursos.excepciones.RecursoNoEncontradoException si la persona no existe.
+     * @throws com.example.gestionderecursos.excepciones.RecursoYaExisteException si el nuevo correo ya está en uso.
+     */
+    PersonaDetalleDTO actualizarPersonaParcialmente(Long id, PersonaParcialDTO cambios);
+
     /**
      * Elimina una persona por su ID.
      * @param id El ID de la persona a eliminar.
      * @throws com.example.gestionderecursos.excepciones.RecursoNoEncontradoException si la persona no existe.
      */
     void eliminarPersona(Long id);
+
+    /**
+     * Elimina las personas indicadas con un DELETE por bloque de ids, cada bloque en su propia transacción.
+     * @param ids IDs de las personas a eliminar; los repetidos se ignoran.
+     * @return Un ResultadoEliminacionDTO con el número de personas eliminadas y los ids que no existían.
+     */
+    ResultadoEliminacionDTO eliminarPersonas(List<Long> ids);
+
+    /**
+     * Elimina todas las personas de un dominio de correo, por bloques de un DELETE y una transacción cada uno.
+     * @param dominio Dominio del correo (ej. "example.com").
+     * @return Un ResultadoEliminacionDTO con el número de personas eliminadas.
+     */
+    ResultadoEliminacionDTO eliminarPersonasDelDominio(String dominio);
 }
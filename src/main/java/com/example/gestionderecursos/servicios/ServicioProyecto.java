@@ -1,13 +1,23 @@
 package com.example.gestionderecursos.servicios;
 
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.dto.lote.ResultadoEliminacionDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
+import com.example.gestionderecursos.lectura.PaginaLectura;
 import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoParcialDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Define el contrato para las operaciones de negocio relacionadas con Proyectos.
@@ -23,6 +33,37 @@ public interface ServicioProyecto {
      */
     Page<ProyectoResumenDTO> listarTodosLosProyectos(Pageable pageable);
 
+    /**
+     * Obtiene una página resumida de proyectos sin calcular el total (sin SELECT count(*)).
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return Un Slice de ProyectoResumenDTO.
+     */
+    Slice<ProyectoResumenDTO> listarProyectosSinConteo(Pageable pageable);
+
+    /**
+     * Obtiene una página resumida de proyectos del modelo de lectura en memoria, con total exacto y sin consultar la base de datos.
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento (nombre, fechaCreacion o id).
+     * @return La página con su marca de consistencia, o vacío si el modelo está desactivado o no admite el orden pedido.
+     */
+    Optional<PaginaLectura<ProyectoResumenDTO>> listarProyectosEnMemoria(Pageable pageable);
+
+    /**
+     * Busca proyectos por texto libre en el nombre y la descripción, sin distinguir mayúsculas ni acentos.
+     * Todas las palabras de la consulta deben aparecer; los resultados se ordenan por relevancia.
+     * @param consulta Texto a buscar.
+     * @param pageable Información de paginación (el ordenamiento se ignora: manda la relevancia).
+     * @return Una página de ProyectoResumenDTO ordenada por relevancia.
+     */
+    Page<ProyectoResumenDTO> buscarProyectos(String consulta, Pageable pageable);
+
+    /**
+     * Obtiene los proyectos más recientes por fecha de creación (a igual fecha, el de id mayor).
+     * Se responde desde una clasificación en memoria; solo consulta la base de datos si las bajas la han vaciado.
+     * @param k Número de proyectos; se acota a la capacidad de la clasificación.
+     * @return Lista de ProyectoDetalleDTO, del más reciente al más antiguo.
+     */
+    List<ProyectoDetalleDTO> listarProyectosRecientes(int k);
+
     /**
      * Obtiene una lista resumida de todos los proyectos.
      * Ideal para vistas de lista, optimizando el rendimiento.
@@ -30,6 +71,17 @@ public interface ServicioProyecto {
      */
     List<ProyectoResumenDTO> listarTodosLosProyectos();
 
+    /**
+     * Obtiene una página resumida de los proyectos mediante paginación por cursor (keyset).
+     * No ejecuta count(*) y su coste no depende de la profundidad de la página.
+     * @param cursor Token devuelto por la página anterior; vacío o nulo para la primera página.
+     * @param orden Ordenamiento de la primera página; en las siguientes manda el codificado en el cursor.
+     * @param tamano Número máximo de elementos de la página.
+     * @return Un PaginaCursorDTO con los elementos y el cursor de la página siguiente.
+     * @throws com.example.gestionderecursos.excepciones.PaginacionInvalidaException si el cursor o el orden no son válidos.
+     */
+    PaginaCursorDTO<ProyectoResumenDTO> listarProyectosPorCursor(String cursor, Sort orden, int tamano);
+
     /**
      * Busca un proyecto por su ID y devuelve una vista detallada.
      * @param id El ID del proyecto a buscar.
@@ -38,6 +90,14 @@ public interface ServicioProyecto {
      */
     ProyectoDetalleDTO obtenerProyectoPorId(Long id);
 
+    /**
+     * Obtiene los validadores HTTP (ETag y última modificación) de un proyecto sin cargarlo completo.
+     * @param id El ID del proyecto.
+     * @return Un VersionRecurso con la versión actual del proyecto.
+     * @throws com.example.gestionderecursos.excepciones.RecursoNoEncontradoException si el proyecto no existe.
+     */
+    VersionRecurso obtenerVersionProyecto(Long id);
+
     /**
      * Crea un nuevo proyecto a partir de los datos proporcionados.
      * Valida que no exista otro proyecto con el mismo nombre.
@@ -47,6 +107,15 @@ public interface ServicioProyecto {
      */
     ProyectoDetalleDTO crearProyecto(ProyectoCrearDTO proyectoCrearDTO);
 
+    /**
+     * Crea un lote de proyectos en transacciones por bloques con inserciones JDBC agrupadas.
+     * Cada elemento se valida individualmente y la unicidad del nombre se comprueba con una
+     * sola consulta por bloque, de modo que un elemento inválido o duplicado no aborta el lote.
+     * @param proyectos Lista de DTOs con los datos para la creación.
+     * @return Un ResultadoLoteDTO con el resultado de cada elemento, en el mismo orden recibido.
+     */
+    ResultadoLoteDTO crearProyectosEnLote(List<ProyectoCrearDTO> proyectos);
+
     /**
      * Actualiza un proyecto existente.
      * @param id El ID del proyecto a actualizar.
@@ -56,10 +125,34 @@ public interface ServicioProyecto {
      */
     ProyectoDetalleDTO actualizarProyecto(Long id, ProyectoActualizarDTO proyectoActualizarDTO);
 
+    /**
+     * Actualiza solo los campos presentes de un proyecto, con una única sentencia UPDATE.
+     * @param id El ID del proyecto a actualizar.
+     * @param cambios DTO con los campos a modificar; los null no se tocan.
+     * @return Un ProyectoDetalleDTO con el estado resultante, calculado sin volver a leer el proyecto.
+     * @throws com.example.gestionderecursos.excepciones.RecursoNoEncontradoException si el proyecto no existe.
+     * @throws com.example.gestionderecursos.excepciones.RecursoYaExisteException si el nuevo nombre ya está en uso.
+     */
+    ProyectoDetalleDTO actualizarProyectoParcialmente(Long id, ProyectoParcialDTO cambios);
+
     /**
      * Elimina un proyecto por su ID.
      * @param id El ID del proyecto a eliminar.
      * @throws com.example.gestionderecursos.excepciones.RecursoNoEncontradoException si el proyecto no existe.
      */
     void eliminarProyecto(Long id);
+
+    /**
+     * Elimina los proyectos indicados con un DELETE por bloque de ids, cada bloque en su propia transacción.
+     * @param ids IDs de los proyectos a eliminar; los repetidos se ignoran.
+     * @return Un ResultadoEliminacionDTO con el número de proyectos eliminados y los ids que no existían.
+     */
+    ResultadoEliminacionDTO eliminarProyectos(List<Long> ids);
+
+    /**
+     * Elimina todos los proyectos creados antes de una fecha, por bloques de un DELETE y una transacción cada uno.
+     * @param fecha Fecha límite (exclusiva).
+     * @return Un ResultadoEliminacionDTO con el número de proyectos eliminados.
+     */
+    ResultadoEliminacionDTO eliminarProyectosCreadosAntesDe(LocalDate fecha);
 }
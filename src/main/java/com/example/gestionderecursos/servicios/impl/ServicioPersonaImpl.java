@@ -1,32 +1,108 @@
 package com.example.gestionderecursos.servicios.impl;
 
+import com.example.gestionderecursos.clasificacion.Clasificaciones;
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.config.ConfiguracionCache;
+import com.example.gestionderecursos.dto.lote.EstadoItemLote;
+import com.example.gestionderecursos.dto.lote.ResultadoEliminacionDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoItemLoteDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
+import com.example.gestionderecursos.dto.persona.ConteoDominioDTO;
+import com.example.gestionderecursos.dto.persona.EstadisticasEdadDTO;
 import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
 import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
 import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
 import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.dto.persona.VerificacionEstadisticasDTO;
+import com.example.gestionderecursos.estadisticas.HistogramaEdades;
+import com.example.gestionderecursos.eventos.PersonaCambiadoEvento;
 import com.example.gestionderecursos.excepciones.RecursoNoEncontradoException;
 import com.example.gestionderecursos.excepciones.RecursoYaExisteException;
+import com.example.gestionderecursos.excepciones.ViolacionesDeUnicidad;
+import com.example.gestionderecursos.lectura.ModeloLectura;
+import com.example.gestionderecursos.lectura.PaginaLectura;
+import com.example.gestionderecursos.mapeadores.MapeadorPersona;
 import com.example.gestionderecursos.modelos.Persona;
+import com.example.gestionderecursos.paginacion.CursorKeyset;
+import com.example.gestionderecursos.paginacion.VentanaKeyset;
 import com.example.gestionderecursos.repositorios.RepositorioPersona;
 import com.example.gestionderecursos.servicios.ServicioPersona;
+import com.example.gestionderecursos.unicidad.CampoUnico;
+import com.example.gestionderecursos.unicidad.PrefiltroUnicidad;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ServicioPersonaImpl implements ServicioPersona {
 
+    /** Otra restricción (NOT NULL, longitud, FK...) rechazó el elemento: no es un duplicado. */
+    private static final String ERROR_INTEGRIDAD_LOTE = "El elemento incumple una restricción de la base de datos.";
+
+    private static final int TAMANO_MAXIMO_PAGINA_CURSOR = 1000;
+
     private final RepositorioPersona repositorioPersona;
-    private final ModelMapper modelMapper;
+    private final MapeadorPersona mapeadorPersona;
+    private final PrefiltroUnicidad prefiltroUnicidad;
+    private final ApplicationEventPublisher publicadorEventos;
+    private final HistogramaEdades histogramaEdades;
+    private final Clasificaciones clasificaciones;
+    private final ModeloLectura modeloLectura;
+    private final Cache cacheDetalle;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoBloque;
+    private final int tamanoFetchExportacion;
 
-    public ServicioPersonaImpl(RepositorioPersona repositorioPersona, ModelMapper modelMapper) {
+    public ServicioPersonaImpl(RepositorioPersona repositorioPersona, MapeadorPersona mapeadorPersona,
+                               PrefiltroUnicidad prefiltroUnicidad, ApplicationEventPublisher publicadorEventos,
+                               HistogramaEdades histogramaEdades, Clasificaciones clasificaciones, ModeloLectura modeloLectura,
+                               CacheManager cacheManager, Validator validator,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.lote.tamano-bloque:500}") int tamanoBloque,
+                               @Value("${app.exportacion.tamano-fetch:1000}") int tamanoFetchExportacion) {
         this.repositorioPersona = repositorioPersona;
-        this.modelMapper = modelMapper;
+        this.mapeadorPersona = mapeadorPersona;
+        this.prefiltroUnicidad = prefiltroUnicidad;
+        this.publicadorEventos = publicadorEventos;
+        this.histogramaEdades = histogramaEdades;
+        this.clasificaciones = clasificaciones;
+        this.modeloLectura = modeloLectura;
+        this.cacheDetalle = cacheManager.getCache(ConfiguracionCache.CACHE_PERSONAS);
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoBloque = tamanoBloque;
+        this.tamanoFetchExportacion = tamanoFetchExportacion;
     }
 
     @Override
@@ -35,6 +111,57 @@ public class ServicioPersonaImpl implements ServicioPersona {
         return repositorioPersona.findAllProjectedBy(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PersonaResumenDTO> listarPersonasSinConteo(Pageable pageable) {
+        return repositorioPersona.findSliceProjectedBy(pageable);
+    }
+
+    @Override
+    public Optional<PaginaLectura<PersonaResumenDTO>> listarPersonasEnMemoria(Pageable pageable) {
+        // Estrategia: sin transacción ni conexión; si el modelo no puede responder, el controlador consulta la base de datos.
+        return modeloLectura.personas(pageable);
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PersonaResumenDTO> listarPersonasPorDominio(String dominio, Pageable pageable) {
+        // Estrategia: igualdad sobre la columna indexada dominioCorreo en lugar de LIKE '%@dominio'.
+        return repositorioPersona.findResumenByDominioCorreo(Persona.normalizarDominio(dominio), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ConteoDominioDTO contarPersonasDelDominio(String dominio) {
+        String dominioNormalizado = Persona.normalizarDominio(dominio);
+        return new ConteoDominioDTO(dominioNormalizado, repositorioPersona.countByDominioCorreo(dominioNormalizado));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ConteoDominioDTO> contarPersonasPorDominio(int limite) {
+        int limiteAcotado = Math.max(1, Math.min(limite, TAMANO_MAXIMO_PAGINA_CURSOR));
+        return repositorioPersona.contarPorDominio(PageRequest.of(0, limiteAcotado));
+    }
+
+    @Override
+    public List<PersonaDetalleDTO> listarPersonasMayores(int k) {
+        // La clasificación en memoria sustituye a findTop3ByOrderByEdadDesc, que ordena la tabla en cada llamada.
+        return clasificaciones.personasMayores().primeros(k);
+    }
+
+    @Override
+    public EstadisticasEdadDTO obtenerEstadisticasEdad(int desde, int hasta) {
+        // Estrategia: O(121) sobre el histograma en memoria en lugar de countByEdad.../findByEdadBetween (recorridos completos).
+        return histogramaEdades.estadisticas(desde, hasta);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VerificacionEstadisticasDTO verificarEstadisticasEdad(boolean reparar) {
+        return histogramaEdades.verificar(reparar);
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -45,56 +172,292 @@ public class ServicioPersonaImpl implements ServicioPersona {
 
     @Override
     @Transactional(readOnly = true)
+    public void recorrerTodasLasPersonas(Consumer<PersonaResumenDTO> consumidor) {
+        // Estrategia: cursor de solo avance; la transacción permanece abierta mientras se consume.
+        try (Stream<PersonaResumenDTO> personas = repositorioPersona.streamAllAsResumen(tamanoFetchExportacion)) {
+            personas.forEach(consumidor);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<PersonaResumenDTO> listarPersonasPorCursor(String cursor, Sort orden, int tamano) {
+        CursorKeyset posicion = (cursor == null || cursor.isBlank()) ? CursorKeyset.inicio(orden) : CursorKeyset.decodificar(cursor);
+        int limite = Math.max(1, Math.min(tamano, TAMANO_MAXIMO_PAGINA_CURSOR));
+
+        VentanaKeyset<PersonaResumenDTO> ventana = repositorioPersona.findAllProjectedBy(posicion, limite);
+        String siguienteCursor = ventana.getSiguiente() == null ? null : ventana.getSiguiente().codificar();
+        return new PaginaCursorDTO<>(ventana.getContenido(), ventana.getContenido().size(), siguienteCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ConfiguracionCache.CACHE_PERSONAS, key = "#id", sync = true)
     public PersonaDetalleDTO obtenerPersonaPorId(Long id) {
         Persona persona = repositorioPersona.findById(id)
                 .orElseThrow(() -> new RecursoNoEncontradoException("Persona no encontrada con ID: " + id));
 
         // Estrategia: Delegar la conversión al mapper centralizado.
-        return modelMapper.map(persona, PersonaDetalleDTO.class);
+        return mapeadorPersona.aDetalle(persona);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionRecurso obtenerVersionPersona(Long id) {
+        // Estrategia: si el detalle está en caché su versión es la vigente (los cambios lo desalojan);
+        // si no, basta con leer dos columnas en lugar de cargar y mapear la entidad completa.
+        PersonaDetalleDTO enCache = cacheDetalle.get(id, PersonaDetalleDTO.class);
+        if (enCache != null) {
+            return new VersionRecurso(enCache.getVersion(), enCache.getFechaModificacion());
+        }
+        return repositorioPersona.findVersionById(id)
+                .orElseThrow(() -> new RecursoNoEncontradoException("Persona no encontrada con ID: " + id));
     }
 
     @Override
     @Transactional
     public PersonaDetalleDTO crearPersona(PersonaCrearDTO personaCrearDTO) {
-        // Estrategia: Encapsular la lógica de negocio (validación de unicidad).
-        if (repositorioPersona.existsByCorreoElectronico(personaCrearDTO.getCorreoElectronico())) {
+        // Estrategia: la restricción UNIQUE garantiza la unicidad en un solo viaje a la base de datos.
+        // La consulta previa solo se hace si el prefiltro (opcional) considera probable un duplicado.
+        String correo = personaCrearDTO.getCorreoElectronico();
+        if (prefiltroUnicidad.requiereComprobacion(CampoUnico.CORREO_PERSONA, correo)
+                && repositorioPersona.existsByCorreoElectronico(correo)) {
             throw new RecursoYaExisteException("El correo electrónico proporcionado ya esta en uso.");
         }
 
-        Persona persona = modelMapper.map(personaCrearDTO, Persona.class);
-        Persona personaGuardada = repositorioPersona.save(persona);
+        Persona persona = mapeadorPersona.aEntidad(personaCrearDTO);
+        Persona personaGuardada = guardarConCorreoUnico(persona, "El correo electrónico proporcionado ya esta en uso.");
+        prefiltroUnicidad.registrar(CampoUnico.CORREO_PERSONA, correo);
 
-        return modelMapper.map(personaGuardada, PersonaDetalleDTO.class);
+        PersonaDetalleDTO personaCreada = mapeadorPersona.aDetalle(personaGuardada);
+        publicadorEventos.publishEvent(PersonaCambiadoEvento.creado(personaCreada));
+        return personaCreada;
+    }
+
+    @Override
+    public ResultadoLoteDTO crearPersonasEnLote(List<PersonaCrearDTO> personas) {
+        // Estrategia: una transacción por bloque. Un fallo en un bloque no revierte los ya confirmados
+        // y el contexto de persistencia nunca crece más allá del tamaño del bloque.
+        List<ResultadoItemLoteDTO> resultados = new ArrayList<>(personas.size());
+        for (int inicio = 0; inicio < personas.size(); inicio += tamanoBloque) {
+            int desplazamiento = inicio;
+            List<PersonaCrearDTO> bloque = personas.subList(inicio, Math.min(inicio + tamanoBloque, personas.size()));
+            try {
+                resultados.addAll(transactionTemplate.execute(estado -> crearBloqueDePersonas(bloque, desplazamiento)));
+            } catch (DataIntegrityViolationException ex) {
+                // Una escritura concurrente tomó un correo entre la comprobación y el flush (u otra restricción
+                // rechazó una fila): solo se revierte este bloque, que se reintenta elemento a elemento para
+                // dar un resultado a cada uno.
+                resultados.addAll(crearPersonasUnaAUna(bloque, desplazamiento));
+            }
+        }
+        return new ResultadoLoteDTO(resultados);
+    }
+
+    private List<ResultadoItemLoteDTO> crearPersonasUnaAUna(List<PersonaCrearDTO> bloque, int desplazamiento) {
+        List<ResultadoItemLoteDTO> resultados = new ArrayList<>(bloque.size());
+        for (int i = 0; i < bloque.size(); i++) {
+            int indice = desplazamiento + i;
+            // singletonList admite null: un elemento nulo se informa como INVALIDO, igual que en el bloque.
+            List<PersonaCrearDTO> elemento = Collections.singletonList(bloque.get(i));
+            try {
+                resultados.addAll(transactionTemplate.execute(estado -> crearBloqueDePersonas(elemento, indice)));
+            } catch (DataIntegrityViolationException ex) {
+                resultados.add(ViolacionesDeUnicidad.esViolacionDe(ex, Persona.UK_CORREO_ELECTRONICO)
+                        ? ResultadoItemLoteDTO.rechazado(indice, EstadoItemLote.DUPLICADO,
+                                List.of("correoElectronico: El correo electrónico proporcionado ya esta en uso."))
+                        : ResultadoItemLoteDTO.rechazado(indice, EstadoItemLote.INVALIDO, List.of(ERROR_INTEGRIDAD_LOTE)));
+            }
+        }
+        return resultados;
+    }
+
+    private List<ResultadoItemLoteDTO> crearBloqueDePersonas(List<PersonaCrearDTO> bloque, int desplazamiento) {
+        ResultadoItemLoteDTO[] resultados = new ResultadoItemLoteDTO[bloque.size()];
+        List<Integer> indicesValidos = new ArrayList<>(bloque.size());
+        Set<String> correosDelBloque = new HashSet<>();
+
+        for (int i = 0; i < bloque.size(); i++) {
+            List<String> errores = validar(bloque.get(i));
+            if (!errores.isEmpty()) {
+                resultados[i] = ResultadoItemLoteDTO.rechazado(desplazamiento + i, EstadoItemLote.INVALIDO, errores);
+            } else {
+                indicesValidos.add(i);
+                correosDelBloque.add(bloque.get(i).getCorreoElectronico());
+            }
+        }
+
+        // Una única consulta para todo el bloque en lugar de un existsByCorreoElectronico por elemento.
+        Set<String> correosEnUso = correosDelBloque.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(repositorioPersona.findCorreosExistentes(correosDelBloque));
+
+        List<Persona> nuevas = new ArrayList<>(indicesValidos.size());
+        List<Integer> indicesNuevas = new ArrayList<>(indicesValidos.size());
+        for (int i : indicesValidos) {
+            PersonaCrearDTO dto = bloque.get(i);
+            // add() devuelve false si el correo ya existía en la BD o apareció antes en el mismo lote.
+            if (!correosEnUso.add(dto.getCorreoElectronico())) {
+                resultados[i] = ResultadoItemLoteDTO.rechazado(desplazamiento + i, EstadoItemLote.DUPLICADO,
+                        List.of("correoElectronico: El correo electrónico proporcionado ya esta en uso."));
+            } else {
+                nuevas.add(mapeadorPersona.aEntidad(dto));
+                indicesNuevas.add(i);
+            }
+        }
+
+        // Con IDs de secuencia agrupada, saveAll + flush se traduce en INSERT agrupados en lotes JDBC.
+        // Si otra escritura concurrente se adelanta con un mismo correo, la restricción UNIQUE revierte el bloque
+        // y crearPersonasEnLote lo reintenta elemento a elemento.
+        repositorioPersona.saveAll(nuevas);
+        repositorioPersona.flush();
+        nuevas.forEach(persona -> prefiltroUnicidad.registrar(CampoUnico.CORREO_PERSONA, persona.getCorreoElectronico()));
+
+        for (int j = 0; j < nuevas.size(); j++) {
+            int i = indicesNuevas.get(j);
+            resultados[i] = ResultadoItemLoteDTO.creado(desplazamiento + i, nuevas.get(j).getId());
+            publicadorEventos.publishEvent(PersonaCambiadoEvento.creado(mapeadorPersona.aDetalle(nuevas.get(j))));
+        }
+        return List.of(resultados);
+    }
+
+    private List<String> validar(PersonaCrearDTO dto) {
+        if (dto == null) {
+            return List.of("El elemento no puede ser nulo");
+        }
+        List<String> errores = new ArrayList<>();
+        for (ConstraintViolation<PersonaCrearDTO> violacion : validator.validate(dto)) {
+            errores.add(violacion.getPropertyPath() + ": " + violacion.getMessage());
+        }
+        return errores;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ConfiguracionCache.CACHE_PERSONAS, key = "#id")
     public PersonaDetalleDTO actualizarPersona(Long id, PersonaActualizarDTO personaActualizarDTO) {
         Persona personaExistente = repositorioPersona.findById(id)
                 .orElseThrow(() -> new RecursoNoEncontradoException("Persona no encontrada con ID: " + id));
 
         // Estrategia: Lógica de negocio avanzada para la actualización.
-        // Si el correo se está cambiando, verificar que el nuevo no esté en uso por OTRO usuario.
-        Optional<Persona> personaConNuevoEmail = repositorioPersona.findByCorreoElectronico(personaActualizarDTO.getCorreoElectronico());
-        if (personaConNuevoEmail.isPresent() && !personaConNuevoEmail.get().getId().equals(id)) {
-            throw new RecursoYaExisteException("El correo electronico " + personaActualizarDTO.getCorreoElectronico() + "ya esta en uso por otra persona");
+        // Si el correo se está cambiando, el nuevo no puede estar en uso por OTRO usuario. Lo garantiza la
+        // restricción UNIQUE al hacer flush; la consulta previa solo se hace si el prefiltro la considera necesaria.
+        String nuevoCorreo = personaActualizarDTO.getCorreoElectronico();
+        String mensajeConflicto = "El correo electronico " + nuevoCorreo + " ya esta en uso por otra persona";
+        boolean cambiaCorreo = !Objects.equals(nuevoCorreo, personaExistente.getCorreoElectronico());
+        if (cambiaCorreo && prefiltroUnicidad.requiereComprobacion(CampoUnico.CORREO_PERSONA, nuevoCorreo)) {
+            Optional<Persona> personaConNuevoEmail = repositorioPersona.findByCorreoElectronico(nuevoCorreo);
+            if (personaConNuevoEmail.isPresent() && !personaConNuevoEmail.get().getId().equals(id)) {
+                throw new RecursoYaExisteException(mensajeConflicto);
+            }
         }
 
-        // ModelMapper actualiza los campos del objeto existente.
-        modelMapper.map(personaActualizarDTO, personaExistente);
-        Persona personaActualizada = repositorioPersona.save(personaExistente);
+        // El mapeador actualiza los campos del objeto existente.
+        int edadAnterior = personaExistente.getEdad();
+        mapeadorPersona.actualizarEntidad(personaActualizarDTO, personaExistente);
+        Persona personaActualizada = guardarConCorreoUnico(personaExistente, mensajeConflicto);
+        if (cambiaCorreo) {
+            prefiltroUnicidad.registrar(CampoUnico.CORREO_PERSONA, nuevoCorreo);
+        }
 
-        return modelMapper.map(personaActualizada, PersonaDetalleDTO.class);
+        PersonaDetalleDTO detalleActualizado = mapeadorPersona.aDetalle(personaActualizada);
+        publicadorEventos.publishEvent(PersonaCambiadoEvento.actualizado(detalleActualizado, edadAnterior));
+        return detalleActualizado;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ConfiguracionCache.CACHE_PERSONAS, key = "#id")
+    public PersonaDetalleDTO actualizarPersonaParcialmente(Long id, PersonaParcialDTO cambios) {
+        // Estrategia: lectura con bloqueo del estado anterior y un UPDATE de los campos presentes. Ni entidad
+        // gestionada, ni consulta previa del correo (la restricción UNIQUE decide), ni flush de la entidad completa.
+        String nuevoCorreo = cambios.getCorreoElectronico();
+        Instant fechaModificacion = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        PersonaDetalleDTO anterior;
+        try {
+            anterior = repositorioPersona.actualizarParcialmente(id, cambios, fechaModificacion)
+                    .orElseThrow(() -> new RecursoNoEncontradoException("Persona no encontrada con ID: " + id));
+        } catch (DataIntegrityViolationException ex) {
+            if (ViolacionesDeUnicidad.esViolacionDe(ex, Persona.UK_CORREO_ELECTRONICO)) {
+                throw new RecursoYaExisteException("El correo electronico " + nuevoCorreo + " ya esta en uso por otra persona", ex);
+            }
+            throw ex;
+        }
+        if (nuevoCorreo != null) {
+            prefiltroUnicidad.registrar(CampoUnico.CORREO_PERSONA, nuevoCorreo);
+        }
+
+        PersonaDetalleDTO actualizada = new PersonaDetalleDTO(id,
+                Objects.requireNonNullElse(cambios.getNombre(), anterior.getNombre()),
+                Objects.requireNonNullElse(cambios.getEdad(), anterior.getEdad()),
+                Objects.requireNonNullElse(nuevoCorreo, anterior.getCorreoElectronico()),
+                anterior.getVersion() + 1, fechaModificacion);
+        publicadorEventos.publishEvent(PersonaCambiadoEvento.actualizado(actualizada, anterior.getEdad()));
+        return actualizada;
+    }
+
+    /**
+     * Guarda y fuerza el flush para que una violación de uk_personas_correo_electronico se detecte aquí
+     * y se traduzca a RecursoYaExisteException, en lugar de aflorar al confirmar la transacción.
+     */
+    private Persona guardarConCorreoUnico(Persona persona, String mensajeConflicto) {
+        try {
+            return repositorioPersona.saveAndFlush(persona);
+        } catch (DataIntegrityViolationException ex) {
+            if (ViolacionesDeUnicidad.esViolacionDe(ex, Persona.UK_CORREO_ELECTRONICO)) {
+                throw new RecursoYaExisteException(mensajeConflicto, ex);
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = ConfiguracionCache.CACHE_PERSONAS, key = "#id")
     public void eliminarPersona(Long id) {
-        // Estrategia: Usar el método más eficiente para la verificación de existencia.
-        if (!repositorioPersona.existsById(id)) {
-            throw new RecursoNoEncontradoException("No se puede eliminar. Persona no encontrada con id: " + id);
+        // Estrategia: un único DELETE que devuelve la edad borrada (la necesita el histograma); si no borra nada, 404.
+        int edad = repositorioPersona.eliminarDevolviendoEdad(id)
+                .orElseThrow(() -> new RecursoNoEncontradoException("No se puede eliminar. Persona no encontrada con id: " + id));
+        publicadorEventos.publishEvent(PersonaCambiadoEvento.eliminado(id, edad));
+    }
+
+    @Override
+    public ResultadoEliminacionDTO eliminarPersonas(List<Long> ids) {
+        // Estrategia: un DELETE ... WHERE id IN (...) por bloque y una transacción por bloque, como en la creación por lotes.
+        List<Long> unicos = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> noEncontrados = new ArrayList<>();
+        long eliminadas = 0;
+        for (int inicio = 0; inicio < unicos.size(); inicio += tamanoBloque) {
+            List<Long> bloque = unicos.subList(inicio, Math.min(inicio + tamanoBloque, unicos.size()));
+            Map<Long, Integer> borradas = transactionTemplate.execute(estado -> publicarEliminadas(repositorioPersona.eliminarPorIds(bloque)));
+            bloque.stream().filter(id -> !borradas.containsKey(id)).forEach(noEncontrados::add);
+            eliminadas += borradas.size();
         }
-        repositorioPersona.deleteById(id);
+        return new ResultadoEliminacionDTO(eliminadas, noEncontrados);
+    }
+
+    @Override
+    public ResultadoEliminacionDTO eliminarPersonasDelDominio(String dominio) {
+        String dominioNormalizado = Persona.normalizarDominio(dominio);
+        long eliminadas = 0;
+        int borradasEnBloque;
+        do {
+            borradasEnBloque = transactionTemplate.execute(estado ->
+                    publicarEliminadas(repositorioPersona.eliminarDelDominio(dominioNormalizado, tamanoBloque))).size();
+            eliminadas += borradasEnBloque;
+        } while (borradasEnBloque == tamanoBloque);
+        return new ResultadoEliminacionDTO(eliminadas, List.of());
+    }
+
+    /**
+     * Invalida la caché de detalle y publica la baja de cada persona borrada; ambas cosas se aplican al confirmar.
+     */
+    private Map<Long, Integer> publicarEliminadas(Map<Long, Integer> eliminadas) {
+        eliminadas.forEach((id, edad) -> {
+            cacheDetalle.evict(id);
+            publicadorEventos.publishEvent(PersonaCambiadoEvento.eliminado(id, edad));
+        });
+        return eliminadas;
     }
 
 }
@@ -1,40 +1,132 @@
 package com.example.gestionderecursos.servicios.impl;
 
+import com.example.gestionderecursos.busqueda.IndiceBusquedaProyectos;
+import com.example.gestionderecursos.clasificacion.Clasificaciones;
+import com.example.gestionderecursos.condicional.VersionRecurso;
+import com.example.gestionderecursos.config.ConfiguracionCache;
+import com.example.gestionderecursos.dto.lote.EstadoItemLote;
+import com.example.gestionderecursos.dto.lote.ResultadoEliminacionDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoItemLoteDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoParcialDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.eventos.ProyectoCambiadoEvento;
 import com.example.gestionderecursos.excepciones.RecursoNoEncontradoException;
 import com.example.gestionderecursos.excepciones.RecursoYaExisteException;
+import com.example.gestionderecursos.excepciones.ViolacionesDeUnicidad;
+import com.example.gestionderecursos.lectura.ModeloLectura;
+import com.example.gestionderecursos.lectura.PaginaLectura;
+import com.example.gestionderecursos.mapeadores.MapeadorProyecto;
 import com.example.gestionderecursos.modelos.Proyecto;
+import com.example.gestionderecursos.paginacion.CursorKeyset;
+import com.example.gestionderecursos.paginacion.VentanaKeyset;
 import com.example.gestionderecursos.repositorios.RepositorioProyecto;
 import com.example.gestionderecursos.servicios.ServicioProyecto;
-import org.modelmapper.ModelMapper;
+import com.example.gestionderecursos.unicidad.CampoUnico;
+import com.example.gestionderecursos.unicidad.PrefiltroUnicidad;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class ServicioProyectoImpl implements ServicioProyecto {
 
+    /** Otra restricción (NOT NULL, longitud, FK...) rechazó el elemento: no es un duplicado. */
+    private static final String ERROR_INTEGRIDAD_LOTE = "El elemento incumple una restricción de la base de datos.";
+
+    private static final int TAMANO_MAXIMO_PAGINA_CURSOR = 1000;
+
     private final RepositorioProyecto repositorioProyecto;
-    private final ModelMapper modelMapper;
+    private final MapeadorProyecto mapeadorProyecto;
+    private final PrefiltroUnicidad prefiltroUnicidad;
+    private final IndiceBusquedaProyectos indiceBusquedaProyectos;
+    private final Clasificaciones clasificaciones;
+    private final ModeloLectura modeloLectura;
+    private final ApplicationEventPublisher publicadorEventos;
+    private final Cache cacheDetalle;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoBloque;
 
-    public ServicioProyectoImpl(RepositorioProyecto repositorioProyecto, ModelMapper modelMapper) {
+    public ServicioProyectoImpl(RepositorioProyecto repositorioProyecto, MapeadorProyecto mapeadorProyecto,
+                                PrefiltroUnicidad prefiltroUnicidad, IndiceBusquedaProyectos indiceBusquedaProyectos,
+                                Clasificaciones clasificaciones, ModeloLectura modeloLectura,
+                                ApplicationEventPublisher publicadorEventos, CacheManager cacheManager, Validator validator,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.lote.tamano-bloque:500}") int tamanoBloque) {
         this.repositorioProyecto = repositorioProyecto;
-        this.modelMapper = modelMapper;
+        this.mapeadorProyecto = mapeadorProyecto;
+        this.prefiltroUnicidad = prefiltroUnicidad;
+        this.indiceBusquedaProyectos = indiceBusquedaProyectos;
+        this.clasificaciones = clasificaciones;
+        this.modeloLectura = modeloLectura;
+        this.publicadorEventos = publicadorEventos;
+        this.cacheDetalle = cacheManager.getCache(ConfiguracionCache.CACHE_PROYECTOS);
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoBloque = tamanoBloque;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProyectoResumenDTO> listarTodosLosProyectos(Pageable pageable) {
         Page<Proyecto> proyectoPage = repositorioProyecto.findAll(pageable);
-        return proyectoPage.map(proyecto -> modelMapper.map(proyecto, ProyectoResumenDTO.class));
+        return proyectoPage.map(mapeadorProyecto::aResumen);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ProyectoResumenDTO> listarProyectosSinConteo(Pageable pageable) {
+        // Proyección directa al DTO: ni conteo ni entidades gestionadas que mapear.
+        return repositorioProyecto.findSliceProjectedBy(pageable);
+    }
+
+    @Override
+    public Optional<PaginaLectura<ProyectoResumenDTO>> listarProyectosEnMemoria(Pageable pageable) {
+        // Sin transacción ni conexión; si el modelo no puede responder, el controlador consulta la base de datos.
+        return modeloLectura.proyectos(pageable);
+    }
+
+    @Override
+    public Page<ProyectoResumenDTO> buscarProyectos(String consulta, Pageable pageable) {
+        // El índice en memoria sustituye a los LIKE '%...%' que recorren la tabla completa en cada búsqueda.
+        return indiceBusquedaProyectos.buscar(consulta, pageable);
+    }
+
+    @Override
+    public List<ProyectoDetalleDTO> listarProyectosRecientes(int k) {
+        // La clasificación en memoria sustituye a findTop5ByOrderByFechaCreacionDesc, que ordena la tabla en cada llamada.
+        return clasificaciones.proyectosRecientes().primeros(k);
     }
 
     @Override
@@ -42,69 +134,291 @@ public class ServicioProyectoImpl implements ServicioProyecto {
     public List<ProyectoResumenDTO> listarTodosLosProyectos() {
         List<Proyecto> proyectos = repositorioProyecto.findAll();
         return proyectos.stream()
-                .map(proyecto -> modelMapper.map(proyecto, ProyectoResumenDTO.class))
+                .map(mapeadorProyecto::aResumen)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
+    public PaginaCursorDTO<ProyectoResumenDTO> listarProyectosPorCursor(String cursor, Sort orden, int tamano) {
+        CursorKeyset posicion = (cursor == null || cursor.isBlank()) ? CursorKeyset.inicio(orden) : CursorKeyset.decodificar(cursor);
+        int limite = Math.max(1, Math.min(tamano, TAMANO_MAXIMO_PAGINA_CURSOR));
+
+        VentanaKeyset<ProyectoResumenDTO> ventana = repositorioProyecto.findAllProjectedBy(posicion, limite);
+        String siguienteCursor = ventana.getSiguiente() == null ? null : ventana.getSiguiente().codificar();
+        return new PaginaCursorDTO<>(ventana.getContenido(), ventana.getContenido().size(), siguienteCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ConfiguracionCache.CACHE_PROYECTOS, key = "#id", sync = true)
     public ProyectoDetalleDTO obtenerProyectoPorId(Long id) {
         Proyecto proyecto = repositorioProyecto.findById(id)
                 .orElseThrow(() -> new RecursoNoEncontradoException("Proyecto no encontrado con id : " + id));
         // Usamos el mapper para convertir la entidad a DTO
-        return modelMapper.map(proyecto, ProyectoDetalleDTO.class);
+        return mapeadorProyecto.aDetalle(proyecto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionRecurso obtenerVersionProyecto(Long id) {
+        // El detalle en caché siempre es la versión vigente; si no está, solo se leen las columnas de versión.
+        ProyectoDetalleDTO enCache = cacheDetalle.get(id, ProyectoDetalleDTO.class);
+        if (enCache != null) {
+            return new VersionRecurso(enCache.getVersion(), enCache.getFechaModificacion());
+        }
+        return repositorioProyecto.findVersionById(id)
+                .orElseThrow(() -> new RecursoNoEncontradoException("Proyecto no encontrado con id : " + id));
     }
 
     @Override
     @Transactional
     public ProyectoDetalleDTO crearProyecto (ProyectoCrearDTO proyectoCrearDTO) {
-        if (repositorioProyecto.existsByNombre(proyectoCrearDTO.getNombre())) {
-            throw new RecursoYaExisteException("Ya existe un proyecto con el nombre: " + proyectoCrearDTO.getNombre());
+        // La restricción UNIQUE garantiza la unicidad; la consulta previa solo se hace si el prefiltro la considera necesaria.
+        String nombre = proyectoCrearDTO.getNombre();
+        String mensajeConflicto = "Ya existe un proyecto con el nombre: " + nombre;
+        if (prefiltroUnicidad.requiereComprobacion(CampoUnico.NOMBRE_PROYECTO, nombre)
+                && repositorioProyecto.existsByNombre(nombre)) {
+            throw new RecursoYaExisteException(mensajeConflicto);
         }
 
         // Usamos el mapper para convertir el DTO de creación a una entidad
-        Proyecto proyecto = modelMapper.map(proyectoCrearDTO, Proyecto.class);
+        Proyecto proyecto = mapeadorProyecto.aEntidad(proyectoCrearDTO);
 
         // La lógica de negocio sigue perteneciendo al servicio
         proyecto.setFechaCreacion(LocalDate.now());
 
-        Proyecto proyectoGuardado = repositorioProyecto.save(proyecto);
+        Proyecto proyectoGuardado = guardarConNombreUnico(proyecto, mensajeConflicto);
+        prefiltroUnicidad.registrar(CampoUnico.NOMBRE_PROYECTO, nombre);
 
         // Mapeamos la entidad guardada (con ID y fecha) al DTO de detalle para la respuesta
-        return modelMapper.map(proyectoGuardado, ProyectoDetalleDTO.class);
+        ProyectoDetalleDTO proyectoCreado = mapeadorProyecto.aDetalle(proyectoGuardado);
+        publicadorEventos.publishEvent(ProyectoCambiadoEvento.creado(proyectoCreado));
+        return proyectoCreado;
+    }
+
+    @Override
+    public ResultadoLoteDTO crearProyectosEnLote(List<ProyectoCrearDTO> proyectos) {
+        // Una transacción por bloque: los bloques ya confirmados no se revierten si falla uno posterior.
+        List<ResultadoItemLoteDTO> resultados = new ArrayList<>(proyectos.size());
+        for (int inicio = 0; inicio < proyectos.size(); inicio += tamanoBloque) {
+            int desplazamiento = inicio;
+            List<ProyectoCrearDTO> bloque = proyectos.subList(inicio, Math.min(inicio + tamanoBloque, proyectos.size()));
+            try {
+                resultados.addAll(transactionTemplate.execute(estado -> crearBloqueDeProyectos(bloque, desplazamiento)));
+            } catch (DataIntegrityViolationException ex) {
+                // Nombre tomado por una escritura concurrente (u otra restricción incumplida): se revierte solo
+                // este bloque y se reintenta uno a uno.
+                resultados.addAll(crearProyectosUnoAUno(bloque, desplazamiento));
+            }
+        }
+        return new ResultadoLoteDTO(resultados);
+    }
+
+    private List<ResultadoItemLoteDTO> crearProyectosUnoAUno(List<ProyectoCrearDTO> bloque, int desplazamiento) {
+        List<ResultadoItemLoteDTO> resultados = new ArrayList<>(bloque.size());
+        for (int i = 0; i < bloque.size(); i++) {
+            int indice = desplazamiento + i;
+            ProyectoCrearDTO proyecto = bloque.get(i);
+            try {
+                resultados.addAll(transactionTemplate.execute(estado -> crearBloqueDeProyectos(Collections.singletonList(proyecto), indice)));
+            } catch (DataIntegrityViolationException ex) {
+                resultados.add(ViolacionesDeUnicidad.esViolacionDe(ex, Proyecto.UK_NOMBRE)
+                        ? ResultadoItemLoteDTO.rechazado(indice, EstadoItemLote.DUPLICADO,
+                                List.of("nombre: Ya existe un proyecto con el nombre: " + proyecto.getNombre()))
+                        : ResultadoItemLoteDTO.rechazado(indice, EstadoItemLote.INVALIDO, List.of(ERROR_INTEGRIDAD_LOTE)));
+            }
+        }
+        return resultados;
+    }
+
+    private List<ResultadoItemLoteDTO> crearBloqueDeProyectos(List<ProyectoCrearDTO> bloque, int desplazamiento) {
+        ResultadoItemLoteDTO[] resultados = new ResultadoItemLoteDTO[bloque.size()];
+        List<Integer> indicesValidos = new ArrayList<>(bloque.size());
+        Set<String> nombresDelBloque = new HashSet<>();
+
+        for (int i = 0; i < bloque.size(); i++) {
+            List<String> errores = validar(bloque.get(i));
+            if (!errores.isEmpty()) {
+                resultados[i] = ResultadoItemLoteDTO.rechazado(desplazamiento + i, EstadoItemLote.INVALIDO, errores);
+            } else {
+                indicesValidos.add(i);
+                nombresDelBloque.add(bloque.get(i).getNombre());
+            }
+        }
+
+        // Una única consulta para todo el bloque en lugar de un existsByNombre por elemento.
+        Set<String> nombresEnUso = nombresDelBloque.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(repositorioProyecto.findNombresExistentes(nombresDelBloque));
+
+        LocalDate hoy = LocalDate.now();
+        List<Proyecto> nuevos = new ArrayList<>(indicesValidos.size());
+        List<Integer> indicesNuevos = new ArrayList<>(indicesValidos.size());
+        for (int i : indicesValidos) {
+            ProyectoCrearDTO dto = bloque.get(i);
+            if (!nombresEnUso.add(dto.getNombre())) {
+                resultados[i] = ResultadoItemLoteDTO.rechazado(desplazamiento + i, EstadoItemLote.DUPLICADO,
+                        List.of("nombre: Ya existe un proyecto con el nombre: " + dto.getNombre()));
+            } else {
+                Proyecto proyecto = mapeadorProyecto.aEntidad(dto);
+                proyecto.setFechaCreacion(hoy);
+                nuevos.add(proyecto);
+                indicesNuevos.add(i);
+            }
+        }
+
+        // Si otra escritura concurrente se adelanta con un mismo nombre, la restricción UNIQUE revierte el bloque
+        // y crearProyectosEnLote lo reintenta elemento a elemento.
+        repositorioProyecto.saveAll(nuevos);
+        repositorioProyecto.flush();
+        nuevos.forEach(proyecto -> prefiltroUnicidad.registrar(CampoUnico.NOMBRE_PROYECTO, proyecto.getNombre()));
+
+        for (int j = 0; j < nuevos.size(); j++) {
+            int i = indicesNuevos.get(j);
+            resultados[i] = ResultadoItemLoteDTO.creado(desplazamiento + i, nuevos.get(j).getId());
+            publicadorEventos.publishEvent(ProyectoCambiadoEvento.creado(mapeadorProyecto.aDetalle(nuevos.get(j))));
+        }
+        return List.of(resultados);
+    }
+
+    private List<String> validar(ProyectoCrearDTO dto) {
+        if (dto == null) {
+            return List.of("El elemento no puede ser nulo");
+        }
+        List<String> errores = new ArrayList<>();
+        for (ConstraintViolation<ProyectoCrearDTO> violacion : validator.validate(dto)) {
+            errores.add(violacion.getPropertyPath() + ": " + violacion.getMessage());
+        }
+        return errores;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ConfiguracionCache.CACHE_PROYECTOS, key = "#id")
     public ProyectoDetalleDTO actualizarProyecto(Long id, ProyectoActualizarDTO proyectoActualizarDTO) {
         Proyecto proyectoExistente = repositorioProyecto.findById(id)
                 .orElseThrow(() -> new RecursoNoEncontradoException("Proyecto no encontrado con id: " + id));
 
-        // Lógica de negocio: si el nombre cambia, verificar que el nuevo no esté en uso por OTRO proyecto.
-        repositorioProyecto.findByNombre(proyectoActualizarDTO.getNombre())
-                .ifPresent(proyectoConNuevoNombre -> {
-                    if (!proyectoConNuevoNombre.getId().equals(id)) {
-                        throw new RecursoYaExisteException("El nombre '" + proyectoActualizarDTO.getNombre() + "' ya esta en uso por otro proyecto");
-                    }
-                });
+        // Lógica de negocio: si el nombre cambia, el nuevo no puede estar en uso por OTRO proyecto.
+        // Lo garantiza la restricción UNIQUE; la consulta previa solo se hace si el prefiltro la considera necesaria.
+        String nuevoNombre = proyectoActualizarDTO.getNombre();
+        String mensajeConflicto = "El nombre '" + nuevoNombre + "' ya esta en uso por otro proyecto";
+        boolean cambiaNombre = !Objects.equals(nuevoNombre, proyectoExistente.getNombre());
+        if (cambiaNombre && prefiltroUnicidad.requiereComprobacion(CampoUnico.NOMBRE_PROYECTO, nuevoNombre)) {
+            repositorioProyecto.findByNombre(nuevoNombre)
+                    .ifPresent(proyectoConNuevoNombre -> {
+                        if (!proyectoConNuevoNombre.getId().equals(id)) {
+                            throw new RecursoYaExisteException(mensajeConflicto);
+                        }
+                    });
+        }
 
         // Aplicar los cambios del DTO a la entidad existente.
-        modelMapper.map(proyectoActualizarDTO, proyectoExistente);
+        mapeadorProyecto.actualizarEntidad(proyectoActualizarDTO, proyectoExistente);
+
+        // El flush explícito hace que una violación de unicidad se detecte aquí y no al confirmar.
+        Proyecto proyectoActualizado = guardarConNombreUnico(proyectoExistente, mensajeConflicto);
+        if (cambiaNombre) {
+            prefiltroUnicidad.registrar(CampoUnico.NOMBRE_PROYECTO, nuevoNombre);
+        }
+
+        ProyectoDetalleDTO detalleActualizado = mapeadorProyecto.aDetalle(proyectoActualizado);
+        publicadorEventos.publishEvent(ProyectoCambiadoEvento.actualizado(detalleActualizado));
+        return detalleActualizado;
+    }
 
-        // JPA detectará los cambios en 'proyectoExistente' y los persistirá.
-        // La llamada a save() es explícita y no daña el rendimiento.
-        Proyecto proyectoActualizado = repositorioProyecto.save(proyectoExistente);
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = ConfiguracionCache.CACHE_PROYECTOS, key = "#id")
+    public ProyectoDetalleDTO actualizarProyectoParcialmente(Long id, ProyectoParcialDTO cambios) {
+        // Lectura con bloqueo del estado anterior y un UPDATE de los campos presentes; la restricción UNIQUE decide los conflictos.
+        String nuevoNombre = cambios.getNombre();
+        Instant fechaModificacion = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        ProyectoDetalleDTO anterior;
+        try {
+            anterior = repositorioProyecto.actualizarParcialmente(id, cambios, fechaModificacion)
+                    .orElseThrow(() -> new RecursoNoEncontradoException("Proyecto no encontrado con id: " + id));
+        } catch (DataIntegrityViolationException ex) {
+            if (ViolacionesDeUnicidad.esViolacionDe(ex, Proyecto.UK_NOMBRE)) {
+                throw new RecursoYaExisteException("El nombre '" + nuevoNombre + "' ya esta en uso por otro proyecto", ex);
+            }
+            throw ex;
+        }
+        if (nuevoNombre != null) {
+            prefiltroUnicidad.registrar(CampoUnico.NOMBRE_PROYECTO, nuevoNombre);
+        }
 
-        return modelMapper.map(proyectoActualizado, ProyectoDetalleDTO.class);
+        ProyectoDetalleDTO actualizado = new ProyectoDetalleDTO(id,
+                Objects.requireNonNullElse(nuevoNombre, anterior.getNombre()),
+                cambios.getDescripcion() != null ? cambios.getDescripcion() : anterior.getDescripcion(),
+                anterior.getFechaCreacion(), anterior.getVersion() + 1, fechaModificacion);
+        publicadorEventos.publishEvent(ProyectoCambiadoEvento.actualizado(actualizado));
+        return actualizado;
+    }
+
+    /**
+     * Guarda y fuerza el flush para traducir una violación de uk_proyectos_nombre a RecursoYaExisteException.
+     */
+    private Proyecto guardarConNombreUnico(Proyecto proyecto, String mensajeConflicto) {
+        try {
+            return repositorioProyecto.saveAndFlush(proyecto);
+        } catch (DataIntegrityViolationException ex) {
+            if (ViolacionesDeUnicidad.esViolacionDe(ex, Proyecto.UK_NOMBRE)) {
+                throw new RecursoYaExisteException(mensajeConflicto, ex);
+            }
+            throw ex;
+        }
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ConfiguracionCache.CACHE_PROYECTOS, key = "#id")
     public void eliminarProyecto(Long id) {
-        if (!repositorioProyecto.existsById(id)) {
-            throw new RuntimeException("Proyecto no encontrado con id: " + id);
+        // Un único DELETE; el número de filas borradas decide entre 204 y 404.
+        if (repositorioProyecto.eliminarPorId(id) == 0) {
+            throw new RecursoNoEncontradoException("No se puede eliminar. Proyecto no encontrado con id: " + id);
         }
-        repositorioProyecto.deleteById(id);
+        publicadorEventos.publishEvent(ProyectoCambiadoEvento.eliminado(id));
+    }
+
+    @Override
+    public ResultadoEliminacionDTO eliminarProyectos(List<Long> ids) {
+        // Un DELETE ... WHERE id IN (...) por bloque y una transacción por bloque, como en la creación por lotes.
+        List<Long> unicos = ids.stream().filter(Objects::nonNull).distinct().toList();
+        List<Long> noEncontrados = new ArrayList<>();
+        long eliminados = 0;
+        for (int inicio = 0; inicio < unicos.size(); inicio += tamanoBloque) {
+            List<Long> bloque = unicos.subList(inicio, Math.min(inicio + tamanoBloque, unicos.size()));
+            Set<Long> borrados = new HashSet<>(transactionTemplate.execute(estado ->
+                    publicarEliminados(repositorioProyecto.eliminarPorIds(bloque))));
+            bloque.stream().filter(id -> !borrados.contains(id)).forEach(noEncontrados::add);
+            eliminados += borrados.size();
+        }
+        return new ResultadoEliminacionDTO(eliminados, noEncontrados);
+    }
+
+    @Override
+    public ResultadoEliminacionDTO eliminarProyectosCreadosAntesDe(LocalDate fecha) {
+        long eliminados = 0;
+        int borradosEnBloque;
+        do {
+            borradosEnBloque = transactionTemplate.execute(estado ->
+                    publicarEliminados(repositorioProyecto.eliminarCreadosAntesDe(fecha, tamanoBloque))).size();
+            eliminados += borradosEnBloque;
+        } while (borradosEnBloque == tamanoBloque);
+        return new ResultadoEliminacionDTO(eliminados, List.of());
+    }
+
+    /**
+     * Invalida la caché de detalle y publica la baja de cada proyecto borrado; ambas cosas se aplican al confirmar.
+     */
+    private List<Long> publicarEliminados(List<Long> eliminados) {
+        eliminados.forEach(id -> {
+            cacheDetalle.evict(id);
+            publicadorEventos.publishEvent(ProyectoCambiadoEvento.eliminado(id));
+        });
+        return eliminados;
     }
 
 }
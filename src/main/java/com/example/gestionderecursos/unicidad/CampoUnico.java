@@ -0,0 +1,9 @@
+package com.example.gestionderecursos.unicidad;
+
+/**
+ * Campos con restricción de unicidad en la base de datos que admiten prefiltrado en memoria.
+ */
+public enum CampoUnico {
+    CORREO_PERSONA,
+    NOMBRE_PROYECTO
+}
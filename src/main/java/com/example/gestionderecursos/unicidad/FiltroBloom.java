@@ -0,0 +1,89 @@
+package com.example.gestionderecursos.unicidad;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de cadenas, seguro para hilos y sin bloqueos: los bits se activan con CAS sobre
+ * un AtomicLongArray. Puede dar falsos positivos, nunca falsos negativos, y no admite borrados.
+ */
+public final class FiltroBloom {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIMO = 0x100000001b3L;
+
+    private final AtomicLongArray palabras;
+    private final long numeroBits;
+    private final int numeroHashes;
+
+    /**
+     * @param elementosEsperados  número de elementos previsto; por encima de él la tasa de falsos positivos crece
+     * @param tasaFalsosPositivos tasa objetivo de falsos positivos (0 < tasa < 1)
+     */
+    public FiltroBloom(long elementosEsperados, double tasaFalsosPositivos) {
+        if (elementosEsperados <= 0 || tasaFalsosPositivos <= 0 || tasaFalsosPositivos >= 1) {
+            throw new IllegalArgumentException("Parámetros de filtro de Bloom no válidos");
+        }
+        long bits = (long) Math.ceil(-elementosEsperados * Math.log(tasaFalsosPositivos) / (Math.log(2) * Math.log(2)));
+        int palabrasNecesarias = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.palabras = new AtomicLongArray(palabrasNecesarias);
+        this.numeroBits = (long) palabrasNecesarias * 64;
+        this.numeroHashes = Math.max(1, (int) Math.round((double) numeroBits / elementosEsperados * Math.log(2)));
+    }
+
+    public void agregar(String valor) {
+        long h1 = hash(valor);
+        long h2 = mezclar(h1) | 1;
+        for (int i = 0; i < numeroHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numeroBits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long actual;
+            while (((actual = palabras.get(indice)) & mascara) == 0
+                    && !palabras.compareAndSet(indice, actual, actual | mascara)) {
+                // Otro hilo modificó la palabra: reintentar.
+            }
+        }
+    }
+
+    public boolean podriaContener(String valor) {
+        long h1 = hash(valor);
+        long h2 = mezclar(h1) | 1;
+        for (int i = 0; i < numeroHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numeroBits);
+            if ((palabras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getNumeroBits() {
+        return numeroBits;
+    }
+
+    public int getNumeroHashes() {
+        return numeroHashes;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre los caracteres UTF-16, seguido de la mezcla final de MurmurHash3.
+     */
+    private static long hash(String valor) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            h = (h ^ (c & 0xff)) * FNV_PRIMO;
+            h = (h ^ (c >>> 8)) * FNV_PRIMO;
+        }
+        return mezclar(h);
+    }
+
+    private static long mezclar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
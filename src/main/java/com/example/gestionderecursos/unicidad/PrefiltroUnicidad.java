@@ -0,0 +1,20 @@
+package com.example.gestionderecursos.unicidad;
+
+/**
+ * Prefiltro opcional de unicidad. La garantía la dan siempre las restricciones UNIQUE de la base de datos;
+ * el prefiltro solo decide si merece la pena consultar antes de escribir para devolver un 409 sin intentar
+ * un INSERT/UPDATE que fallaría.
+ */
+public interface PrefiltroUnicidad {
+
+    /**
+     * Indica si el valor podría estar ya en uso y conviene comprobarlo contra la base de datos.
+     * Un resultado false garantiza que el valor no se ha registrado nunca (salvo antes de terminar la carga inicial).
+     */
+    boolean requiereComprobacion(CampoUnico campo, String valor);
+
+    /**
+     * Registra un valor recién escrito para que las siguientes comprobaciones lo tengan en cuenta.
+     */
+    void registrar(CampoUnico campo, String valor);
+}
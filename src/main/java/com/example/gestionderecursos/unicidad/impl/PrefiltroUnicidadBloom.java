@@ -0,0 +1,95 @@
+package com.example.gestionderecursos.unicidad.impl;
+
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import com.example.gestionderecursos.repositorios.RepositorioProyecto;
+import com.example.gestionderecursos.unicidad.CampoUnico;
+import com.example.gestionderecursos.unicidad.FiltroBloom;
+import com.example.gestionderecursos.unicidad.PrefiltroUnicidad;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Prefiltro basado en filtros de Bloom, uno por campo único, reconstruidos al arrancar a partir de la
+ * base de datos. Los valores que el filtro descarta se escriben directamente; solo los posibles
+ * duplicados pagan la consulta previa. Como un filtro de Bloom no admite borrados, los valores
+ * eliminados siguen provocando una comprobación (inofensiva) hasta el siguiente arranque.
+ */
+@Component
+@ConditionalOnProperty(name = "app.unicidad.prefiltro.habilitado", havingValue = "true")
+public class PrefiltroUnicidadBloom implements PrefiltroUnicidad {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PrefiltroUnicidadBloom.class);
+
+    private final RepositorioPersona repositorioPersona;
+    private final RepositorioProyecto repositorioProyecto;
+    private final long elementosEsperados;
+    private final double tasaFalsosPositivos;
+
+    // Se reemplaza entero al reconstruir; volatile para publicarlo de forma segura al resto de hilos.
+    private volatile Map<CampoUnico, FiltroBloom> filtros;
+
+    public PrefiltroUnicidadBloom(RepositorioPersona repositorioPersona, RepositorioProyecto repositorioProyecto,
+                                  @Value("${app.unicidad.prefiltro.elementos-esperados:1000000}") long elementosEsperados,
+                                  @Value("${app.unicidad.prefiltro.tasa-falsos-positivos:0.01}") double tasaFalsosPositivos) {
+        this.repositorioPersona = repositorioPersona;
+        this.repositorioProyecto = repositorioProyecto;
+        this.elementosEsperados = elementosEsperados;
+        this.tasaFalsosPositivos = tasaFalsosPositivos;
+        this.filtros = filtrosVacios(elementosEsperados);
+    }
+
+    /**
+     * Carga en el filtro todos los valores existentes. Hasta que termina, el filtro puede responder
+     * "no existe" para valores ya guardados; en ese caso la restricción UNIQUE sigue rechazando el duplicado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        long personas = repositorioPersona.count();
+        long proyectos = repositorioProyecto.count();
+        // Margen para crecer sin degradar la tasa de falsos positivos hasta el próximo arranque.
+        Map<CampoUnico, FiltroBloom> nuevos = new EnumMap<>(CampoUnico.class);
+        nuevos.put(CampoUnico.CORREO_PERSONA, new FiltroBloom(Math.max(elementosEsperados, personas * 2), tasaFalsosPositivos));
+        nuevos.put(CampoUnico.NOMBRE_PROYECTO, new FiltroBloom(Math.max(elementosEsperados, proyectos * 2), tasaFalsosPositivos));
+
+        // Se publica antes de cargarlo: lo que se registre durante la carga ya va al filtro nuevo.
+        this.filtros = nuevos;
+        try (Stream<String> correos = repositorioPersona.streamCorreos()) {
+            correos.forEach(nuevos.get(CampoUnico.CORREO_PERSONA)::agregar);
+        }
+        try (Stream<String> nombres = repositorioProyecto.streamNombres()) {
+            nombres.forEach(nuevos.get(CampoUnico.NOMBRE_PROYECTO)::agregar);
+        }
+        LOG.info("Prefiltro de unicidad reconstruido: {} correos y {} nombres de proyecto", personas, proyectos);
+    }
+
+    @Override
+    public boolean requiereComprobacion(CampoUnico campo, String valor) {
+        return valor != null && filtros.get(campo).podriaContener(valor);
+    }
+
+    @Override
+    public void registrar(CampoUnico campo, String valor) {
+        if (valor != null) {
+            filtros.get(campo).agregar(valor);
+        }
+    }
+
+    private Map<CampoUnico, FiltroBloom> filtrosVacios(long elementos) {
+        Map<CampoUnico, FiltroBloom> vacios = new EnumMap<>(CampoUnico.class);
+        for (CampoUnico campo : CampoUnico.values()) {
+            vacios.put(campo, new FiltroBloom(elementos, tasaFalsosPositivos));
+        }
+        return vacios;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.gestionderecursos.unicidad.impl;
+
+import com.example.gestionderecursos.unicidad.CampoUnico;
+import com.example.gestionderecursos.unicidad.PrefiltroUnicidad;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sin prefiltro: nunca se consulta antes de escribir y la unicidad descansa únicamente en las
+ * restricciones UNIQUE (un solo viaje a la base de datos por escritura).
+ */
+@Component
+@ConditionalOnProperty(name = "app.unicidad.prefiltro.habilitado", havingValue = "false", matchIfMissing = true)
+public class PrefiltroUnicidadDesactivado implements PrefiltroUnicidad {
+
+    @Override
+    public boolean requiereComprobacion(CampoUnico campo, String valor) {
+        return false;
+    }
+
+    @Override
+    public void registrar(CampoUnico campo, String valor) {
+        // Nada que registrar.
+    }
+}
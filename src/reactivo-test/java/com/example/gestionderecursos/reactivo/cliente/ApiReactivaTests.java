@@ -0,0 +1,114 @@
+package com.example.gestionderecursos.reactivo.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.excepciones.ApiError;
+import com.example.gestionderecursos.reactivo.GestionDeRecursosReactivaApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de la variante reactiva: mismo contrato HTTP y mismos ApiError que la pila bloqueante.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(GestionDeRecursosReactivaApplication.PERFIL)
+class ApiReactivaTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void deberiaCrearLeerActualizarYEliminarPersona() {
+        String correo = UUID.randomUUID() + "@example.com";
+        PersonaDetalleDTO creada = webTestClient.post().uri("/api/personas").bodyValue(new PersonaCrearDTO("Marta", 35, correo))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists("Location")
+                .expectBody(PersonaDetalleDTO.class).returnResult().getResponseBody();
+        String url = "/api/personas/" + creada.getId();
+
+        webTestClient.get().uri(url).exchange()
+                .expectStatus().isOk()
+                .expectBody(PersonaDetalleDTO.class).value(persona -> assertEquals(correo, persona.getCorreoElectronico()));
+
+        webTestClient.put().uri(url).bodyValue(new PersonaActualizarDTO("Marta Ruiz", 36, correo)).exchange()
+                .expectStatus().isOk()
+                .expectBody(PersonaDetalleDTO.class).value(persona -> assertEquals(36, persona.getEdad()));
+
+        webTestClient.delete().uri(url).exchange().expectStatus().isNoContent();
+        ApiError noEncontrada = webTestClient.get().uri(url).exchange()
+                .expectStatus().isNotFound()
+                .expectBody(ApiError.class).returnResult().getResponseBody();
+        assertEquals("Recurso no encontrado", noEncontrada.getMensaje());
+    }
+
+    @Test
+    void deberiaResponderConApiErrorEnConflictosYValidacion() {
+        String correo = UUID.randomUUID() + "@example.com";
+        webTestClient.post().uri("/api/personas").bodyValue(new PersonaCrearDTO("Pablo", 40, correo)).exchange().expectStatus().isCreated();
+
+        ApiError conflicto = webTestClient.post().uri("/api/personas").bodyValue(new PersonaCrearDTO("Otro", 41, correo)).exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody(ApiError.class).returnResult().getResponseBody();
+        assertEquals("Conflicto de recurso", conflicto.getMensaje());
+
+        ApiError invalida = webTestClient.post().uri("/api/personas").bodyValue(new PersonaCrearDTO("", 200, "no-es-un-correo")).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ApiError.class).returnResult().getResponseBody();
+        assertEquals("Error de validación", invalida.getMensaje());
+        assertEquals(3, invalida.getErrores().size());
+
+        String nombre = "Proyecto " + UUID.randomUUID();
+        ProyectoDetalleDTO proyecto = webTestClient.post().uri("/api/proyectos").bodyValue(new ProyectoCrearDTO(nombre, null)).exchange()
+                .expectStatus().isCreated()
+                .expectBody(ProyectoDetalleDTO.class).returnResult().getResponseBody();
+        assertNotNull(proyecto.getFechaCreacion());
+        webTestClient.post().uri("/api/proyectos").bodyValue(new ProyectoCrearDTO(nombre, "otra")).exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void deberiaPaginarYTransmitirPersonas() {
+        String prefijo = UUID.randomUUID().toString();
+        for (int i = 0; i < 12; i++) {
+            webTestClient.post().uri("/api/personas").bodyValue(new PersonaCrearDTO(prefijo + " " + i, 30, prefijo + "-" + i + "@example.com"))
+                    .exchange().expectStatus().isCreated();
+        }
+
+        JsonNode pagina = webTestClient.get().uri("/api/personas?page=1&size=5&sort=nombre,desc").exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody();
+        assertEquals(5, pagina.path("content").size());
+        assertEquals(1, pagina.path("pageable").path("pageNumber").asInt());
+        assertTrue(pagina.path("totalElements").asLong() >= 12);
+
+        List<PersonaResumenDTO> transmitidas = webTestClient.get().uri("/api/personas/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PersonaResumenDTO.class).getResponseBody()
+                .filter(persona -> persona.getNombre().startsWith(prefijo))
+                .collectList().block();
+        List<Long> ids = new ArrayList<>();
+        transmitidas.forEach(persona -> ids.add(persona.getId()));
+        assertEquals(12, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids, "La exportación se emite ordenada por id");
+    }
+}
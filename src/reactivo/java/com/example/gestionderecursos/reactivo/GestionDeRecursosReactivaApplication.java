@@ -0,0 +1,21 @@
+package com.example.gestionderecursos.reactivo;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Arranque de la variante reactiva (WebFlux + R2DBC) de la API. Solo se compila con el perfil Maven
+ * "reactivo" y activa el perfil de Spring del mismo nombre. La pila bloqueante sigue siendo la predeterminada.
+ */
+@SpringBootApplication
+public class GestionDeRecursosReactivaApplication {
+
+    public static final String PERFIL = "reactivo";
+
+    public static void main(String[] args) {
+        SpringApplication aplicacion = new SpringApplication(GestionDeRecursosReactivaApplication.class);
+        aplicacion.setAdditionalProfiles(PERFIL);
+        aplicacion.run(args);
+    }
+
+}
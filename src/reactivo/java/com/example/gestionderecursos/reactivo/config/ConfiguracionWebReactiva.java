@@ -0,0 +1,20 @@
+package com.example.gestionderecursos.reactivo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Resuelve Pageable y Sort en los controladores reactivos (?page=0&size=10&sort=nombre,asc),
+ * igual que Spring Data Web hace en la pila bloqueante.
+ */
+@Configuration
+public class ConfiguracionWebReactiva implements WebFluxConfigurer {
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactiveSortHandlerMethodArgumentResolver(), new ReactivePageableHandlerMethodArgumentResolver());
+    }
+}
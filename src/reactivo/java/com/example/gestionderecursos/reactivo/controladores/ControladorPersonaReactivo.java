@@ -0,0 +1,106 @@
+package com.example.gestionderecursos.reactivo.controladores;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.reactivo.servicios.ServicioPersonaReactivo;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Controlador REST reactivo para la gestión de personas.
+ * Expone el mismo contrato que ControladorPersona sobre WebFlux.
+ */
+@RestController
+@RequestMapping("/api/personas")
+public class ControladorPersonaReactivo {
+
+    private final ServicioPersonaReactivo servicioPersona;
+
+    public ControladorPersonaReactivo(ServicioPersonaReactivo servicioPersona) {
+        this.servicioPersona = servicioPersona;
+    }
+
+    /**
+     * GET /api/personas: Obtiene una lista paginada y resumida de todas las personas.
+     * Acepta parámetros como ?page=0&size=10&sort=nombre,asc
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return Mono con una página de PersonaResumenDTO y estado 200 OK.
+     */
+    @GetMapping
+    public Mono<Page<PersonaResumenDTO>> listarTodasLasPersonas(@PageableDefault(size = 10, sort = "nombre") Pageable pageable) {
+        return servicioPersona.listarTodasLasPersonas(pageable);
+    }
+
+    /**
+     * GET /api/personas/export: Transmite todas las personas en forma resumida como NDJSON.
+     * Cada línea se escribe cuando el cliente puede recibirla: un cliente lento frena la lectura
+     * de la base de datos en lugar de acumular filas en memoria.
+     * @return Flux de PersonaResumenDTO serializado como un objeto JSON por línea.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PersonaResumenDTO> exportarPersonas() {
+        return servicioPersona.transmitirTodasLasPersonas();
+    }
+
+    /**
+     * GET /api/personas/{id}: Obtiene los detalles completos de una persona.
+     * @param id El ID de la persona.
+     * @return Mono con el PersonaDetalleDTO y estado 200 OK.
+     */
+    @GetMapping("/{id}")
+    public Mono<PersonaDetalleDTO> obtenerPersonaPorId(@PathVariable Long id) {
+        return servicioPersona.obtenerPersonaPorId(id);
+    }
+
+    /**
+     * POST /api/personas: Crea una nueva persona.
+     * @param personaCrearDTO El DTO con los datos para la creación.
+     * @param request La petición, para construir la URI del nuevo recurso.
+     * @return Mono con el PersonaDetalleDTO creado, la URI del nuevo recurso y estado 201 Created.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<PersonaDetalleDTO>> crearPersona(@Valid @RequestBody PersonaCrearDTO personaCrearDTO, ServerHttpRequest request) {
+        return servicioPersona.crearPersona(personaCrearDTO)
+                .map(personaCreada -> {
+                    URI ubicacion = UriComponentsBuilder.fromUri(request.getURI()).path("/{id}")
+                            .buildAndExpand(personaCreada.getId()).toUri();
+                    return ResponseEntity.created(ubicacion).body(personaCreada);
+                });
+    }
+
+    /**
+     * PUT /api/personas/{id}: Actualiza una persona existente.
+     * @param id El ID de la persona a actualizar.
+     * @param personaActualizarDTO El DTO con los datos actualizados.
+     * @return Mono con el PersonaDetalleDTO actualizado y estado 200 OK.
+     */
+    @PutMapping("/{id}")
+    public Mono<PersonaDetalleDTO> actualizarPersona(@PathVariable Long id, @Valid @RequestBody PersonaActualizarDTO personaActualizarDTO) {
+        return servicioPersona.actualizarPersona(id, personaActualizarDTO);
+    }
+
+    /**
+     * DELETE /api/personas/{id}: Elimina una persona por su ID.
+     * @param id El ID de la persona a eliminar.
+     * @return Mono vacío y estado 204 No Content.
+     */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> eliminarPersona(@PathVariable Long id) {
+        return servicioPersona.eliminarPersona(id);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.gestionderecursos.reactivo.controladores;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.reactivo.servicios.ServicioProyectoReactivo;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Controlador REST reactivo para la gestión de proyectos.
+ * Expone el mismo contrato que ControladorProyecto sobre WebFlux.
+ */
+@RestController
+@RequestMapping("/api/proyectos")
+public class ControladorProyectoReactivo {
+
+    private final ServicioProyectoReactivo servicioProyecto;
+
+    public ControladorProyectoReactivo(ServicioProyectoReactivo servicioProyecto) {
+        this.servicioProyecto = servicioProyecto;
+    }
+
+    /**
+     * GET /api/proyectos: Obtiene una lista paginada y resumida de todos los proyectos.
+     * Acepta parámetros como ?page=0&size=10&sort=nombre,asc
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return Mono con una página de ProyectoResumenDTO y estado 200 OK.
+     */
+    @GetMapping
+    public Mono<Page<ProyectoResumenDTO>> listarTodosLosProyectos(@PageableDefault(size = 10, sort = "nombre") Pageable pageable) {
+        return servicioProyecto.listarTodosLosProyectos(pageable);
+    }
+
+    /**
+     * GET /api/proyectos/export: Transmite todos los proyectos en forma resumida como NDJSON,
+     * al ritmo que el cliente es capaz de consumir.
+     * @return Flux de ProyectoResumenDTO serializado como un objeto JSON por línea.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProyectoResumenDTO> exportarProyectos() {
+        return servicioProyecto.transmitirTodosLosProyectos();
+    }
+
+    /**
+     * GET /api/proyectos/{id}: Obtiene los detalles completos de un proyecto.
+     * @param id El ID del proyecto.
+     * @return Mono con el ProyectoDetalleDTO y estado 200 OK.
+     */
+    @GetMapping("/{id}")
+    public Mono<ProyectoDetalleDTO> obtenerProyectoPorId(@PathVariable Long id) {
+        return servicioProyecto.obtenerProyectoPorId(id);
+    }
+
+    /**
+     * POST /api/proyectos: Crea un nuevo proyecto.
+     * @param proyectoCrearDTO El DTO con los datos para la creación.
+     * @param request La petición, para construir la URI del nuevo recurso.
+     * @return Mono con el ProyectoDetalleDTO creado, la URI del nuevo recurso y estado 201 Created.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ProyectoDetalleDTO>> crearProyecto(@Valid @RequestBody ProyectoCrearDTO proyectoCrearDTO, ServerHttpRequest request) {
+        return servicioProyecto.crearProyecto(proyectoCrearDTO)
+                .map(proyectoCreado -> {
+                    URI ubicacion = UriComponentsBuilder.fromUri(request.getURI()).path("/{id}")
+                            .buildAndExpand(proyectoCreado.getId()).toUri();
+                    return ResponseEntity.created(ubicacion).body(proyectoCreado);
+                });
+    }
+
+    /**
+     * PUT /api/proyectos/{id}: Actualiza un proyecto existente.
+     * @param id El ID del proyecto a actualizar.
+     * @param proyectoActualizarDTO El DTO con los datos actualizados.
+     * @return Mono con el ProyectoDetalleDTO actualizado y estado 200 OK.
+     */
+    @PutMapping("/{id}")
+    public Mono<ProyectoDetalleDTO> actualizarProyecto(@PathVariable Long id, @Valid @RequestBody ProyectoActualizarDTO proyectoActualizarDTO) {
+        return servicioProyecto.actualizarProyecto(id, proyectoActualizarDTO);
+    }
+
+    /**
+     * DELETE /api/proyectos/{id}: Elimina un proyecto por su ID.
+     * @param id El ID del proyecto a eliminar.
+     * @return Mono vacío y estado 204 No Content.
+     */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> eliminarProyecto(@PathVariable Long id) {
+        return servicioProyecto.eliminarProyecto(id);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.gestionderecursos.reactivo.excepciones;
+
+import com.example.gestionderecursos.excepciones.ApiError;
+import com.example.gestionderecursos.excepciones.RecursoNoEncontradoException;
+import com.example.gestionderecursos.excepciones.RecursoYaExisteException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Manejo global de excepciones de la variante reactiva.
+ * Produce los mismos estados y el mismo ApiError que ManejadorExcepcionesGlobal.
+ */
+@ControllerAdvice
+public class ManejadorExcepcionesReactivo extends ResponseEntityExceptionHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ManejadorExcepcionesReactivo.class);
+
+    /**
+     * Maneja RecursoNoEncontradoException para devolver un 404 Not Found.
+     */
+    @ExceptionHandler(RecursoNoEncontradoException.class)
+    public ResponseEntity<ApiError> manejarRecursoNoEncontrado(RecursoNoEncontradoException ex) {
+        ApiError apiError = new ApiError(HttpStatus.NOT_FOUND, "Recurso no encontrado", ex.getMessage());
+        return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Maneja RecursoYaExisteException para devolver un 409 Conflict.
+     */
+    @ExceptionHandler(RecursoYaExisteException.class)
+    public ResponseEntity<ApiError> manejarRecursoYaExiste(RecursoYaExisteException ex) {
+        ApiError apiError = new ApiError(HttpStatus.CONFLICT, "Conflicto de recurso", ex.getMessage());
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Maneja las violaciones de integridad que no se tradujeron a una excepción de negocio para devolver un 409 Conflict.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> manejarViolacionDeIntegridad(DataIntegrityViolationException ex) {
+        LOG.warn("Violación de integridad de datos: {}", ex.getMostSpecificCause().getMessage());
+        ApiError apiError = new ApiError(HttpStatus.CONFLICT, "Conflicto de integridad de datos",
+                "La operación entra en conflicto con datos ya existentes.");
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Maneja WebExchangeBindException para errores de validación en @RequestBody
+     * (equivalente reactivo de MethodArgumentNotValidException).
+     */
+    @Override
+    protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(WebExchangeBindException ex, HttpHeaders headers,
+                                                                        HttpStatusCode status, ServerWebExchange exchange) {
+        List<String> errores = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .collect(Collectors.toList());
+
+        ApiError apiError = new ApiError(HttpStatus.BAD_REQUEST, "Error de validación", errores);
+        return Mono.just(new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST));
+    }
+
+    /**
+     * Captura todas las demás excepciones no manejadas para devolver un 500 Internal Server Error.
+     */
+    @ExceptionHandler({ Exception.class })
+    public ResponseEntity<ApiError> manejarTodasLasExcepciones(Exception ex) {
+        LOG.error("Ocurrió un error inesperado en el servidor:", ex);
+
+        ApiError apiError = new ApiError(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "Error interno del servidor",
+                "Ocurrió un error inesperado. Por favor, contacte al administrador.");
+        return new ResponseEntity<>(apiError, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
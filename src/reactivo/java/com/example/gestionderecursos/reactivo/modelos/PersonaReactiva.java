@@ -0,0 +1,27 @@
+package com.example.gestionderecursos.reactivo.modelos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Fila de la tabla personas para R2DBC. Mismas columnas que la entidad JPA Persona;
+ * dominioCorreo lo calcula el servicio en cada alta y modificación.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("personas")
+public class PersonaReactiva {
+
+    @Id
+    private Long id;
+    private String nombre;
+    private int edad;
+    private String correoElectronico;
+    private String dominioCorreo;
+}
@@ -0,0 +1,27 @@
+package com.example.gestionderecursos.reactivo.modelos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Fila de la tabla proyectos para R2DBC. Mismas columnas que la entidad JPA Proyecto.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("proyectos")
+public class ProyectoReactivo {
+
+    @Id
+    private Long id;
+    private String nombre;
+    private String descripcion;
+    private LocalDate fechaCreacion;
+}
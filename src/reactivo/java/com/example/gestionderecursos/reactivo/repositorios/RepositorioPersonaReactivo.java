@@ -0,0 +1,31 @@
+package com.example.gestionderecursos.reactivo.repositorios;
+
+import com.example.gestionderecursos.reactivo.modelos.PersonaReactiva;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contraparte reactiva de RepositorioPersona.
+ */
+@Repository
+public interface RepositorioPersonaReactivo extends ReactiveCrudRepository<PersonaReactiva, Long> {
+
+    /**
+     * Una página de personas; el total se obtiene aparte con count().
+     * Genera: "SELECT ... FROM personas ORDER BY ... LIMIT ? OFFSET ?"
+     */
+    Flux<PersonaReactiva> findAllBy(Pageable pageable);
+
+    /**
+     * Todas las personas en el orden indicado. Las filas se piden al driver según la demanda del suscriptor.
+     */
+    Flux<PersonaReactiva> findAllBy(Sort sort);
+
+    Mono<Boolean> existsByCorreoElectronico(String correoElectronico);
+
+    Mono<PersonaReactiva> findByCorreoElectronico(String correoElectronico);
+}
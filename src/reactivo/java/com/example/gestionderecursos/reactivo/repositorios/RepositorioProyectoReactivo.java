@@ -0,0 +1,24 @@
+package com.example.gestionderecursos.reactivo.repositorios;
+
+import com.example.gestionderecursos.reactivo.modelos.ProyectoReactivo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contraparte reactiva de RepositorioProyecto.
+ */
+@Repository
+public interface RepositorioProyectoReactivo extends ReactiveCrudRepository<ProyectoReactivo, Long> {
+
+    Flux<ProyectoReactivo> findAllBy(Pageable pageable);
+
+    Flux<ProyectoReactivo> findAllBy(Sort sort);
+
+    Mono<Boolean> existsByNombre(String nombre);
+
+    Mono<ProyectoReactivo> findByNombre(String nombre);
+}
@@ -0,0 +1,59 @@
+package com.example.gestionderecursos.reactivo.servicios;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contraparte reactiva de ServicioPersona: mismas reglas de negocio y mismos DTOs,
+ * con resultados Mono/Flux en lugar de valores bloqueantes.
+ */
+public interface ServicioPersonaReactivo {
+
+    /**
+     * Obtiene una página resumida de personas y el total de elementos.
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return Un Mono con la página (Page) de PersonaResumenDTO.
+     */
+    Mono<Page<PersonaResumenDTO>> listarTodasLasPersonas(Pageable pageable);
+
+    /**
+     * Emite todas las personas en forma resumida, ordenadas por id, a medida que el suscriptor las pide.
+     * @return Un Flux de PersonaResumenDTO.
+     */
+    Flux<PersonaResumenDTO> transmitirTodasLasPersonas();
+
+    /**
+     * Obtiene el detalle de una persona.
+     * @param id El ID de la persona.
+     * @return Un Mono con el PersonaDetalleDTO, o un error RecursoNoEncontradoException.
+     */
+    Mono<PersonaDetalleDTO> obtenerPersonaPorId(Long id);
+
+    /**
+     * Crea una persona. El correo debe ser único.
+     * @param personaCrearDTO El DTO con los datos para la creación.
+     * @return Un Mono con el PersonaDetalleDTO creado, o un error RecursoYaExisteException.
+     */
+    Mono<PersonaDetalleDTO> crearPersona(PersonaCrearDTO personaCrearDTO);
+
+    /**
+     * Actualiza una persona existente. El nuevo correo no puede estar en uso por otra persona.
+     * @param id El ID de la persona.
+     * @param personaActualizarDTO El DTO con los datos actualizados.
+     * @return Un Mono con el PersonaDetalleDTO actualizado.
+     */
+    Mono<PersonaDetalleDTO> actualizarPersona(Long id, PersonaActualizarDTO personaActualizarDTO);
+
+    /**
+     * Elimina una persona.
+     * @param id El ID de la persona.
+     * @return Un Mono vacío al terminar, o un error RecursoNoEncontradoException.
+     */
+    Mono<Void> eliminarPersona(Long id);
+}
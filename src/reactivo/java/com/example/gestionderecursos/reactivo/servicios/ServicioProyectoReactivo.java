@@ -0,0 +1,59 @@
+package com.example.gestionderecursos.reactivo.servicios;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contraparte reactiva de ServicioProyecto: mismas reglas de negocio y mismos DTOs,
+ * con resultados Mono/Flux en lugar de valores bloqueantes.
+ */
+public interface ServicioProyectoReactivo {
+
+    /**
+     * Obtiene una página resumida de proyectos y el total de elementos.
+     * @param pageable Objeto que contiene la información de paginación y ordenamiento.
+     * @return Un Mono con la página (Page) de ProyectoResumenDTO.
+     */
+    Mono<Page<ProyectoResumenDTO>> listarTodosLosProyectos(Pageable pageable);
+
+    /**
+     * Emite todos los proyectos en forma resumida, ordenados por id, a medida que el suscriptor los pide.
+     * @return Un Flux de ProyectoResumenDTO.
+     */
+    Flux<ProyectoResumenDTO> transmitirTodosLosProyectos();
+
+    /**
+     * Obtiene el detalle de un proyecto.
+     * @param id El ID del proyecto.
+     * @return Un Mono con el ProyectoDetalleDTO, o un error RecursoNoEncontradoException.
+     */
+    Mono<ProyectoDetalleDTO> obtenerProyectoPorId(Long id);
+
+    /**
+     * Crea un proyecto con la fecha de hoy. El nombre debe ser único.
+     * @param proyectoCrearDTO El DTO con los datos para la creación.
+     * @return Un Mono con el ProyectoDetalleDTO creado, o un error RecursoYaExisteException.
+     */
+    Mono<ProyectoDetalleDTO> crearProyecto(ProyectoCrearDTO proyectoCrearDTO);
+
+    /**
+     * Actualiza un proyecto existente. El nuevo nombre no puede estar en uso por otro proyecto.
+     * @param id El ID del proyecto.
+     * @param proyectoActualizarDTO El DTO con los datos actualizados.
+     * @return Un Mono con el ProyectoDetalleDTO actualizado.
+     */
+    Mono<ProyectoDetalleDTO> actualizarProyecto(Long id, ProyectoActualizarDTO proyectoActualizarDTO);
+
+    /**
+     * Elimina un proyecto.
+     * @param id El ID del proyecto.
+     * @return Un Mono vacío al terminar, o un error RecursoNoEncontradoException.
+     */
+    Mono<Void> eliminarProyecto(Long id);
+}
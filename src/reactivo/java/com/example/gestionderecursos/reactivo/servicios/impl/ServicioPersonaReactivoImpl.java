@@ -0,0 +1,128 @@
+package com.example.gestionderecursos.reactivo.servicios.impl;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.excepciones.RecursoNoEncontradoException;
+import com.example.gestionderecursos.excepciones.RecursoYaExisteException;
+import com.example.gestionderecursos.excepciones.ViolacionesDeUnicidad;
+import com.example.gestionderecursos.modelos.Persona;
+import com.example.gestionderecursos.reactivo.modelos.PersonaReactiva;
+import com.example.gestionderecursos.reactivo.repositorios.RepositorioPersonaReactivo;
+import com.example.gestionderecursos.reactivo.servicios.ServicioPersonaReactivo;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+@Service
+public class ServicioPersonaReactivoImpl implements ServicioPersonaReactivo {
+
+    private final RepositorioPersonaReactivo repositorioPersona;
+
+    public ServicioPersonaReactivoImpl(RepositorioPersonaReactivo repositorioPersona) {
+        this.repositorioPersona = repositorioPersona;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Page<PersonaResumenDTO>> listarTodasLasPersonas(Pageable pageable) {
+        // Estrategia: la página y el total se piden a la vez y se combinan al llegar ambos.
+        return Mono.zip(repositorioPersona.findAllBy(pageable).map(ServicioPersonaReactivoImpl::aResumen).collectList(),
+                        repositorioPersona.count())
+                .map(pagina -> new PageImpl<>(pagina.getT1(), pageable, pagina.getT2()));
+    }
+
+    @Override
+    public Flux<PersonaResumenDTO> transmitirTodasLasPersonas() {
+        // Estrategia: sin collectList(); cada fila se emite en cuanto el consumidor la pide (backpressure).
+        return repositorioPersona.findAllBy(Sort.by("id")).map(ServicioPersonaReactivoImpl::aResumen);
+    }
+
+    @Override
+    public Mono<PersonaDetalleDTO> obtenerPersonaPorId(Long id) {
+        return repositorioPersona.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException("Persona no encontrada con ID: " + id)))
+                .map(ServicioPersonaReactivoImpl::aDetalle);
+    }
+
+    @Override
+    @Transactional
+    public Mono<PersonaDetalleDTO> crearPersona(PersonaCrearDTO personaCrearDTO) {
+        String correo = personaCrearDTO.getCorreoElectronico();
+        String mensajeConflicto = "El correo electrónico proporcionado ya esta en uso.";
+        PersonaReactiva persona = new PersonaReactiva(null, personaCrearDTO.getNombre(), personaCrearDTO.getEdad(),
+                correo, Persona.extraerDominio(correo));
+
+        return repositorioPersona.existsByCorreoElectronico(correo)
+                .flatMap(existe -> existe
+                        ? Mono.<PersonaReactiva>error(new RecursoYaExisteException(mensajeConflicto))
+                        : guardarConCorreoUnico(persona, mensajeConflicto))
+                .map(ServicioPersonaReactivoImpl::aDetalle);
+    }
+
+    @Override
+    @Transactional
+    public Mono<PersonaDetalleDTO> actualizarPersona(Long id, PersonaActualizarDTO personaActualizarDTO) {
+        String nuevoCorreo = personaActualizarDTO.getCorreoElectronico();
+        String mensajeConflicto = "El correo electronico " + nuevoCorreo + " ya esta en uso por otra persona";
+
+        return repositorioPersona.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException("Persona no encontrada con ID: " + id)))
+                .flatMap(personaExistente -> {
+                    Mono<Boolean> correoOcupado = Objects.equals(nuevoCorreo, personaExistente.getCorreoElectronico())
+                            ? Mono.just(false)
+                            : repositorioPersona.findByCorreoElectronico(nuevoCorreo)
+                                .map(otra -> !otra.getId().equals(id))
+                                .defaultIfEmpty(false);
+                    return correoOcupado.flatMap(ocupado -> {
+                        if (ocupado) {
+                            return Mono.error(new RecursoYaExisteException(mensajeConflicto));
+                        }
+                        personaExistente.setNombre(personaActualizarDTO.getNombre());
+                        personaExistente.setEdad(personaActualizarDTO.getEdad());
+                        personaExistente.setCorreoElectronico(nuevoCorreo);
+                        personaExistente.setDominioCorreo(Persona.extraerDominio(nuevoCorreo));
+                        return guardarConCorreoUnico(personaExistente, mensajeConflicto);
+                    });
+                })
+                .map(ServicioPersonaReactivoImpl::aDetalle);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> eliminarPersona(Long id) {
+        return repositorioPersona.existsById(id)
+                .flatMap(existe -> existe
+                        ? repositorioPersona.deleteById(id)
+                        : Mono.error(new RecursoNoEncontradoException("No se puede eliminar. Persona no encontrada con id: " + id)));
+    }
+
+    /**
+     * Traduce una violación de uk_personas_correo_electronico (dos altas concurrentes con el mismo correo)
+     * a RecursoYaExisteException, igual que la pila bloqueante.
+     */
+    private Mono<PersonaReactiva> guardarConCorreoUnico(PersonaReactiva persona, String mensajeConflicto) {
+        return repositorioPersona.save(persona)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> ViolacionesDeUnicidad.esViolacionDe(ex, Persona.UK_CORREO_ELECTRONICO)
+                                ? new RecursoYaExisteException(mensajeConflicto, ex)
+                                : ex);
+    }
+
+    private static PersonaResumenDTO aResumen(PersonaReactiva persona) {
+        return new PersonaResumenDTO(persona.getId(), persona.getNombre(), persona.getCorreoElectronico());
+    }
+
+    private static PersonaDetalleDTO aDetalle(PersonaReactiva persona) {
+        return new PersonaDetalleDTO(persona.getId(), persona.getNombre(), persona.getEdad(), persona.getCorreoElectronico());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.gestionderecursos.reactivo.servicios.impl;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.excepciones.RecursoNoEncontradoException;
+import com.example.gestionderecursos.excepciones.RecursoYaExisteException;
+import com.example.gestionderecursos.excepciones.ViolacionesDeUnicidad;
+import com.example.gestionderecursos.modelos.Proyecto;
+import com.example.gestionderecursos.reactivo.modelos.ProyectoReactivo;
+import com.example.gestionderecursos.reactivo.repositorios.RepositorioProyectoReactivo;
+import com.example.gestionderecursos.reactivo.servicios.ServicioProyectoReactivo;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Service
+public class ServicioProyectoReactivoImpl implements ServicioProyectoReactivo {
+
+    private final RepositorioProyectoReactivo repositorioProyecto;
+
+    public ServicioProyectoReactivoImpl(RepositorioProyectoReactivo repositorioProyecto) {
+        this.repositorioProyecto = repositorioProyecto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<Page<ProyectoResumenDTO>> listarTodosLosProyectos(Pageable pageable) {
+        return Mono.zip(repositorioProyecto.findAllBy(pageable).map(ServicioProyectoReactivoImpl::aResumen).collectList(),
+                        repositorioProyecto.count())
+                .map(pagina -> new PageImpl<>(pagina.getT1(), pageable, pagina.getT2()));
+    }
+
+    @Override
+    public Flux<ProyectoResumenDTO> transmitirTodosLosProyectos() {
+        return repositorioProyecto.findAllBy(Sort.by("id")).map(ServicioProyectoReactivoImpl::aResumen);
+    }
+
+    @Override
+    public Mono<ProyectoDetalleDTO> obtenerProyectoPorId(Long id) {
+        return repositorioProyecto.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException("Proyecto no encontrado con id : " + id)))
+                .map(ServicioProyectoReactivoImpl::aDetalle);
+    }
+
+    @Override
+    @Transactional
+    public Mono<ProyectoDetalleDTO> crearProyecto(ProyectoCrearDTO proyectoCrearDTO) {
+        String nombre = proyectoCrearDTO.getNombre();
+        String mensajeConflicto = "Ya existe un proyecto con el nombre: " + nombre;
+        ProyectoReactivo proyecto = new ProyectoReactivo(null, nombre, proyectoCrearDTO.getDescripcion(), LocalDate.now());
+
+        return repositorioProyecto.existsByNombre(nombre)
+                .flatMap(existe -> existe
+                        ? Mono.<ProyectoReactivo>error(new RecursoYaExisteException(mensajeConflicto))
+                        : guardarConNombreUnico(proyecto, mensajeConflicto))
+                .map(ServicioProyectoReactivoImpl::aDetalle);
+    }
+
+    @Override
+    @Transactional
+    public Mono<ProyectoDetalleDTO> actualizarProyecto(Long id, ProyectoActualizarDTO proyectoActualizarDTO) {
+        String nuevoNombre = proyectoActualizarDTO.getNombre();
+        String mensajeConflicto = "El nombre '" + nuevoNombre + "' ya esta en uso por otro proyecto";
+
+        return repositorioProyecto.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RecursoNoEncontradoException("Proyecto no encontrado con id: " + id)))
+                .flatMap(proyectoExistente -> {
+                    Mono<Boolean> nombreOcupado = Objects.equals(nuevoNombre, proyectoExistente.getNombre())
+                            ? Mono.just(false)
+                            : repositorioProyecto.findByNombre(nuevoNombre)
+                                .map(otro -> !otro.getId().equals(id))
+                                .defaultIfEmpty(false);
+                    return nombreOcupado.flatMap(ocupado -> {
+                        if (ocupado) {
+                            return Mono.error(new RecursoYaExisteException(mensajeConflicto));
+                        }
+                        proyectoExistente.setNombre(nuevoNombre);
+                        proyectoExistente.setDescripcion(proyectoActualizarDTO.getDescripcion());
+                        return guardarConNombreUnico(proyectoExistente, mensajeConflicto);
+                    });
+                })
+                .map(ServicioProyectoReactivoImpl::aDetalle);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> eliminarProyecto(Long id) {
+        return repositorioProyecto.existsById(id)
+                .flatMap(existe -> existe
+                        ? repositorioProyecto.deleteById(id)
+                        : Mono.error(new RecursoNoEncontradoException("Proyecto no encontrado con id: " + id)));
+    }
+
+    /**
+     * Traduce una violación de uk_proyectos_nombre a RecursoYaExisteException, igual que la pila bloqueante.
+     */
+    private Mono<ProyectoReactivo> guardarConNombreUnico(ProyectoReactivo proyecto, String mensajeConflicto) {
+        return repositorioProyecto.save(proyecto)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> ViolacionesDeUnicidad.esViolacionDe(ex, Proyecto.UK_NOMBRE)
+                                ? new RecursoYaExisteException(mensajeConflicto, ex)
+                                : ex);
+    }
+
+    private static ProyectoResumenDTO aResumen(ProyectoReactivo proyecto) {
+        return new ProyectoResumenDTO(proyecto.getId(), proyecto.getNombre());
+    }
+
+    private static ProyectoDetalleDTO aDetalle(ProyectoReactivo proyecto) {
+        return new ProyectoDetalleDTO(proyecto.getId(), proyecto.getNombre(), proyecto.getDescripcion(), proyecto.getFechaCreacion());
+    }
+}
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS personas (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre VARCHAR(150) NOT NULL,
+    edad INT NOT NULL,
+    correo_electronico VARCHAR(255),
+    dominio_correo VARCHAR(255),
+    CONSTRAINT uk_personas_correo_electronico UNIQUE (correo_electronico)
+);
+CREATE INDEX IF NOT EXISTS idx_personas_nombre_id ON personas (nombre, id);
+CREATE INDEX IF NOT EXISTS idx_personas_dominio_correo_id ON personas (dominio_correo, id);
+
+CREATE TABLE IF NOT EXISTS proyectos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nombre VARCHAR(150) NOT NULL,
+    descripcion VARCHAR(500),
+    fecha_creacion DATE NOT NULL,
+    CONSTRAINT uk_proyectos_nombre UNIQUE (nombre)
+);
+CREATE INDEX IF NOT EXISTS idx_proyectos_nombre_id ON proyectos (nombre, id);
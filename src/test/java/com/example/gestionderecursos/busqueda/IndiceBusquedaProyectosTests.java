@@ -0,0 +1,46 @@
+package com.example.gestionderecursos.busqueda;
+
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias del índice de búsqueda frente a eventos desordenados: una modificación atrasada no
+ * pisa a la más reciente ni vuelve a indexar un proyecto borrado.
+ */
+class IndiceBusquedaProyectosTests {
+
+    private final IndiceBusquedaProyectos indice = new IndiceBusquedaProyectos(null);
+
+    @Test
+    void deberiaIgnorarUnaModificacionMasAntiguaQueLaIndexada() {
+        indice.indexar(proyecto(1L, "Migracion nube", 2L));
+        indice.indexar(proyecto(1L, "Portal clientes", 1L));
+
+        assertEquals(List.of(1L), ids("nube"));
+        assertEquals(List.of(), ids("portal"));
+    }
+
+    @Test
+    void deberiaIgnorarUnaModificacionQueLlegaTrasElBorrado() {
+        indice.indexar(proyecto(1L, "Migracion nube", 0L));
+        indice.eliminar(1L);
+        indice.indexar(proyecto(1L, "Migracion nube", 1L));
+
+        assertEquals(List.of(), ids("nube"));
+    }
+
+    private List<Long> ids(String consulta) {
+        return indice.buscar(consulta, PageRequest.of(0, 10)).map(ProyectoResumenDTO::getId).getContent();
+    }
+
+    private static ProyectoDetalleDTO proyecto(Long id, String nombre, Long version) {
+        return new ProyectoDetalleDTO(id, nombre, "Proyecto de prueba", LocalDate.now(), version, null);
+    }
+}
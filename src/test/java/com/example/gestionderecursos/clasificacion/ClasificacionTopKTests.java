@@ -0,0 +1,104 @@
+package com.example.gestionderecursos.clasificacion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias de la clasificación top-K: coincide en todo momento con ordenar la "tabla" completa,
+ * ignora los eventos atrasados y solo vuelve a cargar cuando las bajas la dejan por debajo de k.
+ */
+class ClasificacionTopKTests {
+
+    private record Fila(long id, int valor, long version) {
+    }
+
+    private static final Comparator<Fila> ORDEN = Comparator.comparingInt(Fila::valor).thenComparingLong(Fila::id).reversed();
+
+    private final Map<Long, Fila> tabla = new TreeMap<>();
+    private int cargas;
+    private ClasificacionTopK<Fila> clasificacion;
+
+    @BeforeEach
+    void crear() {
+        for (long id = 1; id <= 20; id++) {
+            tabla.put(id, new Fila(id, (int) (id * 7 % 13), 0));
+        }
+        clasificacion = new ClasificacionTopK<>(5, ORDEN, Fila::id, Fila::version, n -> {
+            cargas++;
+            return tabla.values().stream().sorted(ORDEN).limit(n).toList();
+        });
+        clasificacion.recargar();
+    }
+
+    @Test
+    void deberiaCoincidirConOrdenarLaTablaTrasAltasYModificaciones() {
+        guardar(new Fila(21, 12, 0));
+        guardar(new Fila(3, 0, 1));
+        guardar(new Fila(5, 11, 1));
+        guardar(new Fila(22, 1, 0));
+
+        assertEquals(esperado(5), clasificacion.primeros(5));
+        assertEquals(esperado(2), clasificacion.primeros(2));
+        assertEquals(1, cargas);
+    }
+
+    @Test
+    void deberiaRecargarSoloCuandoLasBajasLaVacianPorDebajoDeK() {
+        List<Fila> iniciales = clasificacion.primeros(5);
+        borrar(iniciales.get(0).id());
+        borrar(iniciales.get(1).id());
+
+        assertEquals(esperado(3), clasificacion.primeros(3));
+        assertEquals(1, cargas);
+
+        assertEquals(esperado(5), clasificacion.primeros(5));
+        assertEquals(2, cargas);
+    }
+
+    @Test
+    void deberiaIgnorarEventosMasAntiguosQueElElementoRetenido() {
+        guardar(new Fila(21, 12, 2));
+        clasificacion.registrar(new Fila(21, 0, 1));
+
+        assertEquals(esperado(5), clasificacion.primeros(5));
+        assertEquals(1, cargas);
+    }
+
+    @Test
+    void noDeberiaVolverAMeterUnElementoBorradoConUnEventoAtrasado() {
+        guardar(new Fila(21, 12, 1));
+        borrar(21);
+        clasificacion.registrar(new Fila(21, 12, 1));
+
+        // Tras la baja quedan cuatro retenidos: se sirven desde memoria, sin recargar.
+        assertEquals(esperado(4), clasificacion.primeros(4));
+        assertEquals(1, cargas);
+    }
+
+    @Test
+    void deberiaAcotarKALaCapacidad() {
+        assertEquals(5, clasificacion.primeros(1000).size());
+        assertEquals(1, clasificacion.primeros(0).size());
+    }
+
+    private void guardar(Fila fila) {
+        tabla.put(fila.id(), fila);
+        clasificacion.registrar(fila);
+    }
+
+    private void borrar(long id) {
+        tabla.remove(id);
+        clasificacion.eliminar(id);
+    }
+
+    private List<Fila> esperado(int k) {
+        return tabla.values().stream().sorted(ORDEN).limit(k).toList();
+    }
+}
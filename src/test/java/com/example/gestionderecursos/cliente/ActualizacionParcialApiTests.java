@@ -0,0 +1,131 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoParcialDTO;
+import com.example.gestionderecursos.modelos.Persona;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de los PATCH: no más sentencias SQL que el PUT y sin cargar la entidad, 204 o representación
+ * según la cabecera Prefer, y validación, conflicto y 404 igual que en el PUT.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ActualizacionParcialApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void obtenerEstadisticas() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deberiaActualizarUnaPersonaSinCargarLaEntidad() {
+        String correo = UUID.randomUUID() + "@example.com";
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Irene", 28, correo), PersonaDetalleDTO.class);
+        String url = "/api/personas/" + creada.getId();
+
+        // El PUT se mide sin la entidad en la caché de segundo nivel: si no, su lectura no cuesta ninguna sentencia.
+        entityManagerFactory.getCache().evict(Persona.class, creada.getId());
+        long antesPut = estadisticas.getPrepareStatementCount();
+        restTemplate.put(url, new PersonaActualizarDTO("Irene", 29, correo));
+        long sentenciasPut = estadisticas.getPrepareStatementCount() - antesPut;
+
+        long antesPatch = estadisticas.getPrepareStatementCount();
+        ResponseEntity<PersonaDetalleDTO> respuesta = patch(url, new PersonaParcialDTO(null, 30, null), null, PersonaDetalleDTO.class);
+        long sentenciasPatch = estadisticas.getPrepareStatementCount() - antesPatch;
+
+        assertEquals(HttpStatus.NO_CONTENT, respuesta.getStatusCode());
+        // Lectura del estado anterior con SELECT ... FOR UPDATE y el UPDATE de los campos presentes.
+        assertEquals(2, sentenciasPatch);
+        assertTrue(sentenciasPut >= sentenciasPatch, "PUT: " + sentenciasPut + " sentencias, PATCH: " + sentenciasPatch);
+
+        ResponseEntity<PersonaDetalleDTO> leida = restTemplate.getForEntity(url, PersonaDetalleDTO.class);
+        assertEquals(30, leida.getBody().getEdad());
+        assertEquals("Irene", leida.getBody().getNombre());
+        assertEquals(respuesta.getHeaders().getETag(), leida.getHeaders().getETag());
+    }
+
+    @Test
+    void deberiaDevolverLaRepresentacionSoloSiSePide() {
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Hugo", 50, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+
+        ResponseEntity<PersonaDetalleDTO> respuesta = patch("/api/personas/" + creada.getId(),
+                new PersonaParcialDTO("Hugo Martín", null, null), "return=representation", PersonaDetalleDTO.class);
+
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        assertEquals("Hugo Martín", respuesta.getBody().getNombre());
+        assertEquals(50, respuesta.getBody().getEdad());
+        assertEquals(creada.getCorreoElectronico(), respuesta.getBody().getCorreoElectronico());
+        assertEquals("return=representation", respuesta.getHeaders().getFirst("Preference-Applied"));
+    }
+
+    @Test
+    void deberiaValidarYResolverConflictosComoElPut() {
+        PersonaDetalleDTO primera = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Uno", 20, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        PersonaDetalleDTO segunda = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Dos", 20, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        String url = "/api/personas/" + segunda.getId();
+
+        assertEquals(HttpStatus.CONFLICT,
+                patch(url, new PersonaParcialDTO(null, null, primera.getCorreoElectronico()), null, String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, patch(url, new PersonaParcialDTO(null, 121, null), null, String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, patch(url, new PersonaParcialDTO(" ", null, null), null, String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, patch(url, new PersonaParcialDTO(), null, String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                patch("/api/personas/" + Long.MAX_VALUE, new PersonaParcialDTO("Nadie", null, null), null, String.class).getStatusCode());
+    }
+
+    @Test
+    void deberiaActualizarSoloLaDescripcionDelProyecto() {
+        String nombre = "Parcial " + UUID.randomUUID();
+        ProyectoDetalleDTO creado = restTemplate.postForObject("/api/proyectos", new ProyectoCrearDTO(nombre, "Antes"), ProyectoDetalleDTO.class);
+
+        long antes = estadisticas.getPrepareStatementCount();
+        ResponseEntity<ProyectoDetalleDTO> respuesta = patch("/api/proyectos/" + creado.getId(),
+                new ProyectoParcialDTO(null, "Después"), "return=representation", ProyectoDetalleDTO.class);
+
+        assertEquals(2, estadisticas.getPrepareStatementCount() - antes);
+        assertEquals(nombre, respuesta.getBody().getNombre());
+        assertEquals("Después", respuesta.getBody().getDescripcion());
+        assertEquals(creado.getFechaCreacion(), respuesta.getBody().getFechaCreacion());
+        assertEquals("W/\"1\"", respuesta.getHeaders().getETag());
+    }
+
+    private <T> ResponseEntity<T> patch(String url, Object cuerpo, String prefer, Class<T> tipo) {
+        HttpHeaders cabeceras = new HttpHeaders();
+        if (prefer != null) {
+            cabeceras.set("Prefer", prefer);
+        }
+        return restTemplate.exchange(url, HttpMethod.PATCH, new HttpEntity<>(cuerpo, cabeceras), tipo);
+    }
+}
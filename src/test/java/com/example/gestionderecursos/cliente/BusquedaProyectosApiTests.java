@@ -0,0 +1,105 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de GET /api/proyectos/buscar: normalización de acentos y mayúsculas,
+ * orden por relevancia, paginación y sincronización del índice con altas, cambios y bajas.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BusquedaProyectosApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void deberiaEncontrarSinAcentosNiMayusculasYOrdenarPorRelevancia() {
+        String clave = clave();
+        ProyectoDetalleDTO enDescripcion = crear(clave + " Portal", "Incluye la MIGRACIÓN de usuarios");
+        ProyectoDetalleDTO enNombre = crear(clave + " Migración de datos", null);
+        crear(clave + " Facturación", "Sin relación");
+
+        PaginaDTO<ProyectoResumenDTO> pagina = buscar(clave + " migracion", 0, 10);
+
+        assertEquals(2, pagina.getPagina().getTotalElementos());
+        assertEquals(enNombre.getId(), pagina.getContenido().get(0).getId());
+        assertEquals(enDescripcion.getId(), pagina.getContenido().get(1).getId());
+    }
+
+    @Test
+    void deberiaBuscarSubcadenasYPrefijosCortos() {
+        String clave = clave();
+        ProyectoDetalleDTO proyecto = crear(clave + " Plataforma de analítica", null);
+
+        assertEquals(List.of(proyecto.getId()), ids(buscar(clave + " ANALIT", 0, 10)));
+        assertEquals(List.of(proyecto.getId()), ids(buscar(clave + " pl", 0, 10)));
+        assertEquals(0, buscar(clave + " inexistente", 0, 10).getPagina().getTotalElementos());
+    }
+
+    @Test
+    void deberiaPaginarLosResultados() {
+        String clave = clave();
+        for (int i = 0; i < 5; i++) {
+            crear(clave + " Servicio " + i, null);
+        }
+
+        PaginaDTO<ProyectoResumenDTO> segunda = buscar(clave + " servicio", 1, 2);
+
+        assertEquals(5, segunda.getPagina().getTotalElementos());
+        assertEquals(2, segunda.getContenido().size());
+        assertEquals(clave + " Servicio 2", segunda.getContenido().get(0).getNombre());
+    }
+
+    @Test
+    void deberiaReflejarActualizacionesYEliminaciones() {
+        String clave = clave();
+        ProyectoDetalleDTO proyecto = crear(clave + " Inventario", null);
+
+        restTemplate.put("/api/proyectos/" + proyecto.getId(), new ProyectoActualizarDTO(clave + " Logística", null));
+        assertEquals(0, buscar(clave + " inventario", 0, 10).getPagina().getTotalElementos());
+        assertEquals(List.of(proyecto.getId()), ids(buscar(clave + " logistica", 0, 10)));
+
+        restTemplate.delete("/api/proyectos/" + proyecto.getId());
+        assertEquals(0, buscar(clave + " logistica", 0, 10).getPagina().getTotalElementos());
+    }
+
+    /**
+     * Palabra única por prueba para aislarla del resto de datos del contexto compartido.
+     */
+    private static String clave() {
+        return "k" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private ProyectoDetalleDTO crear(String nombre, String descripcion) {
+        return restTemplate.postForObject("/api/proyectos", new ProyectoCrearDTO(nombre, descripcion), ProyectoDetalleDTO.class);
+    }
+
+    private PaginaDTO<ProyectoResumenDTO> buscar(String consulta, int pagina, int tamano) {
+        ResponseEntity<PaginaDTO<ProyectoResumenDTO>> respuesta = restTemplate.exchange(
+                "/api/proyectos/buscar?q={q}&page={page}&size={size}", HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {}, consulta, pagina, tamano);
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        return respuesta.getBody();
+    }
+
+    private static List<Long> ids(PaginaDTO<ProyectoResumenDTO> pagina) {
+        return pagina.getContenido().stream().map(ProyectoResumenDTO::getId).toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de la caché de detalle: aciertos visibles en Actuator e
+ * invalidación tras actualizar y eliminar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CacheDetalleApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void deberiaServirDesdeCacheEInvalidarTrasEscribir() {
+        String correo = UUID.randomUUID() + "@example.com";
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Lucía", 28, correo), PersonaDetalleDTO.class);
+        String url = "/api/personas/" + creada.getId();
+
+        double aciertosIniciales = aciertos();
+        restTemplate.getForObject(url, PersonaDetalleDTO.class);
+        restTemplate.getForObject(url, PersonaDetalleDTO.class);
+        assertTrue(aciertos() >= aciertosIniciales + 1, "La segunda lectura debe ser un acierto de caché");
+
+        restTemplate.put(url, new PersonaActualizarDTO("Lucía Gómez", 29, correo));
+        PersonaDetalleDTO actualizada = restTemplate.getForObject(url, PersonaDetalleDTO.class);
+        assertEquals("Lucía Gómez", actualizada.getNombre());
+        assertEquals(29, actualizada.getEdad());
+
+        restTemplate.delete(url);
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(url, String.class).getStatusCode());
+    }
+
+    private double aciertos() {
+        JsonNode metrica = restTemplate.getForObject("/actuator/metrics/cache.gets?tag=cache:personas&tag=result:hit", JsonNode.class);
+        return metrica.path("measurements").path(0).path("value").asDouble();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.modelos.Persona;
+import com.example.gestionderecursos.modelos.Proyecto;
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import com.example.gestionderecursos.repositorios.RepositorioProyecto;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de la caché de segundo nivel de Hibernate: las lecturas repetidas por id y de las
+ * consultas cacheables no ejecutan SQL, y las escrituras (también las nativas del PATCH y del DELETE) la invalidan.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CacheSegundoNivelApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RepositorioPersona repositorioPersona;
+
+    @Autowired
+    private RepositorioProyecto repositorioProyecto;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void obtenerEstadisticas() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deberiaLeerUnaPersonaPorIdSinSql() {
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Elena", 35, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        repositorioPersona.findById(creada.getId());
+
+        long antes = estadisticas.getPrepareStatementCount();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Elena", repositorioPersona.findById(creada.getId()).orElseThrow().getNombre());
+        }
+        assertEquals(0, estadisticas.getPrepareStatementCount() - antes);
+    }
+
+    @Test
+    void deberiaRepetirLasConsultasCacheablesSinSql() {
+        ProyectoDetalleDTO creado = restTemplate.postForObject("/api/proyectos",
+                new ProyectoCrearDTO("L2 " + UUID.randomUUID(), "Caché de consultas"), ProyectoDetalleDTO.class);
+        LocalDate hoy = creado.getFechaCreacion();
+        repositorioProyecto.findAllByOrderByNombreAsc();
+        repositorioProyecto.findByFechaCreacionBetween(hoy, hoy);
+        repositorioProyecto.findTop5ByOrderByFechaCreacionDesc();
+        repositorioPersona.findAllByOrderByNombreAsc();
+
+        long antes = estadisticas.getPrepareStatementCount();
+        List<Proyecto> porNombre = repositorioProyecto.findAllByOrderByNombreAsc();
+        List<Proyecto> deHoy = repositorioProyecto.findByFechaCreacionBetween(hoy, hoy);
+        repositorioProyecto.findTop5ByOrderByFechaCreacionDesc();
+        repositorioPersona.findAllByOrderByNombreAsc();
+
+        assertEquals(0, estadisticas.getPrepareStatementCount() - antes);
+        assertTrue(porNombre.stream().anyMatch(p -> p.getId().equals(creado.getId())));
+        assertTrue(deHoy.stream().anyMatch(p -> p.getId().equals(creado.getId())));
+    }
+
+    @Test
+    void deberiaInvalidarTrasEscriturasNativas() {
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Raúl", 40, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        assertTrue(repositorioPersona.findAllByOrderByNombreAsc().stream().anyMatch(p -> p.getId().equals(creada.getId())));
+        repositorioPersona.findById(creada.getId());
+
+        restTemplate.exchange("/api/personas/" + creada.getId(), HttpMethod.PATCH,
+                new HttpEntity<>(new PersonaParcialDTO(null, 41, null)), Void.class);
+        assertEquals(41, repositorioPersona.findById(creada.getId()).orElseThrow().getEdad());
+
+        restTemplate.delete("/api/personas/" + creada.getId());
+        assertTrue(repositorioPersona.findById(creada.getId()).isEmpty());
+        List<Persona> restantes = repositorioPersona.findAllByOrderByNombreAsc();
+        assertTrue(restantes.stream().noneMatch(p -> p.getId().equals(creada.getId())));
+    }
+
+    @Test
+    void deberiaPublicarLasEstadisticasDeCadaRegion() {
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Marta", 22, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        repositorioPersona.findById(creada.getId());
+
+        JsonNode metrica = restTemplate.getForObject("/actuator/metrics/app.hibernate.cache.region?tag=region:"
+                + Persona.REGION_CACHE + "&tag=resultado:acierto", JsonNode.class);
+        assertTrue(metrica.path("measurements").path(0).path("value").asDouble() >= 1);
+    }
+}
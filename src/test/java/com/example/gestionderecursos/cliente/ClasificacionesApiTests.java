@@ -0,0 +1,49 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de las clasificaciones en memoria: un proyecto nuevo encabeza /recientes y
+ * desaparece de ella al borrarse; /mayores respeta k y el orden por edad.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ClasificacionesApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void deberiaActualizarLosProyectosRecientesConAltasYBajas() {
+        ProyectoDetalleDTO creado = restTemplate.postForObject("/api/proyectos",
+                new ProyectoCrearDTO("Reciente " + UUID.randomUUID(), "Proyecto de prueba"), ProyectoDetalleDTO.class);
+
+        ProyectoDetalleDTO[] recientes = restTemplate.getForObject("/api/proyectos/recientes?k=1", ProyectoDetalleDTO[].class);
+        assertEquals(1, recientes.length);
+        assertEquals(creado.getId(), recientes[0].getId());
+
+        restTemplate.delete("/api/proyectos/" + creado.getId());
+        ProyectoDetalleDTO[] trasBorrar = restTemplate.getForObject("/api/proyectos/recientes?k=5", ProyectoDetalleDTO[].class);
+        for (ProyectoDetalleDTO proyecto : trasBorrar) {
+            assertNotEquals(creado.getId(), proyecto.getId());
+        }
+    }
+
+    @Test
+    void deberiaDevolverLasPersonasMayoresOrdenadas() {
+        PersonaDetalleDTO[] mayores = restTemplate.getForObject("/api/personas/mayores?k=10", PersonaDetalleDTO[].class);
+        assertTrue(mayores.length <= 10);
+        for (int i = 1; i < mayores.length; i++) {
+            assertTrue(mayores[i - 1].getEdad() >= mayores[i].getEdad());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.gestionderecursos.cliente;
 
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
 import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
@@ -75,22 +76,22 @@ public class ClienteApiRest {
     void deberiaListarProyectosPaginados() {
         log.info("--- PRUEBA 3: Obteniendo la lista paginada de proyectos ---");
 
-        // Definimos el tipo de respuesta esperado, incluyendo nuestra clase de ayuda
-        ParameterizedTypeReference<RestResponsePage<ProyectoResumenDTO>> tipoRespuesta =
+        // Definimos el tipo de respuesta esperado: el sobre PaginaDTO con el tipo de los elementos
+        ParameterizedTypeReference<PaginaDTO<ProyectoResumenDTO>> tipoRespuesta =
                 new ParameterizedTypeReference<>() {};
 
-        ResponseEntity<RestResponsePage<ProyectoResumenDTO>> respuesta = restTemplate.exchange(
+        ResponseEntity<PaginaDTO<ProyectoResumenDTO>> respuesta = restTemplate.exchange(
                 "/api/proyectos?size=5&sort=nombre,asc",
                 HttpMethod.GET,
                 null,
                 tipoRespuesta);
 
         assertEquals(HttpStatus.OK, respuesta.getStatusCode());
-        RestResponsePage<ProyectoResumenDTO> paginaProyectos = respuesta.getBody();
+        PaginaDTO<ProyectoResumenDTO> paginaProyectos = respuesta.getBody();
         assertNotNull(paginaProyectos);
-        assertFalse(paginaProyectos.getContent().isEmpty(), "La lista de proyectos no debería estar vacía");
-        assertTrue(paginaProyectos.getTotalElements() >= 1);
-        log.info("Proyectos obtenidos en la página: {}. Total de elementos: {}", paginaProyectos.getNumberOfElements(), paginaProyectos.getTotalElements());
+        assertFalse(paginaProyectos.getContenido().isEmpty(), "La lista de proyectos no debería estar vacía");
+        assertTrue(paginaProyectos.getPagina().getTotalElementos() >= 1);
+        log.info("Proyectos obtenidos en la página: {}. Total de elementos: {}", paginaProyectos.getPagina().getElementos(), paginaProyectos.getPagina().getTotalElementos());
     }
 
     @Test
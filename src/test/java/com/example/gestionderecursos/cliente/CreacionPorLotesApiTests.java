@@ -0,0 +1,116 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.lote.EstadoItemLote;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de los endpoints de creación por lotes.
+ * Compara además el rendimiento (filas/segundo) frente a la creación elemento a elemento.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CreacionPorLotesApiTests {
+
+    private static final Logger log = LoggerFactory.getLogger(CreacionPorLotesApiTests.class);
+    private static final int FILAS_MEDICION = 500;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void deberiaRechazarLotesQueSuperanElMaximo() {
+        List<ProyectoCrearDTO> lote = new ArrayList<>();
+        for (int i = 0; i <= 10_000; i++) {
+            lote.add(new ProyectoCrearDTO("Excedente " + i, null));
+        }
+
+        ResponseEntity<String> respuesta = restTemplate.postForEntity("/api/proyectos/lote", lote, String.class);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, respuesta.getStatusCode());
+    }
+
+    @Test
+    void deberiaInformarResultadoPorElemento() {
+        String prefijo = UUID.randomUUID().toString();
+        List<PersonaCrearDTO> lote = List.of(
+                new PersonaCrearDTO("Ana", 30, prefijo + "-ana@example.com"),
+                new PersonaCrearDTO("", 200, "no-es-un-correo"),
+                new PersonaCrearDTO("Ana Copia", 31, prefijo + "-ana@example.com"));
+
+        ResponseEntity<ResultadoLoteDTO> respuesta = restTemplate.postForEntity("/api/personas/lote", lote, ResultadoLoteDTO.class);
+
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        ResultadoLoteDTO resultado = respuesta.getBody();
+        assertNotNull(resultado);
+        assertEquals(1, resultado.getCreados());
+        assertEquals(2, resultado.getRechazados());
+        assertEquals(EstadoItemLote.CREADO, resultado.getResultados().get(0).getEstado());
+        assertNotNull(resultado.getResultados().get(0).getId());
+        assertEquals(EstadoItemLote.INVALIDO, resultado.getResultados().get(1).getEstado());
+        assertEquals(EstadoItemLote.DUPLICADO, resultado.getResultados().get(2).getEstado());
+
+        // Un segundo lote con el mismo correo debe detectar el duplicado contra la base de datos.
+        ResultadoLoteDTO repetido = restTemplate.postForObject("/api/personas/lote", lote.subList(0, 1), ResultadoLoteDTO.class);
+        assertEquals(EstadoItemLote.DUPLICADO, repetido.getResultados().get(0).getEstado());
+    }
+
+    @Test
+    void deberiaCrearProyectosEnLote() {
+        String prefijo = UUID.randomUUID().toString();
+        List<ProyectoCrearDTO> lote = List.of(
+                new ProyectoCrearDTO(prefijo + " A", "Primero"),
+                new ProyectoCrearDTO(prefijo + " B", null),
+                new ProyectoCrearDTO(prefijo + " A", "Repetido"));
+
+        ResultadoLoteDTO resultado = restTemplate.postForObject("/api/proyectos/lote", lote, ResultadoLoteDTO.class);
+
+        assertEquals(2, resultado.getCreados());
+        assertEquals(EstadoItemLote.DUPLICADO, resultado.getResultados().get(2).getEstado());
+    }
+
+    @Test
+    void deberiaSuperarAlCaminoIndividualEnFilasPorSegundo() {
+        String prefijo = UUID.randomUUID().toString();
+
+        long inicioIndividual = System.nanoTime();
+        for (int i = 0; i < FILAS_MEDICION; i++) {
+            PersonaCrearDTO persona = new PersonaCrearDTO("Individual " + i, 30, prefijo + "-ind-" + i + "@example.com");
+            ResponseEntity<PersonaDetalleDTO> respuesta = restTemplate.postForEntity("/api/personas", persona, PersonaDetalleDTO.class);
+            assertEquals(HttpStatus.CREATED, respuesta.getStatusCode());
+        }
+        double filasPorSegundoIndividual = filasPorSegundo(inicioIndividual);
+
+        List<PersonaCrearDTO> lote = new ArrayList<>(FILAS_MEDICION);
+        for (int i = 0; i < FILAS_MEDICION; i++) {
+            lote.add(new PersonaCrearDTO("Lote " + i, 30, prefijo + "-lote-" + i + "@example.com"));
+        }
+        long inicioLote = System.nanoTime();
+        ResultadoLoteDTO resultado = restTemplate.postForObject("/api/personas/lote", lote, ResultadoLoteDTO.class);
+        double filasPorSegundoLote = filasPorSegundo(inicioLote);
+
+        assertEquals(FILAS_MEDICION, resultado.getCreados());
+        log.info("Creación de {} personas: individual = {} filas/s, lote = {} filas/s",
+                FILAS_MEDICION, Math.round(filasPorSegundoIndividual), Math.round(filasPorSegundoLote));
+        assertTrue(filasPorSegundoLote > filasPorSegundoIndividual);
+    }
+
+    private static double filasPorSegundo(long inicioNanos) {
+        return FILAS_MEDICION / ((System.nanoTime() - inicioNanos) / 1_000_000_000.0);
+    }
+}
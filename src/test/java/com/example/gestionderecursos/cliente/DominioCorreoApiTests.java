@@ -0,0 +1,96 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.example.gestionderecursos.config.RellenoDominioCorreo;
+import com.example.gestionderecursos.dto.persona.ConteoDominioDTO;
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de las consultas por dominio de correo: listado paginado, conteos,
+ * recálculo al actualizar y relleno de filas sin dominio.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DominioCorreoApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RellenoDominioCorreo rellenoDominioCorreo;
+
+    @Test
+    void deberiaListarYContarPorDominioSinDistinguirMayusculas() {
+        String dominio = "dominio-" + UUID.randomUUID() + ".com";
+        for (int i = 0; i < 3; i++) {
+            crear("persona" + i + "@" + dominio.toUpperCase());
+        }
+        PersonaDetalleDTO otra = crear("otra@" + dominio);
+        crear("ajena@" + UUID.randomUUID() + ".org");
+
+        PaginaDTO<PersonaResumenDTO> pagina = listar("@" + dominio, 0, 2);
+        assertEquals(4, pagina.getPagina().getTotalElementos());
+        assertEquals(2, pagina.getContenido().size());
+        assertEquals(4, contar(dominio));
+
+        restTemplate.put("/api/personas/" + otra.getId(), new PersonaActualizarDTO("Otra", 30, "otra@" + UUID.randomUUID() + ".net"));
+        assertEquals(3, contar(dominio));
+
+        ConteoDominioDTO[] agregado = restTemplate.getForObject("/api/personas/dominios?limite=1000", ConteoDominioDTO[].class);
+        assertTrue(Arrays.stream(agregado).anyMatch(conteo -> conteo.getDominio().equals(dominio) && conteo.getTotal() == 3));
+    }
+
+    @Test
+    void deberiaRellenarElDominioDeFilasInsertadasPorSql() throws Exception {
+        String dominio = "relleno-" + UUID.randomUUID() + ".com";
+        jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico) VALUES (NEXT VALUE FOR personas_seq, 'Sin dominio', 50, ?)",
+                "antigua@" + dominio);
+        assertEquals(0, contar(dominio));
+
+        rellenoDominioCorreo.run(null);
+
+        assertEquals(1, contar(dominio));
+    }
+
+    @Test
+    void deberiaRellenarConLaUltimaArrobaComoAlGuardar() throws Exception {
+        String dominio = "comillas-" + UUID.randomUUID() + ".com";
+        // Parte local entre comillas con una '@': el dominio es lo que sigue a la última.
+        jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico) VALUES (NEXT VALUE FOR personas_seq, 'Comillas', 50, ?)",
+                "\"a@b\"@" + dominio);
+
+        rellenoDominioCorreo.run(null);
+
+        assertEquals(1, contar(dominio));
+    }
+
+    private PersonaDetalleDTO crear(String correo) {
+        return restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Persona", 30, correo), PersonaDetalleDTO.class);
+    }
+
+    private PaginaDTO<PersonaResumenDTO> listar(String dominio, int pagina, int tamano) {
+        return restTemplate.exchange("/api/personas?dominio={dominio}&page={page}&size={size}", HttpMethod.GET, null,
+                new ParameterizedTypeReference<PaginaDTO<PersonaResumenDTO>>() {}, dominio, pagina, tamano).getBody();
+    }
+
+    private long contar(String dominio) {
+        return restTemplate.getForObject("/api/personas/dominios/{dominio}", ConteoDominioDTO.class, dominio).getTotal();
+    }
+}
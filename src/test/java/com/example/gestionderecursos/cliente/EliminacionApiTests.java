@@ -0,0 +1,127 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.lote.ResultadoEliminacionDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de los borrados: el DELETE individual es una sola sentencia y distingue 204 de 404,
+ * y los borrados masivos informan de cuántos elementos eliminaron y de los ids inexistentes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EliminacionApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void obtenerEstadisticas() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deberiaEliminarUnaPersonaSinCargarLaEntidad() {
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Borja", 41, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        String url = "/api/personas/" + creada.getId();
+
+        long antes = estadisticas.getPrepareStatementCount();
+        ResponseEntity<Void> respuesta = restTemplate.exchange(url, HttpMethod.DELETE, null, Void.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, respuesta.getStatusCode());
+        // La edad (para el histograma) con SELECT ... FOR UPDATE y el DELETE por id.
+        assertEquals(2, estadisticas.getPrepareStatementCount() - antes);
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity(url, String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.exchange(url, HttpMethod.DELETE, null, String.class).getStatusCode());
+    }
+
+    @Test
+    void deberiaResponder404AlEliminarUnProyectoInexistente() {
+        ProyectoDetalleDTO creado = restTemplate.postForObject("/api/proyectos",
+                new ProyectoCrearDTO("Borrable " + UUID.randomUUID(), "Temporal"), ProyectoDetalleDTO.class);
+        String url = "/api/proyectos/" + creado.getId();
+
+        long antes = estadisticas.getPrepareStatementCount();
+        assertEquals(HttpStatus.NO_CONTENT, restTemplate.exchange(url, HttpMethod.DELETE, null, Void.class).getStatusCode());
+        assertEquals(1, estadisticas.getPrepareStatementCount() - antes);
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.exchange(url, HttpMethod.DELETE, null, String.class).getStatusCode());
+    }
+
+    @Test
+    void deberiaEliminarVariasPersonasPorId() {
+        PersonaDetalleDTO primera = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Uno", 30, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        PersonaDetalleDTO segunda = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Dos", 31, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        long inexistente = Long.MAX_VALUE;
+
+        ResultadoEliminacionDTO resultado = restTemplate.exchange(
+                "/api/personas?ids={a},{b},{a2},{c}", HttpMethod.DELETE, null, ResultadoEliminacionDTO.class,
+                primera.getId(), segunda.getId(), primera.getId(), inexistente).getBody();
+
+        assertEquals(2, resultado.getEliminados());
+        assertEquals(List.of(inexistente), resultado.getNoEncontrados());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity("/api/personas/" + primera.getId(), String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity("/api/personas/" + segunda.getId(), String.class).getStatusCode());
+    }
+
+    @Test
+    void deberiaEliminarLasPersonasDeUnDominio() {
+        String dominio = UUID.randomUUID() + ".example.org";
+        for (int i = 0; i < 3; i++) {
+            restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Persona " + i, 20 + i, "p" + i + "@" + dominio), PersonaDetalleDTO.class);
+        }
+        PersonaDetalleDTO ajena = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Ajena", 25, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+
+        ResultadoEliminacionDTO resultado = restTemplate.exchange("/api/personas?dominio={d}", HttpMethod.DELETE, null,
+                ResultadoEliminacionDTO.class, dominio.toUpperCase()).getBody();
+
+        assertEquals(3, resultado.getEliminados());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/personas/" + ajena.getId(), String.class).getStatusCode());
+    }
+
+    @Test
+    void deberiaEliminarLosProyectosCreadosAntesDeUnaFecha() {
+        ProyectoDetalleDTO antiguo = restTemplate.postForObject("/api/proyectos",
+                new ProyectoCrearDTO("Antiguo " + UUID.randomUUID(), "Viejo"), ProyectoDetalleDTO.class);
+        ProyectoDetalleDTO actual = restTemplate.postForObject("/api/proyectos",
+                new ProyectoCrearDTO("Actual " + UUID.randomUUID(), "Nuevo"), ProyectoDetalleDTO.class);
+        jdbcTemplate.update("UPDATE proyectos SET fecha_creacion = ? WHERE id = ?", LocalDate.of(1999, 12, 31), antiguo.getId());
+
+        ResultadoEliminacionDTO resultado = restTemplate.exchange("/api/proyectos?creadosAntesDe=2000-01-01", HttpMethod.DELETE, null,
+                ResultadoEliminacionDTO.class).getBody();
+
+        assertEquals(1, resultado.getEliminados());
+        assertEquals(HttpStatus.NOT_FOUND, restTemplate.getForEntity("/api/proyectos/" + antiguo.getId(), String.class).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/proyectos/" + actual.getId(), String.class).getStatusCode());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.EstadisticasEdadDTO;
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.VerificacionEstadisticasDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración del histograma de edades en memoria: se ajusta con altas, cambios de edad y bajas,
+ * coincide con la base de datos y se repara tras una modificación directa en SQL.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EstadisticasEdadApiTests {
+
+    private static final String URL = "/api/personas/estadisticas";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Otras pruebas del mismo contexto insertan filas directamente en SQL; se parte de un histograma recién verificado.
+     */
+    @BeforeEach
+    void sincronizarHistograma() {
+        restTemplate.postForObject(URL + "/verificacion", null, VerificacionEstadisticasDTO.class);
+    }
+
+    @Test
+    void deberiaMantenerElHistogramaConAltasCambiosYBajas() {
+        long[] antes = estadisticas().getHistograma();
+        String correo = UUID.randomUUID() + "@example.com";
+
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Centenaria", 117, correo), PersonaDetalleDTO.class);
+        assertEquals(antes[117] + 1, estadisticas().getHistograma()[117]);
+
+        restTemplate.put("/api/personas/" + creada.getId(), new PersonaActualizarDTO("Centenaria", 118, correo));
+        long[] trasActualizar = estadisticas().getHistograma();
+        assertEquals(antes[117], trasActualizar[117]);
+        assertEquals(antes[118] + 1, trasActualizar[118]);
+
+        EstadisticasEdadDTO rango = restTemplate.getForObject(URL + "?desde=118&hasta=118", EstadisticasEdadDTO.class);
+        assertEquals(antes[118] + 1, rango.getEnRango());
+        assertTrue(rango.getEdadMaxima() >= 118);
+        assertNotNull(rango.getPercentiles().get("p50"));
+
+        restTemplate.delete("/api/personas/" + creada.getId());
+        assertEquals(antes[118], estadisticas().getHistograma()[118]);
+        assertTrue(restTemplate.getForObject(URL + "/verificacion", VerificacionEstadisticasDTO.class).isConsistente());
+    }
+
+    @Test
+    void deberiaDetectarYRepararCambiosHechosEnSql() {
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Directa", 40, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        jdbcTemplate.update("UPDATE personas SET edad = 41 WHERE id = ?", creada.getId());
+
+        VerificacionEstadisticasDTO verificacion = restTemplate.getForObject(URL + "/verificacion", VerificacionEstadisticasDTO.class);
+        assertFalse(verificacion.isConsistente());
+        assertEquals(2, verificacion.getDiferencias().size());
+        assertFalse(verificacion.isReparado());
+
+        VerificacionEstadisticasDTO reparacion = restTemplate.postForObject(URL + "/verificacion", null, VerificacionEstadisticasDTO.class);
+        assertTrue(reparacion.isReparado());
+        assertTrue(restTemplate.getForObject(URL + "/verificacion", VerificacionEstadisticasDTO.class).isConsistente());
+    }
+
+    private EstadisticasEdadDTO estadisticas() {
+        return restTemplate.getForObject(URL, EstadisticasEdadDTO.class);
+    }
+}
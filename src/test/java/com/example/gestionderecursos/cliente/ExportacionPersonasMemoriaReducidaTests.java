@@ -0,0 +1,112 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de GET /api/personas/export.
+ * Surefire la ejecuta en una JVM aparte con un heap reducido (ver la ejecución "memoria-reducida"
+ * del pom.xml): si la exportación materializara la tabla completa, la prueba fallaría por falta de memoria.
+ * La base de datos se guarda en disco para que el heap contenga solo la aplicación y no la propia tabla.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/h2/exportacion;CACHE_SIZE=8192",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportacionPersonasMemoriaReducidaTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportacionPersonasMemoriaReducidaTests.class);
+    private static final int FILAS = 300_000;
+    private static final int FILAS_POR_INSERCION = 10_000;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final String prefijo = UUID.randomUUID().toString();
+
+    @BeforeAll
+    void sembrarDatos() {
+        // Inserción directa en SQL: sembrar cientos de miles de filas por la API alargaría la prueba sin aportar nada.
+        for (int desde = 1; desde <= FILAS; desde += FILAS_POR_INSERCION) {
+            jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico) " +
+                    "SELECT NEXT VALUE FOR personas_seq, CONCAT('Persona ', X), 30, CONCAT(?, '-', X, '@example.com') " +
+                    "FROM SYSTEM_RANGE(?, ?)", prefijo, desde, desde + FILAS_POR_INSERCION - 1);
+        }
+        restTemplate.postForEntity("/api/personas", new PersonaCrearDTO("Pérez, \"Juan\"", 40, prefijo + "-csv@example.com"), Void.class);
+    }
+
+    @Test
+    void deberiaExportarNdjsonEnStreaming() {
+        long[] lineas = {0};
+        long[] coincidencias = {0};
+        HttpStatus estado = restTemplate.execute("/api/personas/export", HttpMethod.GET, null, respuesta -> {
+            assertTrue(MediaType.parseMediaType("application/x-ndjson").isCompatibleWith(respuesta.getHeaders().getContentType()));
+            try (BufferedReader lector = new BufferedReader(new InputStreamReader(respuesta.getBody(), StandardCharsets.UTF_8))) {
+                String linea;
+                while ((linea = lector.readLine()) != null) {
+                    PersonaResumenDTO persona = objectMapper.readValue(linea, PersonaResumenDTO.class);
+                    lineas[0]++;
+                    if (persona.getCorreoElectronico().startsWith(prefijo)) {
+                        coincidencias[0]++;
+                    }
+                }
+            }
+            return HttpStatus.valueOf(respuesta.getStatusCode().value());
+        });
+
+        assertEquals(HttpStatus.OK, estado);
+        assertEquals(FILAS + 1, coincidencias[0]);
+        log.info("Exportadas {} personas en NDJSON con heap máximo de {} MB", lineas[0], Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    }
+
+    @Test
+    void deberiaExportarCsvConCamposEscapados() {
+        long[] filas = {0};
+        String[] cabecera = {null};
+        boolean[] escapado = {false};
+        restTemplate.execute("/api/personas/export?formato=CSV", HttpMethod.GET, null, respuesta -> {
+            try (BufferedReader lector = new BufferedReader(new InputStreamReader(respuesta.getBody(), StandardCharsets.UTF_8))) {
+                cabecera[0] = lector.readLine();
+                String linea;
+                while ((linea = lector.readLine()) != null) {
+                    filas[0]++;
+                    if (linea.endsWith(",\"Pérez, \"\"Juan\"\"\"," + prefijo + "-csv@example.com")) {
+                        escapado[0] = true;
+                    }
+                }
+            }
+            return null;
+        });
+
+        assertEquals("id,nombre,correoElectronico", cabecera[0]);
+        assertTrue(filas[0] >= FILAS + 1);
+        assertTrue(escapado[0], "Los campos con comas y comillas deben ir entrecomillados");
+    }
+}
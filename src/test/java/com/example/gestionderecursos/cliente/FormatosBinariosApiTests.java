@@ -0,0 +1,121 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de la negociación de contenido binaria (CBOR y Smile) y de la compresión gzip:
+ * los tres formatos devuelven los mismos datos, los binarios ocupan menos y las respuestas se comprimen
+ * solo si el cliente lo pide.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class FormatosBinariosApiTests {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final String PAGINA = "/api/personas?size=50&sort=id";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int puerto;
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    @BeforeEach
+    void asegurarDatos() {
+        String prefijo = UUID.randomUUID().toString();
+        for (int i = 0; i < 50; i++) {
+            restTemplate.postForEntity("/api/personas",
+                    new PersonaCrearDTO("Formato " + i, 20 + i, prefijo + "-" + i + "@example.com"), PersonaDetalleDTO.class);
+        }
+    }
+
+    @Test
+    void deberiaResponderLosMismosDatosEnCborYSmile() throws IOException {
+        byte[] enJson = obtener(PAGINA, MediaType.APPLICATION_JSON).getBody();
+        ResponseEntity<byte[]> enCbor = obtener(PAGINA, CBOR);
+        ResponseEntity<byte[]> enSmile = obtener(PAGINA, SMILE);
+
+        assertTrue(CBOR.isCompatibleWith(enCbor.getHeaders().getContentType()));
+        assertTrue(SMILE.isCompatibleWith(enSmile.getHeaders().getContentType()));
+        JsonNode esperado = json.readTree(enJson);
+        assertEquals(esperado, new CBORMapper().readTree(enCbor.getBody()));
+        assertEquals(esperado, new SmileMapper().readTree(enSmile.getBody()));
+        assertTrue(enCbor.getBody().length < enJson.length);
+        assertTrue(enSmile.getBody().length < enJson.length);
+    }
+
+    @Test
+    void deberiaAceptarCuerposEnCbor() throws IOException {
+        PersonaCrearDTO persona = new PersonaCrearDTO("Binaria", 30, UUID.randomUUID() + "@example.com");
+        HttpHeaders cabeceras = new HttpHeaders();
+        cabeceras.setContentType(CBOR);
+        cabeceras.setAccept(List.of(CBOR));
+
+        ResponseEntity<byte[]> respuesta = restTemplate.exchange("/api/personas", HttpMethod.POST,
+                new HttpEntity<>(new CBORMapper().writeValueAsBytes(persona), cabeceras), byte[].class);
+
+        assertEquals(HttpStatus.CREATED, respuesta.getStatusCode());
+        PersonaDetalleDTO creada = new CBORMapper().readValue(respuesta.getBody(), PersonaDetalleDTO.class);
+        assertEquals(persona.getCorreoElectronico(), creada.getCorreoElectronico());
+    }
+
+    @Test
+    void deberiaComprimirSoloSiElClienteLoPide() throws Exception {
+        HttpClient cliente = HttpClient.newHttpClient();
+        HttpResponse<byte[]> comprimida = cliente.send(peticionGzip(PAGINA), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals("gzip", comprimida.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        byte[] descomprimida = new GZIPInputStream(new ByteArrayInputStream(comprimida.body())).readAllBytes();
+        assertEquals(json.readTree(obtener(PAGINA, MediaType.APPLICATION_JSON).getBody()), json.readTree(descomprimida));
+        assertTrue(comprimida.body().length < descomprimida.length);
+
+        HttpResponse<byte[]> sinPedirla = cliente.send(HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + PAGINA)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertTrue(sinPedirla.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+    }
+
+    private ResponseEntity<byte[]> obtener(String uri, MediaType tipo) {
+        HttpHeaders cabeceras = new HttpHeaders();
+        cabeceras.setAccept(List.of(tipo));
+        ResponseEntity<byte[]> respuesta = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(cabeceras), byte[].class);
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        return respuesta;
+    }
+
+    private HttpRequest peticionGzip(String uri) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + uri))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+    }
+}
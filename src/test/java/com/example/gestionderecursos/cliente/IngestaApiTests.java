@@ -0,0 +1,88 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.lote.EstadoIngesta;
+import com.example.gestionderecursos.dto.lote.IngestaDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de la ingesta asíncrona: el alta responde 202 con un ticket, el escritor en segundo
+ * plano crea la persona y el ticket refleja el resultado, incluidos los duplicados.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class IngestaApiTests {
+
+    private static final long ESPERA_MAXIMA_MS = 10_000;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void deberiaAceptarYCrearEnSegundoPlano() throws InterruptedException {
+        String correo = UUID.randomUUID() + "@example.com";
+        ResponseEntity<IngestaDTO> respuesta = encolar(new PersonaCrearDTO("Asincrona", 33, correo));
+
+        assertEquals(HttpStatus.ACCEPTED, respuesta.getStatusCode());
+        IngestaDTO ticket = respuesta.getBody();
+        assertNotNull(ticket);
+        assertEquals(EstadoIngesta.PENDIENTE, ticket.getEstado());
+        URI ubicacion = respuesta.getHeaders().getLocation();
+        assertNotNull(ubicacion);
+        assertTrue(ubicacion.getPath().endsWith("/api/personas/ingestas/" + ticket.getTicket()));
+
+        IngestaDTO resultado = esperarResultado(ticket);
+        assertEquals(EstadoIngesta.CREADO, resultado.getEstado());
+        PersonaDetalleDTO creada = restTemplate.getForObject("/api/personas/" + resultado.getId(), PersonaDetalleDTO.class);
+        assertEquals(correo, creada.getCorreoElectronico());
+    }
+
+    @Test
+    void deberiaInformarDuplicados() throws InterruptedException {
+        String correo = UUID.randomUUID() + "@example.com";
+        restTemplate.postForEntity("/api/personas", new PersonaCrearDTO("Original", 40, correo), PersonaDetalleDTO.class);
+
+        IngestaDTO resultado = esperarResultado(encolar(new PersonaCrearDTO("Copia", 41, correo)).getBody());
+
+        assertEquals(EstadoIngesta.DUPLICADO, resultado.getEstado());
+        assertNull(resultado.getId());
+        assertFalse(resultado.getErrores().isEmpty());
+    }
+
+    @Test
+    void deberiaValidarAntesDeEncolar() {
+        ResponseEntity<String> respuesta = restTemplate.postForEntity("/api/personas?async=true",
+                new PersonaCrearDTO("", 200, "no-es-un-correo"), String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, respuesta.getStatusCode());
+    }
+
+    @Test
+    void deberiaResponderNoEncontradoParaTicketsDesconocidos() {
+        ResponseEntity<String> respuesta = restTemplate.getForEntity("/api/personas/ingestas/" + UUID.randomUUID(), String.class);
+        assertEquals(HttpStatus.NOT_FOUND, respuesta.getStatusCode());
+    }
+
+    private ResponseEntity<IngestaDTO> encolar(PersonaCrearDTO persona) {
+        return restTemplate.postForEntity("/api/personas?async=true", persona, IngestaDTO.class);
+    }
+
+    private IngestaDTO esperarResultado(IngestaDTO ticket) throws InterruptedException {
+        long limite = System.currentTimeMillis() + ESPERA_MAXIMA_MS;
+        IngestaDTO actual = ticket;
+        while (actual.getEstado() == EstadoIngesta.PENDIENTE && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+            actual = restTemplate.getForObject("/api/personas/ingestas/" + ticket.getTicket(), IngestaDTO.class);
+        }
+        return actual;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.instantanea.GestorInstantaneas;
+import com.example.gestionderecursos.instantanea.ResumenInstantanea;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración del perfil produccion: H2 en archivo e instantánea binaria creada por
+ * /actuator/instantanea y restaurada sobre las tablas vacías, con las secuencias de ids por encima
+ * de lo restaurado.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.almacenamiento.directorio=./target/h2/produccion-tests",
+        "app.instantanea.restaurar-al-arrancar=false"
+})
+@ActiveProfiles("produccion")
+class InstantaneaApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GestorInstantaneas gestorInstantaneas;
+
+    @Test
+    void deberiaRestaurarLaInstantaneaSobreLasTablasVacias() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Persona " + i, 20 + i, UUID.randomUUID() + "@example.com"),
+                    PersonaDetalleDTO.class);
+            restTemplate.postForEntity("/api/proyectos", new ProyectoCrearDTO("Instantanea " + UUID.randomUUID(), "Proyecto " + i), String.class);
+        }
+        long personas = contar("personas");
+        long proyectos = contar("proyectos");
+        long maximoIdPersona = jdbcTemplate.queryForObject("SELECT MAX(id) FROM personas", Long.class);
+
+        ResponseEntity<JsonNode> creada = restTemplate.postForEntity("/actuator/instantanea", null, JsonNode.class);
+        assertEquals(HttpStatus.OK, creada.getStatusCode());
+        assertEquals(personas, creada.getBody().path("personas").asLong());
+        assertEquals(proyectos, creada.getBody().path("proyectos").asLong());
+        assertTrue(restTemplate.getForObject("/actuator/instantanea", JsonNode.class).path("existe").asBoolean());
+
+        jdbcTemplate.execute("DELETE FROM personas");
+        jdbcTemplate.execute("DELETE FROM proyectos");
+        ResumenInstantanea restaurada = gestorInstantaneas.restaurar(Path.of(creada.getBody().path("archivo").asText()));
+
+        assertEquals(personas, restaurada.personas());
+        assertEquals(personas, contar("personas"));
+        assertEquals(proyectos, contar("proyectos"));
+        assertThrows(IllegalStateException.class, () -> gestorInstantaneas.restaurar(Path.of(restaurada.archivo())));
+
+        PersonaDetalleDTO nueva = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Posterior", 30, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        assertTrue(nueva.getId() > maximoIdPersona);
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/metrics/application.ready.time", String.class).getStatusCode());
+    }
+
+    private long contar(String tabla) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabla, Long.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de las métricas de rendimiento expuestas en /actuator/metrics:
+ * temporizadores de servicio y repositorio, estadísticas de Hibernate, pool de conexiones y peticiones HTTP.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MetricasApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void deberiaMedirServiciosRepositoriosEHibernate() {
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas",
+                new PersonaCrearDTO("Elena", 41, UUID.randomUUID() + "@example.com"), PersonaDetalleDTO.class);
+        restTemplate.getForObject("/api/personas/" + creada.getId(), PersonaDetalleDTO.class);
+        restTemplate.getForEntity("/api/personas/" + Long.MAX_VALUE, String.class);
+
+        assertTrue(valor("app.servicio.invocaciones?tag=servicio:ServicioPersona&tag=metodo:crearPersona", "COUNT") >= 1);
+        assertTrue(valor("app.servicio.invocaciones?tag=metodo:obtenerPersonaPorId&tag=resultado:ERROR"
+                + "&tag=excepcion:RecursoNoEncontradoException", "COUNT") >= 1);
+        assertTrue(valor("spring.data.repository.invocations?tag=repository:RepositorioPersona&tag=method:findById", "COUNT") >= 1);
+        assertTrue(valor("app.hibernate.sentencias?tag=estado:preparadas", "COUNT") > 0);
+        assertTrue(valor("app.hibernate.entidades?tag=operacion:insertadas", "COUNT") >= 1);
+        assertTrue(valor("hikaricp.connections.acquire", "COUNT") > 0);
+        // La plantilla de la URI se pasa como variable para que RestTemplate no intente expandir {id}.
+        assertTrue(valor("http.server.requests?tag=uri:{uri}&tag=outcome:CLIENT_ERROR", "COUNT", "/api/personas/{id}") >= 1);
+    }
+
+    private double valor(String metrica, String estadistica, Object... variables) {
+        ResponseEntity<JsonNode> respuesta = restTemplate.getForEntity("/actuator/metrics/" + metrica, JsonNode.class, variables);
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode(), "La métrica " + metrica + " debe existir");
+        for (JsonNode medida : respuesta.getBody().path("measurements")) {
+            if (estadistica.equals(medida.path("statistic").asText())) {
+                return medida.path("value").asDouble();
+            }
+        }
+        return fail("La métrica " + metrica + " no tiene la estadística " + estadistica);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.persona.PersonaParcialDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.lectura.ModeloLectura;
+import com.example.gestionderecursos.lectura.ResultadoReconciliacion;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración del modelo de lectura en memoria: los listados no ejecutan SQL, siguen a las
+ * escrituras confirmadas con una marca creciente, ordenan igual que la base de datos y la reconciliación
+ * recoge las filas escritas por SQL. Usa una base de datos propia para controlar su contenido.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:lectura;DB_CLOSE_DELAY=-1",
+        "app.lectura.habilitado=true"
+})
+class ModeloLecturaApiTests {
+
+    private static final ParameterizedTypeReference<PaginaDTO<PersonaResumenDTO>> PAGINA_PERSONAS = new ParameterizedTypeReference<>() {
+    };
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ModeloLectura modeloLectura;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void obtenerEstadisticas() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deberiaListarDesdeMemoriaSinSql() {
+        crear("Ana", 30);
+
+        long antes = estadisticas.getPrepareStatementCount();
+        ResponseEntity<PaginaDTO<PersonaResumenDTO>> respuesta = listar("?sort=edad,desc&size=5");
+
+        assertEquals(0, estadisticas.getPrepareStatementCount() - antes);
+        assertNotNull(respuesta.getHeaders().getFirst(ModeloLectura.CABECERA_MARCA));
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM personas", Long.class), respuesta.getBody().getPagina().getTotalElementos());
+    }
+
+    @Test
+    void deberiaReflejarLasEscriturasConUnaMarcaCreciente() {
+        PersonaDetalleDTO creada = crear("Bruno", 44);
+        long marcaInicial = marca(listar("?sort=id,desc&size=1"));
+        assertEquals(creada.getId(), listar("?sort=id,desc&size=1").getBody().getContenido().get(0).getId());
+
+        restTemplate.exchange("/api/personas/" + creada.getId(), HttpMethod.PATCH,
+                new HttpEntity<>(new PersonaParcialDTO("Bruno Díaz", null, null)), Void.class);
+        ResponseEntity<PaginaDTO<PersonaResumenDTO>> trasCambio = listar("?sort=id,desc&size=1");
+        assertEquals("Bruno Díaz", trasCambio.getBody().getContenido().get(0).getNombre());
+        assertTrue(marca(trasCambio) > marcaInicial);
+
+        restTemplate.delete("/api/personas/" + creada.getId());
+        assertTrue(listar("?sort=id,desc&size=50").getBody().getContenido().stream().noneMatch(p -> p.getId().equals(creada.getId())));
+    }
+
+    @Test
+    void deberiaOrdenarIgualQueLaBaseDeDatos() {
+        for (String nombre : List.of("Zoe", "ángel", "Álvaro", "beatriz", "Bea", "Zoe")) {
+            crear(nombre, 20);
+        }
+        ResponseEntity<PaginaCursorDTO<PersonaResumenDTO>> enBaseDatos = restTemplate.exchange("/api/personas?after=&size=1000&sort=nombre,asc",
+                HttpMethod.GET, null, new ParameterizedTypeReference<>() {
+                });
+
+        List<Long> enMemoria = listar("?sort=nombre,asc&size=1000").getBody().getContenido().stream().map(PersonaResumenDTO::getId).toList();
+
+        assertEquals(enBaseDatos.getBody().getContenido().stream().map(PersonaResumenDTO::getId).toList(), enMemoria);
+    }
+
+    @Test
+    void deberiaRecurrirALaBaseDeDatosConOrdenesNoAdmitidos() {
+        ResponseEntity<PaginaDTO<PersonaResumenDTO>> respuesta = listar("?sort=correoElectronico,asc");
+
+        assertNull(respuesta.getHeaders().getFirst(ModeloLectura.CABECERA_MARCA));
+        assertFalse(respuesta.getBody().getContenido().isEmpty());
+    }
+
+    @Test
+    void deberiaReconciliarLasFilasEscritasPorSql() {
+        crear("Carla", 51);
+        String correo = UUID.randomUUID() + "@example.com";
+        jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico) VALUES (NEXT VALUE FOR personas_seq, 'Externa', 40, ?)", correo);
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM personas WHERE correo_electronico = ?", Long.class, correo);
+
+        ResultadoReconciliacion personas = modeloLectura.reconciliar().get(0);
+
+        assertEquals("personas", personas.vista());
+        assertEquals(1, personas.faltan());
+        assertTrue(personas.reparada());
+        assertTrue(listar("?sort=id,desc&size=1000").getBody().getContenido().stream().anyMatch(p -> p.getId().equals(id)));
+        assertTrue(modeloLectura.reconciliar().stream().allMatch(ResultadoReconciliacion::consistente));
+    }
+
+    private PersonaDetalleDTO crear(String nombre, int edad) {
+        return restTemplate.postForObject("/api/personas", new PersonaCrearDTO(nombre, edad, UUID.randomUUID() + "@example.com"),
+                PersonaDetalleDTO.class);
+    }
+
+    private ResponseEntity<PaginaDTO<PersonaResumenDTO>> listar(String parametros) {
+        return restTemplate.exchange("/api/personas" + parametros, HttpMethod.GET, null, PAGINA_PERSONAS);
+    }
+
+    private static long marca(ResponseEntity<?> respuesta) {
+        return Long.parseLong(respuesta.getHeaders().getFirst(ModeloLectura.CABECERA_MARCA));
+    }
+}
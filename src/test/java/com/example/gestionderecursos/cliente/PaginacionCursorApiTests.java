@@ -0,0 +1,136 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.paginacion.PaginaCursorDTO;
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoResumenDTO;
+import com.example.gestionderecursos.excepciones.ApiError;
+import com.example.gestionderecursos.repositorios.RepositorioPersona;
+import com.example.gestionderecursos.repositorios.RepositorioProyecto;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de la paginación por cursor (keyset) de /api/personas y /api/proyectos.
+ * Recorre la tabla completa página a página y comprueba que no se repiten ni se pierden filas.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PaginacionCursorApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RepositorioPersona repositorioPersona;
+
+    @Autowired
+    private RepositorioProyecto repositorioProyecto;
+
+    @BeforeAll
+    void sembrarDatos() {
+        String prefijo = UUID.randomUUID().toString();
+        List<PersonaCrearDTO> personas = new ArrayList<>();
+        List<ProyectoCrearDTO> proyectos = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            // Edades y nombres repetidos para ejercitar el desempate por id.
+            personas.add(new PersonaCrearDTO("Persona " + (i % 4), 20 + (i % 3), prefijo + "-" + i + "@example.com"));
+            proyectos.add(new ProyectoCrearDTO(prefijo + " Proyecto " + i, null));
+        }
+        restTemplate.postForEntity("/api/personas/lote", personas, Void.class);
+        restTemplate.postForEntity("/api/proyectos/lote", proyectos, Void.class);
+    }
+
+    @Test
+    void deberiaRecorrerPersonasPorEdadDescendenteSinRepetirNiPerderFilas() {
+        List<PersonaResumenDTO> recorridas = new ArrayList<>();
+        String cursor = "";
+        do {
+            PaginaCursorDTO<PersonaResumenDTO> pagina = obtener("/api/personas?size=7&sort=edad,desc&after=" + cursor,
+                    new ParameterizedTypeReference<>() {});
+            assertTrue(pagina.getTamano() <= 7);
+            recorridas.addAll(pagina.getContenido());
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+
+        Set<Long> ids = new HashSet<>();
+        recorridas.forEach(persona -> assertTrue(ids.add(persona.getId()), "Fila repetida: " + persona.getId()));
+        assertEquals(repositorioPersona.count(), recorridas.size());
+    }
+
+    @Test
+    void deberiaRecorrerProyectosPorNombreEnOrden() {
+        List<ProyectoResumenDTO> recorridos = new ArrayList<>();
+        String cursor = "";
+        do {
+            PaginaCursorDTO<ProyectoResumenDTO> pagina = obtener("/api/proyectos?size=4&after=" + cursor,
+                    new ParameterizedTypeReference<>() {});
+            recorridos.addAll(pagina.getContenido());
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+
+        assertEquals(repositorioProyecto.count(), recorridos.size());
+        for (int i = 1; i < recorridos.size(); i++) {
+            assertTrue(recorridos.get(i - 1).getNombre().compareTo(recorridos.get(i).getNombre()) <= 0);
+        }
+    }
+
+    @Test
+    void deberiaListarPersonasPorOffsetSinCursor() {
+        ResponseEntity<PaginaDTO<PersonaResumenDTO>> respuesta = restTemplate.exchange("/api/personas?page=1&size=10",
+                HttpMethod.GET, null, new ParameterizedTypeReference<PaginaDTO<PersonaResumenDTO>>() {});
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        assertEquals(10, respuesta.getBody().getContenido().size());
+        assertEquals(repositorioPersona.count(), respuesta.getBody().getPagina().getTotalElementos());
+    }
+
+    @Test
+    void deberiaListarProyectosSinConteoConTotalAproximado() {
+        ResponseEntity<JsonNode> respuesta = restTemplate.getForEntity("/api/proyectos?page=0&size=10&conteo=APROXIMADO", JsonNode.class);
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        assertEquals(10, respuesta.getBody().path("contenido").size());
+        assertTrue(respuesta.getBody().path("pagina").path("haySiguiente").asBoolean(), "Hay más de 10 proyectos: debe indicar página siguiente");
+        assertFalse(respuesta.getBody().path("pagina").has("totalElementos"), "Sin conteo la respuesta no debe incluir el total");
+        long total = Long.parseLong(respuesta.getHeaders().getFirst("X-Total-Aproximado"));
+        assertTrue(total >= 25);
+
+        restTemplate.postForEntity("/api/proyectos", new ProyectoCrearDTO("Aproximado " + UUID.randomUUID(), null), Void.class);
+        String totalTrasCrear = restTemplate.getForEntity("/api/proyectos?conteo=APROXIMADO", String.class)
+                .getHeaders().getFirst("X-Total-Aproximado");
+        assertEquals(total + 1, Long.parseLong(totalTrasCrear));
+    }
+
+    @Test
+    void deberiaRechazarCursorInvalidoYCampoNoSoportado() {
+        ResponseEntity<ApiError> cursorInvalido = restTemplate.getForEntity("/api/personas?after=no-es-un-cursor", ApiError.class);
+        assertEquals(HttpStatus.BAD_REQUEST, cursorInvalido.getStatusCode());
+
+        ResponseEntity<ApiError> campoNoSoportado = restTemplate.getForEntity("/api/proyectos?after=&sort=descripcion", ApiError.class);
+        assertEquals(HttpStatus.BAD_REQUEST, campoNoSoportado.getStatusCode());
+    }
+
+    private <T> PaginaCursorDTO<T> obtener(String url, ParameterizedTypeReference<PaginaCursorDTO<T>> tipo) {
+        ResponseEntity<PaginaCursorDTO<T>> respuesta = restTemplate.exchange(url, HttpMethod.GET, null, tipo);
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        return respuesta.getBody();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaActualizarDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.persona.PersonaDetalleDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de los GET condicionales: ETag y Last-Modified en el detalle,
+ * 304 Not Modified mientras no hay cambios y ETag nuevo tras una escritura.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PeticionesCondicionalesApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void deberiaResponder304MientrasLaPersonaNoCambie() {
+        String correo = UUID.randomUUID() + "@example.com";
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Marta", 35, correo), PersonaDetalleDTO.class);
+        String url = "/api/personas/" + creada.getId();
+
+        ResponseEntity<String> primera = restTemplate.getForEntity(url, String.class);
+        String etag = primera.getHeaders().getETag();
+        assertNotNull(etag);
+
+        ResponseEntity<String> condicional = getCondicional(url, etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, condicional.getStatusCode());
+        assertNull(condicional.getBody());
+        assertEquals(etag, condicional.getHeaders().getETag());
+
+        restTemplate.put(url, new PersonaActualizarDTO("Marta Ruiz", 36, correo));
+        ResponseEntity<String> trasActualizar = getCondicional(url, etag);
+        assertEquals(HttpStatus.OK, trasActualizar.getStatusCode());
+        assertNotEquals(etag, trasActualizar.getHeaders().getETag());
+        assertTrue(trasActualizar.getBody().contains("Marta Ruiz"));
+    }
+
+    @Test
+    void deberiaUsarLastModifiedSoloCuandoSuSegundoHaTerminado() throws InterruptedException {
+        String correo = UUID.randomUUID() + "@example.com";
+        PersonaDetalleDTO creada = restTemplate.postForObject("/api/personas", new PersonaCrearDTO("Sara", 29, correo), PersonaDetalleDTO.class);
+        String url = "/api/personas/" + creada.getId();
+
+        // Pasado el segundo de la última escritura la fecha ya es un validador fiable.
+        Thread.sleep(1100);
+        long ultimaModificacion = restTemplate.getForEntity(url, String.class).getHeaders().getLastModified();
+        assertTrue(ultimaModificacion > 0);
+        assertEquals(HttpStatus.NOT_MODIFIED, getDesde(url, ultimaModificacion).getStatusCode());
+
+        restTemplate.put(url, new PersonaActualizarDTO("Sara Gil", 30, correo));
+        ResponseEntity<String> trasActualizar = getDesde(url, ultimaModificacion);
+        assertEquals(HttpStatus.OK, trasActualizar.getStatusCode());
+        assertTrue(trasActualizar.getBody().contains("Sara Gil"));
+    }
+
+    @Test
+    void deberiaCambiarElEtagDelListadoTrasCrear() {
+        String url = "/api/proyectos?page=0&size=5";
+        String etag = restTemplate.getForEntity(url, String.class).getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, getCondicional(url, etag).getStatusCode());
+
+        restTemplate.postForEntity("/api/proyectos", new ProyectoCrearDTO("Condicional " + UUID.randomUUID(), "Proyecto de prueba"), String.class);
+
+        ResponseEntity<String> trasCrear = getCondicional(url, etag);
+        assertEquals(HttpStatus.OK, trasCrear.getStatusCode());
+        assertNotEquals(etag, trasCrear.getHeaders().getETag());
+    }
+
+    private ResponseEntity<String> getDesde(String url, long ultimaModificacion) {
+        HttpHeaders cabeceras = new HttpHeaders();
+        cabeceras.setIfModifiedSince(ultimaModificacion);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(cabeceras), String.class);
+    }
+
+    private ResponseEntity<String> getCondicional(String url, String etag) {
+        HttpHeaders cabeceras = new HttpHeaders();
+        cabeceras.setIfNoneMatch(etag);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(cabeceras), String.class);
+    }
+}
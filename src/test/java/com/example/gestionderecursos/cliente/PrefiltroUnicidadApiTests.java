@@ -0,0 +1,67 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.excepciones.ApiError;
+import com.example.gestionderecursos.unicidad.CampoUnico;
+import com.example.gestionderecursos.unicidad.PrefiltroUnicidad;
+import com.example.gestionderecursos.unicidad.impl.PrefiltroUnicidadBloom;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración con el prefiltro de Bloom activado. Usa una base de datos propia para no
+ * interferir con el contexto compartido del resto de pruebas.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:prefiltro;DB_CLOSE_DELAY=-1",
+        "app.unicidad.prefiltro.habilitado=true",
+        "app.unicidad.prefiltro.elementos-esperados=10000"
+})
+class PrefiltroUnicidadApiTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PrefiltroUnicidad prefiltroUnicidad;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deberiaReconstruirseDesdeLaBaseDeDatosYDetectarDuplicados() {
+        assertInstanceOf(PrefiltroUnicidadBloom.class, prefiltroUnicidad);
+        String correo = UUID.randomUUID() + "@example.com";
+        // Fila escrita fuera de la aplicación: solo la conoce el filtro tras reconstruirse.
+        jdbcTemplate.update("INSERT INTO personas (id, nombre, edad, correo_electronico) VALUES (NEXT VALUE FOR personas_seq, 'Externa', 40, ?)", correo);
+        assertFalse(prefiltroUnicidad.requiereComprobacion(CampoUnico.CORREO_PERSONA, correo));
+
+        ((PrefiltroUnicidadBloom) prefiltroUnicidad).reconstruir();
+
+        assertTrue(prefiltroUnicidad.requiereComprobacion(CampoUnico.CORREO_PERSONA, correo));
+        ResponseEntity<ApiError> respuesta = restTemplate.postForEntity("/api/personas", new PersonaCrearDTO("Duplicada", 30, correo), ApiError.class);
+        assertEquals(HttpStatus.CONFLICT, respuesta.getStatusCode());
+    }
+
+    @Test
+    void deberiaRegistrarLosValoresNuevos() {
+        String correo = UUID.randomUUID() + "@example.com";
+        assertFalse(prefiltroUnicidad.requiereComprobacion(CampoUnico.CORREO_PERSONA, correo));
+
+        ResponseEntity<ApiError> creada = restTemplate.postForEntity("/api/personas", new PersonaCrearDTO("Nueva", 30, correo), ApiError.class);
+        assertEquals(HttpStatus.CREATED, creada.getStatusCode());
+        assertTrue(prefiltroUnicidad.requiereComprobacion(CampoUnico.CORREO_PERSONA, correo));
+
+        ResponseEntity<ApiError> repetida = restTemplate.postForEntity("/api/personas", new PersonaCrearDTO("Nueva", 30, correo), ApiError.class);
+        assertEquals(HttpStatus.CONFLICT, repetida.getStatusCode());
+    }
+}
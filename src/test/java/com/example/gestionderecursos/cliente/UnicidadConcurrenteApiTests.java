@@ -0,0 +1,125 @@
+package com.example.gestionderecursos.cliente;
+
+import com.example.gestionderecursos.dto.lote.EstadoItemLote;
+import com.example.gestionderecursos.dto.lote.ResultadoItemLoteDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoActualizarDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoCrearDTO;
+import com.example.gestionderecursos.dto.proyecto.ProyectoDetalleDTO;
+import com.example.gestionderecursos.excepciones.ApiError;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de integración de la unicidad garantizada por restricciones UNIQUE: con muchas altas
+ * simultáneas del mismo correo solo una puede ganar, y el resto recibe un 409 (nunca un 500).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UnicidadConcurrenteApiTests {
+
+    private static final int HILOS = 16;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void soloUnaAltaConcurrenteDelMismoCorreoDeberiaTenerExito() throws Exception {
+        String correo = UUID.randomUUID() + "@example.com";
+        CountDownLatch salida = new CountDownLatch(1);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        try {
+            List<Future<HttpStatus>> respuestas = new ArrayList<>();
+            for (int i = 0; i < HILOS; i++) {
+                PersonaCrearDTO persona = new PersonaCrearDTO("Concurrente " + i, 30, correo);
+                respuestas.add(ejecutor.submit(() -> {
+                    salida.await();
+                    return HttpStatus.valueOf(restTemplate.postForEntity("/api/personas", persona, ApiError.class)
+                            .getStatusCode().value());
+                }));
+            }
+            salida.countDown();
+
+            int creadas = 0;
+            int conflictos = 0;
+            for (Future<HttpStatus> respuesta : respuestas) {
+                HttpStatus estado = respuesta.get();
+                if (estado == HttpStatus.CREATED) {
+                    creadas++;
+                } else if (estado == HttpStatus.CONFLICT) {
+                    conflictos++;
+                }
+            }
+            assertEquals(1, creadas);
+            assertEquals(HILOS - 1, conflictos);
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lotesConcurrentesConUnCorreoCompartidoDeberianInformarCadaElemento() throws Exception {
+        String compartido = UUID.randomUUID() + "@example.com";
+        CountDownLatch salida = new CountDownLatch(1);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        try {
+            List<Future<ResponseEntity<ResultadoLoteDTO>>> respuestas = new ArrayList<>();
+            for (int i = 0; i < HILOS; i++) {
+                List<PersonaCrearDTO> lote = List.of(
+                        new PersonaCrearDTO("Propia " + i, 30, UUID.randomUUID() + "@example.com"),
+                        new PersonaCrearDTO("Compartida " + i, 30, compartido));
+                respuestas.add(ejecutor.submit(() -> {
+                    salida.await();
+                    return restTemplate.postForEntity("/api/personas/lote", lote, ResultadoLoteDTO.class);
+                }));
+            }
+            salida.countDown();
+
+            int compartidasCreadas = 0;
+            for (Future<ResponseEntity<ResultadoLoteDTO>> futura : respuestas) {
+                ResponseEntity<ResultadoLoteDTO> respuesta = futura.get();
+                // Una carrera en la restricción UNIQUE no debe convertir el lote en un 409 sin resultados.
+                assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+                List<ResultadoItemLoteDTO> resultados = respuesta.getBody().getResultados();
+                assertEquals(EstadoItemLote.CREADO, resultados.get(0).getEstado());
+                if (resultados.get(1).getEstado() == EstadoItemLote.CREADO) {
+                    compartidasCreadas++;
+                } else {
+                    assertEquals(EstadoItemLote.DUPLICADO, resultados.get(1).getEstado());
+                }
+            }
+            assertEquals(1, compartidasCreadas);
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deberiaRechazarRenombrarUnProyectoConUnNombreEnUso() {
+        String prefijo = UUID.randomUUID().toString();
+        restTemplate.postForObject("/api/proyectos", new ProyectoCrearDTO(prefijo + " A", null), ProyectoDetalleDTO.class);
+        ProyectoDetalleDTO otro = restTemplate.postForObject("/api/proyectos", new ProyectoCrearDTO(prefijo + " B", null), ProyectoDetalleDTO.class);
+
+        ResponseEntity<ApiError> respuesta = restTemplate.exchange("/api/proyectos/" + otro.getId(), HttpMethod.PUT,
+                new HttpEntity<>(new ProyectoActualizarDTO(prefijo + " A", "Renombrado")), ApiError.class);
+
+        assertEquals(HttpStatus.CONFLICT, respuesta.getStatusCode());
+        assertTrue(respuesta.getBody().getErrores().get(0).contains("ya esta en uso"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.gestionderecursos.condicional;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias de VersionRecurso: la fecha de modificación solo sirve de validador HTTP
+ * cuando su segundo ya ha terminado.
+ */
+class VersionRecursoTests {
+
+    private static final Instant MODIFICACION = Instant.parse("2024-05-01T10:00:00.300Z");
+
+    @Test
+    void deberiaOmitirLaFechaMientrasSuSegundoSigaEnCurso() {
+        VersionRecurso version = new VersionRecurso(3L, MODIFICACION);
+
+        // Una escritura a las 10:00:00.700 tendría la misma fecha HTTP: If-Modified-Since no la distinguiría.
+        assertNull(version.ultimaModificacionFiable(Instant.parse("2024-05-01T10:00:00.700Z")));
+        assertEquals(MODIFICACION, version.ultimaModificacionFiable(Instant.parse("2024-05-01T10:00:01Z")));
+    }
+
+    @Test
+    void deberiaDevolverMenosUnoSinFecha() {
+        VersionRecurso version = new VersionRecurso(3L, (Instant) null);
+
+        assertNull(version.ultimaModificacionFiable(Instant.now()));
+        assertEquals(-1, version.ultimaModificacionMillis());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.gestionderecursos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias del filtro de concurrencia: rechaza con 503 cuando no quedan permisos,
+ * los devuelve al terminar cada petición (las asíncronas, al completarse) y no afecta a las rutas fuera de /api.
+ */
+class FiltroLimiteConcurrenciaTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FiltroLimiteConcurrencia filtro = new FiltroLimiteConcurrencia(1, Duration.ofMillis(50),
+            new ObjectMapper().findAndRegisterModules(), meterRegistry);
+
+    @Test
+    void deberiaRechazarConServicioNoDisponibleCuandoElLimiteEstaOcupado() throws Exception {
+        CountDownLatch dentro = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Thread ocupante = new Thread(() -> {
+            try {
+                filtro.doFilter(peticion("/api/personas"), new MockHttpServletResponse(), (req, res) -> {
+                    dentro.countDown();
+                    try {
+                        liberar.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        ocupante.start();
+        assertTrue(dentro.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse rechazada = new MockHttpServletResponse();
+        filtro.doFilter(peticion("/api/personas/1"), rechazada, new MockFilterChain());
+        assertEquals(503, rechazada.getStatus());
+        assertEquals("1", rechazada.getHeader("Retry-After"));
+        assertTrue(rechazada.getContentAsString().contains("Servidor saturado"));
+
+        liberar.countDown();
+        ocupante.join();
+        assertEquals(1.0, meterRegistry.get("app.concurrencia.permisos.disponibles").gauge().value());
+
+        MockHttpServletResponse aceptada = new MockHttpServletResponse();
+        filtro.doFilter(peticion("/api/personas/1"), aceptada, new MockFilterChain());
+        assertEquals(200, aceptada.getStatus());
+    }
+
+    @Test
+    void deberiaConservarElPermisoHastaQueTermineLaPeticionAsincrona() throws Exception {
+        MockHttpServletRequest exportacion = peticion("/api/personas/export");
+        exportacion.setAsyncSupported(true);
+        MockHttpServletResponse respuesta = new MockHttpServletResponse();
+        filtro.doFilter(exportacion, respuesta, (req, res) -> req.startAsync());
+
+        assertEquals(0.0, meterRegistry.get("app.concurrencia.permisos.disponibles").gauge().value());
+        MockHttpServletResponse rechazada = new MockHttpServletResponse();
+        filtro.doFilter(peticion("/api/personas/1"), rechazada, new MockFilterChain());
+        assertEquals(503, rechazada.getStatus());
+
+        exportacion.getAsyncContext().complete();
+        assertEquals(1.0, meterRegistry.get("app.concurrencia.permisos.disponibles").gauge().value());
+    }
+
+    @Test
+    void noDeberiaLimitarRutasFueraDeLaApi() throws Exception {
+        CountDownLatch actuatorAtendido = new CountDownLatch(1);
+        filtro.doFilter(peticion("/api/personas"), new MockHttpServletResponse(), (req, res) ->
+                filtro.doFilter(peticion("/actuator/health"), new MockHttpServletResponse(), (req2, res2) -> actuatorAtendido.countDown()));
+        assertEquals(0, actuatorAtendido.getCount());
+    }
+
+    private static MockHttpServletRequest peticion(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
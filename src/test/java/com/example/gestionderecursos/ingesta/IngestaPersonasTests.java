@@ -0,0 +1,139 @@
+package com.example.gestionderecursos.ingesta;
+
+import com.example.gestionderecursos.dto.lote.EstadoIngesta;
+import com.example.gestionderecursos.dto.lote.EstadoItemLote;
+import com.example.gestionderecursos.dto.lote.IngestaDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoItemLoteDTO;
+import com.example.gestionderecursos.dto.lote.ResultadoLoteDTO;
+import com.example.gestionderecursos.dto.persona.PersonaCrearDTO;
+import com.example.gestionderecursos.excepciones.ColaLlenaException;
+import com.example.gestionderecursos.servicios.ServicioPersona;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas unitarias de la cola de ingesta: rechaza al llenarse, escribe en lotes del tamaño configurado,
+ * sin pasar de un bloque del servicio, asigna a cada ticket su resultado y, si un lote se revierte, reintenta
+ * sus elementos uno a uno; los tickets pendientes no dependen del tamaño de la caché de resultados.
+ * El escritor periódico no se arranca; cada prueba vacía la cola explícitamente.
+ */
+class IngestaPersonasTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServicioPersona servicioPersona = mock(ServicioPersona.class);
+    private final IngestaPersonas ingesta = new IngestaPersonas(servicioPersona, meterRegistry,
+            3, 2, 500, Duration.ofHours(1), 100, Duration.ofHours(1));
+
+    @Test
+    void deberiaRechazarCuandoLaColaEstaLlena() {
+        for (int i = 0; i < 3; i++) {
+            ingesta.encolar(persona(i));
+        }
+        assertThrows(ColaLlenaException.class, () -> ingesta.encolar(persona(3)));
+        assertEquals(3.0, meterRegistry.get("app.ingesta.cola").gauge().value());
+        assertEquals(1.0, meterRegistry.get("app.ingesta.rechazos").counter().count());
+
+        when(servicioPersona.crearPersonasEnLote(anyList())).thenAnswer(invocacion -> creadas(invocacion.getArgument(0)));
+        ingesta.vaciar();
+
+        assertEquals(0, ingesta.pendientes());
+        assertDoesNotThrow(() -> ingesta.encolar(persona(4)));
+    }
+
+    @Test
+    void deberiaEscribirEnLotesYResolverCadaTicket() {
+        when(servicioPersona.crearPersonasEnLote(anyList())).thenAnswer(invocacion -> {
+            List<PersonaCrearDTO> lote = invocacion.getArgument(0);
+            List<ResultadoItemLoteDTO> resultados = new ArrayList<>();
+            for (int i = 0; i < lote.size(); i++) {
+                resultados.add(lote.get(i).getEdad() == 1
+                        ? ResultadoItemLoteDTO.rechazado(i, EstadoItemLote.DUPLICADO, List.of("correoElectronico: en uso"))
+                        : ResultadoItemLoteDTO.creado(i, 100L + lote.get(i).getEdad()));
+            }
+            return new ResultadoLoteDTO(resultados);
+        });
+        List<IngestaDTO> tickets = List.of(ingesta.encolar(persona(0)), ingesta.encolar(persona(1)), ingesta.encolar(persona(2)));
+        assertEquals(EstadoIngesta.PENDIENTE, ingesta.consultar(tickets.get(0).getTicket()).orElseThrow().getEstado());
+
+        ingesta.vaciar();
+
+        verify(servicioPersona, times(2)).crearPersonasEnLote(anyList());
+        assertEquals(2, meterRegistry.get("app.ingesta.lote").summary().count());
+        assertEquals(3.0, meterRegistry.get("app.ingesta.lote").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("app.ingesta.escritura").timer().count());
+
+        IngestaDTO primera = ingesta.consultar(tickets.get(0).getTicket()).orElseThrow();
+        assertEquals(EstadoIngesta.CREADO, primera.getEstado());
+        assertEquals(100L, primera.getId());
+        assertEquals(EstadoIngesta.DUPLICADO, ingesta.consultar(tickets.get(1).getTicket()).orElseThrow().getEstado());
+        assertEquals(102L, ingesta.consultar(tickets.get(2).getTicket()).orElseThrow().getId());
+    }
+
+    @Test
+    void deberiaReintentarUnoAUnoSiElLoteSeRevierte() {
+        when(servicioPersona.crearPersonasEnLote(anyList())).thenAnswer(invocacion -> {
+            List<PersonaCrearDTO> lote = invocacion.getArgument(0);
+            if (lote.size() > 1 || lote.get(0).getEdad() == 1) {
+                throw new DataAccessResourceFailureException("Conexión perdida");
+            }
+            return creadas(lote);
+        });
+        IngestaDTO correcta = ingesta.encolar(persona(0));
+        IngestaDTO conflictiva = ingesta.encolar(persona(1));
+
+        ingesta.vaciar();
+
+        assertEquals(EstadoIngesta.CREADO, ingesta.consultar(correcta.getTicket()).orElseThrow().getEstado());
+        assertEquals(EstadoIngesta.FALLIDO, ingesta.consultar(conflictiva.getTicket()).orElseThrow().getEstado());
+    }
+
+    @Test
+    void noDeberiaPerderTicketsPendientesPorDesalojosDeLaCache() {
+        IngestaPersonas pequena = new IngestaPersonas(servicioPersona, new SimpleMeterRegistry(),
+                10, 2, 500, Duration.ofHours(1), 1, Duration.ofHours(1));
+        List<IngestaDTO> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tickets.add(pequena.encolar(persona(i)));
+        }
+
+        // La caché de resultados solo admite uno, pero los cinco siguen pendientes y consultables.
+        for (IngestaDTO ticket : tickets) {
+            assertEquals(EstadoIngesta.PENDIENTE, pequena.consultar(ticket.getTicket()).orElseThrow().getEstado());
+        }
+    }
+
+    @Test
+    void noDeberiaFormarLotesMayoresQueUnBloqueDelServicio() {
+        IngestaPersonas acotada = new IngestaPersonas(servicioPersona, new SimpleMeterRegistry(),
+                10, 5, 2, Duration.ofHours(1), 100, Duration.ofHours(1));
+        when(servicioPersona.crearPersonasEnLote(anyList())).thenAnswer(invocacion -> creadas(invocacion.getArgument(0)));
+        for (int i = 0; i < 5; i++) {
+            acotada.encolar(persona(i));
+        }
+
+        acotada.vaciar();
+
+        verify(servicioPersona, times(3)).crearPersonasEnLote(anyList());
+    }
+
+    private static ResultadoLoteDTO creadas(List<PersonaCrearDTO> lote) {
+        List<ResultadoItemLoteDTO> resultados = new ArrayList<>();
+        for (int i = 0; i < lote.size(); i++) {
+            resultados.add(ResultadoItemLoteDTO.creado(i, 100L + lote.get(i).getEdad()));
+        }
+        return new ResultadoLoteDTO(resultados);
+    }
+
+    private static PersonaCrearDTO persona(int edad) {
+        return new PersonaCrearDTO("Persona " + edad, edad, "persona" + edad + "@example.com");
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.gestionderecursos.lectura;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias de la vista ordenada: tras cualquier secuencia de altas, cambios y bajas, cada orden
+ * coincide con ordenar la "tabla" completa, y la reconciliación detecta y repara las desviaciones.
+ */
+class VistaOrdenadaTests {
+
+    private record Fila(Long id, int valor, Long version) {
+    }
+
+    private static final Comparator<Fila> POR_VALOR = Comparator.comparingInt(Fila::valor).thenComparing(Fila::id);
+
+    private final Map<Long, Fila> tabla = new TreeMap<>();
+    private VistaOrdenada<Fila> vista;
+
+    @BeforeEach
+    void crear() {
+        for (long id = 1; id <= 50; id++) {
+            tabla.put(id, new Fila(id, (int) (id * 7 % 13), 0L));
+        }
+        vista = new VistaOrdenada<>("filas", Fila::id, Fila::version, Map.of("valor", Comparator.comparingInt(Fila::valor)));
+        vista.cargar(List.copyOf(tabla.values()));
+    }
+
+    @Test
+    void deberiaCoincidirConOrdenarLaTablaTrasCadaCambio() {
+        Random aleatorio = new Random(42);
+        Set<Long> borradas = new HashSet<>();
+        for (int paso = 0; paso < 500; paso++) {
+            long id = 1 + aleatorio.nextInt(80);
+            if (borradas.contains(id)) {
+                // Los ids salen de una secuencia: uno borrado no vuelve a usarse.
+                continue;
+            }
+            if (aleatorio.nextInt(4) == 0) {
+                borradas.add(id);
+                tabla.remove(id);
+                vista.eliminar(id);
+            } else {
+                Fila anterior = tabla.get(id);
+                Fila nueva = new Fila(id, aleatorio.nextInt(20), anterior == null ? 0L : anterior.version() + 1);
+                tabla.put(id, nueva);
+                vista.registrar(nueva);
+            }
+            assertEquals(ordenada(POR_VALOR), pagina(PageRequest.of(0, 100, Sort.by("valor"))).getContent());
+        }
+        assertEquals(ordenada(POR_VALOR.reversed()), pagina(PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "valor"))).getContent());
+        assertEquals(List.copyOf(tabla.values()), pagina(PageRequest.of(0, 100)).getContent());
+    }
+
+    @Test
+    void deberiaAplicarLosCambiosDeUnaTransaccionEnUnaSolaMezcla() {
+        Random aleatorio = new Random(7);
+        long version = 0;
+        Set<Long> borradas = new HashSet<>();
+        for (int transaccion = 0; transaccion < 50; transaccion++) {
+            Map<Long, Fila> cambios = new LinkedHashMap<>();
+            Map<Long, Fila> antes = new TreeMap<>(tabla);
+            for (int paso = 0; paso < 20; paso++) {
+                long id = 1 + aleatorio.nextInt(80);
+                if (borradas.contains(id)) {
+                    continue;
+                }
+                if (aleatorio.nextInt(4) == 0) {
+                    borradas.add(id);
+                    tabla.remove(id);
+                    cambios.put(id, null);
+                } else {
+                    // Versiones siempre crecientes: un id borrado nunca vuelve con una versión anterior.
+                    Fila nueva = new Fila(id, aleatorio.nextInt(20), ++version);
+                    tabla.put(id, nueva);
+                    cambios.put(id, nueva);
+                }
+            }
+            long marca = vista.marca();
+            vista.aplicar(cambios);
+
+            assertEquals(tabla.equals(antes) ? marca : marca + 1, vista.marca());
+            assertEquals(ordenada(POR_VALOR), pagina(PageRequest.of(0, 100, Sort.by("valor"))).getContent());
+            assertEquals(List.copyOf(tabla.values()), pagina(PageRequest.of(0, 100)).getContent());
+        }
+    }
+
+    @Test
+    void deberiaPaginarConTotalExacto() {
+        Page<Fila> segunda = pagina(PageRequest.of(1, 20, Sort.by("valor").and(Sort.by("id"))));
+        assertEquals(50, segunda.getTotalElements());
+        assertEquals(ordenada(POR_VALOR).subList(20, 40), segunda.getContent());
+        assertTrue(pagina(PageRequest.of(5, 20, Sort.by("valor"))).getContent().isEmpty());
+    }
+
+    @Test
+    void noDeberiaAdmitirOrdenesDesconocidos() {
+        assertTrue(vista.pagina(PageRequest.of(0, 10, Sort.by("otro")), f -> f).isEmpty());
+        assertTrue(vista.pagina(PageRequest.of(0, 10, Sort.by(Sort.Order.asc("valor").ignoreCase())), f -> f).isEmpty());
+        assertTrue(vista.pagina(PageRequest.of(0, 10, Sort.by(Sort.Order.asc("valor"), Sort.Order.desc("id"))), f -> f).isEmpty());
+        assertTrue(vista.pagina(Pageable.unpaged(), f -> f).isEmpty());
+    }
+
+    @Test
+    void deberiaIgnorarEventosMasAntiguosQueLaVista() {
+        vista.registrar(new Fila(1L, 3, 2L));
+        long marca = vista.marca();
+        vista.registrar(new Fila(1L, 9, 1L));
+
+        assertEquals(marca, vista.marca());
+        assertTrue(pagina(PageRequest.of(0, 100)).getContent().contains(new Fila(1L, 3, 2L)));
+    }
+
+    @Test
+    void noDeberiaResucitarUnaFilaBorradaConUnEventoAtrasado() {
+        vista.registrar(new Fila(1L, 3, 1L));
+        vista.eliminar(1L);
+        long marca = vista.marca();
+        vista.registrar(new Fila(1L, 3, 1L));
+        vista.aplicar(Map.of(2L, new Fila(2L, 4, 1L), 3L, new Fila(3L, 5, 1L)));
+        vista.aplicar(Map.of(2L, new Fila(2L, 4, 2L)));
+        Map<Long, Fila> borradoYAtrasado = new LinkedHashMap<>();
+        borradoYAtrasado.put(3L, null);
+        vista.aplicar(borradoYAtrasado);
+        vista.registrar(new Fila(3L, 5, 1L));
+
+        assertEquals(marca + 3, vista.marca());
+        assertTrue(pagina(PageRequest.of(0, 100)).getContent().stream().noneMatch(f -> f.id() == 1L || f.id() == 3L));
+    }
+
+    @Test
+    void deberiaDetectarYRepararLaDeriva() {
+        tabla.remove(1L);
+        tabla.put(2L, new Fila(2L, 99, 1L));
+        tabla.put(100L, new Fila(100L, 5, 0L));
+
+        ResultadoReconciliacion resultado = vista.reconciliar(() -> List.copyOf(tabla.values()));
+
+        assertEquals(new ResultadoReconciliacion("filas", 1, 1, 1, true), resultado);
+        assertEquals(ordenada(POR_VALOR), pagina(PageRequest.of(0, 100, Sort.by("valor"))).getContent());
+        assertTrue(vista.reconciliar(() -> List.copyOf(tabla.values())).consistente());
+    }
+
+    @Test
+    void noDeberiaRepararSiLaVistaCambiaDuranteLaLectura() {
+        tabla.put(100L, new Fila(100L, 5, 0L));
+
+        ResultadoReconciliacion resultado = vista.reconciliar(() -> {
+            List<Fila> filas = List.copyOf(tabla.values());
+            vista.eliminar(3L);
+            return filas;
+        });
+
+        assertFalse(resultado.reparada());
+        assertFalse(resultado.consistente());
+    }
+
+    private Page<Fila> pagina(Pageable pageable) {
+        return vista.pagina(pageable, f -> f).orElseThrow().pagina();
+    }
+
+    private List<Fila> ordenada(Comparator<Fila> orden) {
+        return tabla.values().stream().sorted(orden).toList();
+    }
+}
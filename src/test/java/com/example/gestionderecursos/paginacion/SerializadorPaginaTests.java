@@ -0,0 +1,83 @@
+package com.example.gestionderecursos.paginacion;
+
+import com.example.gestionderecursos.dto.paginacion.PaginaDTO;
+import com.example.gestionderecursos.dto.persona.PersonaResumenDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias del serializador de PaginaDTO: forma del sobre con y sin totales, lectura de vuelta
+ * con el constructor del DTO y formato legado idéntico a serializar el Page original.
+ */
+class SerializadorPaginaTests {
+
+    private static final List<PersonaResumenDTO> CONTENIDO = List.of(
+            new PersonaResumenDTO(1L, "Ana", "ana@example.com"),
+            new PersonaResumenDTO(2L, "Bruno", "bruno@example.com"));
+
+    private final Page<PersonaResumenDTO> pagina = new PageImpl<>(CONTENIDO, PageRequest.of(1, 2, Sort.by("nombre")), 7);
+
+    @Test
+    void deberiaEscribirElSobreConMetadatos() {
+        JsonNode json = mapper(false).valueToTree(PaginaDTO.de(pagina));
+
+        assertEquals(List.of("contenido", "pagina"), nombres(json));
+        assertEquals("Bruno", json.path("contenido").path(1).path("nombre").asText());
+        JsonNode metadatos = json.path("pagina");
+        assertEquals(List.of("numero", "tamano", "elementos", "totalElementos", "totalPaginas", "haySiguiente"), nombres(metadatos));
+        assertEquals(1, metadatos.path("numero").asInt());
+        assertEquals(7, metadatos.path("totalElementos").asLong());
+        assertEquals(4, metadatos.path("totalPaginas").asInt());
+        assertTrue(metadatos.path("haySiguiente").asBoolean());
+    }
+
+    @Test
+    void deberiaOmitirLosTotalesDeUnSlice() {
+        JsonNode metadatos = mapper(false).valueToTree(PaginaDTO.de(new SliceImpl<>(CONTENIDO, PageRequest.of(0, 2), false))).path("pagina");
+
+        assertFalse(metadatos.has("totalElementos"));
+        assertFalse(metadatos.has("totalPaginas"));
+        assertFalse(metadatos.path("haySiguiente").asBoolean());
+    }
+
+    @Test
+    void deberiaLeerseDeVueltaConElConstructorDelDto() throws Exception {
+        ObjectMapper mapper = mapper(false);
+        PaginaDTO<PersonaResumenDTO> leida = mapper.readValue(mapper.writeValueAsBytes(PaginaDTO.de(pagina)),
+                new TypeReference<PaginaDTO<PersonaResumenDTO>>() {});
+
+        assertEquals(2, leida.getContenido().size());
+        assertEquals("ana@example.com", leida.getContenido().get(0).getCorreoElectronico());
+        assertEquals(7L, leida.getPagina().getTotalElementos());
+        assertNull(leida.getOrigen());
+    }
+
+    @Test
+    void deberiaEscribirElFormatoLegadoComoElPageOriginal() {
+        ObjectMapper legado = mapper(true);
+        assertEquals(legado.valueToTree(pagina), legado.valueToTree(PaginaDTO.de(pagina)));
+    }
+
+    private static ObjectMapper mapper(boolean formatoLegado) {
+        return new ObjectMapper().registerModule(new SimpleModule().addSerializer(new SerializadorPagina(formatoLegado)));
+    }
+
+    private static List<String> nombres(JsonNode nodo) {
+        List<String> nombres = new ArrayList<>();
+        nodo.fieldNames().forEachRemaining(nombres::add);
+        return nombres;
+    }
+}
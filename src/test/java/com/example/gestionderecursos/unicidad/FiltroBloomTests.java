@@ -0,0 +1,47 @@
+package com.example.gestionderecursos.unicidad;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas unitarias del filtro de Bloom: sin falsos negativos y con una tasa de falsos positivos
+ * próxima a la configurada.
+ */
+class FiltroBloomTests {
+
+    private static final int ELEMENTOS = 100_000;
+
+    @Test
+    void noDeberiaDarFalsosNegativos() {
+        FiltroBloom filtro = new FiltroBloom(ELEMENTOS, 0.01);
+        for (int i = 0; i < ELEMENTOS; i++) {
+            filtro.agregar("persona" + i + "@example.com");
+        }
+        for (int i = 0; i < ELEMENTOS; i++) {
+            assertTrue(filtro.podriaContener("persona" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void deberiaRespetarLaTasaDeFalsosPositivos() {
+        FiltroBloom filtro = new FiltroBloom(ELEMENTOS, 0.01);
+        for (int i = 0; i < ELEMENTOS; i++) {
+            filtro.agregar("persona" + i + "@example.com");
+        }
+        int falsosPositivos = 0;
+        for (int i = 0; i < ELEMENTOS; i++) {
+            if (filtro.podriaContener("otra" + i + "@example.org")) {
+                falsosPositivos++;
+            }
+        }
+        double tasa = (double) falsosPositivos / ELEMENTOS;
+        assertTrue(tasa < 0.02, "Tasa de falsos positivos demasiado alta: " + tasa);
+    }
+
+    @Test
+    void deberiaRechazarParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(10, 1.5));
+    }
+}